@@ -0,0 +1,204 @@
+/*
+ * Copyright © 2017 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jregions.benchmarks;
+
+import com.io7m.jregions.core.unparameterized.areas.AreaI;
+import com.io7m.jregions.core.unparameterized.areas.AreasBatchI;
+import com.io7m.jregions.core.unparameterized.areas.AreasI;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput benchmarks for {@link AreasBatchI}, compared against calling
+ * {@link AreasI#overlaps(AreaI, AreaI)} and
+ * {@link AreasI#containsPoint(AreaI, int, int)} for each area in turn.
+ * Between three and five percent of the areas match each query. The batch
+ * kernels use the vector API only when the benchmark JVM is started with
+ * {@code --add-modules jdk.incubator.vector}.
+ */
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class AreasBatchBenchmark
+{
+  @Param({"4096"})
+  private int count;
+
+  private AreaI[] areas;
+  private int[] minimumX;
+  private int[] maximumX;
+  private int[] minimumY;
+  private int[] maximumY;
+  private int[] indices;
+  private long[] mask;
+  private AreaI query;
+  private int pointX;
+  private int pointY;
+
+  /**
+   * Set up the inputs for each benchmark.
+   */
+
+  @Setup
+  public void setup()
+  {
+    final var random = new Random(0x5eed_ba7cL);
+    this.areas = new AreaI[this.count];
+    this.minimumX = new int[this.count];
+    this.maximumX = new int[this.count];
+    this.minimumY = new int[this.count];
+    this.maximumY = new int[this.count];
+    for (int index = 0; index < this.count; ++index) {
+      final var area = AreasI.create(
+        random.nextInt(1024),
+        random.nextInt(1024),
+        random.nextInt(384),
+        random.nextInt(384));
+      this.areas[index] = area;
+      this.minimumX[index] = area.minimumX();
+      this.maximumX[index] = area.maximumX();
+      this.minimumY[index] = area.minimumY();
+      this.maximumY[index] = area.maximumY();
+    }
+
+    this.indices = new int[this.count];
+    this.mask = new long[AreasBatchI.maskLength(this.count)];
+    this.query = AreasI.create(512, 512, 32, 32);
+    this.pointX = 700;
+    this.pointY = 700;
+  }
+
+  /**
+   * @return The number of matching areas
+   */
+
+  @Benchmark
+  public int overlapsEach()
+  {
+    int found = 0;
+    for (final var area : this.areas) {
+      if (AreasI.overlaps(area, this.query)) {
+        this.indices[found] = found;
+        ++found;
+      }
+    }
+    return found;
+  }
+
+  /**
+   * @return The number of matching areas
+   */
+
+  @Benchmark
+  public int overlapsBatch()
+  {
+    return AreasBatchI.overlaps(
+      this.minimumX,
+      this.maximumX,
+      this.minimumY,
+      this.maximumY,
+      this.count,
+      this.query,
+      this.indices);
+  }
+
+  /**
+   * @return The number of matching areas
+   */
+
+  @Benchmark
+  public int overlapsBatchMask()
+  {
+    return AreasBatchI.overlapsMask(
+      this.minimumX,
+      this.maximumX,
+      this.minimumY,
+      this.maximumY,
+      this.count,
+      this.query,
+      this.mask);
+  }
+
+  /**
+   * @return The number of matching areas
+   */
+
+  @Benchmark
+  public int containsPointEach()
+  {
+    int found = 0;
+    for (final var area : this.areas) {
+      if (AreasI.containsPoint(area, this.pointX, this.pointY)) {
+        this.indices[found] = found;
+        ++found;
+      }
+    }
+    return found;
+  }
+
+  /**
+   * @return The number of matching areas
+   */
+
+  @Benchmark
+  public int containsPointBatch()
+  {
+    return AreasBatchI.containsPoint(
+      this.minimumX,
+      this.maximumX,
+      this.minimumY,
+      this.maximumY,
+      this.count,
+      this.pointX,
+      this.pointY,
+      this.indices);
+  }
+
+  /**
+   * @return The number of matching areas
+   */
+
+  @Benchmark
+  public int containsPointBatchMask()
+  {
+    return AreasBatchI.containsPointMask(
+      this.minimumX,
+      this.maximumX,
+      this.minimumY,
+      this.maximumY,
+      this.count,
+      this.pointX,
+      this.pointY,
+      this.mask);
+  }
+}
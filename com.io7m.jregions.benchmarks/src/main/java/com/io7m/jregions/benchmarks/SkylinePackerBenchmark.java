@@ -0,0 +1,201 @@
+/*
+ * Copyright © 2017 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jregions.benchmarks;
+
+import com.io7m.jregions.core.unparameterized.areas.AreaI;
+import com.io7m.jregions.core.unparameterized.areas.AreasI;
+import com.io7m.jregions.core.unparameterized.packing.SkylinePackerI;
+import com.io7m.jregions.core.unparameterized.sizes.AreaSizeI;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Single-insertion latency benchmarks for {@link SkylinePackerI}, compared
+ * against a brute-force packer that scans every candidate position with
+ * {@link AreasI#overlaps(AreaI, AreaI)}. The benchmarks are run in
+ * {@link Mode#SampleTime}, so JMH reports latency percentiles. Each packer
+ * is reset whenever an insertion fails, so the measurements cover the whole
+ * range of fill levels of a glyph cache.
+ */
+
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SkylinePackerBenchmark
+{
+  private static final int CONTAINER_SIZE = 512;
+  private static final int SIZE_COUNT = 4096;
+
+  private AreaSizeI[] sizes;
+  private SkylinePackerI skyline;
+  private SkylinePackerI skylineWaste;
+  private BruteForcePacker bruteForce;
+  private int skylineIndex;
+  private int skylineWasteIndex;
+  private int bruteForceIndex;
+
+  /**
+   * Set up the inputs for each benchmark.
+   */
+
+  @Setup
+  public void setup()
+  {
+    final var random = new Random(0x5eed_1e55L);
+    this.sizes = new AreaSizeI[SIZE_COUNT];
+    for (int index = 0; index < SIZE_COUNT; ++index) {
+      this.sizes[index] =
+        AreaSizeI.of(4 + random.nextInt(28), 8 + random.nextInt(24));
+    }
+
+    final var container = AreaSizeI.of(CONTAINER_SIZE, CONTAINER_SIZE);
+    this.skyline = SkylinePackerI.create(container, false);
+    this.skylineWaste = SkylinePackerI.create(container, true);
+    this.bruteForce = new BruteForcePacker(CONTAINER_SIZE);
+  }
+
+  /**
+   * @return The placed area
+   */
+
+  @Benchmark
+  public Optional<AreaI> skylineInsert()
+  {
+    final var size = this.sizes[this.skylineIndex];
+    this.skylineIndex = (this.skylineIndex + 1) % SIZE_COUNT;
+
+    final var result = this.skyline.insert(size);
+    if (result.isEmpty()) {
+      this.skyline.reset();
+    }
+    return result;
+  }
+
+  /**
+   * @return The placed area
+   */
+
+  @Benchmark
+  public Optional<AreaI> skylineInsertWasteRecovery()
+  {
+    final var size = this.sizes[this.skylineWasteIndex];
+    this.skylineWasteIndex = (this.skylineWasteIndex + 1) % SIZE_COUNT;
+
+    final var result = this.skylineWaste.insert(size);
+    if (result.isEmpty()) {
+      this.skylineWaste.reset();
+    }
+    return result;
+  }
+
+  /**
+   * @return The placed area
+   */
+
+  @Benchmark
+  public Optional<AreaI> bruteForceInsert()
+  {
+    final var size = this.sizes[this.bruteForceIndex];
+    this.bruteForceIndex = (this.bruteForceIndex + 1) % SIZE_COUNT;
+
+    final var result = this.bruteForce.insert(size);
+    if (result.isEmpty()) {
+      this.bruteForce.reset();
+    }
+    return result;
+  }
+
+  /**
+   * A packer that tries the minimum corner of the container and the corners
+   * adjacent to every placed area, choosing the lowest position that does not
+   * overlap any placed area.
+   */
+
+  private static final class BruteForcePacker
+  {
+    private final int containerSize;
+    private final ArrayList<AreaI> placed;
+
+    BruteForcePacker(
+      final int inContainerSize)
+    {
+      this.containerSize = inContainerSize;
+      this.placed = new ArrayList<>();
+    }
+
+    void reset()
+    {
+      this.placed.clear();
+    }
+
+    Optional<AreaI> insert(
+      final AreaSizeI size)
+    {
+      AreaI best = this.tryAt(0, 0, size, null);
+      for (final var area : this.placed) {
+        best = this.tryAt(area.maximumX(), area.minimumY(), size, best);
+        best = this.tryAt(area.minimumX(), area.maximumY(), size, best);
+      }
+
+      if (best != null) {
+        this.placed.add(best);
+      }
+      return Optional.ofNullable(best);
+    }
+
+    private AreaI tryAt(
+      final int x,
+      final int y,
+      final AreaSizeI size,
+      final AreaI best)
+    {
+      if (x + size.sizeX() > this.containerSize
+        || y + size.sizeY() > this.containerSize) {
+        return best;
+      }
+      if (best != null
+        && (best.maximumY() < y + size.sizeY()
+        || (best.maximumY() == y + size.sizeY() && best.minimumX() <= x))) {
+        return best;
+      }
+
+      final var candidate = AreasI.create(x, y, size.sizeX(), size.sizeY());
+      for (final var area : this.placed) {
+        if (AreasI.overlaps(area, candidate)) {
+          return best;
+        }
+      }
+      return candidate;
+    }
+  }
+}
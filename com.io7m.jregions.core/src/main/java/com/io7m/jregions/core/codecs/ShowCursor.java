@@ -0,0 +1,429 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jregions.core.codecs;
+
+import com.io7m.jaffirm.core.Preconditions;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Objects;
+
+/**
+ * <p>A cursor over a range of characters, with functions to read the
+ * numbers produced by the {@code show} functions.</p>
+ *
+ * <p>Characters are read directly from the underlying character sequence
+ * or byte array, and numbers are accumulated directly from digits; no
+ * strings are constructed other than for decimals that cannot be converted
+ * exactly with a single rounding, and for arbitrary-precision values.
+ * Bytes are interpreted as ISO-8859-1 characters, of which the characters
+ * in the {@code show} format are a subset.</p>
+ */
+
+final class ShowCursor
+{
+  private static final double[] DOUBLE_POWERS = {
+    1.0E0, 1.0E1, 1.0E2, 1.0E3, 1.0E4, 1.0E5, 1.0E6, 1.0E7,
+    1.0E8, 1.0E9, 1.0E10, 1.0E11, 1.0E12, 1.0E13, 1.0E14, 1.0E15,
+    1.0E16, 1.0E17, 1.0E18, 1.0E19, 1.0E20, 1.0E21, 1.0E22,
+  };
+
+  private static final float[] FLOAT_POWERS = {
+    1.0E0f, 1.0E1f, 1.0E2f, 1.0E3f, 1.0E4f, 1.0E5f,
+    1.0E6f, 1.0E7f, 1.0E8f, 1.0E9f, 1.0E10f,
+  };
+
+  private static final long DOUBLE_MANTISSA_LIMIT = 1L << 53;
+  private static final long FLOAT_MANTISSA_LIMIT = 1L << 24;
+  private static final int MAXIMUM_MANTISSA_DIGITS = 18;
+  private static final int MAXIMUM_EXPONENT = 100_000;
+
+  private final CharSequence text;
+  private final byte[] bytes;
+  private final int end;
+  private int position;
+  private int tokenStart;
+  private boolean negative;
+  private long mantissa;
+  private int mantissaDigits;
+  private int exponent;
+  private boolean exact;
+
+  private ShowCursor(
+    final CharSequence inText,
+    final byte[] inBytes,
+    final int inStart,
+    final int inEnd)
+  {
+    this.text = inText;
+    this.bytes = inBytes;
+    this.position = inStart;
+    this.end = inEnd;
+  }
+
+  static ShowCursor ofText(
+    final CharSequence text,
+    final int start,
+    final int end)
+  {
+    Objects.requireNonNull(text, "text");
+    checkRange(start, end, text.length());
+    return new ShowCursor(text, null, start, end);
+  }
+
+  static ShowCursor ofBytes(
+    final byte[] bytes,
+    final int start,
+    final int end)
+  {
+    Objects.requireNonNull(bytes, "bytes");
+    checkRange(start, end, bytes.length);
+    return new ShowCursor(null, bytes, start, end);
+  }
+
+  private static void checkRange(
+    final int start,
+    final int end,
+    final int length)
+  {
+    Preconditions.checkPreconditionI(
+      start,
+      start >= 0 && start <= end,
+      s -> "Start " + s + " must be in the range [0, " + end + "]");
+    Preconditions.checkPreconditionI(
+      end,
+      end <= length,
+      e -> "End " + e + " must be <= " + length);
+  }
+
+  private static int digit(
+    final int c)
+  {
+    final int value = c - '0';
+    if (value >= 0 && value <= 9) {
+      return value;
+    }
+    return -1;
+  }
+
+  static int add(
+    final int a,
+    final int b)
+  {
+    return Math.addExact(a, b);
+  }
+
+  static long add(
+    final long a,
+    final long b)
+  {
+    return Math.addExact(a, b);
+  }
+
+  static float add(
+    final float a,
+    final float b)
+  {
+    return a + b;
+  }
+
+  static double add(
+    final double a,
+    final double b)
+  {
+    return a + b;
+  }
+
+  static BigInteger add(
+    final BigInteger a,
+    final BigInteger b)
+  {
+    return a.add(b);
+  }
+
+  static BigDecimal add(
+    final BigDecimal a,
+    final BigDecimal b)
+  {
+    return a.add(b);
+  }
+
+  int position()
+  {
+    return this.position;
+  }
+
+  boolean atEnd()
+  {
+    return this.position >= this.end;
+  }
+
+  private int peek()
+  {
+    if (this.atEnd()) {
+      return -1;
+    }
+    if (this.bytes != null) {
+      return this.bytes[this.position] & 0xff;
+    }
+    return this.text.charAt(this.position);
+  }
+
+  ShowParseException error(
+    final String message)
+  {
+    return new ShowParseException(message, this.position);
+  }
+
+  void expect(
+    final char c)
+  {
+    if (this.peek() != c) {
+      throw this.error("Expected '" + c + "'");
+    }
+    ++this.position;
+  }
+
+  boolean skipWhitespace()
+  {
+    final int start = this.position;
+    while (Character.isWhitespace(this.peek())) {
+      ++this.position;
+    }
+    return this.position != start;
+  }
+
+  int readInt(
+    final boolean signed)
+  {
+    return (int) this.readInteger(signed, Integer.MIN_VALUE, Integer.MAX_VALUE);
+  }
+
+  long readLong(
+    final boolean signed)
+  {
+    return this.readInteger(signed, Long.MIN_VALUE, Long.MAX_VALUE);
+  }
+
+  BigInteger readBigInteger(
+    final boolean signed)
+  {
+    final int start = this.position;
+    this.readSign(signed);
+    final int digitsStart = this.position;
+    while (digit(this.peek()) >= 0) {
+      ++this.position;
+    }
+    if (this.position == digitsStart) {
+      throw this.error("Expected a digit");
+    }
+
+    if (this.position - digitsStart <= MAXIMUM_MANTISSA_DIGITS) {
+      this.position = start;
+      return BigInteger.valueOf(this.readLong(signed));
+    }
+    return new BigInteger(this.token(start));
+  }
+
+  float readFloat(
+    final boolean signed)
+  {
+    this.scanDecimal(signed);
+
+    final boolean small =
+      this.mantissa <= FLOAT_MANTISSA_LIMIT
+        && Math.abs(this.exponent) < FLOAT_POWERS.length;
+
+    if (this.exact && small) {
+      final float m = (float) this.mantissa;
+      final float value;
+      if (this.exponent >= 0) {
+        value = m * FLOAT_POWERS[this.exponent];
+      } else {
+        value = m / FLOAT_POWERS[-this.exponent];
+      }
+      return this.negative ? -value : value;
+    }
+    return Float.parseFloat(this.token(this.tokenStart));
+  }
+
+  double readDouble(
+    final boolean signed)
+  {
+    this.scanDecimal(signed);
+
+    final boolean small =
+      this.mantissa <= DOUBLE_MANTISSA_LIMIT
+        && Math.abs(this.exponent) < DOUBLE_POWERS.length;
+
+    if (this.exact && small) {
+      final double m = (double) this.mantissa;
+      final double value;
+      if (this.exponent >= 0) {
+        value = m * DOUBLE_POWERS[this.exponent];
+      } else {
+        value = m / DOUBLE_POWERS[-this.exponent];
+      }
+      return this.negative ? -value : value;
+    }
+    return Double.parseDouble(this.token(this.tokenStart));
+  }
+
+  BigDecimal readBigDecimal(
+    final boolean signed)
+  {
+    this.scanDecimal(signed);
+    return new BigDecimal(this.token(this.tokenStart));
+  }
+
+  private boolean readSign(
+    final boolean signed)
+  {
+    if (signed && this.peek() == '-') {
+      ++this.position;
+      return true;
+    }
+    return false;
+  }
+
+  private long readInteger(
+    final boolean signed,
+    final long minimum,
+    final long maximum)
+  {
+    final int start = this.position;
+    final boolean isNegative = this.readSign(signed);
+    final long limit = isNegative ? minimum : -maximum;
+    final long multiplyLimit = limit / 10L;
+    final int digitsStart = this.position;
+
+    /*
+     * Accumulate the value negatively, as the magnitude of the minimum
+     * value is greater than that of the maximum value.
+     */
+
+    long result = 0L;
+    int value = digit(this.peek());
+    while (value >= 0) {
+      if (result < multiplyLimit || result * 10L < limit + value) {
+        throw new ShowParseException("Integer value out of range", start);
+      }
+      result = (result * 10L) - value;
+      ++this.position;
+      value = digit(this.peek());
+    }
+
+    if (this.position == digitsStart) {
+      throw this.error("Expected a digit");
+    }
+    return isNegative ? result : -result;
+  }
+
+  /**
+   * Scan a decimal of the form {@code -?[0-9]+(\.[0-9]+)?([eE][+-]?[0-9]+)?},
+   * accumulating up to {@link #MAXIMUM_MANTISSA_DIGITS} significant digits
+   * into the mantissa and recording whether any nonzero digits were
+   * discarded.
+   */
+
+  private void scanDecimal(
+    final boolean signed)
+  {
+    this.tokenStart = this.position;
+    this.negative = this.readSign(signed);
+    this.mantissa = 0L;
+    this.mantissaDigits = 0;
+    this.exponent = 0;
+    this.exact = true;
+
+    this.scanDigits(false);
+    if (this.peek() == '.') {
+      ++this.position;
+      this.scanDigits(true);
+    }
+
+    final int e = this.peek();
+    if (e == 'e' || e == 'E') {
+      ++this.position;
+      this.scanExponent();
+    }
+  }
+
+  private void scanDigits(
+    final boolean fraction)
+  {
+    final int start = this.position;
+    int value = digit(this.peek());
+    while (value >= 0) {
+      if (this.mantissaDigits < MAXIMUM_MANTISSA_DIGITS) {
+        this.mantissa = (this.mantissa * 10L) + value;
+        if (this.mantissa != 0L) {
+          ++this.mantissaDigits;
+        }
+        if (fraction) {
+          --this.exponent;
+        }
+      } else {
+        this.exact = this.exact && value == 0;
+        if (!fraction) {
+          ++this.exponent;
+        }
+      }
+      ++this.position;
+      value = digit(this.peek());
+    }
+
+    if (this.position == start) {
+      throw this.error("Expected a digit");
+    }
+  }
+
+  private void scanExponent()
+  {
+    final int sign = this.peek();
+    if (sign == '+' || sign == '-') {
+      ++this.position;
+    }
+
+    final int start = this.position;
+    int result = 0;
+    int value = digit(this.peek());
+    while (value >= 0) {
+      result = Math.min((result * 10) + value, MAXIMUM_EXPONENT);
+      ++this.position;
+      value = digit(this.peek());
+    }
+
+    if (this.position == start) {
+      throw this.error("Expected a digit");
+    }
+    this.exponent += sign == '-' ? -result : result;
+  }
+
+  private String token(
+    final int start)
+  {
+    if (this.bytes != null) {
+      final StringBuilder builder = new StringBuilder(this.position - start);
+      for (int index = start; index < this.position; ++index) {
+        builder.append((char) (this.bytes[index] & 0xff));
+      }
+      return builder.toString();
+    }
+    return this.text.subSequence(start, this.position).toString();
+  }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jregions.core.codecs;
+
+import java.util.Objects;
+
+/**
+ * An exception raised when text cannot be parsed as a value in the format
+ * produced by the {@code show} functions.
+ */
+
+public final class ShowParseException extends IllegalArgumentException
+{
+  private static final long serialVersionUID = 1L;
+
+  private final int offset;
+
+  /**
+   * Construct an exception.
+   *
+   * @param inMessage The error message
+   * @param inOffset  The offset in the input of the first invalid character
+   */
+
+  public ShowParseException(
+    final String inMessage,
+    final int inOffset)
+  {
+    super(Objects.requireNonNull(inMessage, "message") + " (offset " + inOffset + ")");
+    this.offset = inOffset;
+  }
+
+  /**
+   * @return The offset in the input of the first invalid character
+   */
+
+  public int offset()
+  {
+    return this.offset;
+  }
+}
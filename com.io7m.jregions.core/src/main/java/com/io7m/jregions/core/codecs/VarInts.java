@@ -0,0 +1,354 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jregions.core.codecs;
+
+import com.io7m.jaffirm.core.Preconditions;
+import com.io7m.junreachable.UnreachableCodeException;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+/**
+ * <p>Functions to read and write variable-length integers.</p>
+ *
+ * <p>Unsigned values are written in the LEB128 format: Seven bits per byte,
+ * least significant group first, with the high bit of each byte set iff
+ * more bytes follow. Signed values are first mapped to unsigned values with
+ * the <i>zigzag</i> encoding, which maps values of small magnitude, positive
+ * or negative, to small unsigned values: {@code 0, -1, 1, -2, 2, ...} map to
+ * {@code 0, 1, 2, 3, 4, ...}.</p>
+ *
+ * <p>All functions use relative reads and writes, and so advance the
+ * position of the given buffer.</p>
+ */
+
+public final class VarInts
+{
+  /**
+   * The maximum number of bytes written for an {@code int} value.
+   */
+
+  public static final int MAXIMUM_INT_BYTES = 5;
+
+  /**
+   * The maximum number of bytes written for a {@code long} value.
+   */
+
+  public static final int MAXIMUM_LONG_BYTES = 10;
+
+  private VarInts()
+  {
+    throw new UnreachableCodeException();
+  }
+
+  /**
+   * @param value A signed value
+   *
+   * @return The zigzag encoding of {@code value}
+   */
+
+  public static int zigZagEncodeInt(
+    final int value)
+  {
+    return (value << 1) ^ (value >> 31);
+  }
+
+  /**
+   * @param value A zigzag encoded value
+   *
+   * @return The signed value of {@code value}
+   */
+
+  public static int zigZagDecodeInt(
+    final int value)
+  {
+    return (value >>> 1) ^ -(value & 1);
+  }
+
+  /**
+   * @param value A signed value
+   *
+   * @return The zigzag encoding of {@code value}
+   */
+
+  public static long zigZagEncodeLong(
+    final long value)
+  {
+    return (value << 1) ^ (value >> 63);
+  }
+
+  /**
+   * @param value A zigzag encoded value
+   *
+   * @return The signed value of {@code value}
+   */
+
+  public static long zigZagDecodeLong(
+    final long value)
+  {
+    return (value >>> 1) ^ -(value & 1L);
+  }
+
+  /**
+   * Write an unsigned variable-length integer.
+   *
+   * @param buffer The buffer
+   * @param value  The value, treated as unsigned
+   */
+
+  public static void putVarInt(
+    final ByteBuffer buffer,
+    final int value)
+  {
+    int remaining = value;
+    while ((remaining & ~0x7f) != 0) {
+      buffer.put((byte) ((remaining & 0x7f) | 0x80));
+      remaining >>>= 7;
+    }
+    buffer.put((byte) remaining);
+  }
+
+  /**
+   * Read an unsigned variable-length integer.
+   *
+   * @param buffer The buffer
+   *
+   * @return The value
+   */
+
+  public static int getVarInt(
+    final ByteBuffer buffer)
+  {
+    int result = 0;
+    int shift = 0;
+    while (true) {
+      checkLength(shift, MAXIMUM_INT_BYTES);
+      final int b = buffer.get();
+      result |= (b & 0x7f) << shift;
+      if ((b & 0x80) == 0) {
+        return result;
+      }
+      shift += 7;
+    }
+  }
+
+  /**
+   * Write an unsigned variable-length integer.
+   *
+   * @param buffer The buffer
+   * @param value  The value, treated as unsigned
+   */
+
+  public static void putVarLong(
+    final ByteBuffer buffer,
+    final long value)
+  {
+    long remaining = value;
+    while ((remaining & ~0x7fL) != 0L) {
+      buffer.put((byte) ((remaining & 0x7fL) | 0x80L));
+      remaining >>>= 7;
+    }
+    buffer.put((byte) remaining);
+  }
+
+  /**
+   * Read an unsigned variable-length integer.
+   *
+   * @param buffer The buffer
+   *
+   * @return The value
+   */
+
+  public static long getVarLong(
+    final ByteBuffer buffer)
+  {
+    long result = 0L;
+    int shift = 0;
+    while (true) {
+      checkLength(shift, MAXIMUM_LONG_BYTES);
+      final long b = buffer.get();
+      result |= (b & 0x7fL) << shift;
+      if ((b & 0x80L) == 0L) {
+        return result;
+      }
+      shift += 7;
+    }
+  }
+
+  /**
+   * Write a signed variable-length integer using the zigzag encoding.
+   *
+   * @param buffer The buffer
+   * @param value  The value
+   */
+
+  public static void putZigZagInt(
+    final ByteBuffer buffer,
+    final int value)
+  {
+    putVarInt(buffer, zigZagEncodeInt(value));
+  }
+
+  /**
+   * Read a signed variable-length integer written with
+   * {@link #putZigZagInt(ByteBuffer, int)}.
+   *
+   * @param buffer The buffer
+   *
+   * @return The value
+   */
+
+  public static int getZigZagInt(
+    final ByteBuffer buffer)
+  {
+    return zigZagDecodeInt(getVarInt(buffer));
+  }
+
+  /**
+   * Write a signed variable-length integer using the zigzag encoding.
+   *
+   * @param buffer The buffer
+   * @param value  The value
+   */
+
+  public static void putZigZagLong(
+    final ByteBuffer buffer,
+    final long value)
+  {
+    putVarLong(buffer, zigZagEncodeLong(value));
+  }
+
+  /**
+   * Read a signed variable-length integer written with
+   * {@link #putZigZagLong(ByteBuffer, long)}.
+   *
+   * @param buffer The buffer
+   *
+   * @return The value
+   */
+
+  public static long getZigZagLong(
+    final ByteBuffer buffer)
+  {
+    return zigZagDecodeLong(getVarLong(buffer));
+  }
+
+  /**
+   * Write an arbitrary-precision integer as a variable-length byte count
+   * followed by the minimal two's-complement representation of the value,
+   * most significant byte first.
+   *
+   * @param buffer The buffer
+   * @param value  The value
+   */
+
+  public static void putBigInteger(
+    final ByteBuffer buffer,
+    final BigInteger value)
+  {
+    Objects.requireNonNull(value, "value");
+
+    final int length = (value.bitLength() / 8) + 1;
+    putVarInt(buffer, length);
+    if (length <= 8) {
+      final long bits = value.longValue();
+      for (int index = length - 1; index >= 0; --index) {
+        buffer.put((byte) (bits >>> (index * 8)));
+      }
+    } else {
+      buffer.put(value.toByteArray());
+    }
+  }
+
+  /**
+   * Read an arbitrary-precision integer written with
+   * {@link #putBigInteger(ByteBuffer, BigInteger)}.
+   *
+   * @param buffer The buffer
+   *
+   * @return The value
+   */
+
+  public static BigInteger getBigInteger(
+    final ByteBuffer buffer)
+  {
+    final int length = getVarInt(buffer);
+    Preconditions.checkPreconditionI(
+      length,
+      length > 0 && length <= buffer.remaining(),
+      n -> "Integer length " + n + " must be in the range [1, "
+        + buffer.remaining() + "]");
+
+    if (length <= 8) {
+      long bits = buffer.get();
+      for (int index = 1; index < length; ++index) {
+        bits = (bits << 8) | (buffer.get() & 0xffL);
+      }
+      return BigInteger.valueOf(bits);
+    }
+
+    final byte[] bytes = new byte[length];
+    buffer.get(bytes);
+    return new BigInteger(bytes);
+  }
+
+  /**
+   * Write an arbitrary-precision decimal as its scale, using the zigzag
+   * encoding, followed by its unscaled value, as written by
+   * {@link #putBigInteger(ByteBuffer, BigInteger)}.
+   *
+   * @param buffer The buffer
+   * @param value  The value
+   */
+
+  public static void putBigDecimal(
+    final ByteBuffer buffer,
+    final BigDecimal value)
+  {
+    Objects.requireNonNull(value, "value");
+    putZigZagInt(buffer, value.scale());
+    putBigInteger(buffer, value.unscaledValue());
+  }
+
+  /**
+   * Read an arbitrary-precision decimal written with
+   * {@link #putBigDecimal(ByteBuffer, BigDecimal)}.
+   *
+   * @param buffer The buffer
+   *
+   * @return The value
+   */
+
+  public static BigDecimal getBigDecimal(
+    final ByteBuffer buffer)
+  {
+    final int scale = getZigZagInt(buffer);
+    return new BigDecimal(getBigInteger(buffer), scale);
+  }
+
+  private static void checkLength(
+    final int shift,
+    final int maximum)
+  {
+    Preconditions.checkPreconditionI(
+      shift,
+      shift < maximum * 7,
+      s -> "Variable-length integer must not exceed " + maximum + " bytes");
+  }
+}
@@ -0,0 +1,309 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jregions.core.conversions;
+
+import com.io7m.jregions.core.parameterized.volumes.PVolumeBD;
+import com.io7m.jregions.core.parameterized.volumes.PVolumeBI;
+import com.io7m.jregions.core.parameterized.volumes.PVolumeD;
+import com.io7m.jregions.core.parameterized.volumes.PVolumeF;
+import com.io7m.jregions.core.parameterized.volumes.PVolumeI;
+import com.io7m.jregions.core.parameterized.volumes.PVolumeL;
+import com.io7m.jregions.core.unparameterized.volumes.VolumeBD;
+import com.io7m.jregions.core.unparameterized.volumes.VolumeBI;
+import com.io7m.jregions.core.unparameterized.volumes.VolumeD;
+import com.io7m.jregions.core.unparameterized.volumes.VolumeF;
+import com.io7m.jregions.core.unparameterized.volumes.VolumeI;
+import com.io7m.jregions.core.unparameterized.volumes.VolumeL;
+import com.io7m.junreachable.UnreachableCodeException;
+
+import java.util.Objects;
+
+/**
+ * Functions to convert between volume types.
+ */
+
+public final class VolumeConversions
+{
+  private VolumeConversions()
+  {
+    throw new UnreachableCodeException();
+  }
+
+  /**
+   * Convert a volume.
+   *
+   * @param a   The volume
+   * @param <S> A phantom type parameter indicating the coordinate space of the
+   *            volume
+   *
+   * @return A volume
+   */
+
+  public static <S> VolumeI toVolumeI(final PVolumeI<S> a)
+  {
+    Objects.requireNonNull(a, "volume");
+    return VolumeI.of(
+      a.minimumX(),
+      a.maximumX(),
+      a.minimumY(),
+      a.maximumY(),
+      a.minimumZ(),
+      a.maximumZ());
+  }
+
+  /**
+   * Convert a volume.
+   *
+   * @param a   The volume
+   * @param <S> A phantom type parameter indicating the coordinate space of the
+   *            volume
+   *
+   * @return A volume
+   */
+
+  public static <S> VolumeL toVolumeL(final PVolumeL<S> a)
+  {
+    Objects.requireNonNull(a, "volume");
+    return VolumeL.of(
+      a.minimumX(),
+      a.maximumX(),
+      a.minimumY(),
+      a.maximumY(),
+      a.minimumZ(),
+      a.maximumZ());
+  }
+
+  /**
+   * Convert a volume.
+   *
+   * @param a   The volume
+   * @param <S> A phantom type parameter indicating the coordinate space of the
+   *            volume
+   *
+   * @return A volume
+   */
+
+  public static <S> VolumeD toVolumeD(final PVolumeD<S> a)
+  {
+    Objects.requireNonNull(a, "volume");
+    return VolumeD.of(
+      a.minimumX(),
+      a.maximumX(),
+      a.minimumY(),
+      a.maximumY(),
+      a.minimumZ(),
+      a.maximumZ());
+  }
+
+  /**
+   * Convert a volume.
+   *
+   * @param a   The volume
+   * @param <S> A phantom type parameter indicating the coordinate space of the
+   *            volume
+   *
+   * @return A volume
+   */
+
+  public static <S> VolumeF toVolumeF(final PVolumeF<S> a)
+  {
+    Objects.requireNonNull(a, "volume");
+    return VolumeF.of(
+      a.minimumX(),
+      a.maximumX(),
+      a.minimumY(),
+      a.maximumY(),
+      a.minimumZ(),
+      a.maximumZ());
+  }
+
+  /**
+   * Convert a volume.
+   *
+   * @param a   The volume
+   * @param <S> A phantom type parameter indicating the coordinate space of the
+   *            volume
+   *
+   * @return A volume
+   */
+
+  public static <S> VolumeBD toVolumeBD(final PVolumeBD<S> a)
+  {
+    Objects.requireNonNull(a, "volume");
+    return VolumeBD.of(
+      a.minimumX(),
+      a.maximumX(),
+      a.minimumY(),
+      a.maximumY(),
+      a.minimumZ(),
+      a.maximumZ());
+  }
+
+  /**
+   * Convert a volume.
+   *
+   * @param a   The volume
+   * @param <S> A phantom type parameter indicating the coordinate space of the
+   *            volume
+   *
+   * @return A volume
+   */
+
+  public static <S> VolumeBI toVolumeBI(final PVolumeBI<S> a)
+  {
+    Objects.requireNonNull(a, "volume");
+    return VolumeBI.of(
+      a.minimumX(),
+      a.maximumX(),
+      a.minimumY(),
+      a.maximumY(),
+      a.minimumZ(),
+      a.maximumZ());
+  }
+
+  /**
+   * Convert a volume.
+   *
+   * @param a   The volume
+   * @param <S> A phantom type parameter indicating the coordinate space of the
+   *            volume
+   *
+   * @return A volume
+   */
+
+  public static <S> PVolumeI<S> toPVolumeI(final VolumeI a)
+  {
+    Objects.requireNonNull(a, "volume");
+    return PVolumeI.of(
+      a.minimumX(),
+      a.maximumX(),
+      a.minimumY(),
+      a.maximumY(),
+      a.minimumZ(),
+      a.maximumZ());
+  }
+
+  /**
+   * Convert a volume.
+   *
+   * @param a   The volume
+   * @param <S> A phantom type parameter indicating the coordinate space of the
+   *            volume
+   *
+   * @return A volume
+   */
+
+  public static <S> PVolumeL<S> toPVolumeL(final VolumeL a)
+  {
+    Objects.requireNonNull(a, "volume");
+    return PVolumeL.of(
+      a.minimumX(),
+      a.maximumX(),
+      a.minimumY(),
+      a.maximumY(),
+      a.minimumZ(),
+      a.maximumZ());
+  }
+
+  /**
+   * Convert a volume.
+   *
+   * @param a   The volume
+   * @param <S> A phantom type parameter indicating the coordinate space of the
+   *            volume
+   *
+   * @return A volume
+   */
+
+  public static <S> PVolumeD<S> toPVolumeD(final VolumeD a)
+  {
+    Objects.requireNonNull(a, "volume");
+    return PVolumeD.of(
+      a.minimumX(),
+      a.maximumX(),
+      a.minimumY(),
+      a.maximumY(),
+      a.minimumZ(),
+      a.maximumZ());
+  }
+
+  /**
+   * Convert a volume.
+   *
+   * @param a   The volume
+   * @param <S> A phantom type parameter indicating the coordinate space of the
+   *            volume
+   *
+   * @return A volume
+   */
+
+  public static <S> PVolumeF<S> toPVolumeF(final VolumeF a)
+  {
+    Objects.requireNonNull(a, "volume");
+    return PVolumeF.of(
+      a.minimumX(),
+      a.maximumX(),
+      a.minimumY(),
+      a.maximumY(),
+      a.minimumZ(),
+      a.maximumZ());
+  }
+
+  /**
+   * Convert a volume.
+   *
+   * @param a   The volume
+   * @param <S> A phantom type parameter indicating the coordinate space of the
+   *            volume
+   *
+   * @return A volume
+   */
+
+  public static <S> PVolumeBD<S> toPVolumeBD(final VolumeBD a)
+  {
+    Objects.requireNonNull(a, "volume");
+    return PVolumeBD.of(
+      a.minimumX(),
+      a.maximumX(),
+      a.minimumY(),
+      a.maximumY(),
+      a.minimumZ(),
+      a.maximumZ());
+  }
+
+  /**
+   * Convert a volume.
+   *
+   * @param a   The volume
+   * @param <S> A phantom type parameter indicating the coordinate space of the
+   *            volume
+   *
+   * @return A volume
+   */
+
+  public static <S> PVolumeBI<S> toPVolumeBI(final VolumeBI a)
+  {
+    Objects.requireNonNull(a, "volume");
+    return PVolumeBI.of(
+      a.minimumX(),
+      a.maximumX(),
+      a.minimumY(),
+      a.maximumY(),
+      a.minimumZ(),
+      a.maximumZ());
+  }
+}
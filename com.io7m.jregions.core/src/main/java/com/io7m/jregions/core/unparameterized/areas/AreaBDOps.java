@@ -27,6 +27,8 @@ final class AreaBDOps
 
   public static final BigDecimal ONE = BigDecimal.ONE;
 
+  public static final BigDecimal MEASURE_ZERO = BigDecimal.ZERO;
+
   private AreaBDOps()
   {
     throw new UnreachableCodeException();
@@ -80,6 +82,27 @@ final class AreaBDOps
     return BigDecimal.valueOf(x);
   }
 
+  public static BigDecimal measureDistance(
+    final BigDecimal a,
+    final BigDecimal b)
+  {
+    return b.subtract(a);
+  }
+
+  public static BigDecimal measureAdd(
+    final BigDecimal a,
+    final BigDecimal b)
+  {
+    return a.add(b);
+  }
+
+  public static BigDecimal measureMultiply(
+    final BigDecimal a,
+    final BigDecimal b)
+  {
+    return a.multiply(b);
+  }
+
   public static void notNullArea(
     final Object expression,
     final String name)
@@ -27,6 +27,8 @@ final class AreaBIOps
 
   public static final BigInteger ONE = BigInteger.ONE;
 
+  public static final BigInteger MEASURE_ZERO = BigInteger.ZERO;
+
   private AreaBIOps()
   {
     throw new UnreachableCodeException();
@@ -80,6 +82,27 @@ final class AreaBIOps
     return BigInteger.valueOf(x);
   }
 
+  public static BigInteger measureDistance(
+    final BigInteger a,
+    final BigInteger b)
+  {
+    return b.subtract(a);
+  }
+
+  public static BigInteger measureAdd(
+    final BigInteger a,
+    final BigInteger b)
+  {
+    return a.add(b);
+  }
+
+  public static BigInteger measureMultiply(
+    final BigInteger a,
+    final BigInteger b)
+  {
+    return a.multiply(b);
+  }
+
   public static void notNullArea(
     final Object expression,
     final String name)
@@ -26,6 +26,8 @@ final class AreaDOps
 
   public static final double ONE = 1.0;
 
+  public static final double MEASURE_ZERO = 0.0;
+
   private AreaDOps()
   {
     throw new UnreachableCodeException();
@@ -79,6 +81,27 @@ final class AreaDOps
     return (double) x;
   }
 
+  public static double measureDistance(
+    final double a,
+    final double b)
+  {
+    return b - a;
+  }
+
+  public static double measureAdd(
+    final double a,
+    final double b)
+  {
+    return a + b;
+  }
+
+  public static double measureMultiply(
+    final double a,
+    final double b)
+  {
+    return a * b;
+  }
+
   public static void notNullArea(
     final Object expression,
     final String name)
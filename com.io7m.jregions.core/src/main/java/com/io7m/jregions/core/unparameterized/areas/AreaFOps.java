@@ -26,6 +26,8 @@ final class AreaFOps
 
   public static final float ONE = 1.0f;
 
+  public static final double MEASURE_ZERO = 0.0;
+
   private AreaFOps()
   {
     throw new UnreachableCodeException();
@@ -79,6 +81,27 @@ final class AreaFOps
     return (float) x;
   }
 
+  public static double measureDistance(
+    final float a,
+    final float b)
+  {
+    return (double) b - (double) a;
+  }
+
+  public static double measureAdd(
+    final double a,
+    final double b)
+  {
+    return a + b;
+  }
+
+  public static double measureMultiply(
+    final double a,
+    final double b)
+  {
+    return a * b;
+  }
+
   public static void notNullArea(
     final Object expression,
     final String name)
@@ -26,6 +26,8 @@ final class AreaIOps
 
   public static final int ONE = 1;
 
+  public static final long MEASURE_ZERO = 0L;
+
   private AreaIOps()
   {
     throw new UnreachableCodeException();
@@ -79,6 +81,27 @@ final class AreaIOps
     return Math.toIntExact(x);
   }
 
+  public static long measureDistance(
+    final int a,
+    final int b)
+  {
+    return (long) b - (long) a;
+  }
+
+  public static long measureAdd(
+    final long a,
+    final long b)
+  {
+    return Math.addExact(a, b);
+  }
+
+  public static long measureMultiply(
+    final long a,
+    final long b)
+  {
+    return Math.multiplyExact(a, b);
+  }
+
   public static void notNullArea(
     final Object expression,
     final String name)
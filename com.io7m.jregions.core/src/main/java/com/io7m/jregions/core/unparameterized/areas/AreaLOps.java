@@ -26,6 +26,8 @@ final class AreaLOps
 
   public static final long ONE = 1L;
 
+  public static final long MEASURE_ZERO = 0L;
+
   private AreaLOps()
   {
     throw new UnreachableCodeException();
@@ -79,6 +81,27 @@ final class AreaLOps
     return x;
   }
 
+  public static long measureDistance(
+    final long a,
+    final long b)
+  {
+    return Math.subtractExact(b, a);
+  }
+
+  public static long measureAdd(
+    final long a,
+    final long b)
+  {
+    return Math.addExact(a, b);
+  }
+
+  public static long measureMultiply(
+    final long a,
+    final long b)
+  {
+    return Math.multiplyExact(a, b);
+  }
+
   public static void notNullArea(
     final Object expression,
     final String name)
@@ -0,0 +1,954 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jregions.core.unparameterized.index;
+
+import com.io7m.jaffirm.core.Preconditions;
+import com.io7m.jregions.core.unparameterized.areas.AreaL;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.IntConsumer;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * <p>An immutable, packed R-tree of {@link AreaL} values, bulk-loaded in
+ * Hilbert curve order.</p>
+ *
+ * <p>The entire tree is stored in a single {@link ByteBuffer}: A fixed-size
+ * header, followed by one fixed-size record per node. The leaves are the
+ * areas themselves, sorted by the Hilbert key of their centroids (see
+ * {@link SpatialKeys}), and each level of internal nodes bounds up to
+ * {@link #nodeCapacity()} consecutive nodes of the level below. The tree
+ * holds no other state, so the contents of {@link #buffer()} can be written
+ * to disk as-is and later passed to {@link #wrap(ByteBuffer)}, for example
+ * after memory-mapping the file, without any deserialization.</p>
+ *
+ * <p>Values are identified by their index in the list or arrays from which
+ * the tree was built. Queries deliver the indices of matching areas in no
+ * particular order, using the same predicates as
+ * {@link com.io7m.jregions.core.unparameterized.areas.AreasL}, and use
+ * an explicit stack rather than recursion. The {@code *Areas} variants of
+ * each query additionally construct an {@link AreaL} value for each match
+ * from its leaf record; no other values are constructed.</p>
+ *
+ * <p>Node {@code n} begins at byte offset
+ * {@code HEADER_SIZE + (n * RECORD_SIZE)}, and the values within each
+ * record are laid out as follows:</p>
+ *
+ * <ul>
+ *   <li>{@code minimumX} at byte offset {@code 0 * 8}</li>
+ *   <li>{@code maximumX} at byte offset {@code 1 * 8}</li>
+ *   <li>{@code minimumY} at byte offset {@code 2 * 8}</li>
+ *   <li>{@code maximumY} at byte offset {@code 3 * 8}</li>
+ *   <li>{@code index} at byte offset {@code 4 * 8}</li>
+ * </ul>
+ *
+ * <p>For a leaf, {@code index} is the index of the value. For an internal
+ * node, {@code index} is the number of the first child node, and the bounds
+ * are those of the children, with each child treated as having a size of at
+ * least one on each axis. Nodes are numbered leaves first, and the root is
+ * the last node.</p>
+ *
+ * <p>Instances are immutable and are safe to query from multiple threads,
+ * provided that the underlying buffer is not modified.</p>
+ */
+
+public final class AreaPackedRTreeL
+{
+  /**
+   * The default maximum number of children per node.
+   */
+
+  public static final int DEFAULT_NODE_CAPACITY = 16;
+
+  /**
+   * The value of the first eight bytes of the buffer: The ASCII string
+   * {@code JRPRTREE}.
+   */
+
+  public static final long MAGIC = 0x4a52505254524545L;
+
+  /**
+   * The version of the buffer format.
+   */
+
+  public static final long VERSION = 1L;
+
+  /**
+   * The size in bytes of the header. The header holds {@link #MAGIC},
+   * {@link #VERSION}, the node capacity, and the number of values, each as
+   * a {@code long}.
+   */
+
+  public static final int HEADER_SIZE = 4 * 8;
+
+  /**
+   * The byte offset of the {@code minimumX} value within a node record.
+   */
+
+  public static final int OFFSET_MINIMUM_X = 0 * 8;
+
+  /**
+   * The byte offset of the {@code maximumX} value within a node record.
+   */
+
+  public static final int OFFSET_MAXIMUM_X = 1 * 8;
+
+  /**
+   * The byte offset of the {@code minimumY} value within a node record.
+   */
+
+  public static final int OFFSET_MINIMUM_Y = 2 * 8;
+
+  /**
+   * The byte offset of the {@code maximumY} value within a node record.
+   */
+
+  public static final int OFFSET_MAXIMUM_Y = 3 * 8;
+
+  /**
+   * The byte offset of the {@code index} value within a node record.
+   */
+
+  public static final int OFFSET_INDEX = 4 * 8;
+
+  /**
+   * The size in bytes of a single node record.
+   */
+
+  public static final int RECORD_SIZE = 5 * 8;
+
+  private final ByteBuffer buffer;
+  private final int nodeCapacity;
+  private final int count;
+  private final int[] levelBounds;
+  private final int stackSize;
+
+  private AreaPackedRTreeL(
+    final ByteBuffer inBuffer,
+    final int inNodeCapacity,
+    final int inCount)
+  {
+    this.buffer = inBuffer;
+    this.nodeCapacity = inNodeCapacity;
+    this.count = inCount;
+    this.levelBounds = levelBounds(inCount, inNodeCapacity);
+    this.stackSize = (this.levelBounds.length * inNodeCapacity) + 1;
+  }
+
+  /**
+   * Create a tree from the given areas using the default node capacity.
+   * The value at index {@code i} is {@code areas.get(i)}.
+   *
+   * @param areas The areas
+   *
+   * @return A new tree
+   */
+
+  public static AreaPackedRTreeL create(
+    final List<AreaL> areas)
+  {
+    return create(areas, DEFAULT_NODE_CAPACITY);
+  }
+
+  /**
+   * Create a tree from the given areas. The value at index {@code i} is
+   * {@code areas.get(i)}.
+   *
+   * @param areas        The areas
+   * @param nodeCapacity The maximum number of children per node (must be
+   *                     {@code >= 2})
+   *
+   * @return A new tree
+   */
+
+  public static AreaPackedRTreeL create(
+    final List<AreaL> areas,
+    final int nodeCapacity)
+  {
+    Objects.requireNonNull(areas, "areas");
+
+    final int size = areas.size();
+    final long[] minimumX = new long[size];
+    final long[] maximumX = new long[size];
+    final long[] minimumY = new long[size];
+    final long[] maximumY = new long[size];
+    for (int index = 0; index < size; ++index) {
+      final AreaL area = Objects.requireNonNull(areas.get(index), "area");
+      minimumX[index] = area.minimumX();
+      maximumX[index] = area.maximumX();
+      minimumY[index] = area.minimumY();
+      maximumY[index] = area.maximumY();
+    }
+    return create(minimumX, maximumX, minimumY, maximumY, size, nodeCapacity);
+  }
+
+  /**
+   * <p>Create a tree from {@code count} areas, given as arrays of edges. The
+   * value at index {@code i} is the area with edges {@code minimumX[i]},
+   * {@code maximumX[i]}, {@code minimumY[i]}, and {@code maximumY[i]}.
+   * The arrays are not modified.</p>
+   *
+   * <p>The tree is stored in a direct buffer in native byte order, and so
+   * the number of nodes is limited by the maximum capacity of a
+   * {@link ByteBuffer}.</p>
+   *
+   * @param minimumX     The minimum X edges
+   * @param maximumX     The maximum X edges
+   * @param minimumY     The minimum Y edges
+   * @param maximumY     The maximum Y edges
+   * @param count        The number of areas
+   * @param nodeCapacity The maximum number of children per node (must be
+   *                     {@code >= 2})
+   *
+   * @return A new tree
+   */
+
+  public static AreaPackedRTreeL create(
+    final long[] minimumX,
+    final long[] maximumX,
+    final long[] minimumY,
+    final long[] maximumY,
+    final int count,
+    final int nodeCapacity)
+  {
+    checkNodeCapacity(nodeCapacity);
+    checkArrays(minimumX, maximumX, minimumY, maximumY, count);
+
+    final int[] order =
+      hilbertOrder(minimumX, maximumX, minimumY, maximumY, count);
+
+    final int[] bounds = levelBounds(count, nodeCapacity);
+    final int nodes = nodeCount(bounds);
+    final ByteBuffer data =
+      ByteBuffer.allocateDirect(
+        Math.addExact(HEADER_SIZE, Math.multiplyExact(nodes, RECORD_SIZE)));
+    data.order(ByteOrder.nativeOrder());
+
+    data.putLong(0, MAGIC);
+    data.putLong(8, VERSION);
+    data.putLong(16, nodeCapacity);
+    data.putLong(24, count);
+
+    for (int node = 0; node < count; ++node) {
+      final int source = order[node];
+      putNode(
+        data,
+        node,
+        minimumX[source],
+        maximumX[source],
+        minimumY[source],
+        maximumY[source],
+        source);
+    }
+
+    putInternalNodes(data, bounds, count, nodeCapacity);
+    return new AreaPackedRTreeL(data, nodeCapacity, count);
+  }
+
+  /**
+   * <p>Wrap a buffer containing a tree, such as the buffer returned by
+   * {@link #buffer()} of an existing tree. The tree is read from the buffer
+   * at absolute offsets starting from zero, using the byte order of the
+   * buffer. The position and limit of the buffer are ignored and are never
+   * modified. Only the header is read by this method; the nodes are read
+   * on demand by queries.</p>
+   *
+   * @param buffer The byte buffer
+   *
+   * @return A tree
+   */
+
+  public static AreaPackedRTreeL wrap(
+    final ByteBuffer buffer)
+  {
+    Objects.requireNonNull(buffer, "buffer");
+    Preconditions.checkPreconditionI(
+      buffer.capacity(),
+      buffer.capacity() >= HEADER_SIZE,
+      c -> "Buffer capacity " + c + " must be at least the header size");
+    Preconditions.checkPreconditionL(
+      buffer.getLong(0),
+      buffer.getLong(0) == MAGIC,
+      m -> "Buffer must begin with the magic number (is the byte order correct?)");
+    Preconditions.checkPreconditionL(
+      buffer.getLong(8),
+      buffer.getLong(8) == VERSION,
+      v -> "Buffer format version must be " + VERSION);
+
+    final long capacity = buffer.getLong(16);
+    Preconditions.checkPreconditionL(
+      capacity,
+      capacity >= 2L && capacity <= (long) Integer.MAX_VALUE,
+      c -> "Node capacity must be >= 2");
+    final long size = buffer.getLong(24);
+    Preconditions.checkPreconditionL(
+      size,
+      size >= 0L && size <= (long) Integer.MAX_VALUE,
+      c -> "Count must be non-negative");
+
+    final int nodes = nodeCount(levelBounds((int) size, (int) capacity));
+    final long required = HEADER_SIZE + ((long) nodes * (long) RECORD_SIZE);
+    Preconditions.checkPreconditionI(
+      buffer.capacity(),
+      (long) buffer.capacity() >= required,
+      c -> "Buffer capacity " + c + " must be at least " + required);
+
+    return new AreaPackedRTreeL(buffer, (int) capacity, (int) size);
+  }
+
+  /**
+   * Sort the leaves into Hilbert order. The domain of the curve is the
+   * bounds of all of the areas.
+   */
+
+  private static int[] hilbertOrder(
+    final long[] minimumX,
+    final long[] maximumX,
+    final long[] minimumY,
+    final long[] maximumY,
+    final int count)
+  {
+    if (count == 0) {
+      return new int[0];
+    }
+
+    long x0 = Long.MAX_VALUE;
+    long x1 = Long.MIN_VALUE;
+    long y0 = Long.MAX_VALUE;
+    long y1 = Long.MIN_VALUE;
+    for (int index = 0; index < count; ++index) {
+      x0 = Math.min(x0, minimumX[index]);
+      x1 = Math.max(x1, maximumX[index]);
+      y0 = Math.min(y0, minimumY[index]);
+      y1 = Math.max(y1, maximumY[index]);
+    }
+
+    final long[] keys = SpatialKeys.areaKeys(
+      SpatialKeyCurve.HILBERT,
+      SpatialKeyAnchor.CENTROID,
+      AreaL.of(x0, x1, y0, y1),
+      minimumX,
+      maximumX,
+      minimumY,
+      maximumY,
+      count);
+    return SpatialKeys.sortedOrder(keys, count);
+  }
+
+  private static void putInternalNodes(
+    final ByteBuffer data,
+    final int[] bounds,
+    final int count,
+    final int nodeCapacity)
+  {
+    int node = count;
+    int levelStart = 0;
+    for (int level = 0; level < bounds.length - 1; ++level) {
+      final int levelEnd = bounds[level];
+      for (int first = levelStart; first < levelEnd; first += nodeCapacity) {
+        final int last = Math.min(first + nodeCapacity, levelEnd);
+
+        long x0 = Long.MAX_VALUE;
+        long x1 = Long.MIN_VALUE;
+        long y0 = Long.MAX_VALUE;
+        long y1 = Long.MIN_VALUE;
+        for (int child = first; child < last; ++child) {
+          final int offset = HEADER_SIZE + (child * RECORD_SIZE);
+          final long cx0 = data.getLong(offset + OFFSET_MINIMUM_X);
+          final long cy0 = data.getLong(offset + OFFSET_MINIMUM_Y);
+          x0 = Math.min(x0, cx0);
+          y0 = Math.min(y0, cy0);
+          x1 = Math.max(x1, extent(cx0, data.getLong(offset + OFFSET_MAXIMUM_X)));
+          y1 = Math.max(y1, extent(cy0, data.getLong(offset + OFFSET_MAXIMUM_Y)));
+        }
+
+        putNode(data, node, x0, x1, y0, y1, first);
+        ++node;
+      }
+      levelStart = levelEnd;
+    }
+  }
+
+  private static void checkArrays(
+    final long[] minimumX,
+    final long[] maximumX,
+    final long[] minimumY,
+    final long[] maximumY,
+    final int count)
+  {
+    Objects.requireNonNull(minimumX, "minimumX");
+    Objects.requireNonNull(maximumX, "maximumX");
+    Objects.requireNonNull(minimumY, "minimumY");
+    Objects.requireNonNull(maximumY, "maximumY");
+    Preconditions.checkPreconditionI(
+      count,
+      count >= 0,
+      c -> "Count must be non-negative");
+    checkLength(minimumX.length, count, "minimumX");
+    checkLength(maximumX.length, count, "maximumX");
+    checkLength(minimumY.length, count, "minimumY");
+    checkLength(maximumY.length, count, "maximumY");
+
+    for (int index = 0; index < count; ++index) {
+      checkEdges(minimumX[index], maximumX[index], minimumY[index], maximumY[index]);
+    }
+  }
+
+  private static void checkLength(
+    final int length,
+    final int count,
+    final String name)
+  {
+    Preconditions.checkPreconditionI(
+      length,
+      length >= count,
+      n -> "Length of " + name + " (" + n + ") must be >= " + count);
+  }
+
+  private static void checkNodeCapacity(
+    final int nodeCapacity)
+  {
+    Preconditions.checkPreconditionI(
+      nodeCapacity,
+      nodeCapacity >= 2,
+      c -> "Node capacity must be >= 2");
+  }
+
+  private static void checkEdges(
+    final long minimumX,
+    final long maximumX,
+    final long minimumY,
+    final long maximumY)
+  {
+    Preconditions.checkPrecondition(
+      maximumX >= minimumX,
+      "X maximum must be >= X minimum");
+    Preconditions.checkPrecondition(
+      maximumY >= minimumY,
+      "Y maximum must be >= Y minimum");
+  }
+
+  private static void putNode(
+    final ByteBuffer data,
+    final int node,
+    final long minimumX,
+    final long maximumX,
+    final long minimumY,
+    final long maximumY,
+    final long index)
+  {
+    final int offset = HEADER_SIZE + (node * RECORD_SIZE);
+    data.putLong(offset + OFFSET_MINIMUM_X, minimumX);
+    data.putLong(offset + OFFSET_MAXIMUM_X, maximumX);
+    data.putLong(offset + OFFSET_MINIMUM_Y, minimumY);
+    data.putLong(offset + OFFSET_MAXIMUM_Y, maximumY);
+    data.putLong(offset + OFFSET_INDEX, index);
+  }
+
+  /**
+   * Compute the number of the first node past the end of each level,
+   * leaves first. An empty tree has no levels, and any other tree has at
+   * least one level of internal nodes above the leaves.
+   */
+
+  private static int[] levelBounds(
+    final int count,
+    final int nodeCapacity)
+  {
+    if (count == 0) {
+      return new int[0];
+    }
+
+    int[] bounds = new int[8];
+    int levels = 0;
+    int size = count;
+    int nodes = count;
+    bounds[levels] = nodes;
+    ++levels;
+    do {
+      size = (int) (((long) size + (long) nodeCapacity - 1L) / (long) nodeCapacity);
+      nodes = Math.addExact(nodes, size);
+      if (levels == bounds.length) {
+        bounds = Arrays.copyOf(bounds, levels * 2);
+      }
+      bounds[levels] = nodes;
+      ++levels;
+    } while (size != 1);
+    return Arrays.copyOf(bounds, levels);
+  }
+
+  private static int nodeCount(
+    final int[] bounds)
+  {
+    return bounds.length == 0 ? 0 : bounds[bounds.length - 1];
+  }
+
+  /**
+   * @return The maximum edge of an area with the given edges, treating the
+   * area as having a size of at least one
+   */
+
+  private static long extent(
+    final long minimum,
+    final long maximum)
+  {
+    return Math.max(maximum, minimum + 1L);
+  }
+
+  /**
+   * @return The underlying byte buffer, as a read-only view
+   */
+
+  public ByteBuffer buffer()
+  {
+    return this.buffer.asReadOnlyBuffer().order(this.buffer.order());
+  }
+
+  /**
+   * @return The number of values in the tree
+   */
+
+  public int size()
+  {
+    return this.count;
+  }
+
+  /**
+   * @return {@code true} iff the tree contains no values
+   */
+
+  public boolean isEmpty()
+  {
+    return this.count == 0;
+  }
+
+  /**
+   * @return The maximum number of children per node
+   */
+
+  public int nodeCapacity()
+  {
+    return this.nodeCapacity;
+  }
+
+  /**
+   * Find the indices of all values whose areas overlap {@code area}, in the
+   * sense of
+   * {@link com.io7m.jregions.core.unparameterized.areas.AreasL#overlaps(AreaL, AreaL)}.
+   *
+   * @param area     The query area
+   * @param receiver A receiver of value indices
+   */
+
+  public void overlapping(
+    final AreaL area,
+    final IntConsumer receiver)
+  {
+    Objects.requireNonNull(receiver, "receiver");
+    this.overlappingSearch(area, this.indexReceiver(receiver));
+  }
+
+  /**
+   * Find the indices of all values whose areas overlap {@code area}, in the
+   * sense of
+   * {@link com.io7m.jregions.core.unparameterized.areas.AreasL#overlaps(AreaL, AreaL)}.
+   *
+   * @param area The query area
+   *
+   * @return The matching value indices
+   */
+
+  public int[] overlapping(
+    final AreaL area)
+  {
+    final IndexCollector results = new IndexCollector();
+    this.overlapping(area, results);
+    return results.toArray();
+  }
+
+  /**
+   * Find all values whose areas overlap {@code area}, in the sense of
+   * {@link com.io7m.jregions.core.unparameterized.areas.AreasL#overlaps(AreaL, AreaL)}.
+   * The areas of matching values are constructed from the leaf records, and
+   * are delivered along with the value indices.
+   *
+   * @param area     The query area
+   * @param receiver A receiver of areas and value indices
+   */
+
+  public void overlappingAreas(
+    final AreaL area,
+    final ObjIntConsumer<AreaL> receiver)
+  {
+    Objects.requireNonNull(receiver, "receiver");
+    this.overlappingSearch(area, this.areaReceiver(receiver));
+  }
+
+  private void overlappingSearch(
+    final AreaL area,
+    final LeafReceiverType receiver)
+  {
+    Objects.requireNonNull(area, "area");
+
+    final long qx0 = area.minimumX();
+    final long qx1 = extent(qx0, area.maximumX());
+    final long qy0 = area.minimumY();
+    final long qy1 = extent(qy0, area.maximumY());
+
+    final NodePredicateType predicate =
+      (x0, x1, y0, y1) -> x0 < qx1 && extent(x0, x1) > qx0
+        && y0 < qy1 && extent(y0, y1) > qy0;
+    this.search(predicate, predicate, receiver);
+  }
+
+  /**
+   * Find the indices of all values whose areas are contained within
+   * {@code area}, in the sense of
+   * {@link com.io7m.jregions.core.unparameterized.areas.AreasL#contains(AreaL, AreaL)}.
+   *
+   * @param area     The query area
+   * @param receiver A receiver of value indices
+   */
+
+  public void containedBy(
+    final AreaL area,
+    final IntConsumer receiver)
+  {
+    Objects.requireNonNull(receiver, "receiver");
+    this.containedBySearch(area, this.indexReceiver(receiver));
+  }
+
+  /**
+   * Find the indices of all values whose areas are contained within
+   * {@code area}, in the sense of
+   * {@link com.io7m.jregions.core.unparameterized.areas.AreasL#contains(AreaL, AreaL)}.
+   *
+   * @param area The query area
+   *
+   * @return The matching value indices
+   */
+
+  public int[] containedBy(
+    final AreaL area)
+  {
+    final IndexCollector results = new IndexCollector();
+    this.containedBy(area, results);
+    return results.toArray();
+  }
+
+  /**
+   * Find all values whose areas are contained within {@code area}, in the
+   * sense of
+   * {@link com.io7m.jregions.core.unparameterized.areas.AreasL#contains(AreaL, AreaL)}.
+   * The areas of matching values are constructed from the leaf records, and
+   * are delivered along with the value indices.
+   *
+   * @param area     The query area
+   * @param receiver A receiver of areas and value indices
+   */
+
+  public void containedByAreas(
+    final AreaL area,
+    final ObjIntConsumer<AreaL> receiver)
+  {
+    Objects.requireNonNull(receiver, "receiver");
+    this.containedBySearch(area, this.areaReceiver(receiver));
+  }
+
+  private void containedBySearch(
+    final AreaL area,
+    final LeafReceiverType receiver)
+  {
+    Objects.requireNonNull(area, "area");
+
+    final long qx0 = area.minimumX();
+    final long qx1 = area.maximumX();
+    final long qy0 = area.minimumY();
+    final long qy1 = area.maximumY();
+
+    this.search(
+      (x0, x1, y0, y1) -> x0 <= qx1 && qx0 <= x1
+          && y0 <= qy1 && qy0 <= y1,
+      (x0, x1, y0, y1) -> x0 >= qx0 && x1 <= qx1
+          && y0 >= qy0 && y1 <= qy1,
+      receiver);
+  }
+
+  /**
+   * Find the indices of all values whose areas contain {@code area}, in the
+   * sense of
+   * {@link com.io7m.jregions.core.unparameterized.areas.AreasL#contains(AreaL, AreaL)}.
+   *
+   * @param area     The query area
+   * @param receiver A receiver of value indices
+   */
+
+  public void containing(
+    final AreaL area,
+    final IntConsumer receiver)
+  {
+    Objects.requireNonNull(receiver, "receiver");
+    this.containingSearch(area, this.indexReceiver(receiver));
+  }
+
+  /**
+   * Find the indices of all values whose areas contain {@code area}, in the
+   * sense of
+   * {@link com.io7m.jregions.core.unparameterized.areas.AreasL#contains(AreaL, AreaL)}.
+   *
+   * @param area The query area
+   *
+   * @return The matching value indices
+   */
+
+  public int[] containing(
+    final AreaL area)
+  {
+    final IndexCollector results = new IndexCollector();
+    this.containing(area, results);
+    return results.toArray();
+  }
+
+  /**
+   * Find all values whose areas contain {@code area}, in the sense of
+   * {@link com.io7m.jregions.core.unparameterized.areas.AreasL#contains(AreaL, AreaL)}.
+   * The areas of matching values are constructed from the leaf records, and
+   * are delivered along with the value indices.
+   *
+   * @param area     The query area
+   * @param receiver A receiver of areas and value indices
+   */
+
+  public void containingAreas(
+    final AreaL area,
+    final ObjIntConsumer<AreaL> receiver)
+  {
+    Objects.requireNonNull(receiver, "receiver");
+    this.containingSearch(area, this.areaReceiver(receiver));
+  }
+
+  private void containingSearch(
+    final AreaL area,
+    final LeafReceiverType receiver)
+  {
+    Objects.requireNonNull(area, "area");
+
+    final long qx0 = area.minimumX();
+    final long qx1 = area.maximumX();
+    final long qy0 = area.minimumY();
+    final long qy1 = area.maximumY();
+
+    final NodePredicateType predicate =
+      (x0, x1, y0, y1) -> qx0 >= x0 && qx1 <= x1
+        && qy0 >= y0 && qy1 <= y1;
+    this.search(predicate, predicate, receiver);
+  }
+
+  /**
+   * Find the indices of all values whose areas contain the point
+   * {@code (x, y)}, in the sense of
+   * {@link com.io7m.jregions.core.unparameterized.areas.AreasL#containsPoint(AreaL, long, long)}.
+   *
+   * @param x        The X coordinate of the point
+   * @param y        The Y coordinate of the point
+   * @param receiver A receiver of value indices
+   */
+
+  public void containingPoint(
+    final long x,
+    final long y,
+    final IntConsumer receiver)
+  {
+    Objects.requireNonNull(receiver, "receiver");
+    this.containingPointSearch(x, y, this.indexReceiver(receiver));
+  }
+
+  /**
+   * Find the indices of all values whose areas contain the point
+   * {@code (x, y)}, in the sense of
+   * {@link com.io7m.jregions.core.unparameterized.areas.AreasL#containsPoint(AreaL, long, long)}.
+   *
+   * @param x The X coordinate of the point
+   * @param y The Y coordinate of the point
+   *
+   * @return The matching value indices
+   */
+
+  public int[] containingPoint(
+    final long x,
+    final long y)
+  {
+    final IndexCollector results = new IndexCollector();
+    this.containingPoint(x, y, results);
+    return results.toArray();
+  }
+
+  /**
+   * Find all values whose areas contain the point {@code (x, y)}, in the
+   * sense of
+   * {@link com.io7m.jregions.core.unparameterized.areas.AreasL#containsPoint(AreaL, long, long)}.
+   * The areas of matching values are constructed from the leaf records, and
+   * are delivered along with the value indices.
+   *
+   * @param x        The X coordinate of the point
+   * @param y        The Y coordinate of the point
+   * @param receiver A receiver of areas and value indices
+   */
+
+  public void containingPointAreas(
+    final long x,
+    final long y,
+    final ObjIntConsumer<AreaL> receiver)
+  {
+    Objects.requireNonNull(receiver, "receiver");
+    this.containingPointSearch(x, y, this.areaReceiver(receiver));
+  }
+
+  private void containingPointSearch(
+    final long x,
+    final long y,
+    final LeafReceiverType receiver)
+  {
+    final NodePredicateType predicate =
+      (x0, x1, y0, y1) -> x >= x0 && x < x1
+        && y >= y0 && y < y1;
+    this.search(predicate, predicate, receiver);
+  }
+
+  private LeafReceiverType indexReceiver(
+    final IntConsumer receiver)
+  {
+    final ByteBuffer data = this.buffer;
+    return offset -> receiver.accept((int) data.getLong(offset + OFFSET_INDEX));
+  }
+
+  private LeafReceiverType areaReceiver(
+    final ObjIntConsumer<AreaL> receiver)
+  {
+    final ByteBuffer data = this.buffer;
+    return offset -> receiver.accept(
+      AreaL.of(
+        data.getLong(offset + OFFSET_MINIMUM_X),
+        data.getLong(offset + OFFSET_MAXIMUM_X),
+        data.getLong(offset + OFFSET_MINIMUM_Y),
+        data.getLong(offset + OFFSET_MAXIMUM_Y)),
+      (int) data.getLong(offset + OFFSET_INDEX));
+  }
+
+  /**
+   * Traverse the tree depth-first, descending into the internal nodes that
+   * satisfy {@code nodes} and delivering the leaves that satisfy
+   * {@code leaves}. Each internal node pushes at most
+   * {@link #nodeCapacity()} children, so the stack never holds more than
+   * one level's worth of children per level.
+   */
+
+  private void search(
+    final NodePredicateType nodes,
+    final NodePredicateType leaves,
+    final LeafReceiverType receiver)
+  {
+    if (this.count == 0) {
+      return;
+    }
+
+    final ByteBuffer data = this.buffer;
+    final int[] bounds = this.levelBounds;
+    final int[] stack = new int[this.stackSize];
+    stack[0] = bounds[bounds.length - 1] - 1;
+    int top = 1;
+
+    while (top > 0) {
+      --top;
+      final int node = stack[top];
+      final int first =
+        (int) data.getLong(HEADER_SIZE + (node * RECORD_SIZE) + OFFSET_INDEX);
+
+      int level = 0;
+      while (first >= bounds[level]) {
+        ++level;
+      }
+      final int last = Math.min(first + this.nodeCapacity, bounds[level]);
+      final boolean leaf = level == 0;
+
+      for (int child = first; child < last; ++child) {
+        final int offset = HEADER_SIZE + (child * RECORD_SIZE);
+        final long x0 = data.getLong(offset + OFFSET_MINIMUM_X);
+        final long x1 = data.getLong(offset + OFFSET_MAXIMUM_X);
+        final long y0 = data.getLong(offset + OFFSET_MINIMUM_Y);
+        final long y1 = data.getLong(offset + OFFSET_MAXIMUM_Y);
+
+        if (leaf) {
+          if (leaves.test(x0, x1, y0, y1)) {
+            receiver.receive(offset);
+          }
+        } else if (nodes.test(x0, x1, y0, y1)) {
+          stack[top] = child;
+          ++top;
+        }
+      }
+    }
+  }
+
+  @FunctionalInterface
+  private interface NodePredicateType
+  {
+    boolean test(
+      long minimumX,
+      long maximumX,
+      long minimumY,
+      long maximumY);
+  }
+
+  @FunctionalInterface
+  private interface LeafReceiverType
+  {
+    void receive(int offset);
+  }
+
+  private static final class IndexCollector implements IntConsumer
+  {
+    private int[] indices;
+    private int size;
+
+    IndexCollector()
+    {
+      this.indices = new int[16];
+      this.size = 0;
+    }
+
+    @Override
+    public void accept(
+      final int index)
+    {
+      if (this.size == this.indices.length) {
+        this.indices = Arrays.copyOf(this.indices, this.size * 2);
+      }
+      this.indices[this.size] = index;
+      ++this.size;
+    }
+
+    int[] toArray()
+    {
+      return Arrays.copyOf(this.indices, this.size);
+    }
+  }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jregions.core.unparameterized.index;
+
+/**
+ * The orders in which the tiles of an area can be visited.
+ *
+ * @see AreaTileCursorI
+ * @see AreaTileCursorL
+ */
+
+public enum AreaTileOrder
+{
+  /**
+   * Visit each row of tiles in turn, starting at the minimum Y edge, and
+   * visit the tiles of each row in order of increasing X.
+   */
+
+  ROW_MAJOR,
+
+  /**
+   * Visit each column of tiles in turn, starting at the minimum X edge, and
+   * visit the tiles of each column in order of increasing Y.
+   */
+
+  COLUMN_MAJOR,
+
+  /**
+   * Visit the tiles along the Morton (Z-order) curve.
+   *
+   * @see MortonCurve
+   */
+
+  MORTON,
+
+  /**
+   * Visit the tiles along the Hilbert curve.
+   *
+   * @see HilbertCurve
+   */
+
+  HILBERT
+}
@@ -0,0 +1,219 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jregions.core.unparameterized.index;
+
+import com.io7m.junreachable.UnreachableCodeException;
+
+/**
+ * <p>Functions to encode and decode points on the Morton (Z-order)
+ * curve.</p>
+ *
+ * <p>Two-dimensional codes interleave two unsigned 32-bit coordinates into
+ * an unsigned 64-bit code. Three-dimensional codes interleave the low 21
+ * bits of three coordinates into an unsigned 63-bit code. In both cases, the
+ * bit of the X coordinate is the least significant bit of each group. The
+ * interleaving is performed with the usual "magic number" shift-and-mask
+ * sequences, which are the portable equivalent of the x86 {@code PDEP} and
+ * {@code PEXT} instructions.</p>
+ */
+
+public final class MortonCurve
+{
+  private MortonCurve()
+  {
+    throw new UnreachableCodeException();
+  }
+
+  /**
+   * Spread the bits of an unsigned 32-bit value so that bit {@code i} is
+   * moved to bit {@code 2i}.
+   *
+   * @param x The value
+   *
+   * @return The spread value
+   */
+
+  public static long spread2(
+    final int x)
+  {
+    long v = (long) x & 0xffffffffL;
+    v = (v | (v << 16)) & 0x0000ffff0000ffffL;
+    v = (v | (v << 8)) & 0x00ff00ff00ff00ffL;
+    v = (v | (v << 4)) & 0x0f0f0f0f0f0f0f0fL;
+    v = (v | (v << 2)) & 0x3333333333333333L;
+    v = (v | (v << 1)) & 0x5555555555555555L;
+    return v;
+  }
+
+  /**
+   * The inverse of {@link #spread2(int)}: Collect every even bit of
+   * {@code v}.
+   *
+   * @param v The spread value
+   *
+   * @return The compacted value
+   */
+
+  public static int compact2(
+    final long v)
+  {
+    long r = v & 0x5555555555555555L;
+    r = (r | (r >>> 1)) & 0x3333333333333333L;
+    r = (r | (r >>> 2)) & 0x0f0f0f0f0f0f0f0fL;
+    r = (r | (r >>> 4)) & 0x00ff00ff00ff00ffL;
+    r = (r | (r >>> 8)) & 0x0000ffff0000ffffL;
+    r = (r | (r >>> 16)) & 0x00000000ffffffffL;
+    return (int) r;
+  }
+
+  /**
+   * Spread the low 21 bits of a value so that bit {@code i} is moved to bit
+   * {@code 3i}.
+   *
+   * @param x The value
+   *
+   * @return The spread value
+   */
+
+  public static long spread3(
+    final int x)
+  {
+    long v = (long) x & 0x1fffffL;
+    v = (v | (v << 32)) & 0x001f00000000ffffL;
+    v = (v | (v << 16)) & 0x001f0000ff0000ffL;
+    v = (v | (v << 8)) & 0x100f00f00f00f00fL;
+    v = (v | (v << 4)) & 0x10c30c30c30c30c3L;
+    v = (v | (v << 2)) & 0x1249249249249249L;
+    return v;
+  }
+
+  /**
+   * The inverse of {@link #spread3(int)}: Collect every third bit of
+   * {@code v}.
+   *
+   * @param v The spread value
+   *
+   * @return The compacted value
+   */
+
+  public static int compact3(
+    final long v)
+  {
+    long r = v & 0x1249249249249249L;
+    r = (r | (r >>> 2)) & 0x10c30c30c30c30c3L;
+    r = (r | (r >>> 4)) & 0x100f00f00f00f00fL;
+    r = (r | (r >>> 8)) & 0x001f0000ff0000ffL;
+    r = (r | (r >>> 16)) & 0x001f00000000ffffL;
+    r = (r | (r >>> 32)) & 0x00000000001fffffL;
+    return (int) r;
+  }
+
+  /**
+   * Encode a two-dimensional point.
+   *
+   * @param x The unsigned X coordinate
+   * @param y The unsigned Y coordinate
+   *
+   * @return The unsigned Morton code of {@code (x, y)}
+   */
+
+  public static long encode2(
+    final int x,
+    final int y)
+  {
+    return spread2(x) | (spread2(y) << 1);
+  }
+
+  /**
+   * @param code An unsigned Morton code produced by {@link #encode2(int, int)}
+   *
+   * @return The unsigned X coordinate of the point
+   */
+
+  public static int decode2X(
+    final long code)
+  {
+    return compact2(code);
+  }
+
+  /**
+   * @param code An unsigned Morton code produced by {@link #encode2(int, int)}
+   *
+   * @return The unsigned Y coordinate of the point
+   */
+
+  public static int decode2Y(
+    final long code)
+  {
+    return compact2(code >>> 1);
+  }
+
+  /**
+   * Encode a three-dimensional point. Only the low 21 bits of each
+   * coordinate are used.
+   *
+   * @param x The X coordinate
+   * @param y The Y coordinate
+   * @param z The Z coordinate
+   *
+   * @return The Morton code of {@code (x, y, z)}
+   */
+
+  public static long encode3(
+    final int x,
+    final int y,
+    final int z)
+  {
+    return spread3(x) | (spread3(y) << 1) | (spread3(z) << 2);
+  }
+
+  /**
+   * @param code A Morton code produced by {@link #encode3(int, int, int)}
+   *
+   * @return The X coordinate of the point
+   */
+
+  public static int decode3X(
+    final long code)
+  {
+    return compact3(code);
+  }
+
+  /**
+   * @param code A Morton code produced by {@link #encode3(int, int, int)}
+   *
+   * @return The Y coordinate of the point
+   */
+
+  public static int decode3Y(
+    final long code)
+  {
+    return compact3(code >>> 1);
+  }
+
+  /**
+   * @param code A Morton code produced by {@link #encode3(int, int, int)}
+   *
+   * @return The Z coordinate of the point
+   */
+
+  public static int decode3Z(
+    final long code)
+  {
+    return compact3(code >>> 2);
+  }
+}
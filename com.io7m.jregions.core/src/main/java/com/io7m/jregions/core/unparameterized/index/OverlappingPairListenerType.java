@@ -0,0 +1,50 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jregions.core.unparameterized.index;
+
+/**
+ * A listener that is informed of changes to the set of overlapping pairs
+ * between successive steps of a broadphase.
+ */
+
+public interface OverlappingPairListenerType
+{
+  /**
+   * A pair of values began to overlap during the most recent step.
+   *
+   * @param handleA The handle of the first value
+   * @param handleB The handle of the second value, always greater than
+   *                {@code handleA}
+   */
+
+  void onPairAdded(
+    int handleA,
+    int handleB);
+
+  /**
+   * A pair of values stopped overlapping during the most recent step, or one
+   * of the values was removed.
+   *
+   * @param handleA The handle of the first value
+   * @param handleB The handle of the second value, always greater than
+   *                {@code handleA}
+   */
+
+  void onPairRemoved(
+    int handleA,
+    int handleB);
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jregions.core.unparameterized.index;
+
+/**
+ * A receiver of pairs of overlapping values, identified by their handles.
+ * Pairs are delivered as primitive handles so that no objects are allocated
+ * per pair.
+ */
+
+@FunctionalInterface
+public interface OverlappingPairReceiverType
+{
+  /**
+   * Receive a pair of overlapping values.
+   *
+   * @param handleA The handle of the first value
+   * @param handleB The handle of the second value, always greater than
+   *                {@code handleA}
+   */
+
+  void receive(
+    int handleA,
+    int handleB);
+}
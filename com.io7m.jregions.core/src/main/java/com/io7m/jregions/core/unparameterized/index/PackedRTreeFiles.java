@@ -0,0 +1,190 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jregions.core.unparameterized.index;
+
+import com.io7m.jaffirm.core.PreconditionViolationException;
+import com.io7m.junreachable.UnreachableCodeException;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.util.Objects;
+
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * <p>Functions to store packed R-trees in files, and to memory-map them.</p>
+ *
+ * <p>A file holds exactly the contents of the {@code buffer()} of an
+ * {@link AreaPackedRTreeL} or {@link VolumePackedRTreeL}: A header beginning
+ * with the magic number of the tree type, followed by the node records. The
+ * values in the file are in the byte order of the machine that built the
+ * tree; the byte order is recovered from the magic number when the file is
+ * mapped, so files can be exchanged between machines of differing byte
+ * order.</p>
+ *
+ * <p>Mapping a file reads only the header. Queries on the resulting tree read
+ * the mapped pages directly, and so the cost of opening an index does not
+ * depend on the number of values it contains. A mapping remains valid until
+ * the tree is garbage collected, even after the file channel used to create
+ * it is closed. A file is limited in size by the maximum capacity of a
+ * {@link ByteBuffer}.</p>
+ */
+
+public final class PackedRTreeFiles
+{
+  private PackedRTreeFiles()
+  {
+    throw new UnreachableCodeException();
+  }
+
+  /**
+   * Write a tree to a file, replacing any existing file.
+   *
+   * @param file The file
+   * @param tree The tree
+   *
+   * @throws IOException On I/O errors
+   */
+
+  public static void write(
+    final Path file,
+    final AreaPackedRTreeL tree)
+    throws IOException
+  {
+    Objects.requireNonNull(tree, "tree");
+    writeBuffer(file, tree.buffer());
+  }
+
+  /**
+   * Write a tree to a file, replacing any existing file.
+   *
+   * @param file The file
+   * @param tree The tree
+   *
+   * @throws IOException On I/O errors
+   */
+
+  public static void write(
+    final Path file,
+    final VolumePackedRTreeL tree)
+    throws IOException
+  {
+    Objects.requireNonNull(tree, "tree");
+    writeBuffer(file, tree.buffer());
+  }
+
+  /**
+   * Memory-map a file written by {@link #write(Path, AreaPackedRTreeL)}.
+   *
+   * @param file The file
+   *
+   * @return A tree that reads from the mapped file
+   *
+   * @throws IOException On I/O errors, or if the file does not contain a
+   *                     valid tree
+   */
+
+  public static AreaPackedRTreeL mapAreas(
+    final Path file)
+    throws IOException
+  {
+    final ByteBuffer data = map(file, AreaPackedRTreeL.MAGIC);
+    try {
+      return AreaPackedRTreeL.wrap(data);
+    } catch (final PreconditionViolationException e) {
+      throw new IOException("Malformed area tree file: " + file, e);
+    }
+  }
+
+  /**
+   * Memory-map a file written by {@link #write(Path, VolumePackedRTreeL)}.
+   *
+   * @param file The file
+   *
+   * @return A tree that reads from the mapped file
+   *
+   * @throws IOException On I/O errors, or if the file does not contain a
+   *                     valid tree
+   */
+
+  public static VolumePackedRTreeL mapVolumes(
+    final Path file)
+    throws IOException
+  {
+    final ByteBuffer data = map(file, VolumePackedRTreeL.MAGIC);
+    try {
+      return VolumePackedRTreeL.wrap(data);
+    } catch (final PreconditionViolationException e) {
+      throw new IOException("Malformed volume tree file: " + file, e);
+    }
+  }
+
+  private static void writeBuffer(
+    final Path file,
+    final ByteBuffer buffer)
+    throws IOException
+  {
+    Objects.requireNonNull(file, "file");
+
+    final ByteBuffer data = buffer.duplicate().clear();
+    try (FileChannel channel =
+           FileChannel.open(file, CREATE, TRUNCATE_EXISTING, WRITE)) {
+      while (data.hasRemaining()) {
+        channel.write(data);
+      }
+    }
+  }
+
+  private static ByteBuffer map(
+    final Path file,
+    final long magic)
+    throws IOException
+  {
+    Objects.requireNonNull(file, "file");
+
+    try (FileChannel channel = FileChannel.open(file, READ)) {
+      final long size = channel.size();
+      if (size < 8L || size > (long) Integer.MAX_VALUE) {
+        throw new IOException(
+          "File size " + size + " is not a valid tree size: " + file);
+      }
+
+      final ByteBuffer data =
+        channel.map(FileChannel.MapMode.READ_ONLY, 0L, size);
+
+      data.order(ByteOrder.BIG_ENDIAN);
+      final long fileMagic = data.getLong(0);
+      if (fileMagic == Long.reverseBytes(magic)) {
+        data.order(ByteOrder.LITTLE_ENDIAN);
+      } else if (fileMagic != magic) {
+        throw new IOException(
+          String.format(
+            "File has magic number 0x%016x but expected 0x%016x: %s",
+            Long.valueOf(fileMagic),
+            Long.valueOf(magic),
+            file));
+      }
+      return data;
+    }
+  }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jregions.core.unparameterized.index;
+
+/**
+ * The space-filling curves that can be used to compute spatial keys.
+ *
+ * @see SpatialKeys
+ */
+
+public enum SpatialKeyCurve
+{
+  /**
+   * The Morton (Z-order) curve.
+   *
+   * @see MortonCurve
+   */
+
+  MORTON {
+    @Override
+    public long encode2(
+      final int x,
+      final int y)
+    {
+      return MortonCurve.encode2(x, y);
+    }
+
+    @Override
+    public long encode3(
+      final int x,
+      final int y,
+      final int z)
+    {
+      return MortonCurve.encode3(x, y, z);
+    }
+  },
+
+  /**
+   * The Hilbert curve.
+   *
+   * @see HilbertCurve
+   */
+
+  HILBERT {
+    @Override
+    public long encode2(
+      final int x,
+      final int y)
+    {
+      return HilbertCurve.encode2(x, y);
+    }
+
+    @Override
+    public long encode3(
+      final int x,
+      final int y,
+      final int z)
+    {
+      return HilbertCurve.encode3(x, y, z);
+    }
+  };
+
+  /**
+   * Encode a two-dimensional point.
+   *
+   * @param x The unsigned X coordinate
+   * @param y The unsigned Y coordinate
+   *
+   * @return The unsigned code of {@code (x, y)}
+   */
+
+  public abstract long encode2(
+    int x,
+    int y);
+
+  /**
+   * Encode a three-dimensional point. Only the low 21 bits of each
+   * coordinate are used.
+   *
+   * @param x The X coordinate
+   * @param y The Y coordinate
+   * @param z The Z coordinate
+   *
+   * @return The code of {@code (x, y, z)}
+   */
+
+  public abstract long encode3(
+    int x,
+    int y,
+    int z);
+}
@@ -0,0 +1,681 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jregions.core.unparameterized.index;
+
+import com.io7m.jaffirm.core.Preconditions;
+import com.io7m.jregions.core.unparameterized.areas.AreaI;
+import com.io7m.jregions.core.unparameterized.areas.AreaL;
+import com.io7m.jregions.core.unparameterized.volumes.VolumeI;
+import com.io7m.jregions.core.unparameterized.volumes.VolumeL;
+import com.io7m.junreachable.UnreachableCodeException;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * <p>Functions to compute locality-preserving spatial keys for areas and
+ * volumes.</p>
+ *
+ * <p>A key is computed by taking an anchor point of an area or volume (see
+ * {@link SpatialKeyAnchor}), quantizing the point onto a grid that covers a
+ * given <i>domain</i>, and then encoding the grid cell with a space-filling
+ * curve (see {@link SpatialKeyCurve}). Areas are quantized onto a grid of
+ * 2<sup>32</sup> cells per axis, yielding unsigned 64-bit keys, and volumes
+ * onto a grid of 2<sup>21</sup> cells per axis, yielding 63-bit keys. Points
+ * outside of the domain are clamped to the nearest cell.</p>
+ *
+ * <p>Keys must be compared as unsigned values, for example with
+ * {@link Long#compareUnsigned(long, long)}. Sorting values by key places
+ * values that are close in space close together in the resulting order,
+ * which improves the locality of tree construction and of disk layouts.</p>
+ *
+ * <p>The bulk functions operate on the same edge array layout as the
+ * {@code AreasBatch} and {@code VolumesBatch} classes.</p>
+ */
+
+public final class SpatialKeys
+{
+  private static final int AREA_BITS = 32;
+  private static final int VOLUME_BITS = 21;
+  private static final int RADIX_BITS = 8;
+  private static final int RADIX = 1 << RADIX_BITS;
+
+  private SpatialKeys()
+  {
+    throw new UnreachableCodeException();
+  }
+
+  private static int quantize(
+    final double coordinate,
+    final double minimum,
+    final double size,
+    final int bits)
+  {
+    final double cells = Math.scalb(1.0, bits);
+    final double q = Math.floor((coordinate - minimum) * (cells / Math.max(1.0, size)));
+    if (!(q > 0.0)) {
+      return 0;
+    }
+    if (q >= cells - 1.0) {
+      return (int) (long) (cells - 1.0);
+    }
+    return (int) (long) q;
+  }
+
+  private static double anchor(
+    final SpatialKeyAnchor anchor,
+    final double minimum,
+    final double maximum)
+  {
+    switch (anchor) {
+      case MINIMUM_CORNER:
+        return minimum;
+      case CENTROID:
+        return (minimum + maximum) * 0.5;
+    }
+    throw new UnreachableCodeException();
+  }
+
+  private static void checkCommon(
+    final SpatialKeyCurve curve,
+    final SpatialKeyAnchor anchor,
+    final Object domain)
+  {
+    Objects.requireNonNull(curve, "curve");
+    Objects.requireNonNull(anchor, "anchor");
+    Objects.requireNonNull(domain, "domain");
+  }
+
+  private static void checkCount(
+    final int count)
+  {
+    Preconditions.checkPreconditionI(
+      count,
+      count >= 0,
+      c -> "Count must be non-negative");
+  }
+
+  private static void checkLength(
+    final int length,
+    final int count,
+    final String name)
+  {
+    Preconditions.checkPreconditionI(
+      length,
+      length >= count,
+      n -> "Length of " + name + " (" + n + ") must be >= " + count);
+  }
+
+  /**
+   * Compute the spatial key of an area.
+   *
+   * @param curve  The space-filling curve
+   * @param anchor The anchor point of the area
+   * @param domain The domain covered by the quantization grid
+   * @param area   The area
+   *
+   * @return The unsigned key of {@code area}
+   */
+
+  public static long areaKey(
+    final SpatialKeyCurve curve,
+    final SpatialKeyAnchor anchor,
+    final AreaI domain,
+    final AreaI area)
+  {
+    checkCommon(curve, anchor, domain);
+    Objects.requireNonNull(area, "area");
+    return areaKeyUnchecked(
+      curve,
+      anchor,
+      domain,
+      area.minimumX(),
+      area.maximumX(),
+      area.minimumY(),
+      area.maximumY());
+  }
+
+  private static long areaKeyUnchecked(
+    final SpatialKeyCurve curve,
+    final SpatialKeyAnchor anchor,
+    final AreaI domain,
+    final int minimumX,
+    final int maximumX,
+    final int minimumY,
+    final int maximumY)
+  {
+    final double x = anchor(anchor, (double) minimumX, (double) maximumX);
+    final double y = anchor(anchor, (double) minimumY, (double) maximumY);
+    return curve.encode2(
+      quantize(x, (double) domain.minimumX(), (double) domain.sizeX(), AREA_BITS),
+      quantize(y, (double) domain.minimumY(), (double) domain.sizeY(), AREA_BITS));
+  }
+
+  /**
+   * Compute the spatial keys of {@code count} areas, given as arrays of
+   * edges.
+   *
+   * @param curve    The space-filling curve
+   * @param anchor   The anchor point of each area
+   * @param domain   The domain covered by the quantization grid
+   * @param minimumX The minimum X edges
+   * @param maximumX The maximum X edges
+   * @param minimumY The minimum Y edges
+   * @param maximumY The maximum Y edges
+   * @param count    The number of areas
+   *
+   * @return The unsigned key of each area
+   */
+
+  public static long[] areaKeys(
+    final SpatialKeyCurve curve,
+    final SpatialKeyAnchor anchor,
+    final AreaI domain,
+    final int[] minimumX,
+    final int[] maximumX,
+    final int[] minimumY,
+    final int[] maximumY,
+    final int count)
+  {
+    checkCommon(curve, anchor, domain);
+    checkCount(count);
+    checkLength(minimumX.length, count, "minimumX");
+    checkLength(maximumX.length, count, "maximumX");
+    checkLength(minimumY.length, count, "minimumY");
+    checkLength(maximumY.length, count, "maximumY");
+
+    final long[] keys = new long[count];
+    for (int index = 0; index < count; ++index) {
+      keys[index] = areaKeyUnchecked(
+        curve,
+        anchor,
+        domain,
+        minimumX[index],
+        maximumX[index],
+        minimumY[index],
+        maximumY[index]);
+    }
+    return keys;
+  }
+
+  /**
+   * Reorder {@code count} areas, given as arrays of edges, so that their
+   * spatial keys are in ascending order. The sort is stable.
+   *
+   * @param curve    The space-filling curve
+   * @param anchor   The anchor point of each area
+   * @param domain   The domain covered by the quantization grid
+   * @param minimumX The minimum X edges
+   * @param maximumX The maximum X edges
+   * @param minimumY The minimum Y edges
+   * @param maximumY The maximum Y edges
+   * @param count    The number of areas
+   *
+   * @return The original index of the area now at each index
+   */
+
+  public static int[] sortAreas(
+    final SpatialKeyCurve curve,
+    final SpatialKeyAnchor anchor,
+    final AreaI domain,
+    final int[] minimumX,
+    final int[] maximumX,
+    final int[] minimumY,
+    final int[] maximumY,
+    final int count)
+  {
+    final long[] keys =
+      areaKeys(curve, anchor, domain, minimumX, maximumX, minimumY, maximumY, count);
+
+    final int[] order = sortedOrder(keys, count);
+    permute(minimumX, order, count);
+    permute(maximumX, order, count);
+    permute(minimumY, order, count);
+    permute(maximumY, order, count);
+    return order;
+  }
+
+  private static void permute(
+    final int[] values,
+    final int[] order,
+    final int count)
+  {
+    final int[] copy = new int[count];
+    for (int index = 0; index < count; ++index) {
+      copy[index] = values[order[index]];
+    }
+    System.arraycopy(copy, 0, values, 0, count);
+  }
+
+  /**
+   * Compute the spatial key of an area.
+   *
+   * @param curve  The space-filling curve
+   * @param anchor The anchor point of the area
+   * @param domain The domain covered by the quantization grid
+   * @param area   The area
+   *
+   * @return The unsigned key of {@code area}
+   */
+
+  public static long areaKey(
+    final SpatialKeyCurve curve,
+    final SpatialKeyAnchor anchor,
+    final AreaL domain,
+    final AreaL area)
+  {
+    checkCommon(curve, anchor, domain);
+    Objects.requireNonNull(area, "area");
+    return areaKeyUnchecked(
+      curve,
+      anchor,
+      domain,
+      area.minimumX(),
+      area.maximumX(),
+      area.minimumY(),
+      area.maximumY());
+  }
+
+  private static long areaKeyUnchecked(
+    final SpatialKeyCurve curve,
+    final SpatialKeyAnchor anchor,
+    final AreaL domain,
+    final long minimumX,
+    final long maximumX,
+    final long minimumY,
+    final long maximumY)
+  {
+    final double x = anchor(anchor, (double) minimumX, (double) maximumX);
+    final double y = anchor(anchor, (double) minimumY, (double) maximumY);
+    return curve.encode2(
+      quantize(x, (double) domain.minimumX(), (double) domain.sizeX(), AREA_BITS),
+      quantize(y, (double) domain.minimumY(), (double) domain.sizeY(), AREA_BITS));
+  }
+
+  /**
+   * Compute the spatial keys of {@code count} areas, given as arrays of
+   * edges.
+   *
+   * @param curve    The space-filling curve
+   * @param anchor   The anchor point of each area
+   * @param domain   The domain covered by the quantization grid
+   * @param minimumX The minimum X edges
+   * @param maximumX The maximum X edges
+   * @param minimumY The minimum Y edges
+   * @param maximumY The maximum Y edges
+   * @param count    The number of areas
+   *
+   * @return The unsigned key of each area
+   */
+
+  public static long[] areaKeys(
+    final SpatialKeyCurve curve,
+    final SpatialKeyAnchor anchor,
+    final AreaL domain,
+    final long[] minimumX,
+    final long[] maximumX,
+    final long[] minimumY,
+    final long[] maximumY,
+    final int count)
+  {
+    checkCommon(curve, anchor, domain);
+    checkCount(count);
+    checkLength(minimumX.length, count, "minimumX");
+    checkLength(maximumX.length, count, "maximumX");
+    checkLength(minimumY.length, count, "minimumY");
+    checkLength(maximumY.length, count, "maximumY");
+
+    final long[] keys = new long[count];
+    for (int index = 0; index < count; ++index) {
+      keys[index] = areaKeyUnchecked(
+        curve,
+        anchor,
+        domain,
+        minimumX[index],
+        maximumX[index],
+        minimumY[index],
+        maximumY[index]);
+    }
+    return keys;
+  }
+
+  /**
+   * Reorder {@code count} areas, given as arrays of edges, so that their
+   * spatial keys are in ascending order. The sort is stable.
+   *
+   * @param curve    The space-filling curve
+   * @param anchor   The anchor point of each area
+   * @param domain   The domain covered by the quantization grid
+   * @param minimumX The minimum X edges
+   * @param maximumX The maximum X edges
+   * @param minimumY The minimum Y edges
+   * @param maximumY The maximum Y edges
+   * @param count    The number of areas
+   *
+   * @return The original index of the area now at each index
+   */
+
+  public static int[] sortAreas(
+    final SpatialKeyCurve curve,
+    final SpatialKeyAnchor anchor,
+    final AreaL domain,
+    final long[] minimumX,
+    final long[] maximumX,
+    final long[] minimumY,
+    final long[] maximumY,
+    final int count)
+  {
+    final long[] keys =
+      areaKeys(curve, anchor, domain, minimumX, maximumX, minimumY, maximumY, count);
+
+    final int[] order = sortedOrder(keys, count);
+    permute(minimumX, order, count);
+    permute(maximumX, order, count);
+    permute(minimumY, order, count);
+    permute(maximumY, order, count);
+    return order;
+  }
+
+  private static void permute(
+    final long[] values,
+    final int[] order,
+    final int count)
+  {
+    final long[] copy = new long[count];
+    for (int index = 0; index < count; ++index) {
+      copy[index] = values[order[index]];
+    }
+    System.arraycopy(copy, 0, values, 0, count);
+  }
+
+  /**
+   * Compute the spatial key of a volume.
+   *
+   * @param curve  The space-filling curve
+   * @param anchor The anchor point of the volume
+   * @param domain The domain covered by the quantization grid
+   * @param volume The volume
+   *
+   * @return The key of {@code volume}
+   */
+
+  public static long volumeKey(
+    final SpatialKeyCurve curve,
+    final SpatialKeyAnchor anchor,
+    final VolumeI domain,
+    final VolumeI volume)
+  {
+    checkCommon(curve, anchor, domain);
+    Objects.requireNonNull(volume, "volume");
+    return volumeKeyUnchecked(
+      curve,
+      anchor,
+      domain,
+      volume.minimumX(),
+      volume.maximumX(),
+      volume.minimumY(),
+      volume.maximumY(),
+      volume.minimumZ(),
+      volume.maximumZ());
+  }
+
+  private static long volumeKeyUnchecked(
+    final SpatialKeyCurve curve,
+    final SpatialKeyAnchor anchor,
+    final VolumeI domain,
+    final int minimumX,
+    final int maximumX,
+    final int minimumY,
+    final int maximumY,
+    final int minimumZ,
+    final int maximumZ)
+  {
+    final double x = anchor(anchor, (double) minimumX, (double) maximumX);
+    final double y = anchor(anchor, (double) minimumY, (double) maximumY);
+    final double z = anchor(anchor, (double) minimumZ, (double) maximumZ);
+    return curve.encode3(
+      quantize(x, (double) domain.minimumX(), (double) domain.sizeX(), VOLUME_BITS),
+      quantize(y, (double) domain.minimumY(), (double) domain.sizeY(), VOLUME_BITS),
+      quantize(z, (double) domain.minimumZ(), (double) domain.sizeZ(), VOLUME_BITS));
+  }
+
+  /**
+   * Compute the spatial keys of {@code count} volumes, given as arrays of
+   * edges.
+   *
+   * @param curve    The space-filling curve
+   * @param anchor   The anchor point of each volume
+   * @param domain   The domain covered by the quantization grid
+   * @param minimumX The minimum X edges
+   * @param maximumX The maximum X edges
+   * @param minimumY The minimum Y edges
+   * @param maximumY The maximum Y edges
+   * @param minimumZ The minimum Z edges
+   * @param maximumZ The maximum Z edges
+   * @param count    The number of volumes
+   *
+   * @return The key of each volume
+   */
+
+  public static long[] volumeKeys(
+    final SpatialKeyCurve curve,
+    final SpatialKeyAnchor anchor,
+    final VolumeI domain,
+    final int[] minimumX,
+    final int[] maximumX,
+    final int[] minimumY,
+    final int[] maximumY,
+    final int[] minimumZ,
+    final int[] maximumZ,
+    final int count)
+  {
+    checkCommon(curve, anchor, domain);
+    checkCount(count);
+    checkLength(minimumX.length, count, "minimumX");
+    checkLength(maximumX.length, count, "maximumX");
+    checkLength(minimumY.length, count, "minimumY");
+    checkLength(maximumY.length, count, "maximumY");
+    checkLength(minimumZ.length, count, "minimumZ");
+    checkLength(maximumZ.length, count, "maximumZ");
+
+    final long[] keys = new long[count];
+    for (int index = 0; index < count; ++index) {
+      keys[index] = volumeKeyUnchecked(
+        curve,
+        anchor,
+        domain,
+        minimumX[index],
+        maximumX[index],
+        minimumY[index],
+        maximumY[index],
+        minimumZ[index],
+        maximumZ[index]);
+    }
+    return keys;
+  }
+
+  /**
+   * Compute the spatial key of a volume.
+   *
+   * @param curve  The space-filling curve
+   * @param anchor The anchor point of the volume
+   * @param domain The domain covered by the quantization grid
+   * @param volume The volume
+   *
+   * @return The key of {@code volume}
+   */
+
+  public static long volumeKey(
+    final SpatialKeyCurve curve,
+    final SpatialKeyAnchor anchor,
+    final VolumeL domain,
+    final VolumeL volume)
+  {
+    checkCommon(curve, anchor, domain);
+    Objects.requireNonNull(volume, "volume");
+    return volumeKeyUnchecked(
+      curve,
+      anchor,
+      domain,
+      volume.minimumX(),
+      volume.maximumX(),
+      volume.minimumY(),
+      volume.maximumY(),
+      volume.minimumZ(),
+      volume.maximumZ());
+  }
+
+  private static long volumeKeyUnchecked(
+    final SpatialKeyCurve curve,
+    final SpatialKeyAnchor anchor,
+    final VolumeL domain,
+    final long minimumX,
+    final long maximumX,
+    final long minimumY,
+    final long maximumY,
+    final long minimumZ,
+    final long maximumZ)
+  {
+    final double x = anchor(anchor, (double) minimumX, (double) maximumX);
+    final double y = anchor(anchor, (double) minimumY, (double) maximumY);
+    final double z = anchor(anchor, (double) minimumZ, (double) maximumZ);
+    return curve.encode3(
+      quantize(x, (double) domain.minimumX(), (double) domain.sizeX(), VOLUME_BITS),
+      quantize(y, (double) domain.minimumY(), (double) domain.sizeY(), VOLUME_BITS),
+      quantize(z, (double) domain.minimumZ(), (double) domain.sizeZ(), VOLUME_BITS));
+  }
+
+  /**
+   * Compute the spatial keys of {@code count} volumes, given as arrays of
+   * edges.
+   *
+   * @param curve    The space-filling curve
+   * @param anchor   The anchor point of each volume
+   * @param domain   The domain covered by the quantization grid
+   * @param minimumX The minimum X edges
+   * @param maximumX The maximum X edges
+   * @param minimumY The minimum Y edges
+   * @param maximumY The maximum Y edges
+   * @param minimumZ The minimum Z edges
+   * @param maximumZ The maximum Z edges
+   * @param count    The number of volumes
+   *
+   * @return The key of each volume
+   */
+
+  public static long[] volumeKeys(
+    final SpatialKeyCurve curve,
+    final SpatialKeyAnchor anchor,
+    final VolumeL domain,
+    final long[] minimumX,
+    final long[] maximumX,
+    final long[] minimumY,
+    final long[] maximumY,
+    final long[] minimumZ,
+    final long[] maximumZ,
+    final int count)
+  {
+    checkCommon(curve, anchor, domain);
+    checkCount(count);
+    checkLength(minimumX.length, count, "minimumX");
+    checkLength(maximumX.length, count, "maximumX");
+    checkLength(minimumY.length, count, "minimumY");
+    checkLength(maximumY.length, count, "maximumY");
+    checkLength(minimumZ.length, count, "minimumZ");
+    checkLength(maximumZ.length, count, "maximumZ");
+
+    final long[] keys = new long[count];
+    for (int index = 0; index < count; ++index) {
+      keys[index] = volumeKeyUnchecked(
+        curve,
+        anchor,
+        domain,
+        minimumX[index],
+        maximumX[index],
+        minimumY[index],
+        maximumY[index],
+        minimumZ[index],
+        maximumZ[index]);
+    }
+    return keys;
+  }
+
+  /**
+   * Compute the stable order that sorts the first {@code count} elements of
+   * {@code keys} into ascending unsigned order. The keys are sorted with a
+   * least-significant-digit radix sort, and {@code keys} is not modified.
+   *
+   * @param keys  The unsigned keys
+   * @param count The number of keys
+   *
+   * @return The index of the key that belongs at each position
+   */
+
+  public static int[] sortedOrder(
+    final long[] keys,
+    final int count)
+  {
+    Objects.requireNonNull(keys, "keys");
+    checkCount(count);
+    checkLength(keys.length, count, "keys");
+
+    int[] order = new int[count];
+    int[] scratch = new int[count];
+    for (int index = 0; index < count; ++index) {
+      order[index] = index;
+    }
+
+    final int[] counts = new int[RADIX + 1];
+    for (int shift = 0; shift < Long.SIZE; shift += RADIX_BITS) {
+      Arrays.fill(counts, 0);
+      for (int index = 0; index < count; ++index) {
+        final int digit = (int) (keys[index] >>> shift) & (RADIX - 1);
+        ++counts[digit + 1];
+      }
+
+      /*
+       * Skip passes in which every key has the same digit.
+       */
+
+      boolean trivial = false;
+      for (int digit = 0; digit < RADIX; ++digit) {
+        if (counts[digit + 1] == count) {
+          trivial = true;
+          break;
+        }
+      }
+      if (trivial) {
+        continue;
+      }
+
+      for (int digit = 0; digit < RADIX; ++digit) {
+        counts[digit + 1] += counts[digit];
+      }
+      for (int index = 0; index < count; ++index) {
+        final int source = order[index];
+        final int digit = (int) (keys[source] >>> shift) & (RADIX - 1);
+        scratch[counts[digit]] = source;
+        ++counts[digit];
+      }
+
+      final int[] t = order;
+      order = scratch;
+      scratch = t;
+    }
+    return order;
+  }
+}
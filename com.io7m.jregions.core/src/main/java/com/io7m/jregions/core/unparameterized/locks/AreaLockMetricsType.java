@@ -0,0 +1,83 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jregions.core.unparameterized.locks;
+
+import com.io7m.immutables.styles.ImmutablesStyleType;
+import org.immutables.value.Value;
+
+import java.time.Duration;
+
+/**
+ * A snapshot of the contention metrics of a lock manager.
+ */
+
+@ImmutablesStyleType
+@Value.Immutable
+public interface AreaLockMetricsType
+{
+  /**
+   * @return The number of locks that have been acquired
+   */
+
+  long acquisitions();
+
+  /**
+   * @return The number of acquired locks that had to wait for conflicting
+   * locks to be released
+   */
+
+  long contendedAcquisitions();
+
+  /**
+   * @return The number of attempts to acquire a lock that failed because
+   * the lock was not available before the timeout elapsed
+   */
+
+  long timeouts();
+
+  /**
+   * @return The number of attempts to acquire a lock that were abandoned
+   * because the waiting thread was interrupted
+   */
+
+  long interruptions();
+
+  /**
+   * @return The total time spent waiting by contended acquisitions
+   */
+
+  Duration totalWaitTime();
+
+  /**
+   * @return The longest time spent waiting by a single contended acquisition
+   */
+
+  Duration maximumWaitTime();
+
+  /**
+   * @return The number of locks held at the time of the snapshot
+   */
+
+  int held();
+
+  /**
+   * @return The number of threads waiting for locks at the time of the
+   * snapshot
+   */
+
+  int waiting();
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jregions.core.unparameterized.locks;
+
+/**
+ * The modes in which an area can be locked.
+ */
+
+public enum AreaLockMode
+{
+  /**
+   * A shared lock. Any number of read locks may be held on overlapping areas
+   * at the same time.
+   */
+
+  READ,
+
+  /**
+   * An exclusive lock. A write lock is never held at the same time as any
+   * other lock on an overlapping area.
+   */
+
+  WRITE;
+
+  /**
+   * @param other The other mode
+   *
+   * @return {@code true} iff locks in this mode and {@code other} may be held
+   * on overlapping areas at the same time
+   */
+
+  public boolean isCompatibleWith(
+    final AreaLockMode other)
+  {
+    return this == READ && other == READ;
+  }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jregions.core.unparameterized.packing;
+
+import com.io7m.jregions.core.unparameterized.areas.AreaL;
+import com.io7m.jregions.core.unparameterized.sizes.AreaSizeL;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.IntStream;
+
+/**
+ * <p>A packer that places areas of given sizes inside a container area such
+ * that no two placed areas overlap.</p>
+ *
+ * <p>Placed areas never overlap in the sense of
+ * {@link com.io7m.jregions.core.unparameterized.areas.AreasL#overlaps(AreaL, AreaL)}:
+ * a size that is zero on an axis is treated as reserving one unit on that
+ * axis, although the returned area retains the requested size.</p>
+ */
+
+public interface AreaPackerLType
+{
+  /**
+   * @return The container area
+   */
+
+  AreaL container();
+
+  /**
+   * Attempt to place an area of the given size.
+   *
+   * @param size The size
+   *
+   * @return The placed area, or nothing if there is no room
+   */
+
+  Optional<AreaL> insert(AreaSizeL size);
+
+  /**
+   * @return The total area reserved by placed areas
+   */
+
+  long usedArea();
+
+  /**
+   * @return The fraction of the container that is occupied, in the range
+   * {@code [0, 1]}
+   */
+
+  default double occupancy()
+  {
+    final var container = this.container();
+    final var total =
+      (double) container.sizeX() * (double) container.sizeY();
+    if (total == 0.0) {
+      return 0.0;
+    }
+    return (double) this.usedArea() / total;
+  }
+
+  /**
+   * Remove all placed areas, making the whole container available again.
+   */
+
+  void reset();
+
+  /**
+   * <p>Place a batch of sizes.</p>
+   *
+   * <p>The sizes are inserted in decreasing order of their longest side, and
+   * then of their area, which typically gives much tighter packings than
+   * insertion in the order given.</p>
+   *
+   * @param sizes The sizes
+   *
+   * @return The result of packing
+   */
+
+  default PackingResultL insertAll(
+    final List<AreaSizeL> sizes)
+  {
+    Objects.requireNonNull(sizes, "sizes");
+
+    final var time_then = System.nanoTime();
+    final int[] order =
+      IntStream.range(0, sizes.size())
+        .boxed()
+        .sorted(
+          Comparator.comparingLong((Integer i) -> longestSide(sizes.get(i)))
+            .thenComparingDouble(i -> areaOf(sizes.get(i)))
+            .reversed()
+            .thenComparingInt(i -> i))
+        .mapToInt(Integer::intValue)
+        .toArray();
+
+    final var placements = new ArrayList<PackingPlacementL>(order.length);
+    final var rejected = new ArrayList<Integer>();
+    for (final int index : order) {
+      final var placed = this.insert(sizes.get(index));
+      if (placed.isPresent()) {
+        placements.add(PackingPlacementL.of(index, placed.get()));
+      } else {
+        rejected.add(Integer.valueOf(index));
+      }
+    }
+    final var time_now = System.nanoTime();
+
+    placements.sort(Comparator.comparingInt(PackingPlacementL::index));
+    rejected.sort(Comparator.naturalOrder());
+
+    return PackingResultL.builder()
+      .setPlacements(placements)
+      .setRejected(rejected)
+      .setOccupancy(this.occupancy())
+      .setTime(Duration.ofNanos(time_now - time_then))
+      .build();
+  }
+
+  private static long longestSide(
+    final AreaSizeL size)
+  {
+    return Math.max(size.sizeX(), size.sizeY());
+  }
+
+  private static double areaOf(
+    final AreaSizeL size)
+  {
+    return (double) size.sizeX() * (double) size.sizeY();
+  }
+}
@@ -0,0 +1,325 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jregions.core.unparameterized.packing;
+
+import com.io7m.jaffirm.core.Preconditions;
+import com.io7m.jregions.core.unparameterized.areas.AreaI;
+import com.io7m.jregions.core.unparameterized.areas.AreasI;
+import com.io7m.jregions.core.unparameterized.sizes.AreaSizeI;
+import com.io7m.jregions.core.unparameterized.sizes.AreaSizesI;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * <p>A packer based on guillotine cuts, supporting the release of previously
+ * placed areas.</p>
+ *
+ * <p>The packer maintains a binary tree of cuts. Each leaf of the tree is
+ * either free or occupied by a placed area, and the free leaves are held in
+ * a map ordered by size. An insertion finds the narrowest free rectangle that
+ * can hold the requested size (breaking ties by choosing the shortest such
+ * rectangle) using a sequence of {@code O(log n)} searches, one per distinct
+ * free rectangle width examined. The chosen rectangle is divided with
+ * {@link AreasI#splitAlongParallelToX(AreaI, int)} and
+ * {@link AreasI#splitAlongParallelToY(AreaI, int)}, cutting first along the
+ * axis that leaves the larger remainder whole.</p>
+ *
+ * <p>When a placed area is released, its leaf becomes free and is merged with
+ * its sibling if the sibling is also free, restoring the rectangle that was
+ * cut. The merge is repeated up the tree, and so releasing every area placed
+ * within a free rectangle always restores that rectangle. Long-running
+ * allocators therefore do not require complete repacks.</p>
+ *
+ * <p>Packers are not thread-safe.</p>
+ */
+
+public final class GuillotinePackerI implements AreaPackerIType
+{
+  private static final Comparator<AreaI> SIZE_ORDER =
+    Comparator.comparingInt(AreaI::sizeX)
+      .thenComparingInt(AreaI::sizeY)
+      .thenComparingInt(AreaI::minimumX)
+      .thenComparingInt(AreaI::minimumY);
+
+  private final AreaI container;
+  private final TreeMap<AreaI, Node> free;
+  private final Map<AreaI, Node> used;
+  private long usedArea;
+
+  private GuillotinePackerI(
+    final AreaI inContainer)
+  {
+    this.container =
+      Objects.requireNonNull(inContainer, "container");
+    this.free = new TreeMap<>(SIZE_ORDER);
+    this.used = new HashMap<>();
+    this.reset();
+  }
+
+  /**
+   * Create a packer for the given container.
+   *
+   * @param container The container
+   *
+   * @return A new packer
+   */
+
+  public static GuillotinePackerI create(
+    final AreaI container)
+  {
+    return new GuillotinePackerI(container);
+  }
+
+  /**
+   * Create a packer for a container of the given size, placed at the origin.
+   *
+   * @param size The container size
+   *
+   * @return A new packer
+   *
+   * @see AreaSizesI#area(AreaSizeI)
+   */
+
+  public static GuillotinePackerI create(
+    final AreaSizeI size)
+  {
+    return create(AreaSizesI.area(size));
+  }
+
+  /**
+   * @return A read-only snapshot of the current free rectangles, in
+   * increasing order of size
+   */
+
+  public List<AreaI> freeAreas()
+  {
+    return List.copyOf(this.free.keySet());
+  }
+
+  /**
+   * @return The number of currently placed areas
+   */
+
+  public int usedCount()
+  {
+    return this.used.size();
+  }
+
+  @Override
+  public AreaI container()
+  {
+    return this.container;
+  }
+
+  @Override
+  public long usedArea()
+  {
+    return this.usedArea;
+  }
+
+  @Override
+  public void reset()
+  {
+    this.free.clear();
+    this.used.clear();
+    this.usedArea = 0L;
+
+    if (this.container.sizeX() > 0 && this.container.sizeY() > 0) {
+      final var root = new Node(null, this.container);
+      this.free.put(root.area, root);
+    }
+  }
+
+  @Override
+  public Optional<AreaI> insert(
+    final AreaSizeI size)
+  {
+    Objects.requireNonNull(size, "size");
+
+    /*
+     * Zero-sized areas still reserve a single unit on each axis, as they are
+     * considered to have a size of at least one by AreasI.overlaps.
+     */
+
+    final int reserve_x = Math.max(1, size.sizeX());
+    final int reserve_y = Math.max(1, size.sizeY());
+
+    final var target = this.findFree(reserve_x, reserve_y);
+    if (target == null) {
+      return Optional.empty();
+    }
+
+    this.free.remove(target.area);
+
+    final int left_x = target.area.sizeX() - reserve_x;
+    final int left_y = target.area.sizeY() - reserve_y;
+
+    final Node reserved;
+    if (left_x < left_y) {
+      reserved = this.cutY(this.cutX(target, reserve_y), reserve_x);
+    } else {
+      reserved = this.cutX(this.cutY(target, reserve_x), reserve_y);
+    }
+
+    final var placed = AreasI.create(
+      reserved.area.minimumX(),
+      reserved.area.minimumY(),
+      size.sizeX(),
+      size.sizeY());
+
+    this.used.put(placed, reserved);
+    this.usedArea += (long) reserve_x * (long) reserve_y;
+    return Optional.of(placed);
+  }
+
+  /**
+   * Release an area previously returned by {@link #insert(AreaSizeI)}, making
+   * the space it occupied available for future insertions.
+   *
+   * @param area The placed area
+   */
+
+  public void release(
+    final AreaI area)
+  {
+    Objects.requireNonNull(area, "area");
+
+    final var reserved = this.used.get(area);
+    Preconditions.checkPrecondition(
+      area,
+      reserved != null,
+      a -> "Area " + a + " must be currently allocated by this packer");
+
+    this.used.remove(area);
+    this.usedArea -= (long) reserved.area.sizeX() * (long) reserved.area.sizeY();
+
+    var node = reserved;
+    while (node.parent != null) {
+      final var parent = node.parent;
+      final var sibling =
+        parent.lower == node ? parent.upper : parent.lower;
+      if (this.free.get(sibling.area) != sibling) {
+        break;
+      }
+
+      this.free.remove(sibling.area);
+      parent.lower = null;
+      parent.upper = null;
+      node = parent;
+    }
+
+    this.free.put(node.area, node);
+  }
+
+  /**
+   * Cut the given (non-free) node along a line parallel to the X axis,
+   * returning the part adjacent to the minimum-y edge. The remainder, if
+   * non-empty, becomes a free leaf.
+   */
+
+  private Node cutX(
+    final Node node,
+    final int y)
+  {
+    if (node.area.sizeY() == y) {
+      return node;
+    }
+
+    final var split = AreasI.splitAlongParallelToX(node.area, y);
+    node.lower = new Node(node, split.upper());
+    node.upper = new Node(node, split.lower());
+    this.free.put(node.upper.area, node.upper);
+    return node.lower;
+  }
+
+  /**
+   * Cut the given (non-free) node along a line parallel to the Y axis,
+   * returning the part adjacent to the minimum-x edge. The remainder, if
+   * non-empty, becomes a free leaf.
+   */
+
+  private Node cutY(
+    final Node node,
+    final int x)
+  {
+    if (node.area.sizeX() == x) {
+      return node;
+    }
+
+    final var split = AreasI.splitAlongParallelToY(node.area, x);
+    node.lower = new Node(node, split.lower());
+    node.upper = new Node(node, split.upper());
+    this.free.put(node.upper.area, node.upper);
+    return node.lower;
+  }
+
+  private Node findFree(
+    final int size_x,
+    final int size_y)
+  {
+    int probe_x = size_x;
+    while (true) {
+      final var probe = AreaI.of(
+        Integer.MIN_VALUE,
+        Integer.MIN_VALUE + probe_x,
+        Integer.MIN_VALUE,
+        Integer.MIN_VALUE + size_y);
+
+      final var candidate = this.free.ceilingEntry(probe);
+      if (candidate == null) {
+        return null;
+      }
+      if (candidate.getKey().sizeY() >= size_y) {
+        return candidate.getValue();
+      }
+
+      /*
+       * Every free rectangle of width probe_x is too short. Skip to the
+       * shortest suitable rectangle of the next width.
+       */
+
+      probe_x = candidate.getKey().sizeX();
+    }
+  }
+
+  /**
+   * A node in the tree of cuts. A node is either a leaf (both children are
+   * null) or has been cut into exactly two children.
+   */
+
+  private static final class Node
+  {
+    private final Node parent;
+    private final AreaI area;
+    private Node lower;
+    private Node upper;
+
+    Node(
+      final Node inParent,
+      final AreaI inArea)
+    {
+      this.parent = inParent;
+      this.area = inArea;
+    }
+  }
+}
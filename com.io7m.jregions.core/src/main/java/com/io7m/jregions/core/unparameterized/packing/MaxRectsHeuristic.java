@@ -0,0 +1,46 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jregions.core.unparameterized.packing;
+
+/**
+ * The heuristics used to choose a free rectangle in a
+ * {@link MaxRectsPackerI}.
+ */
+
+public enum MaxRectsHeuristic
+{
+  /**
+   * Choose the free rectangle that leaves the smallest leftover on the
+   * shorter of its two sides.
+   */
+
+  BEST_SHORT_SIDE_FIT,
+
+  /**
+   * Choose the smallest free rectangle that can hold the area.
+   */
+
+  BEST_AREA_FIT,
+
+  /**
+   * Choose the position that places the maximum Y edge of the area as low
+   * as possible, breaking ties with the lowest minimum X edge (the
+   * "Tetris" placement).
+   */
+
+  BOTTOM_LEFT
+}
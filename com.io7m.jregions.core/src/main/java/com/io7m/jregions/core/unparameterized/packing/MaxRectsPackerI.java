@@ -0,0 +1,312 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jregions.core.unparameterized.packing;
+
+import com.io7m.jregions.core.unparameterized.areas.AreaI;
+import com.io7m.jregions.core.unparameterized.areas.AreasI;
+import com.io7m.jregions.core.unparameterized.sizes.AreaSizeI;
+import com.io7m.jregions.core.unparameterized.sizes.AreaSizesI;
+import com.io7m.junreachable.UnreachableCodeException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * <p>A packer based on the <i>MaxRects</i> algorithm.</p>
+ *
+ * <p>The packer maintains the set of maximal free rectangles within the
+ * container. Each insertion chooses a free rectangle according to a
+ * {@link MaxRectsHeuristic}, places the area at the minimum corner of that
+ * rectangle, and then splits every free rectangle that overlaps the placed
+ * area into at most four maximal remainders. Free rectangles that are
+ * contained within other free rectangles are discarded.</p>
+ *
+ * <p>Insertion is {@code O(n²)} in the number of free rectangles in the worst
+ * case. Packers are not thread-safe.</p>
+ */
+
+public final class MaxRectsPackerI implements AreaPackerIType
+{
+  private final AreaI container;
+  private final MaxRectsHeuristic heuristic;
+  private final ArrayList<AreaI> free;
+  private final ArrayList<AreaI> used;
+  private long usedArea;
+
+  private MaxRectsPackerI(
+    final AreaI inContainer,
+    final MaxRectsHeuristic inHeuristic)
+  {
+    this.container =
+      Objects.requireNonNull(inContainer, "container");
+    this.heuristic =
+      Objects.requireNonNull(inHeuristic, "heuristic");
+    this.free = new ArrayList<>();
+    this.used = new ArrayList<>();
+    this.reset();
+  }
+
+  /**
+   * Create a packer for the given container.
+   *
+   * @param container The container
+   * @param heuristic The heuristic used to choose free rectangles
+   *
+   * @return A new packer
+   */
+
+  public static MaxRectsPackerI create(
+    final AreaI container,
+    final MaxRectsHeuristic heuristic)
+  {
+    return new MaxRectsPackerI(container, heuristic);
+  }
+
+  /**
+   * Create a packer for a container of the given size, placed at the origin.
+   *
+   * @param size      The container size
+   * @param heuristic The heuristic used to choose free rectangles
+   *
+   * @return A new packer
+   *
+   * @see AreaSizesI#area(AreaSizeI)
+   */
+
+  public static MaxRectsPackerI create(
+    final AreaSizeI size,
+    final MaxRectsHeuristic heuristic)
+  {
+    return create(AreaSizesI.area(size), heuristic);
+  }
+
+  /**
+   * @return The heuristic used to choose free rectangles
+   */
+
+  public MaxRectsHeuristic heuristic()
+  {
+    return this.heuristic;
+  }
+
+  /**
+   * @return A read-only snapshot of the current maximal free rectangles
+   */
+
+  public List<AreaI> freeAreas()
+  {
+    return List.copyOf(this.free);
+  }
+
+  /**
+   * @return A read-only snapshot of the placed areas, in insertion order
+   */
+
+  public List<AreaI> usedAreas()
+  {
+    return List.copyOf(this.used);
+  }
+
+  @Override
+  public AreaI container()
+  {
+    return this.container;
+  }
+
+  @Override
+  public long usedArea()
+  {
+    return this.usedArea;
+  }
+
+  @Override
+  public void reset()
+  {
+    this.free.clear();
+    this.used.clear();
+    this.usedArea = 0L;
+
+    if (this.container.sizeX() > 0 && this.container.sizeY() > 0) {
+      this.free.add(this.container);
+    }
+  }
+
+  @Override
+  public Optional<AreaI> insert(
+    final AreaSizeI size)
+  {
+    Objects.requireNonNull(size, "size");
+
+    /*
+     * Zero-sized areas still reserve a single unit on each axis, as they are
+     * considered to have a size of at least one by AreasI.overlaps.
+     */
+
+    final int reserve_x = Math.max(1, size.sizeX());
+    final int reserve_y = Math.max(1, size.sizeY());
+
+    AreaI best = null;
+    long best_primary = Long.MAX_VALUE;
+    long best_secondary = Long.MAX_VALUE;
+
+    final var free_count = this.free.size();
+    for (int index = 0; index < free_count; ++index) {
+      final var candidate = this.free.get(index);
+      final int candidate_x = candidate.sizeX();
+      final int candidate_y = candidate.sizeY();
+      if (candidate_x < reserve_x || candidate_y < reserve_y) {
+        continue;
+      }
+
+      final long left_x = (long) candidate_x - (long) reserve_x;
+      final long left_y = (long) candidate_y - (long) reserve_y;
+      final long primary;
+      final long secondary;
+      switch (this.heuristic) {
+        case BEST_SHORT_SIDE_FIT -> {
+          primary = Math.min(left_x, left_y);
+          secondary = Math.max(left_x, left_y);
+        }
+        case BEST_AREA_FIT -> {
+          primary = (long) candidate_x * (long) candidate_y;
+          secondary = Math.min(left_x, left_y);
+        }
+        case BOTTOM_LEFT -> {
+          primary = (long) candidate.minimumY() + (long) reserve_y;
+          secondary = candidate.minimumX();
+        }
+        default -> throw new UnreachableCodeException();
+      }
+
+      if (primary < best_primary
+        || (primary == best_primary && secondary < best_secondary)) {
+        best = candidate;
+        best_primary = primary;
+        best_secondary = secondary;
+      }
+    }
+
+    if (best == null) {
+      return Optional.empty();
+    }
+
+    final var reserved =
+      AreasI.create(best.minimumX(), best.minimumY(), reserve_x, reserve_y);
+    this.place(reserved);
+    this.used.add(reserved);
+    this.usedArea += (long) reserve_x * (long) reserve_y;
+
+    return Optional.of(
+      AreasI.create(best.minimumX(), best.minimumY(), size.sizeX(), size.sizeY()));
+  }
+
+  private void place(
+    final AreaI placed)
+  {
+    final var remainders = new ArrayList<AreaI>(4);
+
+    int index = 0;
+    while (index < this.free.size()) {
+      final var candidate = this.free.get(index);
+      if (AreasI.overlaps(candidate, placed)) {
+        splitFree(candidate, placed, remainders);
+        this.free.set(index, this.free.get(this.free.size() - 1));
+        this.free.remove(this.free.size() - 1);
+      } else {
+        ++index;
+      }
+    }
+
+    this.free.addAll(remainders);
+    this.prune();
+  }
+
+  private static void splitFree(
+    final AreaI candidate,
+    final AreaI placed,
+    final List<AreaI> output)
+  {
+    if (placed.minimumX() > candidate.minimumX()) {
+      output.add(AreaI.of(
+        candidate.minimumX(),
+        placed.minimumX(),
+        candidate.minimumY(),
+        candidate.maximumY()));
+    }
+    if (placed.maximumX() < candidate.maximumX()) {
+      output.add(AreaI.of(
+        placed.maximumX(),
+        candidate.maximumX(),
+        candidate.minimumY(),
+        candidate.maximumY()));
+    }
+    if (placed.minimumY() > candidate.minimumY()) {
+      output.add(AreaI.of(
+        candidate.minimumX(),
+        candidate.maximumX(),
+        candidate.minimumY(),
+        placed.minimumY()));
+    }
+    if (placed.maximumY() < candidate.maximumY()) {
+      output.add(AreaI.of(
+        candidate.minimumX(),
+        candidate.maximumX(),
+        placed.maximumY(),
+        candidate.maximumY()));
+    }
+  }
+
+  /**
+   * Remove every free rectangle that is contained within another. Of two
+   * identical rectangles, only the one appearing first is kept.
+   */
+
+  private void prune()
+  {
+    final var count = this.free.size();
+    final var keep = new boolean[count];
+    Arrays.fill(keep, true);
+
+    for (int i = 0; i < count; ++i) {
+      if (!keep[i]) {
+        continue;
+      }
+      final var a = this.free.get(i);
+      for (int j = 0; j < count; ++j) {
+        if (i == j || !keep[j]) {
+          continue;
+        }
+        final var b = this.free.get(j);
+        if (AreasI.contains(a, b)) {
+          keep[j] = false;
+        }
+      }
+    }
+
+    int write = 0;
+    for (int read = 0; read < count; ++read) {
+      if (keep[read]) {
+        this.free.set(write, this.free.get(read));
+        ++write;
+      }
+    }
+    this.free.subList(write, count).clear();
+  }
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jregions.core.unparameterized.packing;
+
+import com.io7m.immutables.styles.ImmutablesStyleType;
+import com.io7m.jregions.core.unparameterized.areas.AreaI;
+import org.immutables.value.Value;
+
+/**
+ * The placement of a single input size by a packer.
+ */
+
+@ImmutablesStyleType
+@Value.Immutable
+public interface PackingPlacementIType
+{
+  /**
+   * @return The index of the size in the list of inputs
+   */
+
+  @Value.Parameter(order = 0)
+  int index();
+
+  /**
+   * @return The area at which the size was placed
+   */
+
+  @Value.Parameter(order = 1)
+  AreaI area();
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jregions.core.unparameterized.packing;
+
+import com.io7m.immutables.styles.ImmutablesStyleType;
+import org.immutables.value.Value;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * The result of packing a batch of sizes.
+ */
+
+@ImmutablesStyleType
+@Value.Immutable
+public interface PackingResultIType
+{
+  /**
+   * @return The placed sizes, in ascending order of input index
+   */
+
+  List<PackingPlacementI> placements();
+
+  /**
+   * @return The indices of the sizes that could not be placed, in ascending
+   * order
+   */
+
+  List<Integer> rejected();
+
+  /**
+   * @return The fraction of the container that is occupied after packing, in
+   * the range {@code [0, 1]}
+   */
+
+  double occupancy();
+
+  /**
+   * @return The time taken to pack the batch
+   */
+
+  Duration time();
+}
@@ -0,0 +1,515 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jregions.core.unparameterized.regions;
+
+import com.io7m.jaffirm.core.Preconditions;
+import com.io7m.jregions.core.unparameterized.areas.AreaEdgesReceiverIType;
+import com.io7m.jregions.core.unparameterized.areas.AreaI;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * <p>An accumulator of damaged (invalidated) areas.</p>
+ *
+ * <p>Each added area is merged with an existing damaged area only if the
+ * bounding area of the two wastes at most a configurable fraction of its
+ * pixels: that is, if the number of pixels in the bounding area that are
+ * covered by neither of the merged areas is at most
+ * {@code wasteRatio * |bounding area|}. If several existing areas qualify,
+ * the one that wastes the fewest pixels is chosen, and the merge is repeated
+ * with the grown area until no further merge qualifies. Added areas that are
+ * contained within an existing damaged area are ignored, and existing areas
+ * contained within an added area are discarded.</p>
+ *
+ * <p>The number of damaged areas is capped. If an addition would exceed the
+ * cap, the pair of areas whose merge wastes the fewest pixels is merged
+ * regardless of the waste ratio. Repainting the resulting areas therefore
+ * repaints every damaged pixel, and usually far fewer pixels than the
+ * bounding area of all of the damage.</p>
+ *
+ * <p>The edges of the damaged areas are stored in preallocated arrays, and
+ * so neither {@link #add(AreaI)} nor {@link #forEach(AreaEdgesReceiverIType)}
+ * allocate. Each addition takes {@code O(n²)} time in the worst case in the
+ * number {@code n} of damaged areas: the added area may be merged up to
+ * {@code n} times, and each merge examines every damaged area. Merging the
+ * cheapest pair when the cap is reached also takes {@code O(n²)} time.</p>
+ *
+ * <p>Trackers are not thread-safe.</p>
+ */
+
+public final class AreaDamageTrackerI
+{
+  private final int maximumAreas;
+  private final double wasteRatio;
+  private final int[] minX;
+  private final int[] maxX;
+  private final int[] minY;
+  private final int[] maxY;
+  private int count;
+
+  private AreaDamageTrackerI(
+    final int inMaximumAreas,
+    final double inWasteRatio)
+  {
+    this.maximumAreas = inMaximumAreas;
+    this.wasteRatio = inWasteRatio;
+    this.minX = new int[inMaximumAreas + 1];
+    this.maxX = new int[inMaximumAreas + 1];
+    this.minY = new int[inMaximumAreas + 1];
+    this.maxY = new int[inMaximumAreas + 1];
+    this.count = 0;
+  }
+
+  /**
+   * Create a new tracker.
+   *
+   * @param maximumAreas The maximum number of damaged areas retained
+   * @param wasteRatio   The maximum fraction of the pixels of a merged area
+   *                     that may be undamaged, in the range {@code [0, 1]}
+   *
+   * @return A new empty tracker
+   */
+
+  public static AreaDamageTrackerI create(
+    final int maximumAreas,
+    final double wasteRatio)
+  {
+    Preconditions.checkPreconditionI(
+      maximumAreas,
+      maximumAreas > 0,
+      m -> "Maximum area count must be positive");
+    Preconditions.checkPreconditionD(
+      wasteRatio,
+      wasteRatio >= 0.0 && wasteRatio <= 1.0,
+      r -> "Waste ratio must be in the range [0, 1]");
+    return new AreaDamageTrackerI(maximumAreas, wasteRatio);
+  }
+
+  /*
+   * Pixel counts are computed as doubles: an area spanning the full range of
+   * int on both axes has (2^32 - 1)^2 pixels, which does not fit into a long.
+   */
+
+  private static double size(
+    final int x0,
+    final int x1,
+    final int y0,
+    final int y1)
+  {
+    return ((double) x1 - (double) x0) * ((double) y1 - (double) y0);
+  }
+
+  private static double overlap(
+    final int ax0,
+    final int ax1,
+    final int ay0,
+    final int ay1,
+    final int bx0,
+    final int bx1,
+    final int by0,
+    final int by1)
+  {
+    final long w = (long) Math.min(ax1, bx1) - (long) Math.max(ax0, bx0);
+    final long h = (long) Math.min(ay1, by1) - (long) Math.max(ay0, by0);
+    if (w <= 0L || h <= 0L) {
+      return 0.0;
+    }
+    return (double) w * (double) h;
+  }
+
+  /**
+   * @return The maximum number of damaged areas retained
+   */
+
+  public int maximumAreas()
+  {
+    return this.maximumAreas;
+  }
+
+  /**
+   * @return The maximum fraction of the pixels of a merged area that may be
+   * undamaged
+   */
+
+  public double wasteRatio()
+  {
+    return this.wasteRatio;
+  }
+
+  /**
+   * @return The current number of damaged areas
+   */
+
+  public int count()
+  {
+    return this.count;
+  }
+
+  /**
+   * @return {@code true} iff no damage has been added since the last clear
+   */
+
+  public boolean isEmpty()
+  {
+    return this.count == 0;
+  }
+
+  /**
+   * Discard all damage.
+   */
+
+  public void clear()
+  {
+    this.count = 0;
+  }
+
+  /**
+   * Add a damaged area. Empty areas are ignored.
+   *
+   * @param area The area
+   */
+
+  public void add(
+    final AreaI area)
+  {
+    Objects.requireNonNull(area, "area");
+    this.add(area.minimumX(), area.maximumX(), area.minimumY(), area.maximumY());
+  }
+
+  /**
+   * Add a damaged area given by its edges. Empty areas are ignored.
+   *
+   * @param minimumX The minimum X edge
+   * @param maximumX The maximum X edge
+   * @param minimumY The minimum Y edge
+   * @param maximumY The maximum Y edge
+   */
+
+  public void add(
+    final int minimumX,
+    final int maximumX,
+    final int minimumY,
+    final int maximumY)
+  {
+    Preconditions.checkPreconditionI(
+      maximumX,
+      minimumX <= maximumX,
+      x -> "Maximum X must be >= minimum X");
+    Preconditions.checkPreconditionI(
+      maximumY,
+      minimumY <= maximumY,
+      y -> "Maximum Y must be >= minimum Y");
+
+    if (minimumX == maximumX || minimumY == maximumY) {
+      return;
+    }
+
+    for (int index = 0; index < this.count; ++index) {
+      if (this.contains(index, minimumX, maximumX, minimumY, maximumY)) {
+        return;
+      }
+    }
+
+    final int last = this.count;
+    this.set(last, minimumX, maximumX, minimumY, maximumY);
+    this.count = last + 1;
+    this.mergeAdded(last);
+
+    while (this.count > this.maximumAreas) {
+      this.mergeCheapestPair();
+    }
+  }
+
+  /**
+   * Repeatedly merge the area at {@code start} with the existing area that
+   * wastes the fewest pixels, for as long as a merge within the waste ratio
+   * exists.
+   */
+
+  private void mergeAdded(
+    final int start)
+  {
+    int target = start;
+    while (true) {
+      target = this.absorbContained(target);
+
+      final int x0 = this.minX[target];
+      final int x1 = this.maxX[target];
+      final int y0 = this.minY[target];
+      final int y1 = this.maxY[target];
+
+      int best = -1;
+      double bestWaste = Double.POSITIVE_INFINITY;
+      for (int index = 0; index < this.count; ++index) {
+        if (index != target) {
+          final double waste = this.waste(index, x0, x1, y0, y1);
+          if (waste < bestWaste && this.acceptable(index, x0, x1, y0, y1, waste)) {
+            best = index;
+            bestWaste = waste;
+          }
+        }
+      }
+
+      if (best < 0) {
+        return;
+      }
+      target = this.merge(target, best);
+    }
+  }
+
+  private boolean acceptable(
+    final int index,
+    final int x0,
+    final int x1,
+    final int y0,
+    final int y1,
+    final double waste)
+  {
+    final double bounds = size(
+      Math.min(x0, this.minX[index]),
+      Math.max(x1, this.maxX[index]),
+      Math.min(y0, this.minY[index]),
+      Math.max(y1, this.maxY[index]));
+    return waste <= this.wasteRatio * bounds;
+  }
+
+  /**
+   * Merge the pair of areas whose bounding area wastes the fewest pixels.
+   */
+
+  private void mergeCheapestPair()
+  {
+    int bestA = 0;
+    int bestB = 1;
+    double bestWaste = Double.POSITIVE_INFINITY;
+    for (int a = 0; a < this.count; ++a) {
+      final int x0 = this.minX[a];
+      final int x1 = this.maxX[a];
+      final int y0 = this.minY[a];
+      final int y1 = this.maxY[a];
+      for (int b = a + 1; b < this.count; ++b) {
+        final double waste = this.waste(b, x0, x1, y0, y1);
+        if (waste < bestWaste) {
+          bestA = a;
+          bestB = b;
+          bestWaste = waste;
+        }
+      }
+    }
+    this.absorbContained(this.merge(bestA, bestB));
+  }
+
+  /**
+   * @return The number of pixels in the bounding area of the given edges and
+   * the area at {@code index} that are covered by neither
+   */
+
+  private double waste(
+    final int index,
+    final int x0,
+    final int x1,
+    final int y0,
+    final int y1)
+  {
+    final int bx0 = this.minX[index];
+    final int bx1 = this.maxX[index];
+    final int by0 = this.minY[index];
+    final int by1 = this.maxY[index];
+
+    final double bounds = size(
+      Math.min(x0, bx0),
+      Math.max(x1, bx1),
+      Math.min(y0, by0),
+      Math.max(y1, by1));
+    final double covered =
+      size(x0, x1, y0, y1)
+        + size(bx0, bx1, by0, by1)
+        - overlap(x0, x1, y0, y1, bx0, bx1, by0, by1);
+    return bounds - covered;
+  }
+
+  /**
+   * Replace the area at {@code a} with the bounding area of {@code a} and
+   * {@code b}, and remove {@code b}.
+   *
+   * @return The new index of the merged area
+   */
+
+  private int merge(
+    final int a,
+    final int b)
+  {
+    this.set(
+      a,
+      Math.min(this.minX[a], this.minX[b]),
+      Math.max(this.maxX[a], this.maxX[b]),
+      Math.min(this.minY[a], this.minY[b]),
+      Math.max(this.maxY[a], this.maxY[b]));
+    return this.remove(b, a);
+  }
+
+  /**
+   * Remove every area that is contained within the area at {@code target}.
+   *
+   * @return The new index of the target area
+   */
+
+  private int absorbContained(
+    final int target)
+  {
+    int current = target;
+    int index = 0;
+    while (index < this.count) {
+      if (index != current && this.containedIn(index, current)) {
+        current = this.remove(index, current);
+      } else {
+        index += 1;
+      }
+    }
+    return current;
+  }
+
+  private boolean containedIn(
+    final int index,
+    final int outer)
+  {
+    return this.contains(
+      outer,
+      this.minX[index],
+      this.maxX[index],
+      this.minY[index],
+      this.maxY[index]);
+  }
+
+  private boolean contains(
+    final int index,
+    final int x0,
+    final int x1,
+    final int y0,
+    final int y1)
+  {
+    final boolean inX = this.minX[index] <= x0 && x1 <= this.maxX[index];
+    final boolean inY = this.minY[index] <= y0 && y1 <= this.maxY[index];
+    return inX && inY;
+  }
+
+  /**
+   * Remove the area at {@code index} by moving the last area into its place.
+   *
+   * @return The new index of the area that was at {@code tracked}
+   */
+
+  private int remove(
+    final int index,
+    final int tracked)
+  {
+    final int last = this.count - 1;
+    this.minX[index] = this.minX[last];
+    this.maxX[index] = this.maxX[last];
+    this.minY[index] = this.minY[last];
+    this.maxY[index] = this.maxY[last];
+    this.count = last;
+    return tracked == last ? index : tracked;
+  }
+
+  private void set(
+    final int index,
+    final int x0,
+    final int x1,
+    final int y0,
+    final int y1)
+  {
+    this.minX[index] = x0;
+    this.maxX[index] = x1;
+    this.minY[index] = y0;
+    this.maxY[index] = y1;
+  }
+
+  /**
+   * Pass each damaged area to {@code receiver}. No allocation is performed.
+   *
+   * @param receiver The receiver
+   */
+
+  public void forEach(
+    final AreaEdgesReceiverIType receiver)
+  {
+    Objects.requireNonNull(receiver, "receiver");
+    for (int index = 0; index < this.count; ++index) {
+      receiver.receive(
+        this.minX[index],
+        this.maxX[index],
+        this.minY[index],
+        this.maxY[index]);
+    }
+  }
+
+  /**
+   * @return The damaged areas
+   */
+
+  public List<AreaI> areas()
+  {
+    final var results = new ArrayList<AreaI>(this.count);
+    this.forEach((x0, x1, y0, y1) -> results.add(AreaI.of(x0, x1, y0, y1)));
+    return List.copyOf(results);
+  }
+
+  /**
+   * @return The bounding area of all damage, if any
+   */
+
+  public Optional<AreaI> bounds()
+  {
+    if (this.count == 0) {
+      return Optional.empty();
+    }
+
+    int x0 = Integer.MAX_VALUE;
+    int x1 = Integer.MIN_VALUE;
+    int y0 = Integer.MAX_VALUE;
+    int y1 = Integer.MIN_VALUE;
+    for (int index = 0; index < this.count; ++index) {
+      x0 = Math.min(x0, this.minX[index]);
+      x1 = Math.max(x1, this.maxX[index]);
+      y0 = Math.min(y0, this.minY[index]);
+      y1 = Math.max(y1, this.maxY[index]);
+    }
+    return Optional.of(AreaI.of(x0, x1, y0, y1));
+  }
+
+  /**
+   * @return The total number of pixels that repainting the damaged areas
+   * would paint, counting pixels covered by overlapping areas once per area
+   */
+
+  public double repaintSize()
+  {
+    double total = 0.0;
+    for (int index = 0; index < this.count; ++index) {
+      total += size(
+        this.minX[index],
+        this.maxX[index],
+        this.minY[index],
+        this.maxY[index]);
+    }
+    return total;
+  }
+}
@@ -27,6 +27,8 @@ final class VolumeBDOps
 
   public static final BigDecimal ONE = BigDecimal.ONE;
 
+  public static final BigDecimal MEASURE_ZERO = BigDecimal.ZERO;
+
   private VolumeBDOps()
   {
     throw new UnreachableCodeException();
@@ -73,6 +75,27 @@ final class VolumeBDOps
     return BigDecimal.valueOf(x);
   }
 
+  public static BigDecimal measureDistance(
+    final BigDecimal a,
+    final BigDecimal b)
+  {
+    return b.subtract(a);
+  }
+
+  public static BigDecimal measureAdd(
+    final BigDecimal a,
+    final BigDecimal b)
+  {
+    return a.add(b);
+  }
+
+  public static BigDecimal measureMultiply(
+    final BigDecimal a,
+    final BigDecimal b)
+  {
+    return a.multiply(b);
+  }
+
   public static void notNullVolume(
     final Object expression,
     final String name)
@@ -27,6 +27,8 @@ final class VolumeBIOps
 
   public static final BigInteger ONE = BigInteger.ONE;
 
+  public static final BigInteger MEASURE_ZERO = BigInteger.ZERO;
+
   private VolumeBIOps()
   {
     throw new UnreachableCodeException();
@@ -73,6 +75,27 @@ final class VolumeBIOps
     return BigInteger.valueOf(x);
   }
 
+  public static BigInteger measureDistance(
+    final BigInteger a,
+    final BigInteger b)
+  {
+    return b.subtract(a);
+  }
+
+  public static BigInteger measureAdd(
+    final BigInteger a,
+    final BigInteger b)
+  {
+    return a.add(b);
+  }
+
+  public static BigInteger measureMultiply(
+    final BigInteger a,
+    final BigInteger b)
+  {
+    return a.multiply(b);
+  }
+
   public static void notNullVolume(
     final Object expression,
     final String name)
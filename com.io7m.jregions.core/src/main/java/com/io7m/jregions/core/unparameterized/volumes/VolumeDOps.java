@@ -26,6 +26,8 @@ final class VolumeDOps
 
   public static final double ONE = 1.0;
 
+  public static final double MEASURE_ZERO = 0.0;
+
   private VolumeDOps()
   {
     throw new UnreachableCodeException();
@@ -72,6 +74,27 @@ final class VolumeDOps
     return (double) x;
   }
 
+  public static double measureDistance(
+    final double a,
+    final double b)
+  {
+    return b - a;
+  }
+
+  public static double measureAdd(
+    final double a,
+    final double b)
+  {
+    return a + b;
+  }
+
+  public static double measureMultiply(
+    final double a,
+    final double b)
+  {
+    return a * b;
+  }
+
   public static void notNullVolume(
     final Object expression,
     final String name)
@@ -26,6 +26,8 @@ final class VolumeFOps
 
   public static final float ONE = 1.0f;
 
+  public static final double MEASURE_ZERO = 0.0;
+
   private VolumeFOps()
   {
     throw new UnreachableCodeException();
@@ -72,6 +74,27 @@ final class VolumeFOps
     return (float) x;
   }
 
+  public static double measureDistance(
+    final float a,
+    final float b)
+  {
+    return (double) b - (double) a;
+  }
+
+  public static double measureAdd(
+    final double a,
+    final double b)
+  {
+    return a + b;
+  }
+
+  public static double measureMultiply(
+    final double a,
+    final double b)
+  {
+    return a * b;
+  }
+
   public static void notNullVolume(
     final Object expression,
     final String name)
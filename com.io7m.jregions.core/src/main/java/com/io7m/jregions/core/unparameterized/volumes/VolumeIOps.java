@@ -26,6 +26,8 @@ final class VolumeIOps
 
   public static final int ONE = 1;
 
+  public static final long MEASURE_ZERO = 0L;
+
   private VolumeIOps()
   {
     throw new UnreachableCodeException();
@@ -72,6 +74,27 @@ final class VolumeIOps
     return Math.toIntExact(x);
   }
 
+  public static long measureDistance(
+    final int a,
+    final int b)
+  {
+    return (long) b - (long) a;
+  }
+
+  public static long measureAdd(
+    final long a,
+    final long b)
+  {
+    return Math.addExact(a, b);
+  }
+
+  public static long measureMultiply(
+    final long a,
+    final long b)
+  {
+    return Math.multiplyExact(a, b);
+  }
+
   public static void notNullVolume(
     final Object expression,
     final String name)
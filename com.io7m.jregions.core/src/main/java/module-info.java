@@ -24,28 +24,47 @@ module com.io7m.jregions.core
   requires static org.immutables.value;
   requires static org.osgi.annotation.bundle;
   requires static org.osgi.annotation.versioning;
+  requires static jdk.incubator.vector;
 
   requires com.io7m.junreachable.core;
   requires com.io7m.jaffirm.core;
 
+  exports com.io7m.jregions.core.codecs;
   exports com.io7m.jregions.core.conversions;
   exports com.io7m.jregions.core.parameterized.areas;
+  exports com.io7m.jregions.core.parameterized.index;
   exports com.io7m.jregions.core.parameterized.sizes;
   exports com.io7m.jregions.core.parameterized.volumes;
   exports com.io7m.jregions.core.unparameterized.areas;
+  exports com.io7m.jregions.core.unparameterized.index;
+  exports com.io7m.jregions.core.unparameterized.locks;
+  exports com.io7m.jregions.core.unparameterized.packing;
+  exports com.io7m.jregions.core.unparameterized.regions;
   exports com.io7m.jregions.core.unparameterized.sizes;
   exports com.io7m.jregions.core.unparameterized.volumes;
 
+  opens com.io7m.jregions.core.codecs
+    to com.io7m.jregions.tests, nl.jqno.equalsverifier;
   opens com.io7m.jregions.core.conversions
     to com.io7m.jregions.tests, nl.jqno.equalsverifier;
   opens com.io7m.jregions.core.parameterized.areas
     to com.io7m.jregions.tests, nl.jqno.equalsverifier;
+  opens com.io7m.jregions.core.parameterized.index
+    to com.io7m.jregions.tests, nl.jqno.equalsverifier;
   opens com.io7m.jregions.core.parameterized.sizes
     to com.io7m.jregions.tests, nl.jqno.equalsverifier;
   opens com.io7m.jregions.core.parameterized.volumes
     to com.io7m.jregions.tests, nl.jqno.equalsverifier;
   opens com.io7m.jregions.core.unparameterized.areas
     to com.io7m.jregions.tests, nl.jqno.equalsverifier;
+  opens com.io7m.jregions.core.unparameterized.index
+    to com.io7m.jregions.tests, nl.jqno.equalsverifier;
+  opens com.io7m.jregions.core.unparameterized.locks
+    to com.io7m.jregions.tests, nl.jqno.equalsverifier;
+  opens com.io7m.jregions.core.unparameterized.packing
+    to com.io7m.jregions.tests, nl.jqno.equalsverifier;
+  opens com.io7m.jregions.core.unparameterized.regions
+    to com.io7m.jregions.tests, nl.jqno.equalsverifier;
   opens com.io7m.jregions.core.unparameterized.sizes
     to com.io7m.jregions.tests, nl.jqno.equalsverifier;
   opens com.io7m.jregions.core.unparameterized.volumes
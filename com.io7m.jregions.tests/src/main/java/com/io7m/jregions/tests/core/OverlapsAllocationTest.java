@@ -0,0 +1,235 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jregions.tests.core;
+
+import com.io7m.jregions.core.parameterized.areas.PAreaD;
+import com.io7m.jregions.core.parameterized.areas.PAreaF;
+import com.io7m.jregions.core.parameterized.areas.PAreaI;
+import com.io7m.jregions.core.parameterized.areas.PAreaL;
+import com.io7m.jregions.core.parameterized.areas.PAreasD;
+import com.io7m.jregions.core.parameterized.areas.PAreasF;
+import com.io7m.jregions.core.parameterized.areas.PAreasI;
+import com.io7m.jregions.core.parameterized.areas.PAreasL;
+import com.io7m.jregions.core.parameterized.volumes.PVolumeD;
+import com.io7m.jregions.core.parameterized.volumes.PVolumeF;
+import com.io7m.jregions.core.parameterized.volumes.PVolumeI;
+import com.io7m.jregions.core.parameterized.volumes.PVolumeL;
+import com.io7m.jregions.core.parameterized.volumes.PVolumesD;
+import com.io7m.jregions.core.parameterized.volumes.PVolumesF;
+import com.io7m.jregions.core.parameterized.volumes.PVolumesI;
+import com.io7m.jregions.core.parameterized.volumes.PVolumesL;
+import com.io7m.jregions.core.unparameterized.areas.AreaD;
+import com.io7m.jregions.core.unparameterized.areas.AreaF;
+import com.io7m.jregions.core.unparameterized.areas.AreaI;
+import com.io7m.jregions.core.unparameterized.areas.AreaL;
+import com.io7m.jregions.core.unparameterized.areas.AreasD;
+import com.io7m.jregions.core.unparameterized.areas.AreasF;
+import com.io7m.jregions.core.unparameterized.areas.AreasI;
+import com.io7m.jregions.core.unparameterized.areas.AreasL;
+import com.io7m.jregions.core.unparameterized.volumes.VolumeD;
+import com.io7m.jregions.core.unparameterized.volumes.VolumeF;
+import com.io7m.jregions.core.unparameterized.volumes.VolumeI;
+import com.io7m.jregions.core.unparameterized.volumes.VolumeL;
+import com.io7m.jregions.core.unparameterized.volumes.VolumesD;
+import com.io7m.jregions.core.unparameterized.volumes.VolumesF;
+import com.io7m.jregions.core.unparameterized.volumes.VolumesI;
+import com.io7m.jregions.core.unparameterized.volumes.VolumesL;
+import com.sun.management.ThreadMXBean;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Check that {@code overlaps} does not allocate for any of the primitive
+ * scalar variants. The arbitrary-precision variants are excluded, as their
+ * arithmetic necessarily allocates.
+ */
+
+public final class OverlapsAllocationTest
+{
+  private static final int ITERATIONS = 100_000;
+
+  private ThreadMXBean threads;
+
+  private void checkNoAllocation(
+    final BooleanSupplier overlaps)
+  {
+    /*
+     * Run once to ensure that any class initialization has occurred.
+     */
+
+    Assertions.assertTrue(overlaps.getAsBoolean());
+
+    final var threadId = Thread.currentThread().threadId();
+    final var before = this.threads.getThreadAllocatedBytes(threadId);
+    int count = 0;
+    for (int index = 0; index < ITERATIONS; ++index) {
+      if (overlaps.getAsBoolean()) {
+        ++count;
+      }
+    }
+    final var after = this.threads.getThreadAllocatedBytes(threadId);
+
+    Assertions.assertEquals(ITERATIONS, count);
+    Assertions.assertTrue(
+      after - before < ITERATIONS,
+      String.format(
+        "Allocated %d bytes over %d calls", after - before, ITERATIONS));
+  }
+
+  @BeforeEach
+  public void setup()
+  {
+    this.threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+    Assumptions.assumeTrue(this.threads.isThreadAllocatedMemorySupported());
+    this.threads.setThreadAllocatedMemoryEnabled(true);
+  }
+
+  @Test
+  public void testAreasI()
+  {
+    final var a = AreaI.of(0, 10, 0, 10);
+    final var b = AreaI.of(5, 5, 5, 5);
+    this.checkNoAllocation(() -> AreasI.overlaps(a, b));
+  }
+
+  @Test
+  public void testAreasL()
+  {
+    final var a = AreaL.of(0L, 10L, 0L, 10L);
+    final var b = AreaL.of(5L, 5L, 5L, 5L);
+    this.checkNoAllocation(() -> AreasL.overlaps(a, b));
+  }
+
+  @Test
+  public void testAreasF()
+  {
+    final var a = AreaF.of(0.0f, 10.0f, 0.0f, 10.0f);
+    final var b = AreaF.of(5.0f, 5.0f, 5.0f, 5.0f);
+    this.checkNoAllocation(() -> AreasF.overlaps(a, b));
+  }
+
+  @Test
+  public void testAreasD()
+  {
+    final var a = AreaD.of(0.0, 10.0, 0.0, 10.0);
+    final var b = AreaD.of(5.0, 5.0, 5.0, 5.0);
+    this.checkNoAllocation(() -> AreasD.overlaps(a, b));
+  }
+
+  @Test
+  public void testPAreasI()
+  {
+    final PAreaI<Object> a = PAreaI.of(0, 10, 0, 10);
+    final PAreaI<Object> b = PAreaI.of(5, 5, 5, 5);
+    this.checkNoAllocation(() -> PAreasI.overlaps(a, b));
+  }
+
+  @Test
+  public void testPAreasL()
+  {
+    final PAreaL<Object> a = PAreaL.of(0L, 10L, 0L, 10L);
+    final PAreaL<Object> b = PAreaL.of(5L, 5L, 5L, 5L);
+    this.checkNoAllocation(() -> PAreasL.overlaps(a, b));
+  }
+
+  @Test
+  public void testPAreasF()
+  {
+    final PAreaF<Object> a = PAreaF.of(0.0f, 10.0f, 0.0f, 10.0f);
+    final PAreaF<Object> b = PAreaF.of(5.0f, 5.0f, 5.0f, 5.0f);
+    this.checkNoAllocation(() -> PAreasF.overlaps(a, b));
+  }
+
+  @Test
+  public void testPAreasD()
+  {
+    final PAreaD<Object> a = PAreaD.of(0.0, 10.0, 0.0, 10.0);
+    final PAreaD<Object> b = PAreaD.of(5.0, 5.0, 5.0, 5.0);
+    this.checkNoAllocation(() -> PAreasD.overlaps(a, b));
+  }
+
+  @Test
+  public void testVolumesI()
+  {
+    final var a = VolumeI.of(0, 10, 0, 10, 0, 10);
+    final var b = VolumeI.of(5, 5, 5, 5, 5, 5);
+    this.checkNoAllocation(() -> VolumesI.overlaps(a, b));
+  }
+
+  @Test
+  public void testVolumesL()
+  {
+    final var a = VolumeL.of(0L, 10L, 0L, 10L, 0L, 10L);
+    final var b = VolumeL.of(5L, 5L, 5L, 5L, 5L, 5L);
+    this.checkNoAllocation(() -> VolumesL.overlaps(a, b));
+  }
+
+  @Test
+  public void testVolumesF()
+  {
+    final var a = VolumeF.of(0.0f, 10.0f, 0.0f, 10.0f, 0.0f, 10.0f);
+    final var b = VolumeF.of(5.0f, 5.0f, 5.0f, 5.0f, 5.0f, 5.0f);
+    this.checkNoAllocation(() -> VolumesF.overlaps(a, b));
+  }
+
+  @Test
+  public void testVolumesD()
+  {
+    final var a = VolumeD.of(0.0, 10.0, 0.0, 10.0, 0.0, 10.0);
+    final var b = VolumeD.of(5.0, 5.0, 5.0, 5.0, 5.0, 5.0);
+    this.checkNoAllocation(() -> VolumesD.overlaps(a, b));
+  }
+
+  @Test
+  public void testPVolumesI()
+  {
+    final PVolumeI<Object> a = PVolumeI.of(0, 10, 0, 10, 0, 10);
+    final PVolumeI<Object> b = PVolumeI.of(5, 5, 5, 5, 5, 5);
+    this.checkNoAllocation(() -> PVolumesI.overlaps(a, b));
+  }
+
+  @Test
+  public void testPVolumesL()
+  {
+    final PVolumeL<Object> a = PVolumeL.of(0L, 10L, 0L, 10L, 0L, 10L);
+    final PVolumeL<Object> b = PVolumeL.of(5L, 5L, 5L, 5L, 5L, 5L);
+    this.checkNoAllocation(() -> PVolumesL.overlaps(a, b));
+  }
+
+  @Test
+  public void testPVolumesF()
+  {
+    final PVolumeF<Object> a =
+      PVolumeF.of(0.0f, 10.0f, 0.0f, 10.0f, 0.0f, 10.0f);
+    final PVolumeF<Object> b =
+      PVolumeF.of(5.0f, 5.0f, 5.0f, 5.0f, 5.0f, 5.0f);
+    this.checkNoAllocation(() -> PVolumesF.overlaps(a, b));
+  }
+
+  @Test
+  public void testPVolumesD()
+  {
+    final PVolumeD<Object> a = PVolumeD.of(0.0, 10.0, 0.0, 10.0, 0.0, 10.0);
+    final PVolumeD<Object> b = PVolumeD.of(5.0, 5.0, 5.0, 5.0, 5.0, 5.0);
+    this.checkNoAllocation(() -> PVolumesD.overlaps(a, b));
+  }
+}
@@ -16,8 +16,22 @@
 
 package com.io7m.jregions.tests.core;
 
+import com.io7m.jregions.core.codecs.BinaryCodecBD;
+import com.io7m.jregions.core.codecs.BinaryCodecBI;
+import com.io7m.jregions.core.codecs.BinaryCodecD;
+import com.io7m.jregions.core.codecs.BinaryCodecF;
+import com.io7m.jregions.core.codecs.BinaryCodecI;
+import com.io7m.jregions.core.codecs.BinaryCodecL;
+import com.io7m.jregions.core.codecs.ShowParserBD;
+import com.io7m.jregions.core.codecs.ShowParserBI;
+import com.io7m.jregions.core.codecs.ShowParserD;
+import com.io7m.jregions.core.codecs.ShowParserF;
+import com.io7m.jregions.core.codecs.ShowParserI;
+import com.io7m.jregions.core.codecs.ShowParserL;
+import com.io7m.jregions.core.codecs.VarInts;
 import com.io7m.jregions.core.conversions.AreaConversions;
 import com.io7m.jregions.core.conversions.AreaSizeConversions;
+import com.io7m.jregions.core.conversions.VolumeConversions;
 import com.io7m.jregions.core.parameterized.areas.PAreasBD;
 import com.io7m.jregions.core.parameterized.areas.PAreasBI;
 import com.io7m.jregions.core.parameterized.areas.PAreasD;
@@ -38,10 +52,30 @@ import com.io7m.jregions.core.parameterized.volumes.PVolumesI;
 import com.io7m.jregions.core.parameterized.volumes.PVolumesL;
 import com.io7m.jregions.core.unparameterized.areas.AreasBD;
 import com.io7m.jregions.core.unparameterized.areas.AreasBI;
+import com.io7m.jregions.core.unparameterized.areas.AreasBatchD;
+import com.io7m.jregions.core.unparameterized.areas.AreasBatchF;
+import com.io7m.jregions.core.unparameterized.areas.AreasBatchI;
+import com.io7m.jregions.core.unparameterized.areas.AreasBatchL;
+import com.io7m.jregions.core.unparameterized.areas.AreasParallelD;
+import com.io7m.jregions.core.unparameterized.areas.AreasParallelF;
+import com.io7m.jregions.core.unparameterized.areas.AreasParallelI;
+import com.io7m.jregions.core.unparameterized.areas.AreasParallelL;
+import com.io7m.jregions.core.unparameterized.areas.AreasCollectorsBD;
+import com.io7m.jregions.core.unparameterized.areas.AreasCollectorsBI;
+import com.io7m.jregions.core.unparameterized.areas.AreasCollectorsD;
+import com.io7m.jregions.core.unparameterized.areas.AreasCollectorsF;
+import com.io7m.jregions.core.unparameterized.areas.AreasCollectorsI;
+import com.io7m.jregions.core.unparameterized.areas.AreasCollectorsL;
+import com.io7m.jregions.core.unparameterized.areas.AreasRecursiveI;
+import com.io7m.jregions.core.unparameterized.areas.AreasRecursiveL;
 import com.io7m.jregions.core.unparameterized.areas.AreasD;
 import com.io7m.jregions.core.unparameterized.areas.AreasF;
 import com.io7m.jregions.core.unparameterized.areas.AreasI;
 import com.io7m.jregions.core.unparameterized.areas.AreasL;
+import com.io7m.jregions.core.unparameterized.index.HilbertCurve;
+import com.io7m.jregions.core.unparameterized.index.MortonCurve;
+import com.io7m.jregions.core.unparameterized.index.PackedRTreeFiles;
+import com.io7m.jregions.core.unparameterized.index.SpatialKeys;
 import com.io7m.jregions.core.unparameterized.sizes.AreaSizesBD;
 import com.io7m.jregions.core.unparameterized.sizes.AreaSizesBI;
 import com.io7m.jregions.core.unparameterized.sizes.AreaSizesD;
@@ -50,6 +84,22 @@ import com.io7m.jregions.core.unparameterized.sizes.AreaSizesI;
 import com.io7m.jregions.core.unparameterized.sizes.AreaSizesL;
 import com.io7m.jregions.core.unparameterized.volumes.VolumesBD;
 import com.io7m.jregions.core.unparameterized.volumes.VolumesBI;
+import com.io7m.jregions.core.unparameterized.volumes.VolumesBatchD;
+import com.io7m.jregions.core.unparameterized.volumes.VolumesBatchF;
+import com.io7m.jregions.core.unparameterized.volumes.VolumesBatchI;
+import com.io7m.jregions.core.unparameterized.volumes.VolumesBatchL;
+import com.io7m.jregions.core.unparameterized.volumes.VolumesParallelD;
+import com.io7m.jregions.core.unparameterized.volumes.VolumesParallelF;
+import com.io7m.jregions.core.unparameterized.volumes.VolumesParallelI;
+import com.io7m.jregions.core.unparameterized.volumes.VolumesParallelL;
+import com.io7m.jregions.core.unparameterized.volumes.VolumesCollectorsBD;
+import com.io7m.jregions.core.unparameterized.volumes.VolumesCollectorsBI;
+import com.io7m.jregions.core.unparameterized.volumes.VolumesCollectorsD;
+import com.io7m.jregions.core.unparameterized.volumes.VolumesCollectorsF;
+import com.io7m.jregions.core.unparameterized.volumes.VolumesCollectorsI;
+import com.io7m.jregions.core.unparameterized.volumes.VolumesCollectorsL;
+import com.io7m.jregions.core.unparameterized.volumes.VolumesRecursiveI;
+import com.io7m.jregions.core.unparameterized.volumes.VolumesRecursiveL;
 import com.io7m.jregions.core.unparameterized.volumes.VolumesD;
 import com.io7m.jregions.core.unparameterized.volumes.VolumesF;
 import com.io7m.jregions.core.unparameterized.volumes.VolumesI;
@@ -81,8 +131,22 @@ public final class UnreachableTest
   public Stream<DynamicTest> testUnreachables()
   {
     return Stream.of(
+      BinaryCodecBD.class,
+      BinaryCodecBI.class,
+      BinaryCodecD.class,
+      BinaryCodecF.class,
+      BinaryCodecI.class,
+      BinaryCodecL.class,
+      ShowParserBD.class,
+      ShowParserBI.class,
+      ShowParserD.class,
+      ShowParserF.class,
+      ShowParserI.class,
+      ShowParserL.class,
+      VarInts.class,
       AreaConversions.class,
       AreaSizeConversions.class,
+      VolumeConversions.class,
       PAreasBD.class,
       PAreasBI.class,
       PAreasD.class,
@@ -107,6 +171,26 @@ public final class UnreachableTest
       AreasF.class,
       AreasI.class,
       AreasL.class,
+      HilbertCurve.class,
+      MortonCurve.class,
+      PackedRTreeFiles.class,
+      SpatialKeys.class,
+      AreasBatchD.class,
+      AreasBatchF.class,
+      AreasBatchI.class,
+      AreasBatchL.class,
+      AreasParallelD.class,
+      AreasParallelF.class,
+      AreasParallelI.class,
+      AreasParallelL.class,
+      AreasCollectorsBD.class,
+      AreasCollectorsBI.class,
+      AreasCollectorsD.class,
+      AreasCollectorsF.class,
+      AreasCollectorsI.class,
+      AreasCollectorsL.class,
+      AreasRecursiveI.class,
+      AreasRecursiveL.class,
       AreaSizesBD.class,
       AreaSizesBI.class,
       AreaSizesD.class,
@@ -118,7 +202,23 @@ public final class UnreachableTest
       VolumesD.class,
       VolumesF.class,
       VolumesI.class,
-      VolumesL.class
+      VolumesL.class,
+      VolumesBatchD.class,
+      VolumesBatchF.class,
+      VolumesBatchI.class,
+      VolumesBatchL.class,
+      VolumesParallelD.class,
+      VolumesParallelF.class,
+      VolumesParallelI.class,
+      VolumesParallelL.class,
+      VolumesCollectorsBD.class,
+      VolumesCollectorsBI.class,
+      VolumesCollectorsD.class,
+      VolumesCollectorsF.class,
+      VolumesCollectorsI.class,
+      VolumesCollectorsL.class,
+      VolumesRecursiveI.class,
+      VolumesRecursiveL.class
     ).map(clazz -> {
       return DynamicTest.dynamicTest("testUnreachable" + clazz, () -> {
         this.checkUnreachable(clazz);
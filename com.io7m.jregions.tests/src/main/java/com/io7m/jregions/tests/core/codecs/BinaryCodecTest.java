@@ -0,0 +1,286 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jregions.tests.core.codecs;
+
+import com.io7m.jaffirm.core.PreconditionViolationException;
+import com.io7m.jregions.core.codecs.BinaryCodecBD;
+import com.io7m.jregions.core.codecs.BinaryCodecBI;
+import com.io7m.jregions.core.codecs.BinaryCodecD;
+import com.io7m.jregions.core.codecs.BinaryCodecF;
+import com.io7m.jregions.core.codecs.BinaryCodecI;
+import com.io7m.jregions.core.codecs.BinaryCodecL;
+import com.io7m.jregions.core.parameterized.areas.PAreaI;
+import com.io7m.jregions.core.parameterized.volumes.PVolumeBI;
+import com.io7m.jregions.core.parameterized.volumes.PVolumeL;
+import com.io7m.jregions.core.unparameterized.areas.AreaBD;
+import com.io7m.jregions.core.unparameterized.areas.AreaD;
+import com.io7m.jregions.core.unparameterized.areas.AreaI;
+import com.io7m.jregions.core.unparameterized.areas.AreaL;
+import com.io7m.jregions.core.unparameterized.areas.AreasL;
+import com.io7m.jregions.core.unparameterized.sizes.AreaSizeF;
+import com.io7m.jregions.core.unparameterized.sizes.VolumeSizeI;
+import com.io7m.jregions.core.unparameterized.volumes.VolumeBI;
+import com.io7m.jregions.core.unparameterized.volumes.VolumeF;
+import com.io7m.jregions.core.unparameterized.volumes.VolumeL;
+import net.jqwik.api.ForAll;
+import net.jqwik.api.Property;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.List;
+
+public final class BinaryCodecTest
+{
+  @Property
+  public void testAreaIFixedRoundTrip(
+    @ForAll final AreaI a,
+    @ForAll final AreaI b)
+  {
+    final var buffer =
+      ByteBuffer.allocate(BinaryCodecI.AREA_RECORD_SIZE * 2)
+        .order(ByteOrder.LITTLE_ENDIAN);
+
+    BinaryCodecI.putArea(buffer, BinaryCodecI.AREA_RECORD_SIZE, b);
+    BinaryCodecI.putArea(buffer, 0, a);
+
+    Assertions.assertEquals(0, buffer.position());
+    Assertions.assertEquals(a, BinaryCodecI.getArea(buffer, 0));
+    Assertions.assertEquals(
+      b, BinaryCodecI.getArea(buffer, BinaryCodecI.AREA_RECORD_SIZE));
+    Assertions.assertEquals(a.minimumX(), buffer.getInt(0));
+    Assertions.assertEquals(a.maximumX(), buffer.getInt(4));
+    Assertions.assertEquals(a.minimumY(), buffer.getInt(8));
+    Assertions.assertEquals(a.maximumY(), buffer.getInt(12));
+  }
+
+  @Property
+  public void testPAreaIFixedRoundTrip(
+    @ForAll final PAreaI<Object> a)
+  {
+    final var buffer = ByteBuffer.allocate(BinaryCodecI.AREA_RECORD_SIZE);
+    BinaryCodecI.putArea(buffer, 0, a);
+    Assertions.assertEquals(a, BinaryCodecI.<Object>getPArea(buffer, 0));
+  }
+
+  @Property
+  public void testVolumeLFixedRoundTrip(
+    @ForAll final VolumeL v,
+    @ForAll final PVolumeL<Object> p)
+  {
+    final var buffer =
+      ByteBuffer.allocateDirect(BinaryCodecL.VOLUME_RECORD_SIZE * 2);
+
+    BinaryCodecL.putVolume(buffer, 0, v);
+    BinaryCodecL.putVolume(buffer, BinaryCodecL.VOLUME_RECORD_SIZE, p);
+    Assertions.assertEquals(v, BinaryCodecL.getVolume(buffer, 0));
+    Assertions.assertEquals(
+      p,
+      BinaryCodecL.<Object>getPVolume(buffer, BinaryCodecL.VOLUME_RECORD_SIZE));
+  }
+
+  @Test
+  public void testSizesFixedRoundTrip()
+  {
+    final var buffer = ByteBuffer.allocate(64);
+    final var s0 = VolumeSizeI.of(1, 2, 3);
+    final var s1 = AreaSizeF.of(0.5f, 1.0E20f);
+
+    BinaryCodecI.putVolumeSize(buffer, 0, s0);
+    BinaryCodecF.putAreaSize(buffer, BinaryCodecI.VOLUME_SIZE_RECORD_SIZE, s1);
+    Assertions.assertEquals(s0, BinaryCodecI.getVolumeSize(buffer, 0));
+    Assertions.assertEquals(
+      s1,
+      BinaryCodecF.getAreaSize(buffer, BinaryCodecI.VOLUME_SIZE_RECORD_SIZE));
+  }
+
+  @Property
+  public void testAreaIDeltaRoundTrip(
+    @ForAll final List<AreaI> areas)
+  {
+    final var buffer =
+      ByteBuffer.allocate(areas.size() * BinaryCodecI.AREA_DELTA_MAXIMUM_SIZE);
+
+    BinaryCodecI.putAreasDelta(buffer, areas);
+    buffer.flip();
+    Assertions.assertEquals(
+      areas, BinaryCodecI.getAreasDelta(buffer, areas.size()));
+    Assertions.assertFalse(buffer.hasRemaining());
+  }
+
+  @Test
+  public void testAreaIDeltaExtremes()
+  {
+    final var areas = List.of(
+      AreaI.of(-1_000_000_000, 1_000_000_000, 0, 0),
+      AreaI.of(Integer.MAX_VALUE, Integer.MAX_VALUE, -1, 1),
+      AreaI.of(Integer.MIN_VALUE, Integer.MIN_VALUE, Integer.MIN_VALUE, -1)
+    );
+
+    final var buffer =
+      ByteBuffer.allocate(areas.size() * BinaryCodecI.AREA_DELTA_MAXIMUM_SIZE);
+
+    BinaryCodecI.putAreasDelta(buffer, areas);
+    buffer.flip();
+    Assertions.assertEquals(
+      areas, BinaryCodecI.getAreasDelta(buffer, areas.size()));
+  }
+
+  @Property
+  public void testAreaDDeltaRoundTrip(
+    @ForAll final List<AreaD> areas)
+  {
+    final var buffer =
+      ByteBuffer.allocate(areas.size() * BinaryCodecD.AREA_DELTA_MAXIMUM_SIZE);
+
+    BinaryCodecD.putAreasDelta(buffer, areas);
+    buffer.flip();
+    Assertions.assertEquals(
+      areas, BinaryCodecD.getAreasDelta(buffer, areas.size()));
+  }
+
+  @Property
+  public void testVolumeFDeltaRoundTrip(
+    @ForAll final List<VolumeF> volumes)
+  {
+    final var buffer =
+      ByteBuffer.allocate(
+        volumes.size() * BinaryCodecF.VOLUME_DELTA_MAXIMUM_SIZE);
+
+    BinaryCodecF.putVolumesDelta(buffer, volumes);
+    buffer.flip();
+    Assertions.assertEquals(
+      volumes, BinaryCodecF.getVolumesDelta(buffer, volumes.size()));
+  }
+
+  @Property
+  public void testPVolumeLDeltaRoundTrip(
+    @ForAll final List<PVolumeL<Object>> volumes)
+  {
+    final var buffer =
+      ByteBuffer.allocate(
+        volumes.size() * BinaryCodecL.VOLUME_DELTA_MAXIMUM_SIZE);
+
+    BinaryCodecL.putVolumesDelta(buffer, volumes);
+    buffer.flip();
+    Assertions.assertEquals(
+      volumes, BinaryCodecL.<Object>getPVolumesDelta(buffer, volumes.size()));
+  }
+
+  @Property
+  public void testAreaLDeltaArraysRoundTrip(
+    @ForAll final List<AreaL> areas)
+  {
+    final int count = areas.size();
+    final var x0 = new long[count];
+    final var x1 = new long[count];
+    final var y0 = new long[count];
+    final var y1 = new long[count];
+    for (int index = 0; index < count; ++index) {
+      final var area = areas.get(index);
+      x0[index] = area.minimumX();
+      x1[index] = area.maximumX();
+      y0[index] = area.minimumY();
+      y1[index] = area.maximumY();
+    }
+
+    final var buffer =
+      ByteBuffer.allocate(count * BinaryCodecL.AREA_DELTA_MAXIMUM_SIZE);
+    BinaryCodecL.putAreasDelta(buffer, x0, x1, y0, y1, count);
+    buffer.flip();
+
+    final var copy = buffer.duplicate();
+    Assertions.assertEquals(areas, BinaryCodecL.getAreasDelta(copy, count));
+
+    final var r0 = new long[count];
+    final var r1 = new long[count];
+    final var r2 = new long[count];
+    final var r3 = new long[count];
+    BinaryCodecL.getAreasDelta(buffer, r0, r1, r2, r3, count);
+    Assertions.assertArrayEquals(x0, r0);
+    Assertions.assertArrayEquals(x1, r1);
+    Assertions.assertArrayEquals(y0, r2);
+    Assertions.assertArrayEquals(y1, r3);
+  }
+
+  @Test
+  public void testAreaLDeltaCompact()
+  {
+    final var areas = new ArrayList<AreaL>();
+    for (int y = 0; y < 32; ++y) {
+      for (int x = 0; x < 32; ++x) {
+        areas.add(AreasL.create(1_000_000L + x * 16L, y * 16L, 16L, 16L));
+      }
+    }
+
+    final var buffer =
+      ByteBuffer.allocate(areas.size() * BinaryCodecL.AREA_DELTA_MAXIMUM_SIZE);
+    BinaryCodecL.putAreasDelta(buffer, areas);
+
+    Assertions.assertTrue(
+      buffer.position() < areas.size() * 6,
+      "Encoded size " + buffer.position() + " must be small");
+  }
+
+  @Test
+  public void testDeltaCountNegative()
+  {
+    final var buffer = ByteBuffer.allocate(8);
+    Assertions.assertThrows(
+      PreconditionViolationException.class,
+      () -> BinaryCodecI.getAreasDelta(buffer, -1));
+  }
+
+  @Test
+  public void testDeltaArraysTooShort()
+  {
+    final var buffer = ByteBuffer.allocate(64);
+    final var a = new int[2];
+    final var b = new int[1];
+    Assertions.assertThrows(
+      PreconditionViolationException.class,
+      () -> BinaryCodecI.putAreasDelta(buffer, a, a, a, b, 2));
+  }
+
+  @Property
+  public void testAreaBDRoundTrip(
+    @ForAll final List<AreaBD> areas)
+  {
+    final var buffer = ByteBuffer.allocate(areas.size() * 64);
+
+    BinaryCodecBD.putAreas(buffer, areas);
+    buffer.flip();
+    Assertions.assertEquals(areas, BinaryCodecBD.getAreas(buffer, areas.size()));
+    Assertions.assertFalse(buffer.hasRemaining());
+  }
+
+  @Property
+  public void testVolumeBIRoundTrip(
+    @ForAll final VolumeBI v,
+    @ForAll final PVolumeBI<Object> p)
+  {
+    final var buffer = ByteBuffer.allocate(256);
+
+    BinaryCodecBI.putVolume(buffer, v);
+    BinaryCodecBI.putVolume(buffer, p);
+    buffer.flip();
+    Assertions.assertEquals(v, BinaryCodecBI.getVolume(buffer));
+    Assertions.assertEquals(p, BinaryCodecBI.<Object>getPVolume(buffer));
+  }
+}
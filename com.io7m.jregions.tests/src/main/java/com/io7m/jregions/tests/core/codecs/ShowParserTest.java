@@ -0,0 +1,325 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jregions.tests.core.codecs;
+
+import com.io7m.jregions.core.codecs.ShowParseException;
+import com.io7m.jregions.core.codecs.ShowParserBD;
+import com.io7m.jregions.core.codecs.ShowParserBI;
+import com.io7m.jregions.core.codecs.ShowParserD;
+import com.io7m.jregions.core.codecs.ShowParserF;
+import com.io7m.jregions.core.codecs.ShowParserI;
+import com.io7m.jregions.core.codecs.ShowParserL;
+import com.io7m.jregions.core.unparameterized.areas.AreaBD;
+import com.io7m.jregions.core.unparameterized.areas.AreaBI;
+import com.io7m.jregions.core.unparameterized.areas.AreaD;
+import com.io7m.jregions.core.unparameterized.areas.AreaF;
+import com.io7m.jregions.core.unparameterized.areas.AreaI;
+import com.io7m.jregions.core.unparameterized.areas.AreaL;
+import com.io7m.jregions.core.unparameterized.areas.AreasBD;
+import com.io7m.jregions.core.unparameterized.areas.AreasBI;
+import com.io7m.jregions.core.unparameterized.areas.AreasD;
+import com.io7m.jregions.core.unparameterized.areas.AreasF;
+import com.io7m.jregions.core.unparameterized.areas.AreasI;
+import com.io7m.jregions.core.unparameterized.areas.AreasL;
+import com.io7m.jregions.core.unparameterized.volumes.VolumeBI;
+import com.io7m.jregions.core.unparameterized.volumes.VolumeD;
+import com.io7m.jregions.core.unparameterized.volumes.VolumeI;
+import com.io7m.jregions.core.unparameterized.volumes.VolumeL;
+import com.io7m.jregions.core.unparameterized.volumes.VolumesBI;
+import com.io7m.jregions.core.unparameterized.volumes.VolumesD;
+import com.io7m.jregions.core.unparameterized.volumes.VolumesI;
+import com.io7m.jregions.core.unparameterized.volumes.VolumesL;
+import net.jqwik.api.Assume;
+import net.jqwik.api.ForAll;
+import net.jqwik.api.Property;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+public final class ShowParserTest
+{
+  @Property
+  public void testAreaIRoundTrip(
+    @ForAll final AreaI area)
+  {
+    Assertions.assertEquals(area, ShowParserI.parseArea(AreasI.show(area)));
+  }
+
+  @Property
+  public void testAreaLRoundTrip(
+    @ForAll final AreaL area)
+  {
+    Assertions.assertEquals(area, ShowParserL.parseArea(AreasL.show(area)));
+  }
+
+  @Property
+  public void testAreaFRoundTrip(
+    @ForAll final AreaF area)
+  {
+    final var expected = AreasF.create(
+      area.minimumX(), area.minimumY(), area.sizeX(), area.sizeY());
+    Assertions.assertEquals(expected, ShowParserF.parseArea(AreasF.show(area)));
+  }
+
+  @Property
+  public void testAreaDRoundTrip(
+    @ForAll final AreaD area)
+  {
+    final var expected = AreasD.create(
+      area.minimumX(), area.minimumY(), area.sizeX(), area.sizeY());
+    Assertions.assertEquals(expected, ShowParserD.parseArea(AreasD.show(area)));
+  }
+
+  @Property
+  public void testAreaBIRoundTrip(
+    @ForAll final AreaBI area)
+  {
+    Assertions.assertEquals(area, ShowParserBI.parseArea(AreasBI.show(area)));
+  }
+
+  @Property
+  public void testAreaBDRoundTrip(
+    @ForAll final AreaBD area)
+  {
+    Assertions.assertEquals(area, ShowParserBD.parseArea(AreasBD.show(area)));
+  }
+
+  @Property
+  public void testVolumeIRoundTrip(
+    @ForAll final VolumeI volume)
+  {
+    Assertions.assertEquals(
+      volume, ShowParserI.parseVolume(VolumesI.show(volume)));
+  }
+
+  @Property
+  public void testVolumeLRoundTrip(
+    @ForAll final VolumeL volume)
+  {
+    Assertions.assertEquals(
+      volume, ShowParserL.parseVolume(VolumesL.show(volume)));
+  }
+
+  @Property
+  public void testVolumeDRoundTrip(
+    @ForAll final VolumeD volume)
+  {
+    final var expected = VolumesD.create(
+      volume.minimumX(),
+      volume.minimumY(),
+      volume.minimumZ(),
+      volume.sizeX(),
+      volume.sizeY(),
+      volume.sizeZ());
+    Assertions.assertEquals(
+      expected, ShowParserD.parseVolume(VolumesD.show(volume)));
+  }
+
+  @Property
+  public void testVolumeBIRoundTrip(
+    @ForAll final VolumeBI volume)
+  {
+    Assertions.assertEquals(
+      volume, ShowParserBI.parseVolume(VolumesBI.show(volume)));
+  }
+
+  @Property
+  public void testDoubleExact(
+    @ForAll final double x)
+  {
+    Assume.that(Double.isFinite(x));
+
+    final var text = "0.0x0.0 " + x + "+" + (-x);
+    final var area = ShowParserD.parseArea(text);
+    Assertions.assertEquals(x, area.minimumX());
+    Assertions.assertEquals(-x, area.minimumY());
+  }
+
+  @Property
+  public void testFloatExact(
+    @ForAll final float x)
+  {
+    Assume.that(Float.isFinite(x));
+
+    final var text = "0.0x0.0 " + x + "+" + (-x);
+    final var area = ShowParserF.parseArea(text);
+    Assertions.assertEquals(x, area.minimumX());
+    Assertions.assertEquals(-x, area.minimumY());
+  }
+
+  @Test
+  public void testDecimalForms()
+  {
+    final var area = ShowParserD.parseArea("1e3x0.0000125 -12345678901234567890123+5.5E-3");
+    Assertions.assertEquals(-12345678901234567890123.0, area.minimumX());
+    Assertions.assertEquals(1000.0 - 12345678901234567890123.0, area.maximumX());
+    Assertions.assertEquals(5.5E-3, area.minimumY());
+    Assertions.assertEquals(5.5E-3 + 0.0000125, area.maximumY());
+  }
+
+  @Test
+  public void testBigDecimalExponents()
+  {
+    final var area = ShowParserBD.parseArea("1E+3x2 -1.5E-7+0");
+    Assertions.assertEquals(new BigDecimal("-1.5E-7"), area.minimumX());
+    Assertions.assertEquals(
+      new BigDecimal("-1.5E-7").add(new BigDecimal("1E+3")),
+      area.maximumX());
+    Assertions.assertEquals(new BigDecimal("2"), area.maximumY());
+  }
+
+  @Test
+  public void testIntegerLimits()
+  {
+    final var area = ShowParserI.parseArea("0x2147483647 -2147483648+0");
+    Assertions.assertEquals(Integer.MIN_VALUE, area.minimumX());
+    Assertions.assertEquals(Integer.MAX_VALUE, area.maximumY());
+
+    final var ex = Assertions.assertThrows(
+      ShowParseException.class,
+      () -> ShowParserI.parseArea("0x0 -2147483649+0"));
+    Assertions.assertEquals(4, ex.offset());
+  }
+
+  @Test
+  public void testOverflow()
+  {
+    final var ex = Assertions.assertThrows(
+      ShowParseException.class,
+      () -> ShowParserL.parseArea("1x1 0+9223372036854775807"));
+    Assertions.assertEquals(6, ex.offset());
+  }
+
+  @Test
+  public void testErrorOffsets()
+  {
+    checkError("10y20 5+7", 2);
+    checkError("10x20  5+7", 6);
+    checkError("10x-20 5+7", 3);
+    checkError("10x20 5+", 8);
+    checkError("10x20 5+7 ", 9);
+    checkError("10.5x20 5+7", 2);
+    checkError("", 0);
+  }
+
+  private static void checkError(
+    final String text,
+    final int offset)
+  {
+    final var ex = Assertions.assertThrows(
+      ShowParseException.class,
+      () -> ShowParserI.parseArea(text));
+    Assertions.assertEquals(offset, ex.offset(), ex.getMessage());
+  }
+
+  @Test
+  public void testRangeAndReceiver()
+  {
+    final var text = "junk 3x4 -1+2 junk";
+    final var received = new int[4];
+    final int end = ShowParserI.parseArea(text, 5, text.length(), (x0, x1, y0, y1) -> {
+      received[0] = x0;
+      received[1] = x1;
+      received[2] = y0;
+      received[3] = y1;
+    });
+
+    Assertions.assertEquals(13, end);
+    Assertions.assertArrayEquals(new int[]{-1, 2, 2, 6}, received);
+  }
+
+  @Property
+  public void testAreasBytesAndArrays(
+    @ForAll final List<AreaL> areas)
+  {
+    final var text =
+      areas.stream()
+        .map(AreasL::show)
+        .collect(Collectors.joining("\n", "  ", "\n"));
+    final var bytes = text.getBytes(StandardCharsets.US_ASCII);
+
+    final var results = new ArrayList<AreaL>();
+    final int count = ShowParserL.parseAreas(
+      bytes, 0, bytes.length, (x0, x1, y0, y1) -> {
+        results.add(AreaL.of(x0, x1, y0, y1));
+      });
+    Assertions.assertEquals(areas.size(), count);
+    Assertions.assertEquals(areas, results);
+
+    final int size = areas.size();
+    final var x0 = new long[size];
+    final var x1 = new long[size];
+    final var y0 = new long[size];
+    final var y1 = new long[size];
+    Assertions.assertEquals(
+      size,
+      ShowParserL.parseAreas(
+        CharBuffer.wrap(text), 0, text.length(), x0, x1, y0, y1));
+
+    for (int index = 0; index < size; ++index) {
+      Assertions.assertEquals(
+        areas.get(index), AreaL.of(x0[index], x1[index], y0[index], y1[index]));
+    }
+  }
+
+  @Test
+  public void testAreasTooMany()
+  {
+    final var text = "1x1 0+0 1x1 1+1 1x1 2+2";
+    final var a = new int[2];
+    final var ex = Assertions.assertThrows(
+      ShowParseException.class,
+      () -> ShowParserI.parseAreas(text, 0, text.length(), a, a, a, a));
+    Assertions.assertEquals(16, ex.offset());
+  }
+
+  @Test
+  public void testAreasSeparator()
+  {
+    final var text = "1x1 0+0,1x1 1+1";
+    final var ex = Assertions.assertThrows(
+      ShowParseException.class,
+      () -> ShowParserI.parseAreas(text, 0, text.length(), (a, b, c, d) -> {
+      }));
+    Assertions.assertEquals(7, ex.offset());
+  }
+
+  @Test
+  public void testVolumesBytes()
+  {
+    final var text = "1x2x3 4+5+6\t7x8x9 -1+-2+-3";
+    final var bytes = text.getBytes(StandardCharsets.US_ASCII);
+    final var results = new ArrayList<VolumeI>();
+    final int count = ShowParserI.parseVolumes(
+      bytes, 0, bytes.length, (x0, x1, y0, y1, z0, z1) -> {
+        results.add(VolumeI.of(x0, x1, y0, y1, z0, z1));
+      });
+
+    Assertions.assertEquals(2, count);
+    Assertions.assertEquals(
+      List.of(
+        VolumesI.create(4, 5, 6, 1, 2, 3),
+        VolumesI.create(-1, -2, -3, 7, 8, 9)),
+      results);
+  }
+}
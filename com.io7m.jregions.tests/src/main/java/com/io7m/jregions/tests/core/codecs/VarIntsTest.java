@@ -0,0 +1,205 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jregions.tests.core.codecs;
+
+import com.io7m.jaffirm.core.PreconditionViolationException;
+import com.io7m.jregions.core.codecs.VarInts;
+import net.jqwik.api.ForAll;
+import net.jqwik.api.Property;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+
+public final class VarIntsTest
+{
+  @Property
+  public void testZigZagIntIdentity(
+    @ForAll final int x)
+  {
+    Assertions.assertEquals(
+      x, VarInts.zigZagDecodeInt(VarInts.zigZagEncodeInt(x)));
+  }
+
+  @Property
+  public void testZigZagLongIdentity(
+    @ForAll final long x)
+  {
+    Assertions.assertEquals(
+      x, VarInts.zigZagDecodeLong(VarInts.zigZagEncodeLong(x)));
+  }
+
+  @Test
+  public void testZigZagSmallMagnitudes()
+  {
+    Assertions.assertEquals(0, VarInts.zigZagEncodeInt(0));
+    Assertions.assertEquals(1, VarInts.zigZagEncodeInt(-1));
+    Assertions.assertEquals(2, VarInts.zigZagEncodeInt(1));
+    Assertions.assertEquals(3, VarInts.zigZagEncodeInt(-2));
+    Assertions.assertEquals(-1, VarInts.zigZagEncodeInt(Integer.MIN_VALUE));
+    Assertions.assertEquals(-1L, VarInts.zigZagEncodeLong(Long.MIN_VALUE));
+  }
+
+  @Property
+  public void testZigZagIntRoundTrip(
+    @ForAll final int x)
+  {
+    final var buffer = ByteBuffer.allocate(VarInts.MAXIMUM_INT_BYTES);
+    VarInts.putZigZagInt(buffer, x);
+    buffer.flip();
+    Assertions.assertEquals(x, VarInts.getZigZagInt(buffer));
+    Assertions.assertFalse(buffer.hasRemaining());
+  }
+
+  @Property
+  public void testZigZagLongRoundTrip(
+    @ForAll final long x)
+  {
+    final var buffer = ByteBuffer.allocate(VarInts.MAXIMUM_LONG_BYTES);
+    VarInts.putZigZagLong(buffer, x);
+    buffer.flip();
+    Assertions.assertEquals(x, VarInts.getZigZagLong(buffer));
+    Assertions.assertFalse(buffer.hasRemaining());
+  }
+
+  @Test
+  public void testVarIntSizes()
+  {
+    Assertions.assertEquals(1, sizeOfInt(0));
+    Assertions.assertEquals(1, sizeOfInt(127));
+    Assertions.assertEquals(2, sizeOfInt(128));
+    Assertions.assertEquals(5, sizeOfInt(-1));
+    Assertions.assertEquals(1, sizeOfLong(0L));
+    Assertions.assertEquals(10, sizeOfLong(-1L));
+    Assertions.assertEquals(9, sizeOfLong(Long.MAX_VALUE));
+  }
+
+  @Test
+  public void testVarIntOverlong()
+  {
+    final var buffer = ByteBuffer.allocate(16);
+    for (int index = 0; index < 16; ++index) {
+      buffer.put(index, (byte) 0x80);
+    }
+
+    Assertions.assertThrows(
+      PreconditionViolationException.class,
+      () -> VarInts.getVarInt(buffer.duplicate()));
+    Assertions.assertThrows(
+      PreconditionViolationException.class,
+      () -> VarInts.getVarLong(buffer.duplicate()));
+  }
+
+  @Test
+  public void testVarIntTruncated()
+  {
+    final var buffer = ByteBuffer.allocate(2);
+    buffer.put(0, (byte) 0x80);
+    buffer.put(1, (byte) 0x80);
+
+    Assertions.assertThrows(
+      BufferUnderflowException.class,
+      () -> VarInts.getVarInt(buffer));
+  }
+
+  @Property
+  public void testBigIntegerRoundTrip(
+    @ForAll final long x,
+    @ForAll final long y)
+  {
+    final var value =
+      BigInteger.valueOf(x).multiply(BigInteger.valueOf(y)).shiftLeft(3);
+
+    final var buffer = ByteBuffer.allocate(64);
+    VarInts.putBigInteger(buffer, value);
+    VarInts.putBigInteger(buffer, BigInteger.valueOf(x));
+    buffer.flip();
+    Assertions.assertEquals(value, VarInts.getBigInteger(buffer));
+    Assertions.assertEquals(BigInteger.valueOf(x), VarInts.getBigInteger(buffer));
+    Assertions.assertFalse(buffer.hasRemaining());
+  }
+
+  @Test
+  public void testBigIntegerEdges()
+  {
+    final var values = new BigInteger[]{
+      BigInteger.ZERO,
+      BigInteger.ONE,
+      BigInteger.ONE.negate(),
+      BigInteger.valueOf(Long.MAX_VALUE),
+      BigInteger.valueOf(Long.MIN_VALUE),
+      BigInteger.valueOf(Long.MAX_VALUE).add(BigInteger.ONE),
+      BigInteger.valueOf(Long.MIN_VALUE).subtract(BigInteger.ONE),
+    };
+
+    final var buffer = ByteBuffer.allocate(128);
+    for (final var value : values) {
+      VarInts.putBigInteger(buffer, value);
+    }
+    buffer.flip();
+    for (final var value : values) {
+      Assertions.assertEquals(value, VarInts.getBigInteger(buffer));
+    }
+  }
+
+  @Test
+  public void testBigIntegerBadLength()
+  {
+    final var buffer = ByteBuffer.allocate(8);
+    VarInts.putVarInt(buffer, 100);
+    buffer.flip();
+
+    Assertions.assertThrows(
+      PreconditionViolationException.class,
+      () -> VarInts.getBigInteger(buffer));
+  }
+
+  @Property
+  public void testBigDecimalRoundTrip(
+    @ForAll final long x,
+    @ForAll final int scale)
+  {
+    final var value = BigDecimal.valueOf(x, scale);
+
+    final var buffer = ByteBuffer.allocate(32);
+    VarInts.putBigDecimal(buffer, value);
+    buffer.flip();
+
+    final var result = VarInts.getBigDecimal(buffer);
+    Assertions.assertEquals(value, result);
+    Assertions.assertEquals(value.scale(), result.scale());
+  }
+
+  private static int sizeOfInt(
+    final int x)
+  {
+    final var buffer = ByteBuffer.allocate(VarInts.MAXIMUM_INT_BYTES);
+    VarInts.putVarInt(buffer, x);
+    return buffer.position();
+  }
+
+  private static int sizeOfLong(
+    final long x)
+  {
+    final var buffer = ByteBuffer.allocate(VarInts.MAXIMUM_LONG_BYTES);
+    VarInts.putVarLong(buffer, x);
+    return buffer.position();
+  }
+}
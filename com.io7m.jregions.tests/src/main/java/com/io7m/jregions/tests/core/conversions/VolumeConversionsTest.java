@@ -0,0 +1,121 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABDLITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jregions.tests.core.conversions;
+
+import com.io7m.jregions.core.conversions.VolumeConversions;
+import com.io7m.jregions.core.parameterized.volumes.PVolumeBD;
+import com.io7m.jregions.core.parameterized.volumes.PVolumeBI;
+import com.io7m.jregions.core.parameterized.volumes.PVolumeD;
+import com.io7m.jregions.core.parameterized.volumes.PVolumeF;
+import com.io7m.jregions.core.parameterized.volumes.PVolumeI;
+import com.io7m.jregions.core.parameterized.volumes.PVolumeL;
+import net.jqwik.api.ForAll;
+import net.jqwik.api.Property;
+import org.junit.jupiter.api.Assertions;
+
+public final class VolumeConversionsTest
+{
+  @Property
+  public void testIdentityL0(
+    final @ForAll PVolumeL<Object> a0)
+  {
+    final var a1 = VolumeConversions.toVolumeL(a0);
+    Assertions.assertEquals(a0.minimumX(), a1.minimumX());
+    Assertions.assertEquals(a0.minimumY(), a1.minimumY());
+    Assertions.assertEquals(a0.minimumZ(), a1.minimumZ());
+    Assertions.assertEquals(a0.maximumX(), a1.maximumX());
+    Assertions.assertEquals(a0.maximumY(), a1.maximumY());
+    Assertions.assertEquals(a0.maximumZ(), a1.maximumZ());
+    final var a2 = VolumeConversions.<Object>toPVolumeL(a1);
+    Assertions.assertEquals(a0, a2);
+  }
+
+  @Property
+  public void testIdentityI0(
+    final @ForAll PVolumeI<Object> a0)
+  {
+    final var a1 = VolumeConversions.toVolumeI(a0);
+    Assertions.assertEquals(a0.minimumX(), a1.minimumX());
+    Assertions.assertEquals(a0.minimumY(), a1.minimumY());
+    Assertions.assertEquals(a0.minimumZ(), a1.minimumZ());
+    Assertions.assertEquals(a0.maximumX(), a1.maximumX());
+    Assertions.assertEquals(a0.maximumY(), a1.maximumY());
+    Assertions.assertEquals(a0.maximumZ(), a1.maximumZ());
+    final var a2 = VolumeConversions.<Object>toPVolumeI(a1);
+    Assertions.assertEquals(a0, a2);
+  }
+
+  @Property
+  public void testIdentityBD0(
+    final @ForAll PVolumeBD<Object> a0)
+  {
+    final var a1 = VolumeConversions.toVolumeBD(a0);
+    Assertions.assertEquals(a0.minimumX(), a1.minimumX());
+    Assertions.assertEquals(a0.minimumY(), a1.minimumY());
+    Assertions.assertEquals(a0.minimumZ(), a1.minimumZ());
+    Assertions.assertEquals(a0.maximumX(), a1.maximumX());
+    Assertions.assertEquals(a0.maximumY(), a1.maximumY());
+    Assertions.assertEquals(a0.maximumZ(), a1.maximumZ());
+    final var a2 = VolumeConversions.<Object>toPVolumeBD(a1);
+    Assertions.assertEquals(a0, a2);
+  }
+
+  @Property
+  public void testIdentityBI0(
+    final @ForAll PVolumeBI<Object> a0)
+  {
+    final var a1 = VolumeConversions.toVolumeBI(a0);
+    Assertions.assertEquals(a0.minimumX(), a1.minimumX());
+    Assertions.assertEquals(a0.minimumY(), a1.minimumY());
+    Assertions.assertEquals(a0.minimumZ(), a1.minimumZ());
+    Assertions.assertEquals(a0.maximumX(), a1.maximumX());
+    Assertions.assertEquals(a0.maximumY(), a1.maximumY());
+    Assertions.assertEquals(a0.maximumZ(), a1.maximumZ());
+    final var a2 = VolumeConversions.<Object>toPVolumeBI(a1);
+    Assertions.assertEquals(a0, a2);
+  }
+
+  @Property
+  public void testIdentityD0(
+    final @ForAll PVolumeD<Object> a0)
+  {
+    final var a1 = VolumeConversions.toVolumeD(a0);
+    Assertions.assertEquals(a0.minimumX(), a1.minimumX(), 0.0);
+    Assertions.assertEquals(a0.minimumY(), a1.minimumY(), 0.0);
+    Assertions.assertEquals(a0.minimumZ(), a1.minimumZ(), 0.0);
+    Assertions.assertEquals(a0.maximumX(), a1.maximumX(), 0.0);
+    Assertions.assertEquals(a0.maximumY(), a1.maximumY(), 0.0);
+    Assertions.assertEquals(a0.maximumZ(), a1.maximumZ(), 0.0);
+    final var a2 = VolumeConversions.<Object>toPVolumeD(a1);
+    Assertions.assertEquals(a0, a2);
+  }
+
+  @Property
+  public void testIdentityF0(
+    final @ForAll PVolumeF<Object> a0)
+  {
+    final var a1 = VolumeConversions.toVolumeF(a0);
+    Assertions.assertEquals(a0.minimumX(), a1.minimumX(), 0.0);
+    Assertions.assertEquals(a0.minimumY(), a1.minimumY(), 0.0);
+    Assertions.assertEquals(a0.minimumZ(), a1.minimumZ(), 0.0);
+    Assertions.assertEquals(a0.maximumX(), a1.maximumX(), 0.0);
+    Assertions.assertEquals(a0.maximumY(), a1.maximumY(), 0.0);
+    Assertions.assertEquals(a0.maximumZ(), a1.maximumZ(), 0.0);
+    final var a2 = VolumeConversions.<Object>toPVolumeF(a1);
+    Assertions.assertEquals(a0, a2);
+  }
+}
@@ -0,0 +1,269 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jregions.tests.core.index;
+
+import com.io7m.jaffirm.core.PreconditionViolationException;
+import com.io7m.jregions.core.unparameterized.areas.AreaL;
+import com.io7m.jregions.core.unparameterized.areas.AreasL;
+import com.io7m.jregions.core.unparameterized.index.AreaPackedRTreeL;
+import net.jqwik.api.ForAll;
+import net.jqwik.api.Property;
+import net.jqwik.api.constraints.IntRange;
+import net.jqwik.api.constraints.LongRange;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+public final class AreaPackedRTreeTest
+{
+  private static Set<Integer> bruteForce(
+    final List<AreaL> areas,
+    final Predicate<AreaL> predicate)
+  {
+    return IntStream.range(0, areas.size())
+      .filter(index -> predicate.test(areas.get(index)))
+      .boxed()
+      .collect(Collectors.toSet());
+  }
+
+  private static Set<Integer> indices(
+    final int[] indices)
+  {
+    final var results =
+      Arrays.stream(indices).boxed().collect(Collectors.toSet());
+    Assertions.assertEquals(indices.length, results.size());
+    return results;
+  }
+
+  private static List<AreaL> grid(
+    final int count)
+  {
+    final var results = new ArrayList<AreaL>(count * count);
+    for (int y = 0; y < count; ++y) {
+      for (int x = 0; x < count; ++x) {
+        results.add(AreasL.create(x * 10L, y * 10L, 10L, 10L));
+      }
+    }
+    return results;
+  }
+
+  @Test
+  public void testEmpty()
+  {
+    final var tree = AreaPackedRTreeL.create(List.of());
+    Assertions.assertTrue(tree.isEmpty());
+    Assertions.assertEquals(0, tree.size());
+    Assertions.assertEquals(
+      AreaPackedRTreeL.DEFAULT_NODE_CAPACITY,
+      tree.nodeCapacity());
+    Assertions.assertEquals(
+      0, tree.overlapping(AreasL.create(0L, 0L, 10L, 10L)).length);
+    Assertions.assertEquals(0, tree.containingPoint(0L, 0L).length);
+
+    final var copy = AreaPackedRTreeL.wrap(tree.buffer());
+    Assertions.assertTrue(copy.isEmpty());
+  }
+
+  @Test
+  public void testSingle()
+  {
+    final var tree =
+      AreaPackedRTreeL.create(List.of(AreasL.create(10L, 10L, 10L, 10L)));
+    Assertions.assertArrayEquals(new int[]{0}, tree.containingPoint(15L, 15L));
+    Assertions.assertArrayEquals(new int[0], tree.containingPoint(20L, 20L));
+  }
+
+  @Test
+  public void testNodeCapacityInvalid()
+  {
+    Assertions.assertThrows(PreconditionViolationException.class, () -> {
+      AreaPackedRTreeL.create(List.of(), 1);
+    });
+  }
+
+  @Test
+  public void testCountInvalid()
+  {
+    Assertions.assertThrows(PreconditionViolationException.class, () -> {
+      AreaPackedRTreeL.create(
+        new long[1], new long[1], new long[1], new long[1], 2, 4);
+    });
+  }
+
+  @Test
+  public void testEdgesInvalid()
+  {
+    Assertions.assertThrows(PreconditionViolationException.class, () -> {
+      AreaPackedRTreeL.create(
+        new long[]{10L}, new long[]{0L}, new long[1], new long[1], 1, 4);
+    });
+  }
+
+  @Test
+  public void testWrapInvalid()
+  {
+    Assertions.assertThrows(PreconditionViolationException.class, () -> {
+      AreaPackedRTreeL.wrap(ByteBuffer.allocate(8));
+    });
+    Assertions.assertThrows(PreconditionViolationException.class, () -> {
+      AreaPackedRTreeL.wrap(ByteBuffer.allocate(AreaPackedRTreeL.HEADER_SIZE));
+    });
+
+    final var tree = AreaPackedRTreeL.create(grid(4));
+    final var source = tree.buffer();
+    final var truncated = ByteBuffer.allocate(source.capacity() - 8);
+    truncated.order(source.order());
+    truncated.put(source.slice(0, truncated.capacity()));
+    Assertions.assertThrows(PreconditionViolationException.class, () -> {
+      AreaPackedRTreeL.wrap(truncated);
+    });
+
+    final var swapped = ByteBuffer.allocate(source.capacity());
+    swapped.put(source.duplicate().clear());
+    swapped.order(
+      source.order() == ByteOrder.BIG_ENDIAN
+        ? ByteOrder.LITTLE_ENDIAN
+        : ByteOrder.BIG_ENDIAN);
+    Assertions.assertThrows(PreconditionViolationException.class, () -> {
+      AreaPackedRTreeL.wrap(swapped);
+    });
+  }
+
+  @Test
+  public void testGrid()
+  {
+    final var areas = grid(100);
+    final var tree = AreaPackedRTreeL.create(areas, 4);
+    Assertions.assertEquals(10000, tree.size());
+
+    for (int index = 0; index < areas.size(); index += 97) {
+      final var area = areas.get(index);
+      Assertions.assertArrayEquals(
+        new int[]{index},
+        tree.containingPoint(area.minimumX() + 5L, area.minimumY() + 5L));
+    }
+
+    Assertions.assertEquals(
+      Set.of(0, 1, 100, 101),
+      indices(tree.overlapping(AreasL.create(5L, 5L, 10L, 10L))));
+  }
+
+  @Test
+  public void testZeroSizedOverlapping()
+  {
+    final var areas = new ArrayList<>(grid(10));
+    areas.add(AreaL.of(100L, 100L, 100L, 100L));
+    final var tree = AreaPackedRTreeL.create(areas, 2);
+    final var query = AreaL.of(100L, 100L, 100L, 100L);
+    Assertions.assertEquals(
+      bruteForce(areas, a -> AreasL.overlaps(a, query)),
+      indices(tree.overlapping(query)));
+  }
+
+  @Property
+  public void testOverlapping(
+    final @ForAll List<AreaL> areas,
+    final @ForAll AreaL query,
+    final @ForAll @IntRange(min = 2, max = 32) int capacity)
+  {
+    final var tree = AreaPackedRTreeL.create(areas, capacity);
+    Assertions.assertEquals(
+      bruteForce(areas, a -> AreasL.overlaps(a, query)),
+      indices(tree.overlapping(query)));
+  }
+
+  @Property
+  public void testContainedBy(
+    final @ForAll List<AreaL> areas,
+    final @ForAll AreaL query,
+    final @ForAll @IntRange(min = 2, max = 32) int capacity)
+  {
+    final var tree = AreaPackedRTreeL.create(areas, capacity);
+    Assertions.assertEquals(
+      bruteForce(areas, a -> AreasL.contains(query, a)),
+      indices(tree.containedBy(query)));
+  }
+
+  @Property
+  public void testContaining(
+    final @ForAll List<AreaL> areas,
+    final @ForAll AreaL query,
+    final @ForAll @IntRange(min = 2, max = 32) int capacity)
+  {
+    final var tree = AreaPackedRTreeL.create(areas, capacity);
+    Assertions.assertEquals(
+      bruteForce(areas, a -> AreasL.contains(a, query)),
+      indices(tree.containing(query)));
+  }
+
+  @Property
+  public void testContainingPoint(
+    final @ForAll List<AreaL> areas,
+    final @ForAll @LongRange(min = 0L, max = 10000L) long x,
+    final @ForAll @LongRange(min = 0L, max = 10000L) long y,
+    final @ForAll @IntRange(min = 2, max = 32) int capacity)
+  {
+    final var tree = AreaPackedRTreeL.create(areas, capacity);
+    Assertions.assertEquals(
+      bruteForce(areas, a -> AreasL.containsPoint(a, x, y)),
+      indices(tree.containingPoint(x, y)));
+  }
+
+  @Property
+  public void testOverlappingAreas(
+    final @ForAll List<AreaL> areas,
+    final @ForAll AreaL query)
+  {
+    final var tree = AreaPackedRTreeL.create(areas);
+    final var found = new ArrayList<Integer>();
+    tree.overlappingAreas(query, (area, index) -> {
+      Assertions.assertEquals(areas.get(index), area);
+      found.add(Integer.valueOf(index));
+    });
+    Assertions.assertEquals(indices(tree.overlapping(query)), Set.copyOf(found));
+  }
+
+  @Property
+  public void testWrapCopy(
+    final @ForAll List<AreaL> areas,
+    final @ForAll AreaL query,
+    final @ForAll @IntRange(min = 2, max = 32) int capacity)
+  {
+    final var tree = AreaPackedRTreeL.create(areas, capacity);
+
+    final var source = tree.buffer();
+    final var bytes = new byte[source.capacity()];
+    source.get(0, bytes);
+
+    final var copy =
+      AreaPackedRTreeL.wrap(ByteBuffer.wrap(bytes).order(source.order()));
+    Assertions.assertEquals(tree.size(), copy.size());
+    Assertions.assertEquals(tree.nodeCapacity(), copy.nodeCapacity());
+    Assertions.assertArrayEquals(
+      tree.overlapping(query),
+      copy.overlapping(query));
+  }
+}
@@ -0,0 +1,246 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jregions.tests.core.index;
+
+import com.io7m.jaffirm.core.PreconditionViolationException;
+import com.io7m.jregions.core.parameterized.areas.PAreaI;
+import com.io7m.jregions.core.parameterized.areas.PAreasI;
+import com.io7m.jregions.core.parameterized.index.PAreaRTreeI;
+import com.io7m.jregions.core.unparameterized.areas.AreaD;
+import com.io7m.jregions.core.unparameterized.areas.AreaF;
+import com.io7m.jregions.core.unparameterized.areas.AreaI;
+import com.io7m.jregions.core.unparameterized.areas.AreaL;
+import com.io7m.jregions.core.unparameterized.areas.AreasD;
+import com.io7m.jregions.core.unparameterized.areas.AreasF;
+import com.io7m.jregions.core.unparameterized.areas.AreasI;
+import com.io7m.jregions.core.unparameterized.areas.AreasL;
+import com.io7m.jregions.core.unparameterized.index.AreaRTreeD;
+import com.io7m.jregions.core.unparameterized.index.AreaRTreeF;
+import com.io7m.jregions.core.unparameterized.index.AreaRTreeI;
+import com.io7m.jregions.core.unparameterized.index.AreaRTreeL;
+import net.jqwik.api.ForAll;
+import net.jqwik.api.Property;
+import net.jqwik.api.constraints.IntRange;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+public final class AreaRTreeTest
+{
+  private static <T> Set<T> bruteForce(
+    final List<T> values,
+    final Predicate<T> predicate)
+  {
+    return values.stream()
+      .filter(predicate)
+      .collect(Collectors.toSet());
+  }
+
+  private static List<AreaI> gridI(
+    final int count)
+  {
+    final var results = new ArrayList<AreaI>(count * count);
+    for (int y = 0; y < count; ++y) {
+      for (int x = 0; x < count; ++x) {
+        results.add(AreasI.create(x * 10, y * 10, 10, 10));
+      }
+    }
+    return results;
+  }
+
+  @Test
+  public void testEmpty()
+  {
+    final var tree =
+      AreaRTreeI.create(List.<AreaI>of(), Function.identity());
+
+    Assertions.assertTrue(tree.isEmpty());
+    Assertions.assertEquals(0, tree.size());
+    Assertions.assertEquals(List.of(), tree.overlapping(AreaI.of(0, 10, 0, 10)));
+    Assertions.assertEquals(List.of(), tree.containedBy(AreaI.of(0, 10, 0, 10)));
+    Assertions.assertEquals(List.of(), tree.containing(AreaI.of(0, 10, 0, 10)));
+    Assertions.assertEquals(List.of(), tree.containingPoint(0, 0));
+  }
+
+  @Test
+  public void testNodeCapacityInvalid()
+  {
+    Assertions.assertThrows(PreconditionViolationException.class, () -> {
+      AreaRTreeI.create(List.<AreaI>of(), Function.identity(), 1);
+    });
+  }
+
+  @Test
+  public void testGridPoint()
+  {
+    final var areas = gridI(100);
+    final var tree = AreaRTreeI.create(areas, Function.identity(), 4);
+
+    Assertions.assertEquals(10000, tree.size());
+    Assertions.assertEquals(
+      List.of(AreaI.of(230, 240, 470, 480)),
+      tree.containingPoint(235, 479));
+    Assertions.assertEquals(
+      List.of(AreaI.of(0, 10, 0, 10)),
+      tree.containingPoint(0, 0));
+    Assertions.assertEquals(
+      List.of(),
+      tree.containingPoint(1000, 0));
+  }
+
+  @Test
+  public void testGridOverlapping()
+  {
+    final var areas = gridI(100);
+    final var tree = AreaRTreeI.create(areas, Function.identity(), 4);
+    final var query = AreaI.of(15, 35, 15, 25);
+
+    final var found = Set.copyOf(tree.overlapping(query));
+    Assertions.assertEquals(6, found.size());
+    Assertions.assertEquals(
+      bruteForce(areas, a -> AreasI.overlaps(a, query)),
+      found);
+  }
+
+  @Test
+  public void testZeroSizedOverlapping()
+  {
+    final var areas = new ArrayList<>(gridI(10));
+    final var empty = AreaI.of(100, 100, 100, 100);
+    areas.add(empty);
+
+    final var tree = AreaRTreeI.create(areas, Function.identity(), 2);
+    final var query = AreaI.of(100, 101, 100, 101);
+
+    Assertions.assertTrue(AreasI.overlaps(empty, query));
+    Assertions.assertEquals(List.of(empty), tree.overlapping(query));
+    Assertions.assertEquals(List.of(empty), tree.containedBy(query));
+  }
+
+  @Property
+  public void testOverlappingI(
+    final @ForAll List<AreaI> areas,
+    final @ForAll AreaI query,
+    final @ForAll @IntRange(min = 2, max = 32) int capacity)
+  {
+    final var tree = AreaRTreeI.create(areas, Function.identity(), capacity);
+    Assertions.assertEquals(
+      bruteForce(areas, a -> AreasI.overlaps(a, query)),
+      Set.copyOf(tree.overlapping(query)));
+  }
+
+  @Property
+  public void testContainedByI(
+    final @ForAll List<AreaI> areas,
+    final @ForAll AreaI query,
+    final @ForAll @IntRange(min = 2, max = 32) int capacity)
+  {
+    final var tree = AreaRTreeI.create(areas, Function.identity(), capacity);
+    Assertions.assertEquals(
+      bruteForce(areas, a -> AreasI.contains(query, a)),
+      Set.copyOf(tree.containedBy(query)));
+  }
+
+  @Property
+  public void testContainingI(
+    final @ForAll List<AreaI> areas,
+    final @ForAll AreaI query,
+    final @ForAll @IntRange(min = 2, max = 32) int capacity)
+  {
+    final var tree = AreaRTreeI.create(areas, Function.identity(), capacity);
+    Assertions.assertEquals(
+      bruteForce(areas, a -> AreasI.contains(a, query)),
+      Set.copyOf(tree.containing(query)));
+  }
+
+  @Property
+  public void testContainingPointI(
+    final @ForAll List<AreaI> areas,
+    final @ForAll @IntRange(min = 0, max = 10000) int x,
+    final @ForAll @IntRange(min = 0, max = 10000) int y,
+    final @ForAll @IntRange(min = 2, max = 32) int capacity)
+  {
+    final var tree = AreaRTreeI.create(areas, Function.identity(), capacity);
+    Assertions.assertEquals(
+      bruteForce(areas, a -> AreasI.containsPoint(a, x, y)),
+      Set.copyOf(tree.containingPoint(x, y)));
+  }
+
+  @Property
+  public void testOverlappingL(
+    final @ForAll List<AreaL> areas,
+    final @ForAll AreaL query)
+  {
+    final var tree = AreaRTreeL.create(areas, Function.identity(), 4);
+    Assertions.assertEquals(
+      bruteForce(areas, a -> AreasL.overlaps(a, query)),
+      Set.copyOf(tree.overlapping(query)));
+    Assertions.assertEquals(
+      bruteForce(areas, a -> AreasL.contains(query, a)),
+      Set.copyOf(tree.containedBy(query)));
+  }
+
+  @Property
+  public void testOverlappingF(
+    final @ForAll List<AreaF> areas,
+    final @ForAll AreaF query)
+  {
+    final var tree = AreaRTreeF.create(areas, Function.identity(), 4);
+    Assertions.assertEquals(
+      bruteForce(areas, a -> AreasF.overlaps(a, query)),
+      Set.copyOf(tree.overlapping(query)));
+    Assertions.assertEquals(
+      bruteForce(areas, a -> AreasF.contains(query, a)),
+      Set.copyOf(tree.containedBy(query)));
+  }
+
+  @Property
+  public void testOverlappingD(
+    final @ForAll List<AreaD> areas,
+    final @ForAll AreaD query)
+  {
+    final var tree = AreaRTreeD.create(areas, Function.identity(), 4);
+    Assertions.assertEquals(
+      bruteForce(areas, a -> AreasD.overlaps(a, query)),
+      Set.copyOf(tree.overlapping(query)));
+    Assertions.assertEquals(
+      bruteForce(areas, a -> AreasD.contains(query, a)),
+      Set.copyOf(tree.containedBy(query)));
+  }
+
+  @Property
+  public void testOverlappingPI(
+    final @ForAll List<PAreaI<Object>> areas,
+    final @ForAll PAreaI<Object> query)
+  {
+    final PAreaRTreeI<Object, PAreaI<Object>> tree =
+      PAreaRTreeI.create(areas, Function.identity(), 4);
+
+    Assertions.assertEquals(
+      bruteForce(areas, a -> PAreasI.overlaps(a, query)),
+      Set.copyOf(tree.overlapping(query)));
+    Assertions.assertEquals(
+      bruteForce(areas, a -> PAreasI.contains(a, query)),
+      Set.copyOf(tree.containing(query)));
+  }
+}
@@ -0,0 +1,376 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jregions.tests.core.index;
+
+import com.io7m.jaffirm.core.PreconditionViolationException;
+import com.io7m.jregions.core.unparameterized.areas.AreaD;
+import com.io7m.jregions.core.unparameterized.areas.AreaF;
+import com.io7m.jregions.core.unparameterized.areas.AreaI;
+import com.io7m.jregions.core.unparameterized.areas.AreaL;
+import com.io7m.jregions.core.unparameterized.areas.AreasF;
+import com.io7m.jregions.core.unparameterized.areas.AreasI;
+import com.io7m.jregions.core.unparameterized.index.AreaSpatialHashD;
+import com.io7m.jregions.core.unparameterized.index.AreaSpatialHashF;
+import com.io7m.jregions.core.unparameterized.index.AreaSpatialHashI;
+import com.io7m.jregions.core.unparameterized.index.AreaSpatialHashL;
+import net.jqwik.api.ForAll;
+import net.jqwik.api.Property;
+import net.jqwik.api.constraints.IntRange;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+public final class AreaSpatialHashTest
+{
+  private static Set<Integer> bruteForce(
+    final List<AreaI> areas,
+    final Predicate<AreaI> predicate)
+  {
+    final var results = new ArrayList<Integer>();
+    for (int index = 0; index < areas.size(); ++index) {
+      final var area = areas.get(index);
+      if (area != null && predicate.test(area)) {
+        results.add(Integer.valueOf(index));
+      }
+    }
+    return Set.copyOf(results);
+  }
+
+  private static AreaSpatialHashI<Integer> hashI(
+    final List<AreaI> areas,
+    final int cellSize)
+  {
+    final var hash = AreaSpatialHashI.<Integer>create(cellSize);
+    for (int index = 0; index < areas.size(); ++index) {
+      Assertions.assertEquals(
+        index,
+        hash.insert(Integer.valueOf(index), areas.get(index)));
+    }
+    return hash;
+  }
+
+  @Test
+  public void testEmpty()
+  {
+    final var hash = AreaSpatialHashI.<Integer>create(16);
+
+    Assertions.assertTrue(hash.isEmpty());
+    Assertions.assertEquals(0, hash.size());
+    Assertions.assertEquals(16, hash.cellSize());
+    Assertions.assertEquals(List.of(), hash.overlapping(AreaI.of(0, 100, 0, 100)));
+    Assertions.assertEquals(List.of(), hash.containingPoint(0, 0));
+  }
+
+  @Test
+  public void testCellSizeInvalid()
+  {
+    Assertions.assertThrows(PreconditionViolationException.class, () -> {
+      AreaSpatialHashI.create(0);
+    });
+    Assertions.assertThrows(PreconditionViolationException.class, () -> {
+      AreaSpatialHashF.create(Float.NaN);
+    });
+  }
+
+  @Test
+  public void testInvalidHandle()
+  {
+    final var hash = AreaSpatialHashI.<String>create(16);
+    final var handle = hash.insert("a", AreaI.of(0, 10, 0, 10));
+    hash.remove(handle);
+
+    Assertions.assertThrows(PreconditionViolationException.class, () -> {
+      hash.remove(handle);
+    });
+    Assertions.assertThrows(PreconditionViolationException.class, () -> {
+      hash.update(handle, AreaI.of(0, 10, 0, 10));
+    });
+    Assertions.assertThrows(PreconditionViolationException.class, () -> {
+      hash.value(-1);
+    });
+  }
+
+  @Test
+  public void testNegativeCoordinates()
+  {
+    final var hash = AreaSpatialHashI.<String>create(10);
+    final var area = AreaI.of(-15, -5, -25, -10);
+    final var handle = hash.insert("a", area);
+
+    Assertions.assertEquals(area, hash.area(handle));
+    Assertions.assertEquals(List.of("a"), hash.containingPoint(-15, -25));
+    Assertions.assertEquals(List.of("a"), hash.containingPoint(-6, -11));
+    Assertions.assertEquals(List.of(), hash.containingPoint(-5, -11));
+    Assertions.assertEquals(List.of("a"), hash.overlapping(AreaI.of(-6, -5, -11, -10)));
+    Assertions.assertEquals(List.of(), hash.overlapping(AreaI.of(-5, 0, -10, 0)));
+  }
+
+  @Test
+  public void testZeroSized()
+  {
+    final var hash = AreaSpatialHashI.<String>create(10);
+    final var empty = AreaI.of(20, 20, 20, 20);
+    hash.insert("e", empty);
+
+    Assertions.assertEquals(List.of("e"), hash.overlapping(AreaI.of(20, 21, 20, 21)));
+    Assertions.assertEquals(List.of("e"), hash.overlapping(AreaI.of(20, 20, 20, 20)));
+    Assertions.assertEquals(List.of(), hash.containingPoint(20, 20));
+  }
+
+  @Test
+  public void testExtremeEdges()
+  {
+    final var hash = AreaSpatialHashL.<String>create(1000L);
+    final var edge = AreaL.of(Long.MAX_VALUE - 10L, Long.MAX_VALUE, 0L, 10L);
+    hash.insert("edge", edge);
+
+    Assertions.assertEquals(
+      List.of("edge"),
+      hash.overlapping(AreaL.of(Long.MAX_VALUE - 1L, Long.MAX_VALUE, 5L, 6L)));
+    Assertions.assertEquals(
+      List.of("edge"), hash.containingPoint(Long.MAX_VALUE - 1L, 9L));
+
+    final var empty = AreaL.of(Long.MAX_VALUE, Long.MAX_VALUE, 0L, 10L);
+    Assertions.assertThrows(ArithmeticException.class, () -> {
+      hash.insert("empty", empty);
+    });
+    Assertions.assertThrows(ArithmeticException.class, () -> {
+      hash.overlapping(empty);
+    });
+    Assertions.assertEquals(1, hash.size());
+    Assertions.assertEquals(List.of("edge"), hash.overlapping(edge));
+  }
+
+  @Test
+  public void testExtremeEdgesF()
+  {
+    final var hash = AreaSpatialHashF.<String>create(1.0f);
+    final var far = AreaF.of(1.0e19f, 1.0e19f + 1.0f, 0.0f, 1.0f);
+    final var wide = AreaF.of(-1.0e30f, 1.0e30f, 0.0f, 1.0f);
+    final var infinite = AreaF.of(0.0f, Float.POSITIVE_INFINITY, 0.0f, 1.0f);
+
+    Assertions.assertThrows(PreconditionViolationException.class, () -> {
+      hash.insert("far", far);
+    });
+    Assertions.assertThrows(PreconditionViolationException.class, () -> {
+      hash.insert("wide", wide);
+    });
+    Assertions.assertThrows(PreconditionViolationException.class, () -> {
+      hash.insert("infinite", infinite);
+    });
+    Assertions.assertThrows(PreconditionViolationException.class, () -> {
+      hash.overlapping(far);
+    });
+    Assertions.assertThrows(PreconditionViolationException.class, () -> {
+      hash.containingPoint(1.0e19f, 0.5f);
+    });
+    Assertions.assertThrows(PreconditionViolationException.class, () -> {
+      hash.containingPoint(Float.NaN, 0.5f);
+    });
+
+    final var near = AreaF.of(0.0f, 1.0f, 0.0f, 1.0f);
+    final var handle = hash.insert("near", near);
+    Assertions.assertThrows(PreconditionViolationException.class, () -> {
+      hash.update(handle, far);
+    });
+    Assertions.assertEquals(1, hash.size());
+    Assertions.assertEquals(near, hash.area(handle));
+    Assertions.assertEquals(List.of("near"), hash.overlapping(near));
+  }
+
+  @Test
+  public void testExtremeEdgesD()
+  {
+    final var hash = AreaSpatialHashD.<String>create(1.0);
+    final var far = AreaD.of(1.0e300, 1.0e300 + 1.0, 0.0, 1.0);
+    final var wide = AreaD.of(-Double.MAX_VALUE, Double.MAX_VALUE, 0.0, 1.0);
+    final var edge = AreaD.of(
+      (double) Integer.MAX_VALUE - 1.0,
+      (double) Integer.MAX_VALUE,
+      0.0,
+      1.0);
+
+    Assertions.assertThrows(PreconditionViolationException.class, () -> {
+      hash.insert("far", far);
+    });
+    Assertions.assertThrows(PreconditionViolationException.class, () -> {
+      hash.insert("wide", wide);
+    });
+    Assertions.assertThrows(PreconditionViolationException.class, () -> {
+      hash.overlapping(wide);
+    });
+    Assertions.assertThrows(PreconditionViolationException.class, () -> {
+      hash.containingPoint(-1.0e300, 0.5);
+    });
+
+    hash.insert("edge", edge);
+    Assertions.assertEquals(1, hash.size());
+    Assertions.assertEquals(List.of("edge"), hash.overlapping(edge));
+    Assertions.assertEquals(
+      List.of("edge"),
+      hash.containingPoint((double) Integer.MAX_VALUE - 0.5, 0.5));
+  }
+
+  @Test
+  public void testHandleReuseMany()
+  {
+    final var hash = AreaSpatialHashI.<Integer>create(8);
+    final var area = AreaI.of(0, 10, 0, 10);
+    final var handles = new ArrayList<Integer>();
+    for (int index = 0; index < 100; ++index) {
+      handles.add(Integer.valueOf(hash.insert(Integer.valueOf(index), area)));
+    }
+    for (final var handle : handles) {
+      hash.remove(handle.intValue());
+    }
+    Assertions.assertEquals(0, hash.size());
+
+    final var reused = new ArrayList<Integer>();
+    for (int index = 0; index < 100; ++index) {
+      reused.add(Integer.valueOf(hash.insert(Integer.valueOf(index), area)));
+    }
+    Assertions.assertEquals(Set.copyOf(handles), Set.copyOf(reused));
+    Assertions.assertEquals(100, hash.overlapping(area).size());
+  }
+
+  @Test
+  public void testHandleReuse()
+  {
+    final var hash = AreaSpatialHashI.<String>create(8);
+    final var area = AreaI.of(0, 10, 0, 10);
+    final var h0 = hash.insert("a", area);
+    final var h1 = hash.insert("b", area);
+    hash.remove(h0);
+    final var h2 = hash.insert("c", area);
+
+    Assertions.assertEquals(h0, h2);
+    Assertions.assertEquals("b", hash.value(h1));
+    Assertions.assertEquals("c", hash.value(h2));
+    Assertions.assertEquals(Set.of("b", "c"), Set.copyOf(hash.overlapping(area)));
+  }
+
+  @Test
+  public void testManyMoving()
+  {
+    final var hash = AreaSpatialHashI.<Integer>create(32);
+    final var areas = new ArrayList<AreaI>();
+    for (int index = 0; index < 4000; ++index) {
+      final var x = (index * 37) % 2000;
+      final var y = (index * 91) % 2000;
+      final var area = AreasI.create(x, y, 1 + index % 20, 1 + index % 13);
+      areas.add(area);
+      hash.insert(Integer.valueOf(index), area);
+    }
+
+    for (int tick = 0; tick < 10; ++tick) {
+      for (int index = 0; index < areas.size(); ++index) {
+        final var moved = AreasI.moveRelative(areas.get(index), 3, -2);
+        areas.set(index, moved);
+        hash.update(index, moved);
+      }
+    }
+
+    final var query = AreaI.of(500, 700, 500, 700);
+    Assertions.assertEquals(
+      bruteForce(areas, a -> AreasI.overlaps(a, query)),
+      Set.copyOf(hash.overlapping(query)));
+    Assertions.assertEquals(
+      bruteForce(areas, a -> AreasI.containsPoint(a, 600, 600)),
+      Set.copyOf(hash.containingPoint(600, 600)));
+  }
+
+  @Property
+  public void testQueriesI(
+    final @ForAll List<AreaI> areas,
+    final @ForAll AreaI query,
+    final @ForAll @IntRange(min = 500, max = 4000) int cellSize)
+  {
+    final var hash = hashI(areas, cellSize);
+    Assertions.assertEquals(areas.size(), hash.size());
+    Assertions.assertEquals(
+      bruteForce(areas, a -> AreasI.overlaps(a, query)),
+      Set.copyOf(hash.overlapping(query)));
+
+    final var x = query.minimumX();
+    final var y = query.minimumY();
+    Assertions.assertEquals(
+      bruteForce(areas, a -> AreasI.containsPoint(a, x, y)),
+      Set.copyOf(hash.containingPoint(x, y)));
+  }
+
+  @Property
+  public void testUpdateRemoveI(
+    final @ForAll List<AreaI> areas,
+    final @ForAll List<AreaI> moved,
+    final @ForAll AreaI query,
+    final @ForAll @IntRange(min = 500, max = 4000) int cellSize)
+  {
+    final var hash = hashI(areas, cellSize);
+    final var current = new ArrayList<>(areas);
+
+    final var count = Math.min(areas.size(), moved.size());
+    for (int index = 0; index < count; ++index) {
+      hash.update(index, moved.get(index));
+      current.set(index, moved.get(index));
+    }
+    for (int index = 0; index < current.size(); index += 3) {
+      hash.remove(index);
+      current.set(index, null);
+    }
+
+    Assertions.assertEquals(
+      bruteForce(current, a -> AreasI.overlaps(a, query)),
+      Set.copyOf(hash.overlapping(query)));
+
+    final var x = query.minimumX();
+    final var y = query.minimumY();
+    Assertions.assertEquals(
+      bruteForce(current, a -> AreasI.containsPoint(a, x, y)),
+      Set.copyOf(hash.containingPoint(x, y)));
+  }
+
+  @Property
+  public void testQueriesF(
+    final @ForAll List<AreaF> areas,
+    final @ForAll AreaF query,
+    final @ForAll @IntRange(min = 500, max = 4000) int cellSize)
+  {
+    final var hash = AreaSpatialHashF.<AreaF>create((float) cellSize * 0.75f);
+    for (final var area : areas) {
+      hash.insert(area, area);
+    }
+
+    Assertions.assertEquals(
+      areas.stream()
+        .filter(a -> AreasF.overlaps(a, query))
+        .collect(Collectors.toSet()),
+      Set.copyOf(hash.overlapping(query)));
+
+    final var x = query.minimumX();
+    final var y = query.minimumY();
+    Assertions.assertEquals(
+      areas.stream()
+        .filter(a -> AreasF.containsPoint(a, x, y))
+        .collect(Collectors.toSet()),
+      Set.copyOf(hash.containingPoint(x, y)));
+  }
+}
@@ -0,0 +1,293 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jregions.tests.core.index;
+
+import com.io7m.jaffirm.core.PreconditionViolationException;
+import com.io7m.jregions.core.unparameterized.areas.AreaI;
+import com.io7m.jregions.core.unparameterized.areas.AreaL;
+import com.io7m.jregions.core.unparameterized.areas.AreasI;
+import com.io7m.jregions.core.unparameterized.index.AreaTileCursorI;
+import com.io7m.jregions.core.unparameterized.index.AreaTileCursorL;
+import com.io7m.jregions.core.unparameterized.index.AreaTileOrder;
+import net.jqwik.api.ForAll;
+import net.jqwik.api.Property;
+import net.jqwik.api.constraints.IntRange;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+public final class AreaTileCursorTest
+{
+  private static List<AreaI> tiles(
+    final AreaTileCursorI cursor)
+  {
+    final var results = new ArrayList<AreaI>();
+    while (cursor.next()) {
+      results.add(cursor.tile());
+    }
+    return results;
+  }
+
+  private static List<AreaI> bruteForce(
+    final AreaI area,
+    final int tileSizeX,
+    final int tileSizeY)
+  {
+    final var results = new ArrayList<AreaI>();
+    for (int y = area.minimumY(); y < area.maximumY(); y += tileSizeY) {
+      for (int x = area.minimumX(); x < area.maximumX(); x += tileSizeX) {
+        results.add(AreaI.of(
+          x,
+          Math.min(x + tileSizeX, area.maximumX()),
+          y,
+          Math.min(y + tileSizeY, area.maximumY())));
+      }
+    }
+    return results;
+  }
+
+  @Property
+  public void testAllOrdersCoverArea(
+    @ForAll @IntRange(min = -1000, max = 1000) final int x,
+    @ForAll @IntRange(min = -1000, max = 1000) final int y,
+    @ForAll @IntRange(min = 0, max = 300) final int sizeX,
+    @ForAll @IntRange(min = 0, max = 300) final int sizeY,
+    @ForAll @IntRange(min = 1, max = 64) final int tileSizeX,
+    @ForAll @IntRange(min = 1, max = 64) final int tileSizeY)
+  {
+    final var area = AreaI.of(x, x + sizeX, y, y + sizeY);
+    final var expected = bruteForce(area, tileSizeX, tileSizeY);
+
+    for (final var order : AreaTileOrder.values()) {
+      final var cursor =
+        AreaTileCursorI.create(area, tileSizeX, tileSizeY, order);
+      final var received = tiles(cursor);
+
+      Assertions.assertEquals((long) expected.size(), cursor.tileCount());
+      Assertions.assertEquals(expected.size(), received.size());
+      Assertions.assertEquals(new HashSet<>(expected), new HashSet<>(received));
+
+      cursor.reset();
+      Assertions.assertEquals(received, tiles(cursor));
+    }
+  }
+
+  @Test
+  public void testRowMajorOrder()
+  {
+    final var area = AreaI.of(0, 5, 0, 3);
+    final var cursor =
+      AreaTileCursorI.create(area, 2, 2, AreaTileOrder.ROW_MAJOR);
+
+    Assertions.assertEquals(
+      List.of(
+        AreaI.of(0, 2, 0, 2),
+        AreaI.of(2, 4, 0, 2),
+        AreaI.of(4, 5, 0, 2),
+        AreaI.of(0, 2, 2, 3),
+        AreaI.of(2, 4, 2, 3),
+        AreaI.of(4, 5, 2, 3)),
+      tiles(cursor));
+  }
+
+  @Test
+  public void testColumnMajorOrder()
+  {
+    final var area = AreaI.of(0, 5, 0, 3);
+    final var cursor =
+      AreaTileCursorI.create(area, 2, 2, AreaTileOrder.COLUMN_MAJOR);
+
+    Assertions.assertEquals(
+      List.of(
+        AreaI.of(0, 2, 0, 2),
+        AreaI.of(0, 2, 2, 3),
+        AreaI.of(2, 4, 0, 2),
+        AreaI.of(2, 4, 2, 3),
+        AreaI.of(4, 5, 0, 2),
+        AreaI.of(4, 5, 2, 3)),
+      tiles(cursor));
+  }
+
+  @Test
+  public void testHilbertAdjacent()
+  {
+    final var area = AreaI.of(0, 256 * 16, 0, 256 * 16);
+    final var cursor =
+      AreaTileCursorI.create(area, 256, 256, AreaTileOrder.HILBERT);
+
+    long previousX = -1L;
+    long previousY = -1L;
+    int count = 0;
+    while (cursor.next()) {
+      if (count > 0) {
+        final long distance =
+          Math.abs(cursor.tileX() - previousX) + Math.abs(cursor.tileY() - previousY);
+        Assertions.assertEquals(1L, distance);
+      }
+      previousX = cursor.tileX();
+      previousY = cursor.tileY();
+      count += 1;
+    }
+    Assertions.assertEquals(256, count);
+  }
+
+  @Test
+  public void testMortonOrder()
+  {
+    final var area = AreaI.of(0, 4, 0, 4);
+    final var cursor =
+      AreaTileCursorI.create(area, 2, 2, AreaTileOrder.MORTON);
+
+    Assertions.assertEquals(
+      List.of(
+        AreaI.of(0, 2, 0, 2),
+        AreaI.of(2, 4, 0, 2),
+        AreaI.of(0, 2, 2, 4),
+        AreaI.of(2, 4, 2, 4)),
+      tiles(cursor));
+  }
+
+  @Property
+  public void testHaloReversesHollowOut(
+    @ForAll @IntRange(min = 0, max = 200) final int sizeX,
+    @ForAll @IntRange(min = 0, max = 200) final int sizeY,
+    @ForAll @IntRange(min = 1, max = 32) final int tileSize,
+    @ForAll @IntRange(min = 0, max = 8) final int h0,
+    @ForAll @IntRange(min = 0, max = 8) final int h1,
+    @ForAll @IntRange(min = 0, max = 8) final int h2,
+    @ForAll @IntRange(min = 0, max = 8) final int h3)
+  {
+    final var area = AreaI.of(10, 10 + sizeX, -10, -10 + sizeY);
+    final var cursor =
+      AreaTileCursorI.createWithHalo(
+        area, tileSize, tileSize, AreaTileOrder.HILBERT, h0, h1, h2, h3);
+
+    while (cursor.next()) {
+      final var tile = cursor.tile();
+      final var halo = cursor.tileWithHalo();
+
+      Assertions.assertTrue(AreasI.contains(area, halo));
+      Assertions.assertTrue(AreasI.contains(halo, tile));
+      Assertions.assertEquals(
+        tile,
+        AreasI.hollowOut(
+          halo,
+          tile.minimumX() - halo.minimumX(),
+          halo.maximumX() - tile.maximumX(),
+          tile.minimumY() - halo.minimumY(),
+          halo.maximumY() - tile.maximumY()));
+
+      if (tile.minimumX() - h0 >= area.minimumX()) {
+        Assertions.assertEquals(tile.minimumX() - h0, halo.minimumX());
+      } else {
+        Assertions.assertEquals(area.minimumX(), halo.minimumX());
+      }
+      if (tile.maximumY() + h3 <= area.maximumY()) {
+        Assertions.assertEquals(tile.maximumY() + h3, halo.maximumY());
+      } else {
+        Assertions.assertEquals(area.maximumY(), halo.maximumY());
+      }
+    }
+  }
+
+  @Property
+  public void testSpliterator(
+    @ForAll @IntRange(min = 0, max = 2000) final int sizeX,
+    @ForAll @IntRange(min = 0, max = 2000) final int sizeY,
+    @ForAll @IntRange(min = 1, max = 64) final int tileSize)
+  {
+    final var area = AreaI.of(0, sizeX, 0, sizeY);
+    for (final var order : AreaTileOrder.values()) {
+      final var cursor = AreaTileCursorI.create(area, tileSize, tileSize, order);
+
+      final var sequential =
+        StreamSupport.stream(cursor.spliterator(), false).toList();
+      final var parallel =
+        StreamSupport.stream(cursor.spliterator(), true).toList();
+
+      Assertions.assertEquals(tiles(cursor), sequential);
+      Assertions.assertEquals(sequential, parallel);
+    }
+  }
+
+  @Test
+  public void testSpliteratorRemaining()
+  {
+    final var area = AreaI.of(0, 4, 0, 4);
+    final var cursor = AreaTileCursorI.create(area, 1, 1, AreaTileOrder.ROW_MAJOR);
+    cursor.next();
+    cursor.next();
+
+    final var indices =
+      StreamSupport.stream(cursor.spliterator(c -> c.tileY() * 4L + c.tileX()), true)
+        .collect(Collectors.toList());
+    Assertions.assertEquals(14, indices.size());
+    Assertions.assertEquals(Long.valueOf(2L), indices.get(0));
+    Assertions.assertEquals(1L, cursor.tileX());
+  }
+
+  @Test
+  public void testLargeL()
+  {
+    final long base = Long.MAX_VALUE - 1000L;
+    final var area = AreaL.of(base, base + 1000L, -base, -base + 10L);
+    final var cursor =
+      AreaTileCursorL.createWithHalo(area, 300L, 300L, AreaTileOrder.MORTON, 5L, 5L, 5L, 5L);
+
+    Assertions.assertEquals(4L, cursor.tileCount());
+    Assertions.assertTrue(cursor.next());
+    Assertions.assertEquals(AreaL.of(base, base + 300L, -base, -base + 10L), cursor.tile());
+    Assertions.assertEquals(AreaL.of(base, base + 305L, -base, -base + 10L), cursor.tileWithHalo());
+
+    AreaL last = cursor.tile();
+    int count = 1;
+    while (cursor.next()) {
+      last = cursor.tile();
+      count += 1;
+    }
+    Assertions.assertEquals(4, count);
+    Assertions.assertEquals(AreaL.of(base + 900L, base + 1000L, -base, -base + 10L), last);
+  }
+
+  @Test
+  public void testPreconditions()
+  {
+    final var area = AreaI.of(0, 10, 0, 10);
+
+    Assertions.assertThrows(
+      PreconditionViolationException.class,
+      () -> AreaTileCursorI.create(area, 0, 1, AreaTileOrder.ROW_MAJOR));
+    Assertions.assertThrows(
+      PreconditionViolationException.class,
+      () -> AreaTileCursorI.create(area, 1, -1, AreaTileOrder.ROW_MAJOR));
+    Assertions.assertThrows(
+      PreconditionViolationException.class,
+      () -> AreaTileCursorI.createWithHalo(area, 1, 1, AreaTileOrder.ROW_MAJOR, 0, 0, 0, -1));
+
+    final var cursor = AreaTileCursorI.create(area, 1, 1, AreaTileOrder.ROW_MAJOR);
+    Assertions.assertThrows(PreconditionViolationException.class, cursor::tile);
+    while (cursor.next()) {
+      // Exhaust the cursor
+    }
+    Assertions.assertThrows(PreconditionViolationException.class, cursor::minimumX);
+  }
+}
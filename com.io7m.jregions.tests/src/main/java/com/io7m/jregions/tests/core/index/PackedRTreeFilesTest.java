@@ -0,0 +1,184 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jregions.tests.core.index;
+
+import com.io7m.jregions.core.unparameterized.areas.AreaL;
+import com.io7m.jregions.core.unparameterized.areas.AreasL;
+import com.io7m.jregions.core.unparameterized.index.AreaPackedRTreeL;
+import com.io7m.jregions.core.unparameterized.index.PackedRTreeFiles;
+import com.io7m.jregions.core.unparameterized.index.VolumePackedRTreeL;
+import com.io7m.jregions.core.unparameterized.volumes.VolumeL;
+import com.io7m.jregions.core.unparameterized.volumes.VolumesL;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+public final class PackedRTreeFilesTest
+{
+  private static List<AreaL> areas()
+  {
+    final var results = new ArrayList<AreaL>();
+    for (int y = 0; y < 50; ++y) {
+      for (int x = 0; x < 50; ++x) {
+        results.add(AreasL.create(x * 10L, y * 10L, 15L, 15L));
+      }
+    }
+    return results;
+  }
+
+  private static List<VolumeL> volumes()
+  {
+    final var results = new ArrayList<VolumeL>();
+    for (int z = 0; z < 10; ++z) {
+      for (int y = 0; y < 10; ++y) {
+        for (int x = 0; x < 10; ++x) {
+          results.add(VolumesL.create(x * 10L, y * 10L, z * 10L, 15L, 15L, 15L));
+        }
+      }
+    }
+    return results;
+  }
+
+  private static void writeSwapped(
+    final Path file,
+    final ByteBuffer buffer)
+    throws IOException
+  {
+    final var swapped = ByteBuffer.allocate(buffer.capacity());
+    swapped.order(
+      buffer.order() == ByteOrder.BIG_ENDIAN
+        ? ByteOrder.LITTLE_ENDIAN
+        : ByteOrder.BIG_ENDIAN);
+    for (int offset = 0; offset < buffer.capacity(); offset += 8) {
+      swapped.putLong(offset, buffer.getLong(offset));
+    }
+    try (var channel = FileChannel.open(file, CREATE, WRITE)) {
+      channel.write(swapped);
+    }
+  }
+
+  @Test
+  public void testAreasRoundTrip(
+    final @TempDir Path directory)
+    throws IOException
+  {
+    final var areas = areas();
+    final var tree = AreaPackedRTreeL.create(areas, 8);
+    final var file = directory.resolve("areas.bin");
+    PackedRTreeFiles.write(file, tree);
+    Assertions.assertEquals(tree.buffer().capacity(), Files.size(file));
+
+    final var mapped = PackedRTreeFiles.mapAreas(file);
+    Assertions.assertEquals(tree.size(), mapped.size());
+    Assertions.assertEquals(tree.nodeCapacity(), mapped.nodeCapacity());
+
+    final var query = AreasL.create(100L, 100L, 30L, 30L);
+    Assertions.assertArrayEquals(tree.overlapping(query), mapped.overlapping(query));
+
+    mapped.overlappingAreas(query, (area, index) -> {
+      Assertions.assertEquals(areas.get(index), area);
+    });
+  }
+
+  @Test
+  public void testVolumesRoundTrip(
+    final @TempDir Path directory)
+    throws IOException
+  {
+    final var volumes = volumes();
+    final var tree = VolumePackedRTreeL.create(volumes, 8);
+    final var file = directory.resolve("volumes.bin");
+    PackedRTreeFiles.write(file, tree);
+
+    final var mapped = PackedRTreeFiles.mapVolumes(file);
+    Assertions.assertEquals(tree.size(), mapped.size());
+
+    final var query = VolumesL.create(20L, 20L, 20L, 30L, 30L, 30L);
+    Assertions.assertArrayEquals(tree.overlapping(query), mapped.overlapping(query));
+    Assertions.assertArrayEquals(
+      tree.containingPoint(55L, 55L, 55L),
+      mapped.containingPoint(55L, 55L, 55L));
+  }
+
+  @Test
+  public void testSwappedByteOrder(
+    final @TempDir Path directory)
+    throws IOException
+  {
+    final var tree = AreaPackedRTreeL.create(areas(), 8);
+    final var file = directory.resolve("areas.bin");
+    writeSwapped(file, tree.buffer());
+
+    final var mapped = PackedRTreeFiles.mapAreas(file);
+    Assertions.assertNotEquals(tree.buffer().order(), mapped.buffer().order());
+
+    final var query = AreasL.create(200L, 200L, 50L, 50L);
+    Assertions.assertArrayEquals(tree.overlapping(query), mapped.overlapping(query));
+  }
+
+  @Test
+  public void testWrongType(
+    final @TempDir Path directory)
+    throws IOException
+  {
+    final var file = directory.resolve("volumes.bin");
+    PackedRTreeFiles.write(file, VolumePackedRTreeL.create(volumes()));
+    Assertions.assertThrows(IOException.class, () -> {
+      PackedRTreeFiles.mapAreas(file);
+    });
+  }
+
+  @Test
+  public void testTruncated(
+    final @TempDir Path directory)
+    throws IOException
+  {
+    final var source = AreaPackedRTreeL.create(areas()).buffer();
+    final var bytes = new byte[source.capacity() - 8];
+    source.get(0, bytes);
+
+    final var file = directory.resolve("areas.bin");
+    Files.write(file, bytes);
+    Assertions.assertThrows(IOException.class, () -> {
+      PackedRTreeFiles.mapAreas(file);
+    });
+  }
+
+  @Test
+  public void testTooSmall(
+    final @TempDir Path directory)
+    throws IOException
+  {
+    final var file = directory.resolve("empty.bin");
+    Files.write(file, new byte[4]);
+    Assertions.assertThrows(IOException.class, () -> {
+      PackedRTreeFiles.mapVolumes(file);
+    });
+  }
+}
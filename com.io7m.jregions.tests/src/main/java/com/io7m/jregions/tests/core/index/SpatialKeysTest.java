@@ -0,0 +1,339 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jregions.tests.core.index;
+
+import com.io7m.jaffirm.core.PreconditionViolationException;
+import com.io7m.jregions.core.unparameterized.areas.AreaI;
+import com.io7m.jregions.core.unparameterized.areas.AreaL;
+import com.io7m.jregions.core.unparameterized.areas.AreasI;
+import com.io7m.jregions.core.unparameterized.areas.AreasL;
+import com.io7m.jregions.core.unparameterized.index.HilbertCurve;
+import com.io7m.jregions.core.unparameterized.index.MortonCurve;
+import com.io7m.jregions.core.unparameterized.index.SpatialKeyAnchor;
+import com.io7m.jregions.core.unparameterized.index.SpatialKeyCurve;
+import com.io7m.jregions.core.unparameterized.index.SpatialKeys;
+import com.io7m.jregions.core.unparameterized.volumes.VolumeI;
+import com.io7m.jregions.core.unparameterized.volumes.VolumesI;
+import net.jqwik.api.ForAll;
+import net.jqwik.api.Property;
+import net.jqwik.api.constraints.IntRange;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+public final class SpatialKeysTest
+{
+  @Property
+  public void testMortonRoundTrip2(
+    @ForAll final int x,
+    @ForAll final int y)
+  {
+    final long code = MortonCurve.encode2(x, y);
+    Assertions.assertEquals(x, MortonCurve.decode2X(code));
+    Assertions.assertEquals(y, MortonCurve.decode2Y(code));
+  }
+
+  @Property
+  public void testMortonRoundTrip3(
+    @ForAll @IntRange(min = 0, max = 0x1fffff) final int x,
+    @ForAll @IntRange(min = 0, max = 0x1fffff) final int y,
+    @ForAll @IntRange(min = 0, max = 0x1fffff) final int z)
+  {
+    final long code = MortonCurve.encode3(x, y, z);
+    Assertions.assertEquals(x, MortonCurve.decode3X(code));
+    Assertions.assertEquals(y, MortonCurve.decode3Y(code));
+    Assertions.assertEquals(z, MortonCurve.decode3Z(code));
+  }
+
+  @Test
+  public void testMortonKnown()
+  {
+    Assertions.assertEquals(0L, MortonCurve.encode2(0, 0));
+    Assertions.assertEquals(1L, MortonCurve.encode2(1, 0));
+    Assertions.assertEquals(2L, MortonCurve.encode2(0, 1));
+    Assertions.assertEquals(3L, MortonCurve.encode2(1, 1));
+    Assertions.assertEquals(0b110000L, MortonCurve.encode2(4, 4));
+    Assertions.assertEquals(-1L, MortonCurve.encode2(-1, -1));
+    Assertions.assertEquals(0b111L, MortonCurve.encode3(1, 1, 1));
+    Assertions.assertEquals(0b100000L, MortonCurve.encode3(0, 0, 2));
+  }
+
+  @Property
+  public void testHilbertRoundTrip2(
+    @ForAll final int x,
+    @ForAll final int y)
+  {
+    final long code = HilbertCurve.encode2(x, y);
+    Assertions.assertEquals(x, HilbertCurve.decode2X(code));
+    Assertions.assertEquals(y, HilbertCurve.decode2Y(code));
+  }
+
+  @Property
+  public void testHilbertRoundTrip3(
+    @ForAll @IntRange(min = 0, max = 0x1fffff) final int x,
+    @ForAll @IntRange(min = 0, max = 0x1fffff) final int y,
+    @ForAll @IntRange(min = 0, max = 0x1fffff) final int z)
+  {
+    final long code = HilbertCurve.encode3(x, y, z);
+    Assertions.assertEquals(x, HilbertCurve.decode3X(code));
+    Assertions.assertEquals(y, HilbertCurve.decode3Y(code));
+    Assertions.assertEquals(z, HilbertCurve.decode3Z(code));
+  }
+
+  @Property
+  public void testHilbertAdjacent2(
+    @ForAll final long code)
+  {
+    final long next = code + 1L;
+    final long dx = Math.abs(
+      Integer.toUnsignedLong(HilbertCurve.decode2X(code))
+        - Integer.toUnsignedLong(HilbertCurve.decode2X(next)));
+    final long dy = Math.abs(
+      Integer.toUnsignedLong(HilbertCurve.decode2Y(code))
+        - Integer.toUnsignedLong(HilbertCurve.decode2Y(next)));
+
+    if (next != 0L) {
+      Assertions.assertEquals(1L, dx + dy);
+    }
+  }
+
+  @Property
+  public void testHilbertAdjacent3(
+    @ForAll @IntRange(min = 0, max = Integer.MAX_VALUE - 1) final int low,
+    @ForAll @IntRange(min = 0, max = 0x3fffffff) final int high)
+  {
+    final long code = ((long) high << 31) | (long) low;
+    final long next = code + 1L;
+    final long dx = Math.abs(
+      (long) HilbertCurve.decode3X(code) - (long) HilbertCurve.decode3X(next));
+    final long dy = Math.abs(
+      (long) HilbertCurve.decode3Y(code) - (long) HilbertCurve.decode3Y(next));
+    final long dz = Math.abs(
+      (long) HilbertCurve.decode3Z(code) - (long) HilbertCurve.decode3Z(next));
+    Assertions.assertEquals(1L, dx + dy + dz);
+  }
+
+  @Test
+  public void testHilbertSmallGrid()
+  {
+    final boolean[] seen = new boolean[16];
+    for (int y = 0; y < 4; ++y) {
+      for (int x = 0; x < 4; ++x) {
+        final long code = HilbertCurve.encode2(x << 30, y << 30);
+        final int cell = (int) Long.divideUnsigned(code, 1L << 60);
+        Assertions.assertFalse(seen[cell]);
+        seen[cell] = true;
+      }
+    }
+  }
+
+  @Test
+  public void testAreaKeyAnchors()
+  {
+    final var domain = AreaI.of(0, 1024, 0, 1024);
+    final var area = AreaI.of(512, 1024, 0, 512);
+
+    final long corner = SpatialKeys.areaKey(
+      SpatialKeyCurve.MORTON, SpatialKeyAnchor.MINIMUM_CORNER, domain, area);
+    Assertions.assertEquals(MortonCurve.encode2(0x80000000, 0), corner);
+
+    final long centre = SpatialKeys.areaKey(
+      SpatialKeyCurve.MORTON, SpatialKeyAnchor.CENTROID, domain, area);
+    Assertions.assertEquals(
+      MortonCurve.encode2(0xc0000000, 0x40000000), centre);
+  }
+
+  @Test
+  public void testAreaKeyClamped()
+  {
+    final var domain = AreaL.of(0L, 100L, 0L, 100L);
+    final var area = AreaL.of(-500L, -400L, 200L, 300L);
+
+    final long key = SpatialKeys.areaKey(
+      SpatialKeyCurve.MORTON, SpatialKeyAnchor.MINIMUM_CORNER, domain, area);
+    Assertions.assertEquals(MortonCurve.encode2(0, 0xffffffff), key);
+  }
+
+  @Property
+  public void testAreaKeysBulk(
+    @ForAll final List<AreaI> areas,
+    @ForAll final AreaI domain,
+    @ForAll final SpatialKeyCurve curve,
+    @ForAll final SpatialKeyAnchor anchor)
+  {
+    final int count = areas.size();
+    final int[] x0 = new int[count];
+    final int[] x1 = new int[count];
+    final int[] y0 = new int[count];
+    final int[] y1 = new int[count];
+    for (int index = 0; index < count; ++index) {
+      final var area = areas.get(index);
+      x0[index] = area.minimumX();
+      x1[index] = area.maximumX();
+      y0[index] = area.minimumY();
+      y1[index] = area.maximumY();
+    }
+
+    final long[] keys =
+      SpatialKeys.areaKeys(curve, anchor, domain, x0, x1, y0, y1, count);
+    for (int index = 0; index < count; ++index) {
+      Assertions.assertEquals(
+        SpatialKeys.areaKey(curve, anchor, domain, areas.get(index)),
+        keys[index]);
+    }
+  }
+
+  @Property
+  public void testVolumeKeysBulk(
+    @ForAll final List<VolumeI> volumes,
+    @ForAll final VolumeI domain,
+    @ForAll final SpatialKeyCurve curve,
+    @ForAll final SpatialKeyAnchor anchor)
+  {
+    final int count = volumes.size();
+    final int[] x0 = new int[count];
+    final int[] x1 = new int[count];
+    final int[] y0 = new int[count];
+    final int[] y1 = new int[count];
+    final int[] z0 = new int[count];
+    final int[] z1 = new int[count];
+    for (int index = 0; index < count; ++index) {
+      final var volume = volumes.get(index);
+      x0[index] = volume.minimumX();
+      x1[index] = volume.maximumX();
+      y0[index] = volume.minimumY();
+      y1[index] = volume.maximumY();
+      z0[index] = volume.minimumZ();
+      z1[index] = volume.maximumZ();
+    }
+
+    final long[] keys = SpatialKeys.volumeKeys(
+      curve, anchor, domain, x0, x1, y0, y1, z0, z1, count);
+    for (int index = 0; index < count; ++index) {
+      Assertions.assertEquals(
+        SpatialKeys.volumeKey(curve, anchor, domain, volumes.get(index)),
+        keys[index]);
+    }
+  }
+
+  @Property
+  public void testSortAreas(
+    @ForAll final List<AreaI> areas,
+    @ForAll final AreaI domain)
+  {
+    final int count = areas.size();
+    final int[] x0 = new int[count];
+    final int[] x1 = new int[count];
+    final int[] y0 = new int[count];
+    final int[] y1 = new int[count];
+    for (int index = 0; index < count; ++index) {
+      final var area = areas.get(index);
+      x0[index] = area.minimumX();
+      x1[index] = area.maximumX();
+      y0[index] = area.minimumY();
+      y1[index] = area.maximumY();
+    }
+
+    final int[] order = SpatialKeys.sortAreas(
+      SpatialKeyCurve.HILBERT,
+      SpatialKeyAnchor.CENTROID,
+      domain,
+      x0,
+      x1,
+      y0,
+      y1,
+      count);
+
+    final int[] sortedOrder = order.clone();
+    Arrays.sort(sortedOrder);
+    for (int index = 0; index < count; ++index) {
+      Assertions.assertEquals(index, sortedOrder[index]);
+    }
+
+    long previous = 0L;
+    for (int index = 0; index < count; ++index) {
+      final var area = AreaI.of(x0[index], x1[index], y0[index], y1[index]);
+      Assertions.assertEquals(areas.get(order[index]), area);
+      final long key = SpatialKeys.areaKey(
+        SpatialKeyCurve.HILBERT, SpatialKeyAnchor.CENTROID, domain, area);
+      Assertions.assertTrue(Long.compareUnsigned(previous, key) <= 0);
+      previous = key;
+    }
+  }
+
+  @Test
+  public void testSortedOrderUnsignedStable()
+  {
+    final long[] keys = {-1L, 3L, Long.MIN_VALUE, 3L, 0L, Long.MAX_VALUE};
+    final int[] order = SpatialKeys.sortedOrder(keys, keys.length);
+    Assertions.assertArrayEquals(new int[]{4, 1, 3, 5, 2, 0}, order);
+  }
+
+  @Test
+  public void testSortAreasLong()
+  {
+    final long[] x0 = {900L, 0L, 0L};
+    final long[] x1 = {1000L, 100L, 100L};
+    final long[] y0 = {900L, 900L, 0L};
+    final long[] y1 = {1000L, 1000L, 100L};
+
+    final int[] order = SpatialKeys.sortAreas(
+      SpatialKeyCurve.MORTON,
+      SpatialKeyAnchor.MINIMUM_CORNER,
+      AreasL.create(0L, 0L, 1000L, 1000L),
+      x0,
+      x1,
+      y0,
+      y1,
+      3);
+
+    Assertions.assertArrayEquals(new int[]{2, 1, 0}, order);
+    Assertions.assertArrayEquals(new long[]{0L, 0L, 900L}, x0);
+    Assertions.assertArrayEquals(new long[]{0L, 900L, 900L}, y0);
+  }
+
+  @Test
+  public void testCountInvalid()
+  {
+    Assertions.assertThrows(PreconditionViolationException.class, () -> {
+      SpatialKeys.areaKeys(
+        SpatialKeyCurve.MORTON,
+        SpatialKeyAnchor.CENTROID,
+        AreasI.create(0, 0, 10, 10),
+        new int[1],
+        new int[1],
+        new int[1],
+        new int[1],
+        2);
+    });
+    Assertions.assertThrows(PreconditionViolationException.class, () -> {
+      SpatialKeys.volumeKeys(
+        SpatialKeyCurve.MORTON,
+        SpatialKeyAnchor.CENTROID,
+        VolumesI.create(0, 0, 0, 10, 10, 10),
+        new int[0],
+        new int[0],
+        new int[0],
+        new int[0],
+        new int[0],
+        new int[0],
+        -1);
+    });
+  }
+}
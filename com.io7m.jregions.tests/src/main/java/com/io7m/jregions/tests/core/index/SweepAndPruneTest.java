@@ -0,0 +1,351 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jregions.tests.core.index;
+
+import com.io7m.jaffirm.core.PreconditionViolationException;
+import com.io7m.jregions.core.unparameterized.areas.AreaF;
+import com.io7m.jregions.core.unparameterized.areas.AreaI;
+import com.io7m.jregions.core.unparameterized.areas.AreasF;
+import com.io7m.jregions.core.unparameterized.areas.AreasI;
+import com.io7m.jregions.core.unparameterized.index.AreaSweepAndPruneF;
+import com.io7m.jregions.core.unparameterized.index.AreaSweepAndPruneI;
+import com.io7m.jregions.core.unparameterized.index.OverlappingPairListenerType;
+import com.io7m.jregions.core.unparameterized.index.VolumeSweepAndPruneF;
+import com.io7m.jregions.core.unparameterized.volumes.VolumeF;
+import com.io7m.jregions.core.unparameterized.volumes.VolumesF;
+import net.jqwik.api.ForAll;
+import net.jqwik.api.Property;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.BiPredicate;
+
+public final class SweepAndPruneTest
+{
+  private static <T> Set<List<Integer>> bruteForce(
+    final List<T> shapes,
+    final BiPredicate<T, T> overlaps)
+  {
+    final var results = new HashSet<List<Integer>>();
+    for (int a = 0; a < shapes.size(); ++a) {
+      for (int b = a + 1; b < shapes.size(); ++b) {
+        final var sa = shapes.get(a);
+        final var sb = shapes.get(b);
+        if (sa != null && sb != null && overlaps.test(sa, sb)) {
+          results.add(List.of(Integer.valueOf(a), Integer.valueOf(b)));
+        }
+      }
+    }
+    return results;
+  }
+
+  private static final class Changes implements OverlappingPairListenerType
+  {
+    private final Set<List<Integer>> added = new HashSet<>();
+    private final Set<List<Integer>> removed = new HashSet<>();
+
+    Changes()
+    {
+
+    }
+
+    @Override
+    public void onPairAdded(
+      final int handleA,
+      final int handleB)
+    {
+      Assertions.assertTrue(handleA < handleB);
+      Assertions.assertTrue(
+        this.added.add(List.of(Integer.valueOf(handleA), Integer.valueOf(handleB))));
+    }
+
+    @Override
+    public void onPairRemoved(
+      final int handleA,
+      final int handleB)
+    {
+      Assertions.assertTrue(handleA < handleB);
+      Assertions.assertTrue(
+        this.removed.add(List.of(Integer.valueOf(handleA), Integer.valueOf(handleB))));
+    }
+  }
+
+  private static Set<List<Integer>> pairsOf(
+    final AreaSweepAndPruneI<?> sap)
+  {
+    final var results = new HashSet<List<Integer>>();
+    sap.overlappingPairs((a, b) -> {
+      Assertions.assertTrue(a < b);
+      Assertions.assertTrue(
+        results.add(List.of(Integer.valueOf(a), Integer.valueOf(b))));
+    });
+    return results;
+  }
+
+  @Test
+  public void testEmpty()
+  {
+    final var sap = AreaSweepAndPruneI.<String>create();
+    final var changes = new Changes();
+
+    Assertions.assertTrue(sap.isEmpty());
+    Assertions.assertEquals(Set.of(), pairsOf(sap));
+    sap.step(changes);
+    Assertions.assertEquals(Set.of(), changes.added);
+    Assertions.assertEquals(Set.of(), changes.removed);
+    Assertions.assertEquals(0, sap.pairCount());
+  }
+
+  @Test
+  public void testInvalidHandle()
+  {
+    final var sap = AreaSweepAndPruneI.<String>create();
+    final var h = sap.insert("a", AreaI.of(0, 10, 0, 10));
+    sap.remove(h);
+
+    Assertions.assertThrows(PreconditionViolationException.class, () -> {
+      sap.remove(h);
+    });
+    Assertions.assertThrows(PreconditionViolationException.class, () -> {
+      sap.update(h, AreaI.of(0, 10, 0, 10));
+    });
+    Assertions.assertThrows(PreconditionViolationException.class, () -> {
+      sap.area(3);
+    });
+  }
+
+  @Test
+  public void testTouchingDoNotOverlap()
+  {
+    final var sap = AreaSweepAndPruneI.<String>create();
+    sap.insert("a", AreaI.of(0, 10, 0, 10));
+    sap.insert("b", AreaI.of(10, 20, 0, 10));
+    sap.insert("c", AreaI.of(9, 10, 9, 10));
+
+    Assertions.assertEquals(
+      Set.of(List.of(Integer.valueOf(0), Integer.valueOf(2))),
+      pairsOf(sap));
+  }
+
+  @Test
+  public void testExtremeEdges()
+  {
+    final var sap = AreaSweepAndPruneI.<String>create();
+    final int max = Integer.MAX_VALUE;
+    final var h = sap.insert("a", AreaI.of(max - 10, max, 0, 10));
+    sap.insert("b", AreaI.of(max - 1, max, 5, 6));
+
+    final var empty = AreaI.of(max, max, 0, 10);
+    Assertions.assertThrows(ArithmeticException.class, () -> {
+      sap.insert("c", empty);
+    });
+    Assertions.assertThrows(ArithmeticException.class, () -> {
+      sap.update(h, empty);
+    });
+
+    Assertions.assertEquals(2, sap.size());
+    Assertions.assertEquals(
+      Set.of(List.of(Integer.valueOf(0), Integer.valueOf(1))),
+      pairsOf(sap));
+  }
+
+  @Test
+  public void testStepChanges()
+  {
+    final var sap = AreaSweepAndPruneI.<String>create();
+    final var a = sap.insert("a", AreaI.of(0, 10, 0, 10));
+    final var b = sap.insert("b", AreaI.of(20, 30, 0, 10));
+
+    final var c0 = new Changes();
+    sap.step(c0);
+    Assertions.assertEquals(Set.of(), c0.added);
+    Assertions.assertEquals(Set.of(), c0.removed);
+
+    sap.update(b, AreaI.of(5, 15, 0, 10));
+    final var c1 = new Changes();
+    sap.step(c1);
+    Assertions.assertEquals(Set.of(List.of(a, b)), c1.added);
+    Assertions.assertEquals(Set.of(), c1.removed);
+    Assertions.assertEquals(1, sap.pairCount());
+
+    final var c2 = new Changes();
+    sap.step(c2);
+    Assertions.assertEquals(Set.of(), c2.added);
+    Assertions.assertEquals(Set.of(), c2.removed);
+
+    sap.remove(a);
+    final var c = sap.insert("c", AreaI.of(0, 10, 0, 10));
+    Assertions.assertNotEquals(a, c);
+
+    final var c3 = new Changes();
+    sap.step(c3);
+    Assertions.assertEquals(Set.of(List.of(b, c)), c3.added);
+    Assertions.assertEquals(Set.of(List.of(a, b)), c3.removed);
+
+    final var d = sap.insert("d", AreaI.of(100, 110, 0, 10));
+    Assertions.assertEquals(a, d);
+    Assertions.assertEquals("d", sap.value(d));
+  }
+
+  @Test
+  public void testStepAfterOverlappingPairs()
+  {
+    final var sap = AreaSweepAndPruneI.<String>create();
+    final var a = sap.insert("a", AreaI.of(0, 10, 0, 10));
+    final var b = sap.insert("b", AreaI.of(5, 15, 0, 10));
+
+    final var c0 = new Changes();
+    sap.step(c0);
+    Assertions.assertEquals(Set.of(List.of(a, b)), c0.added);
+
+    sap.remove(a);
+    sap.overlappingPairs((x, y) -> { });
+    final var c = sap.insert("c", AreaI.of(0, 10, 0, 10));
+    Assertions.assertNotEquals(a, c);
+
+    final var c1 = new Changes();
+    sap.step(c1);
+    Assertions.assertEquals(Set.of(List.of(b, c)), c1.added);
+    Assertions.assertEquals(Set.of(List.of(a, b)), c1.removed);
+
+    final var d = sap.insert("d", AreaI.of(100, 110, 0, 10));
+    Assertions.assertEquals(a, d);
+  }
+
+  @Test
+  public void testHandlesReusedWithoutSteps()
+  {
+    final var sap = AreaSweepAndPruneI.<String>create();
+    final var a = sap.insert("a", AreaI.of(0, 10, 0, 10));
+    sap.insert("b", AreaI.of(5, 15, 0, 10));
+
+    sap.remove(a);
+    sap.overlappingPairs((x, y) -> { });
+    Assertions.assertEquals(a, sap.insert("c", AreaI.of(0, 10, 0, 10)));
+  }
+
+  @Test
+  public void testMovingCoherent()
+  {
+    final var sap = AreaSweepAndPruneI.<Integer>create();
+    final var areas = new ArrayList<AreaI>();
+    for (int index = 0; index < 500; ++index) {
+      final var area =
+        AreasI.create((index * 37) % 1000, (index * 91) % 1000, 20, 20);
+      areas.add(area);
+      sap.insert(Integer.valueOf(index), area);
+    }
+
+    final var cached = new HashSet<List<Integer>>();
+    for (int tick = 0; tick < 20; ++tick) {
+      for (int index = 0; index < areas.size(); ++index) {
+        final var dx = index % 2 == 0 ? 3 : -3;
+        final var moved = AreasI.moveRelative(areas.get(index), dx, 1);
+        areas.set(index, moved);
+        sap.update(index, moved);
+      }
+
+      final var changes = new Changes();
+      sap.step(changes);
+      cached.removeAll(changes.removed);
+      cached.addAll(changes.added);
+
+      final var expected = bruteForce(areas, AreasI::overlaps);
+      Assertions.assertEquals(expected, cached);
+      Assertions.assertEquals(expected.size(), sap.pairCount());
+    }
+  }
+
+  @Property
+  public void testPairsF(
+    final @ForAll List<AreaF> areas)
+  {
+    final var sap = AreaSweepAndPruneF.<AreaF>create();
+    for (final var area : areas) {
+      sap.insert(area, area);
+    }
+
+    final var found = new HashSet<List<Integer>>();
+    sap.overlappingPairs((a, b) -> {
+      Assertions.assertTrue(
+        found.add(List.of(Integer.valueOf(a), Integer.valueOf(b))));
+    });
+    Assertions.assertEquals(bruteForce(areas, AreasF::overlaps), found);
+  }
+
+  @Property
+  public void testPairsVolumeF(
+    final @ForAll List<VolumeF> volumes)
+  {
+    final var sap = VolumeSweepAndPruneF.<VolumeF>create();
+    for (final var volume : volumes) {
+      sap.insert(volume, volume);
+    }
+
+    final var found = new HashSet<List<Integer>>();
+    sap.overlappingPairs((a, b) -> {
+      Assertions.assertTrue(
+        found.add(List.of(Integer.valueOf(a), Integer.valueOf(b))));
+    });
+    Assertions.assertEquals(bruteForce(volumes, VolumesF::overlaps), found);
+  }
+
+  @Property
+  public void testStepI(
+    final @ForAll List<AreaI> areas,
+    final @ForAll List<AreaI> moved)
+  {
+    final var sap = AreaSweepAndPruneI.<Integer>create();
+    final var current = new ArrayList<AreaI>(areas);
+    for (int index = 0; index < areas.size(); ++index) {
+      sap.insert(Integer.valueOf(index), areas.get(index));
+    }
+
+    final var c0 = new Changes();
+    sap.step(c0);
+    final var before = bruteForce(current, AreasI::overlaps);
+    Assertions.assertEquals(before, c0.added);
+
+    final var count = Math.min(areas.size(), moved.size());
+    for (int index = 0; index < count; ++index) {
+      sap.update(index, moved.get(index));
+      current.set(index, moved.get(index));
+    }
+    for (int index = 0; index < current.size(); index += 4) {
+      sap.remove(index);
+      current.set(index, null);
+    }
+
+    final var c1 = new Changes();
+    sap.step(c1);
+    final var after = bruteForce(current, AreasI::overlaps);
+
+    final var expectedAdded = new HashSet<>(after);
+    expectedAdded.removeAll(before);
+    final var expectedRemoved = new HashSet<>(before);
+    expectedRemoved.removeAll(after);
+
+    Assertions.assertEquals(expectedAdded, c1.added);
+    Assertions.assertEquals(expectedRemoved, c1.removed);
+    Assertions.assertEquals(after.size(), sap.pairCount());
+    Assertions.assertEquals(after, pairsOf(sap));
+  }
+}
@@ -0,0 +1,305 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jregions.tests.core.index;
+
+import com.io7m.jaffirm.core.PreconditionViolationException;
+import com.io7m.jregions.core.parameterized.index.PVolumeBVHF;
+import com.io7m.jregions.core.parameterized.volumes.PVolumeF;
+import com.io7m.jregions.core.unparameterized.index.VolumeBVHF;
+import com.io7m.jregions.core.unparameterized.index.VolumeBVHL;
+import com.io7m.jregions.core.unparameterized.volumes.VolumeF;
+import com.io7m.jregions.core.unparameterized.volumes.VolumeL;
+import com.io7m.jregions.core.unparameterized.volumes.VolumesF;
+import com.io7m.jregions.core.unparameterized.volumes.VolumesL;
+import net.jqwik.api.ForAll;
+import net.jqwik.api.Property;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+public final class VolumeBVHTest
+{
+  private static <T> Set<T> bruteForce(
+    final List<T> values,
+    final Predicate<T> predicate)
+  {
+    return values.stream()
+      .filter(predicate)
+      .collect(Collectors.toSet());
+  }
+
+  private static List<VolumeL> gridL(
+    final int count)
+  {
+    final var results = new ArrayList<VolumeL>(count * count * count);
+    for (int z = 0; z < count; ++z) {
+      for (int y = 0; y < count; ++y) {
+        for (int x = 0; x < count; ++x) {
+          results.add(VolumesL.create(x * 10L, y * 10L, z * 10L, 10L, 10L, 10L));
+        }
+      }
+    }
+    return results;
+  }
+
+  private static void checkQueriesL(
+    final VolumeBVHL<VolumeL> bvh,
+    final List<VolumeL> volumes,
+    final VolumeL query)
+  {
+    Assertions.assertEquals(volumes.size(), bvh.size());
+    Assertions.assertEquals(
+      bruteForce(volumes, v -> VolumesL.overlaps(v, query)),
+      Set.copyOf(bvh.overlapping(query)));
+    Assertions.assertEquals(
+      bruteForce(volumes, v -> VolumesL.contains(query, v)),
+      Set.copyOf(bvh.containedBy(query)));
+    Assertions.assertEquals(
+      bruteForce(volumes, v -> VolumesL.contains(v, query)),
+      Set.copyOf(bvh.containing(query)));
+
+    final var x = query.minimumX();
+    final var y = query.minimumY();
+    final var z = query.minimumZ();
+    Assertions.assertEquals(
+      bruteForce(volumes, v -> VolumesL.containsPoint(v, x, y, z)),
+      Set.copyOf(bvh.containingPoint(x, y, z)));
+  }
+
+  @Test
+  public void testEmpty()
+  {
+    final var bvh = VolumeBVHL.<VolumeL>create();
+    final var query = VolumeL.of(0L, 10L, 0L, 10L, 0L, 10L);
+
+    Assertions.assertTrue(bvh.isEmpty());
+    Assertions.assertEquals(0, bvh.size());
+    Assertions.assertEquals(List.of(), bvh.overlapping(query));
+    Assertions.assertEquals(List.of(), bvh.containedBy(query));
+    Assertions.assertEquals(List.of(), bvh.containing(query));
+    Assertions.assertEquals(List.of(), bvh.containingPoint(0L, 0L, 0L));
+
+    bvh.refit();
+    bvh.rebuild();
+    Assertions.assertTrue(bvh.isEmpty());
+  }
+
+  @Test
+  public void testInvalidHandle()
+  {
+    final var bvh = VolumeBVHL.<VolumeL>create();
+    final var volume = VolumeL.of(0L, 10L, 0L, 10L, 0L, 10L);
+    final var handle = bvh.insert(volume, volume);
+    bvh.remove(handle);
+
+    Assertions.assertThrows(PreconditionViolationException.class, () -> {
+      bvh.remove(handle);
+    });
+    Assertions.assertThrows(PreconditionViolationException.class, () -> {
+      bvh.value(-1);
+    });
+    Assertions.assertThrows(PreconditionViolationException.class, () -> {
+      bvh.update(23, volume);
+    });
+  }
+
+  @Test
+  public void testGrid()
+  {
+    final var volumes = gridL(20);
+    final var bvh = VolumeBVHL.create(volumes, Function.identity());
+
+    Assertions.assertEquals(8000, bvh.size());
+    Assertions.assertEquals(
+      List.of(VolumeL.of(30L, 40L, 70L, 80L, 120L, 130L)),
+      bvh.containingPoint(35L, 79L, 120L));
+    for (int index = 0; index < volumes.size(); ++index) {
+      Assertions.assertEquals(volumes.get(index), bvh.value(index));
+      Assertions.assertEquals(volumes.get(index), bvh.volume(index));
+    }
+
+    final var query = VolumeL.of(15L, 35L, 15L, 25L, 15L, 25L);
+    final var found = Set.copyOf(bvh.overlapping(query));
+    Assertions.assertEquals(12, found.size());
+    Assertions.assertEquals(
+      bruteForce(volumes, v -> VolumesL.overlaps(v, query)),
+      found);
+  }
+
+  @Test
+  public void testZeroSized()
+  {
+    final var volumes = new ArrayList<>(gridL(4));
+    final var empty = VolumeL.of(100L, 100L, 100L, 100L, 100L, 100L);
+    volumes.add(empty);
+
+    final var bvh = VolumeBVHL.create(volumes, Function.identity());
+    final var query = VolumeL.of(100L, 101L, 100L, 101L, 100L, 101L);
+
+    Assertions.assertTrue(VolumesL.overlaps(empty, query));
+    Assertions.assertEquals(List.of(empty), bvh.overlapping(query));
+    Assertions.assertEquals(List.of(empty), bvh.containedBy(query));
+  }
+
+  @Test
+  public void testHandleReuse()
+  {
+    final var bvh = VolumeBVHL.<String>create();
+    final var volume = VolumeL.of(0L, 10L, 0L, 10L, 0L, 10L);
+    final var h0 = bvh.insert("a", volume);
+    final var h1 = bvh.insert("b", volume);
+    bvh.remove(h0);
+    final var h2 = bvh.insert("c", volume);
+
+    Assertions.assertEquals(h0, h2);
+    Assertions.assertEquals("b", bvh.value(h1));
+    Assertions.assertEquals("c", bvh.value(h2));
+    Assertions.assertEquals(Set.of("b", "c"), Set.copyOf(bvh.overlapping(volume)));
+  }
+
+  @Property
+  public void testBuildQueriesL(
+    final @ForAll List<VolumeL> volumes,
+    final @ForAll VolumeL query)
+  {
+    checkQueriesL(VolumeBVHL.create(volumes, Function.identity()), volumes, query);
+  }
+
+  @Property
+  public void testBuildQueriesF(
+    final @ForAll List<VolumeF> volumes,
+    final @ForAll VolumeF query)
+  {
+    final var bvh = VolumeBVHF.create(volumes, Function.identity());
+
+    Assertions.assertEquals(
+      bruteForce(volumes, v -> VolumesF.overlaps(v, query)),
+      Set.copyOf(bvh.overlapping(query)));
+    Assertions.assertEquals(
+      bruteForce(volumes, v -> VolumesF.contains(query, v)),
+      Set.copyOf(bvh.containedBy(query)));
+    Assertions.assertEquals(
+      bruteForce(volumes, v -> VolumesF.contains(v, query)),
+      Set.copyOf(bvh.containing(query)));
+
+    final var x = query.minimumX();
+    final var y = query.minimumY();
+    final var z = query.minimumZ();
+    Assertions.assertEquals(
+      bruteForce(volumes, v -> VolumesF.containsPoint(v, x, y, z)),
+      Set.copyOf(bvh.containingPoint(x, y, z)));
+  }
+
+  @Property
+  public void testInsertQueriesL(
+    final @ForAll List<VolumeL> volumes,
+    final @ForAll VolumeL query)
+  {
+    final var bvh = VolumeBVHL.<VolumeL>create();
+    for (final var volume : volumes) {
+      bvh.insert(volume, volume);
+    }
+    checkQueriesL(bvh, volumes, query);
+  }
+
+  @Property
+  public void testRemoveQueriesL(
+    final @ForAll List<VolumeL> volumes,
+    final @ForAll VolumeL query)
+  {
+    final var bvh = VolumeBVHL.create(volumes, Function.identity());
+    final var remaining = new ArrayList<VolumeL>();
+    for (int index = 0; index < volumes.size(); ++index) {
+      if (index % 3 == 0) {
+        bvh.remove(index);
+      } else {
+        remaining.add(volumes.get(index));
+      }
+    }
+    checkQueriesL(bvh, remaining, query);
+  }
+
+  @Property
+  public void testUpdateRefitL(
+    final @ForAll List<VolumeL> volumes,
+    final @ForAll List<VolumeL> moved,
+    final @ForAll VolumeL query)
+  {
+    final var bvh = VolumeBVHL.<Integer>create();
+    final var current = new ArrayList<>(volumes);
+    for (int index = 0; index < volumes.size(); ++index) {
+      Assertions.assertEquals(index, bvh.insert(Integer.valueOf(index), volumes.get(index)));
+    }
+
+    final var count = Math.min(volumes.size(), moved.size());
+    for (int index = 0; index < count; ++index) {
+      bvh.update(index, moved.get(index));
+      current.set(index, moved.get(index));
+    }
+
+    final var indices = new ArrayList<Integer>();
+    for (int index = 0; index < current.size(); ++index) {
+      indices.add(Integer.valueOf(index));
+    }
+
+    Assertions.assertEquals(
+      bruteForce(indices, i -> VolumesL.overlaps(current.get(i.intValue()), query)),
+      Set.copyOf(bvh.overlapping(query)));
+
+    bvh.rebuild();
+    for (int index = 0; index < current.size(); ++index) {
+      Assertions.assertEquals(current.get(index), bvh.volume(index));
+    }
+    Assertions.assertEquals(
+      bruteForce(indices, i -> VolumesL.contains(current.get(i.intValue()), query)),
+      Set.copyOf(bvh.containing(query)));
+  }
+
+  @Test
+  public void testParameterized()
+  {
+    final var a = PVolumeF.<Object>of(0.0f, 10.0f, 0.0f, 10.0f, 0.0f, 10.0f);
+    final var b = PVolumeF.<Object>of(50.0f, 60.0f, 50.0f, 60.0f, 50.0f, 60.0f);
+    final var all = PVolumeF.<Object>of(0.0f, 100.0f, 0.0f, 100.0f, 0.0f, 100.0f);
+
+    final var bvh =
+      PVolumeBVHF.<Object, PVolumeF<Object>>create(List.of(a, b), Function.identity());
+
+    Assertions.assertEquals(2, bvh.size());
+    Assertions.assertEquals(b, bvh.volume(1));
+    Assertions.assertEquals(List.of(a), bvh.containingPoint(5.0f, 5.0f, 5.0f));
+    Assertions.assertEquals(List.of(b), bvh.containing(b));
+    Assertions.assertEquals(Set.of(a, b), Set.copyOf(bvh.containedBy(all)));
+
+    bvh.update(0, PVolumeF.of(70.0f, 80.0f, 70.0f, 80.0f, 70.0f, 80.0f));
+    bvh.refit();
+    Assertions.assertEquals(List.of(), bvh.containingPoint(5.0f, 5.0f, 5.0f));
+    Assertions.assertEquals(List.of(a), bvh.containingPoint(75.0f, 75.0f, 75.0f));
+
+    bvh.remove(1);
+    final var h = bvh.insert(b, b);
+    bvh.rebuild();
+    Assertions.assertEquals(b, bvh.value(h));
+    Assertions.assertFalse(bvh.isEmpty());
+  }
+}
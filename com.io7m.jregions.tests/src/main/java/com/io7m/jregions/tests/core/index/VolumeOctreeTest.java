@@ -0,0 +1,288 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jregions.tests.core.index;
+
+import com.io7m.jaffirm.core.PreconditionViolationException;
+import com.io7m.jregions.core.parameterized.index.PVolumeOctreeL;
+import com.io7m.jregions.core.parameterized.volumes.PVolumeL;
+import com.io7m.jregions.core.unparameterized.index.VolumeOctreeF;
+import com.io7m.jregions.core.unparameterized.index.VolumeOctreeL;
+import com.io7m.jregions.core.unparameterized.volumes.VolumeF;
+import com.io7m.jregions.core.unparameterized.volumes.VolumeL;
+import com.io7m.jregions.core.unparameterized.volumes.VolumesF;
+import com.io7m.jregions.core.unparameterized.volumes.VolumesL;
+import net.jqwik.api.ForAll;
+import net.jqwik.api.Property;
+import net.jqwik.api.constraints.IntRange;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+public final class VolumeOctreeTest
+{
+  private static final VolumeL BOUNDS_L =
+    VolumeL.of(0L, 10001L, 0L, 10001L, 0L, 10001L);
+  private static final VolumeF BOUNDS_F =
+    VolumeF.of(0.0f, 10001.0f, 0.0f, 10001.0f, 0.0f, 10001.0f);
+
+  private static <T> Set<T> bruteForce(
+    final List<T> values,
+    final Predicate<T> predicate)
+  {
+    return values.stream()
+      .filter(predicate)
+      .collect(Collectors.toSet());
+  }
+
+  private static List<VolumeL> gridL(
+    final int count)
+  {
+    final var results = new ArrayList<VolumeL>(count * count * count);
+    for (int z = 0; z < count; ++z) {
+      for (int y = 0; y < count; ++y) {
+        for (int x = 0; x < count; ++x) {
+          results.add(VolumesL.create(x * 10L, y * 10L, z * 10L, 10L, 10L, 10L));
+        }
+      }
+    }
+    return results;
+  }
+
+  private static VolumeOctreeL<VolumeL> treeL(
+    final List<VolumeL> volumes,
+    final int capacity,
+    final int depth)
+  {
+    final var tree = VolumeOctreeL.<VolumeL>create(BOUNDS_L, capacity, depth);
+    for (final var volume : volumes) {
+      tree.insert(volume, volume);
+    }
+    return tree;
+  }
+
+  @Test
+  public void testEmpty()
+  {
+    final var tree = VolumeOctreeL.<VolumeL>create(BOUNDS_L);
+    final var query = VolumeL.of(0L, 10L, 0L, 10L, 0L, 10L);
+
+    Assertions.assertTrue(tree.isEmpty());
+    Assertions.assertEquals(0, tree.size());
+    Assertions.assertEquals(BOUNDS_L, tree.bounds());
+    Assertions.assertEquals(List.of(), tree.overlapping(query));
+    Assertions.assertEquals(List.of(), tree.containedBy(query));
+    Assertions.assertEquals(List.of(), tree.containing(query));
+    Assertions.assertEquals(List.of(), tree.containingPoint(0L, 0L, 0L));
+  }
+
+  @Test
+  public void testInvalidParameters()
+  {
+    Assertions.assertThrows(PreconditionViolationException.class, () -> {
+      VolumeOctreeL.create(BOUNDS_L, 0, 8);
+    });
+    Assertions.assertThrows(PreconditionViolationException.class, () -> {
+      VolumeOctreeL.create(BOUNDS_L, 8, -1);
+    });
+  }
+
+  @Test
+  public void testInsertOutsideBounds()
+  {
+    final var tree = VolumeOctreeL.<VolumeL>create(BOUNDS_L);
+    final var volume = VolumeL.of(10000L, 10002L, 0L, 1L, 0L, 1L);
+    Assertions.assertThrows(PreconditionViolationException.class, () -> {
+      tree.insert(volume, volume);
+    });
+    Assertions.assertFalse(tree.remove(volume, volume));
+  }
+
+  @Test
+  public void testGrid()
+  {
+    final var volumes = gridL(20);
+    final var tree = treeL(volumes, 4, 8);
+
+    Assertions.assertEquals(8000, tree.size());
+    Assertions.assertEquals(
+      List.of(VolumeL.of(30L, 40L, 70L, 80L, 120L, 130L)),
+      tree.containingPoint(35L, 79L, 120L));
+
+    final var query = VolumeL.of(15L, 35L, 15L, 25L, 15L, 25L);
+    final var found = Set.copyOf(tree.overlapping(query));
+    Assertions.assertEquals(12, found.size());
+    Assertions.assertEquals(
+      bruteForce(volumes, v -> VolumesL.overlaps(v, query)),
+      found);
+  }
+
+  @Test
+  public void testZeroSized()
+  {
+    final var volumes = new ArrayList<>(gridL(4));
+    final var empty = VolumeL.of(100L, 100L, 100L, 100L, 100L, 100L);
+    volumes.add(empty);
+
+    final var tree = treeL(volumes, 1, 8);
+    final var query = VolumeL.of(100L, 101L, 100L, 101L, 100L, 101L);
+
+    Assertions.assertTrue(VolumesL.overlaps(empty, query));
+    Assertions.assertEquals(List.of(empty), tree.overlapping(query));
+    Assertions.assertEquals(List.of(empty), tree.containedBy(query));
+  }
+
+  @Test
+  public void testRemoveRefit()
+  {
+    final var volumes = gridL(8);
+    final var tree = treeL(volumes, 2, 8);
+    final var all = VolumeL.of(0L, 80L, 0L, 80L, 0L, 80L);
+
+    for (final var volume : volumes) {
+      Assertions.assertTrue(tree.remove(volume, volume));
+      Assertions.assertFalse(tree.remove(volume, volume));
+    }
+
+    Assertions.assertTrue(tree.isEmpty());
+    Assertions.assertEquals(List.of(), tree.overlapping(all));
+    tree.refit();
+    Assertions.assertEquals(List.of(), tree.overlapping(all));
+
+    final var volume = VolumeL.of(5L, 15L, 5L, 15L, 5L, 15L);
+    tree.insert(volume, volume);
+    Assertions.assertEquals(List.of(volume), tree.overlapping(all));
+  }
+
+  @Property
+  public void testQueriesL(
+    final @ForAll List<VolumeL> volumes,
+    final @ForAll VolumeL query,
+    final @ForAll @IntRange(min = 1, max = 8) int capacity,
+    final @ForAll @IntRange(min = 0, max = 6) int depth)
+  {
+    final var tree = treeL(volumes, capacity, depth);
+    Assertions.assertEquals(volumes.size(), tree.size());
+
+    Assertions.assertEquals(
+      bruteForce(volumes, v -> VolumesL.overlaps(v, query)),
+      Set.copyOf(tree.overlapping(query)));
+    Assertions.assertEquals(
+      bruteForce(volumes, v -> VolumesL.contains(query, v)),
+      Set.copyOf(tree.containedBy(query)));
+    Assertions.assertEquals(
+      bruteForce(volumes, v -> VolumesL.contains(v, query)),
+      Set.copyOf(tree.containing(query)));
+
+    final var x = query.minimumX();
+    final var y = query.minimumY();
+    final var z = query.minimumZ();
+    Assertions.assertEquals(
+      bruteForce(volumes, v -> VolumesL.containsPoint(v, x, y, z)),
+      Set.copyOf(tree.containingPoint(x, y, z)));
+  }
+
+  @Property
+  public void testQueriesF(
+    final @ForAll List<VolumeF> volumes,
+    final @ForAll VolumeF query,
+    final @ForAll @IntRange(min = 1, max = 8) int capacity,
+    final @ForAll @IntRange(min = 0, max = 6) int depth)
+  {
+    final var tree = VolumeOctreeF.<VolumeF>create(BOUNDS_F, capacity, depth);
+    for (final var volume : volumes) {
+      tree.insert(volume, volume);
+    }
+
+    Assertions.assertEquals(
+      bruteForce(volumes, v -> VolumesF.overlaps(v, query)),
+      Set.copyOf(tree.overlapping(query)));
+    Assertions.assertEquals(
+      bruteForce(volumes, v -> VolumesF.contains(query, v)),
+      Set.copyOf(tree.containedBy(query)));
+    Assertions.assertEquals(
+      bruteForce(volumes, v -> VolumesF.contains(v, query)),
+      Set.copyOf(tree.containing(query)));
+
+    final var x = query.minimumX();
+    final var y = query.minimumY();
+    final var z = query.minimumZ();
+    Assertions.assertEquals(
+      bruteForce(volumes, v -> VolumesF.containsPoint(v, x, y, z)),
+      Set.copyOf(tree.containingPoint(x, y, z)));
+  }
+
+  @Property
+  public void testRemoveHalfL(
+    final @ForAll List<VolumeL> volumes,
+    final @ForAll VolumeL query,
+    final @ForAll @IntRange(min = 1, max = 8) int capacity)
+  {
+    final var tree = treeL(volumes, capacity, 6);
+    final var remaining = new ArrayList<VolumeL>();
+    for (int index = 0; index < volumes.size(); ++index) {
+      final var volume = volumes.get(index);
+      if (index % 2 == 0) {
+        Assertions.assertTrue(tree.remove(volume, volume));
+      } else {
+        remaining.add(volume);
+      }
+    }
+
+    Assertions.assertEquals(remaining.size(), tree.size());
+    Assertions.assertEquals(
+      bruteForce(remaining, v -> VolumesL.overlaps(v, query)),
+      Set.copyOf(tree.overlapping(query)));
+
+    tree.refit();
+    Assertions.assertEquals(
+      bruteForce(remaining, v -> VolumesL.overlaps(v, query)),
+      Set.copyOf(tree.overlapping(query)));
+    Assertions.assertEquals(
+      bruteForce(remaining, v -> VolumesL.contains(v, query)),
+      Set.copyOf(tree.containing(query)));
+  }
+
+  @Test
+  public void testParameterized()
+  {
+    final var bounds = PVolumeL.<Object>of(0L, 100L, 0L, 100L, 0L, 100L);
+    final var tree = PVolumeOctreeL.<Object, String>create(bounds, 1, 4);
+    final var a = PVolumeL.<Object>of(0L, 10L, 0L, 10L, 0L, 10L);
+    final var b = PVolumeL.<Object>of(50L, 60L, 50L, 60L, 50L, 60L);
+
+    tree.insert("a", a);
+    tree.insert("b", b);
+
+    Assertions.assertEquals(bounds, tree.bounds());
+    Assertions.assertEquals(2, tree.size());
+    Assertions.assertEquals(List.of("a"), tree.containingPoint(5L, 5L, 5L));
+    Assertions.assertEquals(List.of("b"), tree.containing(b));
+    Assertions.assertEquals(
+      Set.of("a", "b"),
+      Set.copyOf(tree.containedBy(bounds)));
+
+    Assertions.assertTrue(tree.remove("a", a));
+    tree.refit();
+    Assertions.assertEquals(List.of("b"), tree.overlapping(bounds));
+    Assertions.assertFalse(tree.isEmpty());
+  }
+}
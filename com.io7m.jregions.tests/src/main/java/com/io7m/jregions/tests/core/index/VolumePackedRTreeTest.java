@@ -0,0 +1,189 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jregions.tests.core.index;
+
+import com.io7m.jaffirm.core.PreconditionViolationException;
+import com.io7m.jregions.core.unparameterized.index.VolumePackedRTreeL;
+import com.io7m.jregions.core.unparameterized.volumes.VolumeL;
+import com.io7m.jregions.core.unparameterized.volumes.VolumesL;
+import net.jqwik.api.ForAll;
+import net.jqwik.api.Property;
+import net.jqwik.api.constraints.IntRange;
+import net.jqwik.api.constraints.LongRange;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+public final class VolumePackedRTreeTest
+{
+  private static Set<Integer> bruteForce(
+    final List<VolumeL> volumes,
+    final Predicate<VolumeL> predicate)
+  {
+    return IntStream.range(0, volumes.size())
+      .filter(index -> predicate.test(volumes.get(index)))
+      .boxed()
+      .collect(Collectors.toSet());
+  }
+
+  private static Set<Integer> indices(
+    final int[] indices)
+  {
+    final var results =
+      Arrays.stream(indices).boxed().collect(Collectors.toSet());
+    Assertions.assertEquals(indices.length, results.size());
+    return results;
+  }
+
+  @Test
+  public void testEmpty()
+  {
+    final var tree = VolumePackedRTreeL.create(List.of());
+    Assertions.assertTrue(tree.isEmpty());
+    Assertions.assertEquals(0, tree.size());
+    Assertions.assertEquals(0, tree.containingPoint(0L, 0L, 0L).length);
+    Assertions.assertTrue(VolumePackedRTreeL.wrap(tree.buffer()).isEmpty());
+  }
+
+  @Test
+  public void testNodeCapacityInvalid()
+  {
+    Assertions.assertThrows(PreconditionViolationException.class, () -> {
+      VolumePackedRTreeL.create(List.of(), 1);
+    });
+  }
+
+  @Test
+  public void testEdgesInvalid()
+  {
+    Assertions.assertThrows(PreconditionViolationException.class, () -> {
+      VolumePackedRTreeL.create(
+        new long[1],
+        new long[1],
+        new long[1],
+        new long[1],
+        new long[]{10L},
+        new long[]{0L},
+        1,
+        4);
+    });
+  }
+
+  @Test
+  public void testGrid()
+  {
+    final var volumes = new ArrayList<VolumeL>();
+    for (int z = 0; z < 20; ++z) {
+      for (int y = 0; y < 20; ++y) {
+        for (int x = 0; x < 20; ++x) {
+          volumes.add(VolumesL.create(x * 10L, y * 10L, z * 10L, 10L, 10L, 10L));
+        }
+      }
+    }
+
+    final var tree = VolumePackedRTreeL.create(volumes, 4);
+    for (int index = 0; index < volumes.size(); index += 37) {
+      final var volume = volumes.get(index);
+      Assertions.assertArrayEquals(
+        new int[]{index},
+        tree.containingPoint(
+          volume.minimumX() + 5L,
+          volume.minimumY() + 5L,
+          volume.minimumZ() + 5L));
+    }
+
+    final var found = new ArrayList<VolumeL>();
+    tree.containingVolumes(
+      VolumesL.create(12L, 12L, 12L, 2L, 2L, 2L),
+      (volume, index) -> {
+        Assertions.assertEquals(volumes.get(index), volume);
+        found.add(volume);
+      });
+    Assertions.assertEquals(List.of(volumes.get(421)), found);
+  }
+
+  @Property
+  public void testOverlapping(
+    final @ForAll List<VolumeL> volumes,
+    final @ForAll VolumeL query,
+    final @ForAll @IntRange(min = 2, max = 32) int capacity)
+  {
+    final var tree = VolumePackedRTreeL.create(volumes, capacity);
+    Assertions.assertEquals(
+      bruteForce(volumes, v -> VolumesL.overlaps(v, query)),
+      indices(tree.overlapping(query)));
+  }
+
+  @Property
+  public void testContainedBy(
+    final @ForAll List<VolumeL> volumes,
+    final @ForAll VolumeL query,
+    final @ForAll @IntRange(min = 2, max = 32) int capacity)
+  {
+    final var tree = VolumePackedRTreeL.create(volumes, capacity);
+    Assertions.assertEquals(
+      bruteForce(volumes, v -> VolumesL.contains(query, v)),
+      indices(tree.containedBy(query)));
+  }
+
+  @Property
+  public void testContaining(
+    final @ForAll List<VolumeL> volumes,
+    final @ForAll VolumeL query,
+    final @ForAll @IntRange(min = 2, max = 32) int capacity)
+  {
+    final var tree = VolumePackedRTreeL.create(volumes, capacity);
+    Assertions.assertEquals(
+      bruteForce(volumes, v -> VolumesL.contains(v, query)),
+      indices(tree.containing(query)));
+  }
+
+  @Property
+  public void testContainingPoint(
+    final @ForAll List<VolumeL> volumes,
+    final @ForAll @LongRange(min = 0L, max = 10000L) long x,
+    final @ForAll @LongRange(min = 0L, max = 10000L) long y,
+    final @ForAll @LongRange(min = 0L, max = 10000L) long z,
+    final @ForAll @IntRange(min = 2, max = 32) int capacity)
+  {
+    final var tree = VolumePackedRTreeL.create(volumes, capacity);
+    Assertions.assertEquals(
+      bruteForce(volumes, v -> VolumesL.containsPoint(v, x, y, z)),
+      indices(tree.containingPoint(x, y, z)));
+  }
+
+  @Property
+  public void testOverlappingVolumes(
+    final @ForAll List<VolumeL> volumes,
+    final @ForAll VolumeL query)
+  {
+    final var tree = VolumePackedRTreeL.create(volumes);
+    final var found = new ArrayList<Integer>();
+    tree.overlappingVolumes(query, (volume, index) -> {
+      Assertions.assertEquals(volumes.get(index), volume);
+      found.add(Integer.valueOf(index));
+    });
+    Assertions.assertEquals(indices(tree.overlapping(query)), Set.copyOf(found));
+  }
+}
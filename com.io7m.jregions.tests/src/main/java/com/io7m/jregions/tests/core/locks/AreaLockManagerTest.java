@@ -0,0 +1,291 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jregions.tests.core.locks;
+
+import com.io7m.jregions.core.unparameterized.areas.AreaI;
+import com.io7m.jregions.core.unparameterized.areas.AreaL;
+import com.io7m.jregions.core.unparameterized.locks.AreaLockManagerI;
+import com.io7m.jregions.core.unparameterized.locks.AreaLockManagerL;
+import com.io7m.jregions.core.unparameterized.locks.AreaLockMode;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.ArrayList;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.io7m.jregions.core.unparameterized.locks.AreaLockMode.READ;
+import static com.io7m.jregions.core.unparameterized.locks.AreaLockMode.WRITE;
+
+@Timeout(value = 30L, unit = TimeUnit.SECONDS)
+public final class AreaLockManagerTest
+{
+  private static final AreaI LEFT = AreaI.of(0, 10, 0, 10);
+  private static final AreaI RIGHT = AreaI.of(10, 20, 0, 10);
+  private static final AreaI MIDDLE = AreaI.of(5, 15, 0, 10);
+
+  private static void awaitWaiting(
+    final AreaLockManagerI manager,
+    final int count)
+    throws InterruptedException
+  {
+    while (manager.metrics().waiting() != count) {
+      Thread.sleep(1L);
+    }
+  }
+
+  @Test
+  public void testModes()
+  {
+    Assertions.assertTrue(READ.isCompatibleWith(READ));
+    Assertions.assertFalse(READ.isCompatibleWith(WRITE));
+    Assertions.assertFalse(WRITE.isCompatibleWith(READ));
+    Assertions.assertFalse(WRITE.isCompatibleWith(WRITE));
+  }
+
+  @Test
+  public void testDisjointWritesConcurrent()
+    throws Exception
+  {
+    final var manager = AreaLockManagerI.create();
+    try (var left = manager.lock(LEFT, WRITE)) {
+      try (var right = manager.lock(RIGHT, WRITE)) {
+        Assertions.assertEquals(LEFT, left.area());
+        Assertions.assertEquals(WRITE, right.mode());
+        Assertions.assertEquals(2, manager.metrics().held());
+      }
+    }
+    Assertions.assertEquals(0, manager.metrics().held());
+    Assertions.assertEquals(2L, manager.metrics().acquisitions());
+    Assertions.assertEquals(0L, manager.metrics().contendedAcquisitions());
+  }
+
+  @Test
+  public void testConflicts()
+    throws Exception
+  {
+    final var manager = AreaLockManagerI.create();
+    try (var left = manager.lock(LEFT, READ)) {
+      try (var middle = manager.tryLock(MIDDLE, READ).orElseThrow()) {
+        Assertions.assertEquals(MIDDLE, middle.area());
+        Assertions.assertTrue(manager.tryLock(MIDDLE, WRITE).isEmpty());
+        Assertions.assertTrue(
+          manager.tryLock(RIGHT, WRITE, 10L, TimeUnit.MILLISECONDS).isEmpty());
+      }
+      Assertions.assertTrue(manager.tryLock(RIGHT, WRITE).isPresent());
+      Assertions.assertEquals(READ, left.mode());
+    }
+
+    final var metrics = manager.metrics();
+    Assertions.assertEquals(2L, metrics.timeouts());
+    Assertions.assertEquals(3L, metrics.acquisitions());
+    Assertions.assertEquals(1, metrics.held());
+  }
+
+  @Test
+  public void testCloseIdempotent()
+    throws Exception
+  {
+    final var manager = AreaLockManagerI.create();
+    final var handle = manager.lock(LEFT, WRITE);
+    handle.close();
+    handle.close();
+    Assertions.assertEquals(0, manager.metrics().held());
+    Assertions.assertTrue(manager.tryLock(LEFT, WRITE).isPresent());
+  }
+
+  @Test
+  public void testWaiterGranted()
+    throws Exception
+  {
+    final var manager = AreaLockManagerI.create();
+    final var held = manager.lock(LEFT, WRITE);
+    final var acquired = new CountDownLatch(1);
+
+    final var thread = Thread.ofVirtual().start(() -> {
+      try (var handle = manager.lock(MIDDLE, WRITE)) {
+        Assertions.assertEquals(MIDDLE, handle.area());
+        acquired.countDown();
+      } catch (final InterruptedException e) {
+        throw new IllegalStateException(e);
+      }
+    });
+
+    awaitWaiting(manager, 1);
+    Assertions.assertEquals(1L, acquired.getCount());
+    held.close();
+    thread.join();
+
+    final var metrics = manager.metrics();
+    Assertions.assertEquals(0L, acquired.getCount());
+    Assertions.assertEquals(1L, metrics.contendedAcquisitions());
+    Assertions.assertTrue(metrics.maximumWaitTime().toNanos() > 0L);
+    Assertions.assertEquals(metrics.maximumWaitTime(), metrics.totalWaitTime());
+  }
+
+  /**
+   * A waiting writer blocks later readers, even if the readers are
+   * compatible with every held lock.
+   */
+
+  @Test
+  public void testWritersNotStarved()
+    throws Exception
+  {
+    final var manager = AreaLockManagerI.create();
+    final var reader = manager.lock(LEFT, READ);
+    final var writerHolding = new CountDownLatch(1);
+    final var writerRelease = new CountDownLatch(1);
+
+    final var writer = Thread.ofVirtual().start(() -> {
+      try (var handle = manager.lock(MIDDLE, WRITE)) {
+        Assertions.assertEquals(WRITE, handle.mode());
+        writerHolding.countDown();
+        writerRelease.await();
+      } catch (final InterruptedException e) {
+        throw new IllegalStateException(e);
+      }
+    });
+
+    awaitWaiting(manager, 1);
+    Assertions.assertTrue(manager.tryLock(LEFT, READ).isEmpty());
+    Assertions.assertTrue(manager.tryLock(AreaI.of(0, 4, 0, 4), READ).isPresent());
+
+    reader.close();
+    writerHolding.await();
+    Assertions.assertTrue(manager.tryLock(LEFT, READ).isEmpty());
+    writerRelease.countDown();
+    writer.join();
+    Assertions.assertTrue(manager.tryLock(LEFT, READ).isPresent());
+  }
+
+  @Test
+  public void testInterrupted()
+    throws Exception
+  {
+    final var manager = AreaLockManagerI.create();
+    final var held = manager.lock(LEFT, WRITE);
+    final var failure = new AtomicReference<Throwable>();
+
+    final var thread = Thread.ofVirtual().start(() -> {
+      try {
+        manager.lock(MIDDLE, WRITE);
+      } catch (final Throwable e) {
+        failure.set(e);
+      }
+    });
+
+    awaitWaiting(manager, 1);
+    thread.interrupt();
+    thread.join();
+
+    Assertions.assertInstanceOf(InterruptedException.class, failure.get());
+    Assertions.assertEquals(1L, manager.metrics().interruptions());
+    Assertions.assertEquals(0, manager.metrics().waiting());
+
+    held.close();
+    Assertions.assertEquals(0, manager.metrics().held());
+  }
+
+  /**
+   * An abandoned waiting request no longer blocks requests behind it.
+   */
+
+  @Test
+  public void testTimeoutUnblocksLaterWaiters()
+    throws Exception
+  {
+    final var manager = AreaLockManagerI.create();
+    final var held = manager.lock(LEFT, READ);
+    final var timedOut = new AtomicBoolean();
+
+    final var writer = Thread.ofVirtual().start(() -> {
+      try {
+        timedOut.set(manager.tryLock(MIDDLE, WRITE, 50L, TimeUnit.MILLISECONDS).isEmpty());
+      } catch (final InterruptedException e) {
+        throw new IllegalStateException(e);
+      }
+    });
+
+    awaitWaiting(manager, 1);
+    try (var reader = manager.lock(RIGHT, READ)) {
+      Assertions.assertEquals(RIGHT, reader.area());
+    }
+    writer.join();
+    held.close();
+
+    Assertions.assertTrue(timedOut.get());
+    Assertions.assertEquals(1L, manager.metrics().timeouts());
+  }
+
+  @Test
+  public void testNoLostUpdates()
+    throws Exception
+  {
+    final int size = 16;
+    final int tasks = 2000;
+    final var manager = AreaLockManagerL.create();
+    final int[] canvas = new int[size * size];
+    final var random = new Random(0x5eedL);
+    final var areas = new ArrayList<AreaL>(tasks);
+    long expected = 0L;
+
+    for (int index = 0; index < tasks; ++index) {
+      final long x = random.nextInt(size);
+      final long y = random.nextInt(size);
+      final long w = 1L + random.nextInt((int) (size - x));
+      final long h = 1L + random.nextInt((int) (size - y));
+      areas.add(AreaL.of(x, x + w, y, y + h));
+      expected += w * h;
+    }
+
+    try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      for (final var area : areas) {
+        executor.submit(() -> {
+          try (var handle = manager.lock(area, AreaLockMode.WRITE)) {
+            final var locked = handle.area();
+            for (long y = locked.minimumY(); y < locked.maximumY(); ++y) {
+              for (long x = locked.minimumX(); x < locked.maximumX(); ++x) {
+                final int index = (int) (y * size + x);
+                final int value = canvas[index];
+                Thread.yield();
+                canvas[index] = value + 1;
+              }
+            }
+          }
+          return null;
+        });
+      }
+    }
+
+    long sum = 0L;
+    for (final int value : canvas) {
+      sum += value;
+    }
+    Assertions.assertEquals(expected, sum);
+
+    final var metrics = manager.metrics();
+    Assertions.assertEquals(tasks, metrics.acquisitions());
+    Assertions.assertEquals(0, metrics.held());
+    Assertions.assertEquals(0, metrics.waiting());
+  }
+}
@@ -0,0 +1,186 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jregions.tests.core.packing;
+
+import com.io7m.jaffirm.core.PreconditionViolationException;
+import com.io7m.jregions.core.unparameterized.areas.AreaI;
+import com.io7m.jregions.core.unparameterized.areas.AreasI;
+import com.io7m.jregions.core.unparameterized.packing.GuillotinePackerI;
+import com.io7m.jregions.core.unparameterized.sizes.AreaSizeI;
+import net.jqwik.api.ForAll;
+import net.jqwik.api.Property;
+import net.jqwik.api.constraints.IntRange;
+import net.jqwik.api.constraints.Size;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+public final class GuillotinePackerTest
+{
+  private static long areaOf(
+    final AreaI area)
+  {
+    return (long) area.sizeX() * (long) area.sizeY();
+  }
+
+  private static void checkInvariants(
+    final GuillotinePackerI packer,
+    final List<AreaI> placed)
+  {
+    MaxRectsPackerTest.checkDisjoint(packer.container(), placed);
+
+    final var free = packer.freeAreas();
+    MaxRectsPackerTest.checkDisjoint(packer.container(), free);
+
+    long free_total = 0L;
+    for (final var f : free) {
+      free_total += areaOf(f);
+      for (final var p : placed) {
+        Assertions.assertFalse(AreasI.overlaps(f, p));
+      }
+    }
+
+    Assertions.assertEquals(placed.size(), packer.usedCount());
+    Assertions.assertEquals(
+      areaOf(packer.container()),
+      free_total + packer.usedArea());
+  }
+
+  @Test
+  public void testFillAndRelease()
+  {
+    final var packer = GuillotinePackerI.create(AreaSizeI.of(64, 64));
+
+    final var placed = new ArrayList<AreaI>();
+    for (int index = 0; index < 16; ++index) {
+      placed.add(packer.insert(AreaSizeI.of(16, 16)).orElseThrow());
+    }
+
+    Assertions.assertEquals(Optional.empty(), packer.insert(AreaSizeI.of(1, 1)));
+    Assertions.assertEquals(1.0, packer.occupancy());
+    Assertions.assertEquals(List.of(), packer.freeAreas());
+    checkInvariants(packer, placed);
+
+    for (final var area : placed) {
+      packer.release(area);
+    }
+
+    Assertions.assertEquals(0L, packer.usedArea());
+    Assertions.assertEquals(List.of(AreaI.of(0, 64, 0, 64)), packer.freeAreas());
+  }
+
+  @Test
+  public void testReleaseReuse()
+  {
+    final var packer = GuillotinePackerI.create(AreaSizeI.of(32, 32));
+
+    final var a = packer.insert(AreaSizeI.of(32, 16)).orElseThrow();
+    final var b = packer.insert(AreaSizeI.of(32, 16)).orElseThrow();
+    Assertions.assertEquals(Optional.empty(), packer.insert(AreaSizeI.of(32, 16)));
+
+    packer.release(a);
+    Assertions.assertEquals(
+      Optional.of(a),
+      packer.insert(AreaSizeI.of(32, 16)));
+    Assertions.assertNotEquals(a, b);
+  }
+
+  @Test
+  public void testBestFit()
+  {
+    final var packer = GuillotinePackerI.create(AreaSizeI.of(100, 100));
+
+    final var wide = packer.insert(AreaSizeI.of(100, 10)).orElseThrow();
+    final var narrow = packer.insert(AreaSizeI.of(10, 90)).orElseThrow();
+    packer.insert(AreaSizeI.of(90, 80)).orElseThrow();
+
+    Assertions.assertEquals(AreaI.of(0, 100, 0, 10), wide);
+    Assertions.assertEquals(AreaI.of(0, 10, 10, 100), narrow);
+
+    /*
+     * The remaining free space is a 90x10 strip. Releasing the 10x90 column
+     * gives a narrower free rectangle that is chosen for narrow requests.
+     */
+
+    packer.release(narrow);
+    Assertions.assertEquals(
+      Optional.of(AreaI.of(0, 5, 10, 15)),
+      packer.insert(AreaSizeI.of(5, 5)));
+  }
+
+  @Test
+  public void testReleaseInvalid()
+  {
+    final var packer = GuillotinePackerI.create(AreaSizeI.of(32, 32));
+    final var a = packer.insert(AreaSizeI.of(8, 8)).orElseThrow();
+
+    Assertions.assertThrows(
+      PreconditionViolationException.class,
+      () -> packer.release(AreaI.of(0, 1, 0, 1)));
+
+    packer.release(a);
+    Assertions.assertThrows(
+      PreconditionViolationException.class,
+      () -> packer.release(a));
+  }
+
+  @Test
+  public void testZeroSize()
+  {
+    final var packer = GuillotinePackerI.create(AreaSizeI.of(1, 2));
+
+    final var a = packer.insert(AreaSizeI.of(0, 0)).orElseThrow();
+    final var b = packer.insert(AreaSizeI.of(0, 0)).orElseThrow();
+    Assertions.assertFalse(AreasI.overlaps(a, b));
+    Assertions.assertEquals(Optional.empty(), packer.insert(AreaSizeI.of(0, 0)));
+
+    packer.release(b);
+    packer.release(a);
+    Assertions.assertEquals(List.of(AreaI.of(0, 1, 0, 2)), packer.freeAreas());
+  }
+
+  @Property
+  public void testInsertRelease(
+    final @ForAll @Size(max = 128) List<@IntRange(min = -40, max = 40) Integer> operations)
+  {
+    final var packer = GuillotinePackerI.create(AreaI.of(-50, 50, 10, 110));
+    final var placed = new ArrayList<AreaI>();
+
+    for (int index = 0; index < operations.size(); ++index) {
+      final int operation = operations.get(index).intValue();
+      if (operation < 0 && !placed.isEmpty()) {
+        packer.release(placed.remove(-operation % placed.size()));
+      } else {
+        final var size = AreaSizeI.of(Math.abs(operation), (index * 13) % 41);
+        packer.insert(size).ifPresent(area -> {
+          Assertions.assertEquals(size.sizeX(), area.sizeX());
+          Assertions.assertEquals(size.sizeY(), area.sizeY());
+          placed.add(area);
+        });
+      }
+      checkInvariants(packer, placed);
+    }
+
+    for (final var area : placed) {
+      packer.release(area);
+    }
+    Assertions.assertEquals(List.of(packer.container()), packer.freeAreas());
+  }
+}
@@ -0,0 +1,237 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jregions.tests.core.packing;
+
+import com.io7m.jregions.core.unparameterized.areas.AreaI;
+import com.io7m.jregions.core.unparameterized.areas.AreasI;
+import com.io7m.jregions.core.unparameterized.packing.MaxRectsHeuristic;
+import com.io7m.jregions.core.unparameterized.packing.MaxRectsPackerI;
+import com.io7m.jregions.core.unparameterized.sizes.AreaSizeI;
+import net.jqwik.api.ForAll;
+import net.jqwik.api.Property;
+import net.jqwik.api.constraints.IntRange;
+import net.jqwik.api.constraints.Size;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.IntStream;
+
+public final class MaxRectsPackerTest
+{
+  static void checkDisjoint(
+    final AreaI container,
+    final List<AreaI> placed)
+  {
+    for (int i = 0; i < placed.size(); ++i) {
+      final var a = placed.get(i);
+      Assertions.assertTrue(
+        AreasI.contains(container, a),
+        () -> container + " must contain " + a);
+      for (int j = i + 1; j < placed.size(); ++j) {
+        final var b = placed.get(j);
+        Assertions.assertFalse(
+          AreasI.overlaps(a, b),
+          () -> a + " must not overlap " + b);
+      }
+    }
+  }
+
+  @Property
+  public void testExactFit(
+    final @ForAll MaxRectsHeuristic heuristic)
+  {
+    final var packer =
+      MaxRectsPackerI.create(AreaSizeI.of(128, 128), heuristic);
+
+    final var placed = new ArrayList<AreaI>();
+    for (int index = 0; index < 4; ++index) {
+      placed.add(packer.insert(AreaSizeI.of(64, 64)).orElseThrow());
+    }
+
+    Assertions.assertEquals(Optional.empty(), packer.insert(AreaSizeI.of(1, 1)));
+    Assertions.assertEquals(1.0, packer.occupancy());
+    Assertions.assertEquals(List.of(), packer.freeAreas());
+    checkDisjoint(packer.container(), placed);
+  }
+
+  @Test
+  public void testBottomLeft()
+  {
+    final var packer =
+      MaxRectsPackerI.create(
+        AreaSizeI.of(100, 100),
+        MaxRectsHeuristic.BOTTOM_LEFT);
+
+    Assertions.assertEquals(
+      AreaI.of(0, 60, 0, 10),
+      packer.insert(AreaSizeI.of(60, 10)).orElseThrow());
+    Assertions.assertEquals(
+      AreaI.of(60, 100, 0, 20),
+      packer.insert(AreaSizeI.of(40, 20)).orElseThrow());
+    Assertions.assertEquals(
+      AreaI.of(0, 50, 10, 20),
+      packer.insert(AreaSizeI.of(50, 10)).orElseThrow());
+  }
+
+  @Test
+  public void testOffsetContainer()
+  {
+    final var packer =
+      MaxRectsPackerI.create(
+        AreaI.of(100, 110, 200, 210),
+        MaxRectsHeuristic.BEST_SHORT_SIDE_FIT);
+
+    Assertions.assertEquals(
+      AreaI.of(100, 110, 200, 205),
+      packer.insert(AreaSizeI.of(10, 5)).orElseThrow());
+    Assertions.assertEquals(
+      AreaI.of(100, 110, 205, 210),
+      packer.insert(AreaSizeI.of(10, 5)).orElseThrow());
+  }
+
+  @Test
+  public void testTooLarge()
+  {
+    final var packer =
+      MaxRectsPackerI.create(
+        AreaSizeI.of(10, 10),
+        MaxRectsHeuristic.BEST_AREA_FIT);
+
+    Assertions.assertEquals(Optional.empty(), packer.insert(AreaSizeI.of(11, 1)));
+    Assertions.assertEquals(Optional.empty(), packer.insert(AreaSizeI.of(1, 11)));
+    Assertions.assertEquals(0L, packer.usedArea());
+  }
+
+  @Test
+  public void testEmptyContainer()
+  {
+    final var packer =
+      MaxRectsPackerI.create(
+        AreaSizeI.of(0, 10),
+        MaxRectsHeuristic.BEST_AREA_FIT);
+
+    Assertions.assertEquals(Optional.empty(), packer.insert(AreaSizeI.of(0, 0)));
+    Assertions.assertEquals(0.0, packer.occupancy());
+  }
+
+  @Test
+  public void testZeroSize()
+  {
+    final var packer =
+      MaxRectsPackerI.create(
+        AreaSizeI.of(2, 1),
+        MaxRectsHeuristic.BOTTOM_LEFT);
+
+    final var a = packer.insert(AreaSizeI.of(0, 0)).orElseThrow();
+    final var b = packer.insert(AreaSizeI.of(0, 0)).orElseThrow();
+
+    Assertions.assertEquals(AreaI.of(0, 0, 0, 0), a);
+    Assertions.assertEquals(AreaI.of(1, 1, 0, 0), b);
+    Assertions.assertFalse(AreasI.overlaps(a, b));
+    Assertions.assertEquals(Optional.empty(), packer.insert(AreaSizeI.of(0, 0)));
+  }
+
+  @Test
+  public void testReset()
+  {
+    final var packer =
+      MaxRectsPackerI.create(
+        AreaSizeI.of(10, 10),
+        MaxRectsHeuristic.BEST_AREA_FIT);
+
+    packer.insert(AreaSizeI.of(10, 10)).orElseThrow();
+    Assertions.assertEquals(1, packer.usedAreas().size());
+    packer.reset();
+
+    Assertions.assertEquals(0L, packer.usedArea());
+    Assertions.assertEquals(List.of(), packer.usedAreas());
+    Assertions.assertEquals(List.of(AreaI.of(0, 10, 0, 10)), packer.freeAreas());
+    Assertions.assertTrue(packer.insert(AreaSizeI.of(10, 10)).isPresent());
+  }
+
+  @Test
+  public void testInsertAllSorted()
+  {
+    final var packer =
+      MaxRectsPackerI.create(
+        AreaSizeI.of(100, 100),
+        MaxRectsHeuristic.BEST_SHORT_SIDE_FIT);
+
+    final var sizes = List.of(
+      AreaSizeI.of(10, 10),
+      AreaSizeI.of(200, 10),
+      AreaSizeI.of(100, 50),
+      AreaSizeI.of(50, 50));
+
+    final var result = packer.insertAll(sizes);
+    Assertions.assertEquals(List.of(1), result.rejected());
+    Assertions.assertEquals(
+      List.of(0, 2, 3),
+      result.placements().stream().map(p -> p.index()).toList());
+
+    /*
+     * The largest size is inserted first and therefore takes the corner.
+     */
+
+    Assertions.assertEquals(AreaI.of(0, 100, 0, 50), result.placements().get(1).area());
+    Assertions.assertEquals(packer.occupancy(), result.occupancy());
+    Assertions.assertEquals((5000 + 2500 + 100) / 10000.0, result.occupancy());
+    Assertions.assertFalse(result.time().isNegative());
+  }
+
+  @Property
+  public void testPlacementsDisjoint(
+    final @ForAll MaxRectsHeuristic heuristic,
+    final @ForAll @Size(max = 64) List<@IntRange(min = 0, max = 40) Integer> widths,
+    final @ForAll @IntRange(min = 0, max = 40) int height)
+  {
+    final var packer =
+      MaxRectsPackerI.create(AreaSizeI.of(100, 100), heuristic);
+
+    final var sizes =
+      IntStream.range(0, widths.size())
+        .mapToObj(i -> AreaSizeI.of(widths.get(i).intValue(), (height + i * 7) % 41))
+        .toList();
+
+    final var result = packer.insertAll(sizes);
+    final var placed = new ArrayList<AreaI>();
+    long reserved = 0L;
+    for (final var placement : result.placements()) {
+      final var size = sizes.get(placement.index());
+      final var area = placement.area();
+      Assertions.assertEquals(size.sizeX(), area.sizeX());
+      Assertions.assertEquals(size.sizeY(), area.sizeY());
+      placed.add(area);
+      reserved += (long) Math.max(1, size.sizeX()) * (long) Math.max(1, size.sizeY());
+    }
+
+    Assertions.assertEquals(
+      sizes.size(),
+      result.placements().size() + result.rejected().size());
+    Assertions.assertEquals(reserved, packer.usedArea());
+    checkDisjoint(packer.container(), placed);
+
+    for (final var free : packer.freeAreas()) {
+      for (final var area : placed) {
+        Assertions.assertFalse(AreasI.overlaps(free, area));
+      }
+    }
+  }
+}
@@ -0,0 +1,247 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jregions.tests.core.packing;
+
+import com.io7m.jaffirm.core.PreconditionViolationException;
+import com.io7m.jregions.core.unparameterized.areas.AreaI;
+import com.io7m.jregions.core.unparameterized.areas.AreaL;
+import com.io7m.jregions.core.unparameterized.areas.AreasI;
+import com.io7m.jregions.core.unparameterized.areas.AreasL;
+import com.io7m.jregions.core.unparameterized.packing.SkylinePackerI;
+import com.io7m.jregions.core.unparameterized.packing.SkylinePackerL;
+import com.io7m.jregions.core.unparameterized.sizes.AreaSizeI;
+import com.io7m.jregions.core.unparameterized.sizes.AreaSizeL;
+import net.jqwik.api.ForAll;
+import net.jqwik.api.Property;
+import net.jqwik.api.constraints.IntRange;
+import net.jqwik.api.constraints.Size;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+public final class SkylinePackerTest
+{
+  private static void checkSkylineI(
+    final SkylinePackerI packer)
+  {
+    final var container = packer.container();
+    final var skyline = packer.skyline();
+    var x = container.minimumX();
+    for (final var segment : skyline) {
+      Assertions.assertEquals(x, segment.minimumX());
+      Assertions.assertEquals(container.minimumY(), segment.minimumY());
+      Assertions.assertTrue(segment.maximumY() <= container.maximumY());
+      x = segment.maximumX();
+    }
+    Assertions.assertEquals(container.maximumX(), x);
+
+    for (int index = 1; index < skyline.size(); ++index) {
+      Assertions.assertNotEquals(
+        skyline.get(index - 1).maximumY(),
+        skyline.get(index).maximumY());
+    }
+  }
+
+  @Test
+  public void testSkyline()
+  {
+    final var packer = SkylinePackerI.create(AreaSizeI.of(10, 10), false);
+
+    Assertions.assertEquals(
+      Optional.of(AreaI.of(0, 4, 0, 2)),
+      packer.insert(AreaSizeI.of(4, 2)));
+    Assertions.assertEquals(
+      Optional.of(AreaI.of(4, 10, 0, 3)),
+      packer.insert(AreaSizeI.of(6, 3)));
+    Assertions.assertEquals(
+      List.of(AreaI.of(0, 4, 0, 2), AreaI.of(4, 10, 0, 3)),
+      packer.skyline());
+
+    Assertions.assertEquals(
+      Optional.of(AreaI.of(0, 4, 2, 3)),
+      packer.insert(AreaSizeI.of(4, 1)));
+    Assertions.assertEquals(List.of(AreaI.of(0, 10, 0, 3)), packer.skyline());
+    Assertions.assertEquals(30L, packer.usedArea());
+    Assertions.assertEquals(0.3, packer.occupancy(), 0.0000001);
+  }
+
+  @Test
+  public void testSkylineResidual()
+  {
+    final var packer = SkylinePackerI.create(AreaSizeI.of(10, 10), false);
+
+    packer.insert(AreaSizeI.of(6, 1)).orElseThrow();
+    packer.insert(AreaSizeI.of(4, 2)).orElseThrow();
+    Assertions.assertEquals(
+      Optional.of(AreaI.of(0, 3, 1, 5)),
+      packer.insert(AreaSizeI.of(3, 4)));
+    Assertions.assertEquals(
+      List.of(AreaI.of(0, 3, 0, 5), AreaI.of(3, 6, 0, 1), AreaI.of(6, 10, 0, 2)),
+      packer.skyline());
+  }
+
+  @Test
+  public void testWasteRecovery()
+  {
+    final var with = SkylinePackerI.create(AreaSizeI.of(10, 10), true);
+    final var without = SkylinePackerI.create(AreaSizeI.of(10, 10), false);
+
+    for (final var packer : List.of(with, without)) {
+      Assertions.assertEquals(
+        Optional.of(AreaI.of(0, 5, 0, 1)),
+        packer.insert(AreaSizeI.of(5, 1)));
+      Assertions.assertEquals(
+        Optional.of(AreaI.of(0, 10, 1, 3)),
+        packer.insert(AreaSizeI.of(10, 2)));
+    }
+
+    Assertions.assertEquals(List.of(AreaI.of(5, 10, 0, 1)), with.wastedAreas());
+    Assertions.assertEquals(List.of(), without.wastedAreas());
+
+    Assertions.assertEquals(
+      Optional.of(AreaI.of(5, 7, 0, 1)),
+      with.insert(AreaSizeI.of(2, 1)));
+    Assertions.assertEquals(List.of(AreaI.of(7, 10, 0, 1)), with.wastedAreas());
+    Assertions.assertEquals(
+      Optional.of(AreaI.of(0, 2, 3, 4)),
+      without.insert(AreaSizeI.of(2, 1)));
+  }
+
+  @Test
+  public void testFull()
+  {
+    final var packer = SkylinePackerI.create(AreaSizeI.of(4, 4), false);
+    Assertions.assertEquals(Optional.empty(), packer.insert(AreaSizeI.of(5, 1)));
+    Assertions.assertEquals(Optional.empty(), packer.insert(AreaSizeI.of(1, 5)));
+    packer.insert(AreaSizeI.of(4, 4)).orElseThrow();
+    Assertions.assertEquals(Optional.empty(), packer.insert(AreaSizeI.of(0, 0)));
+    Assertions.assertEquals(1.0, packer.occupancy());
+
+    packer.reset();
+    Assertions.assertEquals(0L, packer.usedArea());
+    Assertions.assertEquals(List.of(AreaI.of(0, 4, 0, 0)), packer.skyline());
+  }
+
+  @Test
+  public void testSnapshot()
+  {
+    final var packer = SkylinePackerI.create(AreaSizeI.of(16, 16), true);
+    packer.insert(AreaSizeI.of(4, 2)).orElseThrow();
+    packer.insert(AreaSizeI.of(16, 2)).orElseThrow();
+
+    final var snapshot = packer.snapshot();
+    final var skyline = packer.skyline();
+    final var waste = packer.wastedAreas();
+    Assertions.assertEquals(packer.usedArea(), snapshot.usedArea());
+
+    for (int index = 0; index < 20; ++index) {
+      packer.insert(AreaSizeI.of(3, 3));
+    }
+    Assertions.assertNotEquals(skyline, packer.skyline());
+
+    packer.restore(snapshot);
+    Assertions.assertEquals(skyline, packer.skyline());
+    Assertions.assertEquals(waste, packer.wastedAreas());
+    Assertions.assertEquals(snapshot.usedArea(), packer.usedArea());
+
+    final var other = SkylinePackerI.create(AreaSizeI.of(16, 16), true);
+    Assertions.assertThrows(
+      PreconditionViolationException.class,
+      () -> other.restore(snapshot));
+  }
+
+  @Test
+  public void testLargeCoordinatesL()
+  {
+    final var base = 1L << 40;
+    final var packer =
+      SkylinePackerL.create(AreaL.of(base, base + 100L, base, base + 100L), false);
+
+    Assertions.assertEquals(
+      Optional.of(AreaL.of(base, base + 60L, base, base + 10L)),
+      packer.insert(AreaSizeL.of(60L, 10L)));
+    Assertions.assertEquals(
+      Optional.of(AreaL.of(base + 60L, base + 100L, base, base + 20L)),
+      packer.insert(AreaSizeL.of(40L, 20L)));
+    Assertions.assertEquals(
+      Optional.of(AreaL.of(base, base + 50L, base + 10L, base + 20L)),
+      packer.insert(AreaSizeL.of(50L, 10L)));
+  }
+
+  @Property
+  public void testPlacementsDisjointI(
+    final @ForAll boolean wasteRecovery,
+    final @ForAll @Size(max = 128) List<@IntRange(min = 0, max = 24) Integer> widths,
+    final @ForAll @IntRange(min = 0, max = 24) int height)
+  {
+    final var packer =
+      SkylinePackerI.create(AreaI.of(-20, 60, 5, 85), wasteRecovery);
+    final var placed = new ArrayList<AreaI>();
+
+    long reserved = 0L;
+    for (int index = 0; index < widths.size(); ++index) {
+      final var size =
+        AreaSizeI.of(widths.get(index).intValue(), (height + index * 5) % 25);
+      final var result = packer.insert(size);
+      if (result.isPresent()) {
+        final var area = result.get();
+        Assertions.assertEquals(size.sizeX(), area.sizeX());
+        Assertions.assertEquals(size.sizeY(), area.sizeY());
+        placed.add(area);
+        reserved += (long) Math.max(1, size.sizeX()) * (long) Math.max(1, size.sizeY());
+      }
+      checkSkylineI(packer);
+    }
+
+    Assertions.assertEquals(reserved, packer.usedArea());
+    MaxRectsPackerTest.checkDisjoint(packer.container(), placed);
+
+    for (final var waste : packer.wastedAreas()) {
+      for (final var area : placed) {
+        Assertions.assertFalse(AreasI.overlaps(waste, area));
+      }
+    }
+  }
+
+  @Property
+  public void testPlacementsDisjointL(
+    final @ForAll boolean wasteRecovery,
+    final @ForAll @Size(max = 128) List<@IntRange(min = 0, max = 24) Integer> widths,
+    final @ForAll @IntRange(min = 0, max = 24) int height)
+  {
+    final var container = AreaL.of(0L, 80L, 0L, 80L);
+    final var packer = SkylinePackerL.create(container, wasteRecovery);
+    final var placed = new ArrayList<AreaL>();
+
+    for (int index = 0; index < widths.size(); ++index) {
+      final var size =
+        AreaSizeL.of(widths.get(index).longValue(), (height + index * 5) % 25);
+      packer.insert(size).ifPresent(placed::add);
+    }
+
+    for (int i = 0; i < placed.size(); ++i) {
+      final var a = placed.get(i);
+      Assertions.assertTrue(AreasL.contains(container, a));
+      for (int j = i + 1; j < placed.size(); ++j) {
+        Assertions.assertFalse(AreasL.overlaps(a, placed.get(j)));
+      }
+    }
+  }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jregions.tests.core.parameterized;
+
+import com.io7m.jregions.core.parameterized.areas.PAreaBD;
+import com.io7m.jregions.core.parameterized.areas.PAreaI;
+import com.io7m.jregions.core.parameterized.areas.PAreasBD;
+import com.io7m.jregions.core.parameterized.areas.PAreasI;
+import com.io7m.jregions.core.parameterized.volumes.PVolumeI;
+import com.io7m.jregions.core.parameterized.volumes.PVolumesI;
+import com.io7m.jregions.core.unparameterized.areas.AreaI;
+import com.io7m.jregions.core.unparameterized.areas.AreasI;
+import com.io7m.jregions.core.unparameterized.volumes.VolumeI;
+import com.io7m.jregions.core.unparameterized.volumes.VolumesI;
+import net.jqwik.api.ForAll;
+import net.jqwik.api.Property;
+import net.jqwik.api.constraints.IntRange;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+public final class PAreasSubtractTest
+{
+  @Property
+  public void testSameAsUnparameterizedI(
+    @ForAll @IntRange(min = -8, max = 8) final int ax,
+    @ForAll @IntRange(min = 0, max = 8) final int aw,
+    @ForAll @IntRange(min = -8, max = 8) final int ay,
+    @ForAll @IntRange(min = 0, max = 8) final int ah,
+    @ForAll @IntRange(min = -8, max = 8) final int bx,
+    @ForAll @IntRange(min = 0, max = 8) final int bw,
+    @ForAll @IntRange(min = -8, max = 8) final int by,
+    @ForAll @IntRange(min = 0, max = 8) final int bh)
+  {
+    final var expected = new ArrayList<AreaI>();
+    final int expectedCount = AreasI.subtract(
+      AreaI.of(ax, ax + aw, ay, ay + ah),
+      AreaI.of(bx, bx + bw, by, by + bh),
+      (x0, x1, y0, y1) -> expected.add(AreaI.of(x0, x1, y0, y1)));
+
+    final var received = new ArrayList<AreaI>();
+    final int receivedCount = PAreasI.subtract(
+      PAreaI.<Object>of(ax, ax + aw, ay, ay + ah),
+      PAreaI.<Object>of(bx, bx + bw, by, by + bh),
+      (x0, x1, y0, y1) -> received.add(AreaI.of(x0, x1, y0, y1)));
+
+    Assertions.assertEquals(expectedCount, receivedCount);
+    Assertions.assertEquals(expected, received);
+  }
+
+  @Property
+  public void testSameAsUnparameterizedVolumeI(
+    @ForAll @IntRange(min = -4, max = 4) final int ax,
+    @ForAll @IntRange(min = -4, max = 4) final int ay,
+    @ForAll @IntRange(min = -4, max = 4) final int az,
+    @ForAll @IntRange(min = 0, max = 6) final int as,
+    @ForAll @IntRange(min = -4, max = 4) final int bx,
+    @ForAll @IntRange(min = -4, max = 4) final int by,
+    @ForAll @IntRange(min = -4, max = 4) final int bz,
+    @ForAll @IntRange(min = 0, max = 6) final int bs)
+  {
+    final var expected = new ArrayList<VolumeI>();
+    final int expectedCount = VolumesI.subtract(
+      VolumeI.of(ax, ax + as, ay, ay + as + 1, az, az + as + 2),
+      VolumeI.of(bx, bx + bs, by, by + bs + 1, bz, bz + bs),
+      (x0, x1, y0, y1, z0, z1) ->
+        expected.add(VolumeI.of(x0, x1, y0, y1, z0, z1)));
+
+    final var received = new ArrayList<VolumeI>();
+    final int receivedCount = PVolumesI.subtract(
+      PVolumeI.<Object>of(ax, ax + as, ay, ay + as + 1, az, az + as + 2),
+      PVolumeI.<Object>of(bx, bx + bs, by, by + bs + 1, bz, bz + bs),
+      (x0, x1, y0, y1, z0, z1) ->
+        received.add(VolumeI.of(x0, x1, y0, y1, z0, z1)));
+
+    Assertions.assertEquals(expectedCount, receivedCount);
+    Assertions.assertEquals(expected, received);
+  }
+
+  @Test
+  public void testExampleBD()
+  {
+    final var zero = BigDecimal.ZERO;
+    final var five = BigDecimal.valueOf(5L);
+    final var ten = BigDecimal.TEN;
+
+    final var results = new ArrayList<PAreaBD<Object>>();
+    final int count = PAreasBD.subtract(
+      PAreaBD.of(zero, ten, zero, ten),
+      PAreaBD.of(zero, ten, five, ten),
+      (x0, x1, y0, y1) -> results.add(PAreaBD.of(x0, x1, y0, y1)));
+
+    Assertions.assertEquals(1, count);
+    Assertions.assertEquals(List.of(PAreaBD.of(zero, ten, zero, five)), results);
+  }
+}
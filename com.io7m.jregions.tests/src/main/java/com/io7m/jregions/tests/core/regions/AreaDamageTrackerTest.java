@@ -0,0 +1,259 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jregions.tests.core.regions;
+
+import com.io7m.jaffirm.core.PreconditionViolationException;
+import com.io7m.jregions.core.unparameterized.areas.AreaI;
+import com.io7m.jregions.core.unparameterized.areas.AreasI;
+import com.io7m.jregions.core.unparameterized.regions.AreaDamageTrackerI;
+import com.sun.management.ThreadMXBean;
+import net.jqwik.api.ForAll;
+import net.jqwik.api.Property;
+import net.jqwik.api.constraints.IntRange;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+
+public final class AreaDamageTrackerTest
+{
+  private static List<AreaI> randomAreas(
+    final long seed,
+    final int count)
+  {
+    final var random = new Random(seed);
+    final var areas = new ArrayList<AreaI>(count);
+    for (int index = 0; index < count; ++index) {
+      final int x = random.nextInt(64);
+      final int y = random.nextInt(64);
+      areas.add(AreaI.of(
+        x, x + 1 + random.nextInt(16),
+        y, y + 1 + random.nextInt(16)));
+    }
+    return areas;
+  }
+
+  @Test
+  public void testCreateInvalid()
+  {
+    Assertions.assertThrows(
+      PreconditionViolationException.class,
+      () -> AreaDamageTrackerI.create(0, 0.5));
+    Assertions.assertThrows(
+      PreconditionViolationException.class,
+      () -> AreaDamageTrackerI.create(4, -0.1));
+    Assertions.assertThrows(
+      PreconditionViolationException.class,
+      () -> AreaDamageTrackerI.create(4, Double.NaN));
+  }
+
+  @Test
+  public void testEmpty()
+  {
+    final var tracker = AreaDamageTrackerI.create(4, 0.5);
+    tracker.add(AreaI.of(3, 3, 0, 10));
+    Assertions.assertTrue(tracker.isEmpty());
+    Assertions.assertEquals(Optional.empty(), tracker.bounds());
+    Assertions.assertEquals(List.of(), tracker.areas());
+  }
+
+  @Test
+  public void testAdjacentMergedExactly()
+  {
+    final var tracker = AreaDamageTrackerI.create(4, 0.0);
+    tracker.add(AreaI.of(0, 10, 0, 10));
+    tracker.add(AreaI.of(10, 20, 0, 10));
+    Assertions.assertEquals(List.of(AreaI.of(0, 20, 0, 10)), tracker.areas());
+    Assertions.assertEquals(200.0, tracker.repaintSize());
+  }
+
+  @Test
+  public void testDistantNotMerged()
+  {
+    final var tracker = AreaDamageTrackerI.create(4, 0.25);
+    final var a = AreaI.of(0, 10, 0, 10);
+    final var b = AreaI.of(1000, 1010, 1000, 1010);
+    tracker.add(a);
+    tracker.add(b);
+    Assertions.assertEquals(List.of(a, b), tracker.areas());
+    Assertions.assertEquals(200.0, tracker.repaintSize());
+    Assertions.assertEquals(
+      Optional.of(AreaI.of(0, 1010, 0, 1010)), tracker.bounds());
+  }
+
+  @Test
+  public void testWasteRatio()
+  {
+    /*
+     * The bounding area of these is 100 pixels, of which 40 are undamaged.
+     */
+
+    final var a = AreaI.of(0, 10, 0, 3);
+    final var b = AreaI.of(0, 10, 7, 10);
+
+    final var strict = AreaDamageTrackerI.create(4, 0.39);
+    strict.add(a);
+    strict.add(b);
+    Assertions.assertEquals(2, strict.count());
+
+    final var loose = AreaDamageTrackerI.create(4, 0.4);
+    loose.add(a);
+    loose.add(b);
+    Assertions.assertEquals(List.of(AreaI.of(0, 10, 0, 10)), loose.areas());
+  }
+
+  @Test
+  public void testContainment()
+  {
+    final var tracker = AreaDamageTrackerI.create(8, 0.0);
+    tracker.add(AreaI.of(0, 2, 0, 2));
+    tracker.add(AreaI.of(50, 52, 50, 52));
+    tracker.add(AreaI.of(60, 62, 0, 2));
+    tracker.add(AreaI.of(51, 52, 51, 52));
+    Assertions.assertEquals(3, tracker.count());
+
+    tracker.add(AreaI.of(0, 100, 0, 100));
+    Assertions.assertEquals(List.of(AreaI.of(0, 100, 0, 100)), tracker.areas());
+  }
+
+  @Test
+  public void testCapForcesCheapestMerge()
+  {
+    final var tracker = AreaDamageTrackerI.create(2, 0.0);
+    tracker.add(AreaI.of(0, 10, 0, 10));
+    tracker.add(AreaI.of(100, 110, 0, 10));
+    tracker.add(AreaI.of(0, 10, 12, 22));
+    Assertions.assertEquals(
+      List.of(AreaI.of(0, 10, 0, 22), AreaI.of(100, 110, 0, 10)),
+      tracker.areas());
+  }
+
+  @Test
+  public void testFullRange()
+  {
+    final int min = Integer.MIN_VALUE;
+    final int max = Integer.MAX_VALUE;
+
+    /*
+     * The bounding area of these spans the full range of int on both axes,
+     * and so has (2^32 - 1)^2 pixels, which does not fit into a long. Just
+     * over half of those pixels are undamaged.
+     */
+
+    final var a = AreaI.of(min, -1, min, -1);
+    final var b = AreaI.of(0, max, 0, max);
+
+    final var strict = AreaDamageTrackerI.create(4, 0.5);
+    strict.add(a);
+    strict.add(b);
+    Assertions.assertEquals(List.of(a, b), strict.areas());
+    Assertions.assertEquals(
+      2.0 * (double) max * (double) max,
+      strict.repaintSize());
+
+    final var loose = AreaDamageTrackerI.create(4, 0.6);
+    loose.add(a);
+    loose.add(b);
+
+    final var edges = new ArrayList<List<Integer>>();
+    loose.forEach((x0, x1, y0, y1) -> edges.add(List.of(x0, x1, y0, y1)));
+    Assertions.assertEquals(List.of(List.of(min, max, min, max)), edges);
+
+    final double width = (double) max - (double) min;
+    Assertions.assertEquals(width * width, loose.repaintSize());
+  }
+
+  @Test
+  public void testClear()
+  {
+    final var tracker = AreaDamageTrackerI.create(2, 0.0);
+    tracker.add(AreaI.of(0, 10, 0, 10));
+    tracker.clear();
+    Assertions.assertTrue(tracker.isEmpty());
+    Assertions.assertEquals(0.0, tracker.repaintSize());
+  }
+
+  @Property
+  public void testCoversDamage(
+    @ForAll final long seed,
+    @ForAll @IntRange(min = 1, max = 8) final int maximum,
+    @ForAll @IntRange(min = 0, max = 100) final int percent)
+  {
+    final var damage = randomAreas(seed, 24);
+    final var tracker = AreaDamageTrackerI.create(maximum, percent / 100.0);
+    for (final var area : damage) {
+      tracker.add(area);
+      Assertions.assertTrue(tracker.count() <= maximum);
+    }
+
+    final var areas = tracker.areas();
+    for (final var area : damage) {
+      for (int y = area.minimumY(); y < area.maximumY(); ++y) {
+        for (int x = area.minimumX(); x < area.maximumX(); ++x) {
+          final int px = x;
+          final int py = y;
+          Assertions.assertTrue(
+            areas.stream().anyMatch(a -> AreasI.containsPoint(a, px, py)),
+            String.format("Damaged pixel %d,%d not repainted", px, py));
+        }
+      }
+    }
+
+    final var bounds = tracker.bounds().orElseThrow();
+    Assertions.assertTrue(
+      tracker.repaintSize() <= (double) maximum * bounds.sizeX() * bounds.sizeY());
+  }
+
+  @Test
+  public void testAddAllocationFree()
+  {
+    final var threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+    Assumptions.assumeTrue(threads.isThreadAllocatedMemorySupported());
+    threads.setThreadAllocatedMemoryEnabled(true);
+
+    final var damage = randomAreas(0x5eedL, 1000);
+    final var tracker = AreaDamageTrackerI.create(16, 0.25);
+    final long[] sum = new long[1];
+
+    for (final var area : damage) {
+      tracker.add(area);
+    }
+    tracker.forEach((x0, x1, y0, y1) -> sum[0] += x1 - x0);
+    tracker.clear();
+
+    final var threadId = Thread.currentThread().threadId();
+    final var before = threads.getThreadAllocatedBytes(threadId);
+    for (int pass = 0; pass < 100; ++pass) {
+      for (final var area : damage) {
+        tracker.add(area);
+      }
+      tracker.forEach((x0, x1, y0, y1) -> sum[0] += x1 - x0);
+      tracker.clear();
+    }
+    final var after = threads.getThreadAllocatedBytes(threadId);
+
+    Assertions.assertTrue(sum[0] > 0L);
+    Assertions.assertTrue(
+      after - before < 100_000L,
+      String.format("Allocated %d bytes", after - before));
+  }
+}
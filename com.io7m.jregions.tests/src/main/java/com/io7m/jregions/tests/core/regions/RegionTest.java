@@ -0,0 +1,281 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jregions.tests.core.regions;
+
+import com.io7m.jregions.core.unparameterized.areas.AreaI;
+import com.io7m.jregions.core.unparameterized.areas.AreaL;
+import com.io7m.jregions.core.unparameterized.areas.AreasI;
+import com.io7m.jregions.core.unparameterized.areas.AreasL;
+import com.io7m.jregions.core.unparameterized.regions.RegionI;
+import com.io7m.jregions.core.unparameterized.regions.RegionL;
+import net.jqwik.api.ForAll;
+import net.jqwik.api.Property;
+import net.jqwik.api.constraints.IntRange;
+import net.jqwik.api.constraints.Size;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.BiPredicate;
+
+public final class RegionTest
+{
+  private static boolean anyContains(
+    final List<AreaI> areas,
+    final int x,
+    final int y)
+  {
+    return areas.stream().anyMatch(a -> AreasI.containsPoint(a, x, y));
+  }
+
+  /**
+   * The points worth sampling: every corner of every area, and the points
+   * immediately before each corner.
+   */
+
+  private static List<int[]> interestingPoints(
+    final List<AreaI> areas)
+  {
+    final var xs = new ArrayList<Integer>();
+    final var ys = new ArrayList<Integer>();
+    for (final var area : areas) {
+      xs.add(area.minimumX());
+      xs.add(area.minimumX() - 1);
+      xs.add(area.maximumX());
+      xs.add(area.maximumX() - 1);
+      ys.add(area.minimumY());
+      ys.add(area.minimumY() - 1);
+      ys.add(area.maximumY());
+      ys.add(area.maximumY() - 1);
+    }
+
+    final var points = new ArrayList<int[]>();
+    for (final var x : xs) {
+      for (final var y : ys) {
+        points.add(new int[]{x.intValue(), y.intValue()});
+      }
+    }
+    return points;
+  }
+
+  private static void checkCanonical(
+    final RegionI region)
+  {
+    final var areas = region.areas();
+    Assertions.assertEquals(region.size(), areas.size());
+    for (int i = 0; i < areas.size(); ++i) {
+      final var a = areas.get(i);
+      Assertions.assertTrue(a.sizeX() > 0);
+      Assertions.assertTrue(a.sizeY() > 0);
+      for (int j = i + 1; j < areas.size(); ++j) {
+        final var b = areas.get(j);
+        Assertions.assertFalse(AreasI.overlaps(a, b), a + " overlaps " + b);
+
+        final boolean same_band =
+          a.minimumY() == b.minimumY() && a.maximumY() == b.maximumY();
+        if (same_band) {
+          Assertions.assertTrue(a.maximumX() < b.minimumX());
+        } else {
+          Assertions.assertTrue(a.maximumY() <= b.minimumY());
+        }
+      }
+    }
+  }
+
+  private static void checkOperation(
+    final List<AreaI> as,
+    final List<AreaI> bs,
+    final RegionI result,
+    final BiPredicate<Boolean, Boolean> operation)
+  {
+    checkCanonical(result);
+
+    final var all = new ArrayList<AreaI>(as);
+    all.addAll(bs);
+    for (final var point : interestingPoints(all)) {
+      final var x = point[0];
+      final var y = point[1];
+      final var expected =
+        operation.test(
+          Boolean.valueOf(anyContains(as, x, y)),
+          Boolean.valueOf(anyContains(bs, x, y)));
+      Assertions.assertEquals(
+        expected,
+        result.containsPoint(x, y),
+        () -> String.format("(%d, %d) in %s", x, y, result));
+    }
+  }
+
+  @Test
+  public void testEmpty()
+  {
+    final var empty = RegionI.empty();
+    Assertions.assertTrue(empty.isEmpty());
+    Assertions.assertEquals(0, empty.size());
+    Assertions.assertEquals(List.of(), empty.areas());
+    Assertions.assertEquals(Optional.empty(), empty.bounds());
+    Assertions.assertFalse(empty.containsPoint(0, 0));
+    Assertions.assertEquals(empty, RegionI.of(AreaI.of(0, 0, 0, 10)));
+    Assertions.assertEquals(empty, RegionI.ofAreas(List.of()));
+    Assertions.assertEquals(empty, empty.moveRelative(10, 10));
+  }
+
+  @Test
+  public void testCoalesceHorizontal()
+  {
+    final var region =
+      RegionI.of(AreaI.of(0, 5, 0, 10))
+        .union(RegionI.of(AreaI.of(5, 10, 0, 10)));
+
+    Assertions.assertEquals(List.of(AreaI.of(0, 10, 0, 10)), region.areas());
+  }
+
+  @Test
+  public void testCoalesceVertical()
+  {
+    final var region =
+      RegionI.ofAreas(List.of(
+        AreaI.of(0, 10, 0, 5),
+        AreaI.of(0, 10, 5, 10),
+        AreaI.of(0, 10, 10, 15)));
+
+    Assertions.assertEquals(List.of(AreaI.of(0, 10, 0, 15)), region.areas());
+    Assertions.assertEquals(RegionI.of(AreaI.of(0, 10, 0, 15)), region);
+  }
+
+  @Test
+  public void testSubtractHole()
+  {
+    final var region =
+      RegionI.of(AreaI.of(0, 30, 0, 30))
+        .subtract(RegionI.of(AreaI.of(10, 20, 10, 20)));
+
+    Assertions.assertEquals(
+      List.of(
+        AreaI.of(0, 30, 0, 10),
+        AreaI.of(0, 10, 10, 20),
+        AreaI.of(20, 30, 10, 20),
+        AreaI.of(0, 30, 20, 30)),
+      region.areas());
+
+    Assertions.assertFalse(region.containsPoint(15, 15));
+    Assertions.assertTrue(region.containsPoint(9, 15));
+    Assertions.assertTrue(region.containsPoint(20, 15));
+    Assertions.assertFalse(region.containsPoint(30, 15));
+    Assertions.assertTrue(region.contains(AreaI.of(0, 30, 0, 10)));
+    Assertions.assertFalse(region.contains(AreaI.of(0, 30, 0, 11)));
+    Assertions.assertTrue(region.intersects(AreaI.of(9, 11, 9, 11)));
+    Assertions.assertFalse(region.intersects(AreaI.of(10, 20, 10, 20)));
+    Assertions.assertEquals(Optional.of(AreaI.of(0, 30, 0, 30)), region.bounds());
+  }
+
+  @Test
+  public void testMoveRelative()
+  {
+    final var region =
+      RegionI.ofAreas(List.of(AreaI.of(0, 10, 0, 10), AreaI.of(20, 30, 5, 15)))
+        .moveRelative(-5, 100);
+
+    Assertions.assertEquals(
+      RegionI.ofAreas(List.of(AreaI.of(-5, 5, 100, 110), AreaI.of(15, 25, 105, 115))),
+      region);
+
+    Assertions.assertThrows(
+      ArithmeticException.class,
+      () -> region.moveRelative(Integer.MAX_VALUE, 0));
+  }
+
+  @Test
+  public void testLargeCoordinatesL()
+  {
+    final var base = 1L << 40;
+    final var region =
+      RegionL.of(AreaL.of(base, base + 10L, base, base + 10L))
+        .xor(RegionL.of(AreaL.of(base + 5L, base + 15L, base, base + 10L)));
+
+    Assertions.assertEquals(
+      List.of(
+        AreaL.of(base, base + 5L, base, base + 10L),
+        AreaL.of(base + 10L, base + 15L, base, base + 10L)),
+      region.areas());
+    Assertions.assertTrue(region.containsPoint(base + 12L, base));
+    Assertions.assertFalse(region.containsPoint(base + 7L, base));
+    Assertions.assertTrue(
+      AreasL.contains(region.bounds().orElseThrow(), region.areas().get(1)));
+  }
+
+  @Property
+  public void testOperations(
+    final @ForAll @Size(max = 8) List<AreaI> as,
+    final @ForAll @Size(max = 8) List<AreaI> bs)
+  {
+    final var a = RegionI.ofAreas(as);
+    final var b = RegionI.ofAreas(bs);
+
+    checkOperation(as, bs, a.union(b), (p, q) -> p || q);
+    checkOperation(as, bs, a.intersection(b), (p, q) -> p && q);
+    checkOperation(as, bs, a.subtract(b), (p, q) -> p && !q);
+    checkOperation(as, bs, a.xor(b), (p, q) -> p != q);
+
+    Assertions.assertEquals(a.union(b), b.union(a));
+    Assertions.assertEquals(a.intersection(b), b.intersection(a));
+    Assertions.assertEquals(a.xor(b), b.xor(a));
+    Assertions.assertEquals(
+      a.xor(b),
+      a.subtract(b).union(b.subtract(a)));
+    Assertions.assertEquals(RegionI.empty(), a.subtract(a));
+    Assertions.assertEquals(a, a.union(a));
+    Assertions.assertEquals(a, a.intersection(a));
+  }
+
+  @Property
+  public void testBounds(
+    final @ForAll @Size(min = 1, max = 16) List<AreaI> areas)
+  {
+    final var region = RegionI.ofAreas(areas);
+    final var nonEmpty =
+      areas.stream()
+        .filter(a -> a.sizeX() > 0 && a.sizeY() > 0)
+        .toList();
+
+    if (nonEmpty.isEmpty()) {
+      Assertions.assertEquals(Optional.empty(), region.bounds());
+    } else {
+      Assertions.assertEquals(
+        nonEmpty.stream().reduce(AreasI::containing),
+        region.bounds());
+    }
+
+    for (final var area : nonEmpty) {
+      Assertions.assertTrue(region.contains(area));
+      Assertions.assertTrue(region.intersects(area));
+    }
+  }
+
+  @Property
+  public void testContainsPointRandom(
+    final @ForAll @Size(max = 16) List<AreaI> areas,
+    final @ForAll @IntRange(min = 0, max = 10000) int x,
+    final @ForAll @IntRange(min = 0, max = 10000) int y)
+  {
+    Assertions.assertEquals(
+      anyContains(areas, x, y),
+      RegionI.ofAreas(areas).containsPoint(x, y));
+  }
+}
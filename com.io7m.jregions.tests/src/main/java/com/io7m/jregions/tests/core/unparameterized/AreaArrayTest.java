@@ -0,0 +1,325 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jregions.tests.core.unparameterized;
+
+import com.io7m.jaffirm.core.PreconditionViolationException;
+import com.io7m.jregions.core.unparameterized.areas.AreaD;
+import com.io7m.jregions.core.unparameterized.areas.AreaDArray;
+import com.io7m.jregions.core.unparameterized.areas.AreaF;
+import com.io7m.jregions.core.unparameterized.areas.AreaFArray;
+import com.io7m.jregions.core.unparameterized.areas.AreaI;
+import com.io7m.jregions.core.unparameterized.areas.AreaIArray;
+import com.io7m.jregions.core.unparameterized.areas.AreaL;
+import com.io7m.jregions.core.unparameterized.areas.AreaLArray;
+import com.io7m.jregions.core.unparameterized.areas.AreasD;
+import com.io7m.jregions.core.unparameterized.areas.AreasF;
+import com.io7m.jregions.core.unparameterized.areas.AreasI;
+import com.io7m.jregions.core.unparameterized.areas.AreasL;
+import net.jqwik.api.ForAll;
+import net.jqwik.api.Property;
+import net.jqwik.api.constraints.IntRange;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+
+public final class AreaArrayTest
+{
+  private static <T> int[] bruteForce(
+    final List<T> values,
+    final Predicate<T> predicate)
+  {
+    return IntStream.range(0, values.size())
+      .filter(i -> predicate.test(values.get(i)))
+      .toArray();
+  }
+
+  private static int[] found(
+    final int[] indices,
+    final int count)
+  {
+    return Arrays.copyOf(indices, count);
+  }
+
+  @Test
+  public void testEmpty()
+  {
+    final var array = AreaIArray.create();
+    Assertions.assertTrue(array.isEmpty());
+    Assertions.assertEquals(0, array.size());
+    Assertions.assertEquals(List.of(), array.toList());
+    Assertions.assertEquals(0, array.containsPoint(0, 0, new int[0]));
+    Assertions.assertEquals(
+      0, array.overlaps(AreaI.of(0, 10, 0, 10), new int[0]));
+    Assertions.assertThrows(
+      PreconditionViolationException.class, array::containing);
+  }
+
+  @Test
+  public void testGrowth()
+  {
+    final var array = AreaIArray.createWithCapacity(0);
+    final var expected = new ArrayList<AreaI>();
+    for (int index = 0; index < 1000; ++index) {
+      final var area = AreasI.create(index, index * 2, 10, 20);
+      expected.add(area);
+      Assertions.assertEquals(index, array.add(area));
+    }
+
+    Assertions.assertEquals(1000, array.size());
+    Assertions.assertTrue(array.capacity() >= 1000);
+    Assertions.assertEquals(expected, array.toList());
+    Assertions.assertEquals(expected.get(500), array.get(500));
+    Assertions.assertEquals(500, array.minimumX(500));
+    Assertions.assertEquals(510, array.maximumX(500));
+    Assertions.assertEquals(1000, array.minimumY(500));
+    Assertions.assertEquals(1020, array.maximumY(500));
+
+    array.clear();
+    Assertions.assertTrue(array.isEmpty());
+    Assertions.assertTrue(array.capacity() >= 1000);
+  }
+
+  @Test
+  public void testSet()
+  {
+    final var array = AreaIArray.ofList(List.of(AreaI.of(0, 1, 0, 1)));
+    array.set(0, AreaI.of(5, 10, 5, 10));
+    Assertions.assertEquals(AreaI.of(5, 10, 5, 10), array.get(0));
+    Assertions.assertThrows(
+      IndexOutOfBoundsException.class,
+      () -> array.set(1, AreaI.of(5, 10, 5, 10)));
+    Assertions.assertThrows(
+      IndexOutOfBoundsException.class,
+      () -> array.get(1));
+  }
+
+  @Test
+  public void testAddInvalid()
+  {
+    final var array = AreaIArray.create();
+    final var ex = Assertions.assertThrows(
+      PreconditionViolationException.class,
+      () -> array.add(10, 9, 0, 10));
+    Assertions.assertTrue(ex.getMessage().contains("X"));
+
+    final var ey = Assertions.assertThrows(
+      PreconditionViolationException.class,
+      () -> array.add(0, 10, 10, 9));
+    Assertions.assertTrue(ey.getMessage().contains("Y"));
+    Assertions.assertTrue(array.isEmpty());
+  }
+
+  @Test
+  public void testCapacityInvalid()
+  {
+    Assertions.assertThrows(
+      PreconditionViolationException.class,
+      () -> AreaIArray.createWithCapacity(-1));
+  }
+
+  @Test
+  public void testIndicesTooShort()
+  {
+    final var array = AreaIArray.ofList(
+      List.of(AreaI.of(0, 1, 0, 1), AreaI.of(0, 1, 0, 1)));
+    Assertions.assertThrows(
+      PreconditionViolationException.class,
+      () -> array.containsPoint(0, 0, new int[1]));
+    Assertions.assertThrows(
+      PreconditionViolationException.class,
+      () -> array.overlaps(AreaI.of(0, 1, 0, 1), new int[1]));
+  }
+
+  @Test
+  public void testMoveRelativeOverflow()
+  {
+    final var array = AreaIArray.ofList(
+      List.of(
+        AreaI.of(0, 10, 0, 10),
+        AreaI.of(0, Integer.MAX_VALUE - 1, 0, 10)));
+
+    Assertions.assertThrows(
+      ArithmeticException.class,
+      () -> array.moveRelative(2, 0));
+    Assertions.assertEquals(AreaI.of(0, 10, 0, 10), array.get(0));
+  }
+
+  @Property
+  public void testRoundTripI(
+    final @ForAll List<AreaI> areas)
+  {
+    Assertions.assertEquals(areas, AreaIArray.ofList(areas).toList());
+  }
+
+  @Property
+  public void testContainsPointI(
+    final @ForAll List<AreaI> areas,
+    final @ForAll @IntRange(min = 0, max = 10000) int x,
+    final @ForAll @IntRange(min = 0, max = 10000) int y)
+  {
+    final var array = AreaIArray.ofList(areas);
+    final var indices = new int[areas.size()];
+    final var count = array.containsPoint(x, y, indices);
+    Assertions.assertArrayEquals(
+      bruteForce(areas, a -> AreasI.containsPoint(a, x, y)),
+      found(indices, count));
+  }
+
+  @Property
+  public void testOverlapsI(
+    final @ForAll List<AreaI> areas,
+    final @ForAll AreaI query)
+  {
+    final var array = AreaIArray.ofList(areas);
+    final var indices = new int[areas.size()];
+    final var count = array.overlaps(query, indices);
+    Assertions.assertArrayEquals(
+      bruteForce(areas, a -> AreasI.overlaps(a, query)),
+      found(indices, count));
+  }
+
+  @Property
+  public void testMoveRelativeI(
+    final @ForAll List<AreaI> areas,
+    final @ForAll @IntRange(min = -10000, max = 10000) int x,
+    final @ForAll @IntRange(min = -10000, max = 10000) int y)
+  {
+    final var array = AreaIArray.ofList(areas);
+    array.moveRelative(x, y);
+    Assertions.assertEquals(
+      areas.stream().map(a -> AreasI.moveRelative(a, x, y)).toList(),
+      array.toList());
+  }
+
+  @Property
+  public void testContainingI(
+    final @ForAll List<AreaI> areas)
+  {
+    if (areas.isEmpty()) {
+      return;
+    }
+
+    final var array = AreaIArray.ofList(areas);
+    Assertions.assertEquals(
+      areas.stream().reduce(AreasI::containing).orElseThrow(),
+      array.containing());
+  }
+
+  @Property
+  public void testOperationsL(
+    final @ForAll List<AreaL> areas,
+    final @ForAll AreaL query,
+    final @ForAll @IntRange(min = 0, max = 10000) int x,
+    final @ForAll @IntRange(min = 0, max = 10000) int y)
+  {
+    final var array = AreaLArray.ofList(areas);
+    final var indices = new int[areas.size()];
+    Assertions.assertEquals(areas, array.toList());
+
+    var count = array.overlaps(query, indices);
+    Assertions.assertArrayEquals(
+      bruteForce(areas, a -> AreasL.overlaps(a, query)),
+      found(indices, count));
+
+    count = array.containsPoint(x, y, indices);
+    Assertions.assertArrayEquals(
+      bruteForce(areas, a -> AreasL.containsPoint(a, x, y)),
+      found(indices, count));
+
+    if (!areas.isEmpty()) {
+      Assertions.assertEquals(
+        areas.stream().reduce(AreasL::containing).orElseThrow(),
+        array.containing());
+    }
+
+    array.moveRelative(x, y);
+    Assertions.assertEquals(
+      areas.stream().map(a -> AreasL.moveRelative(a, x, y)).toList(),
+      array.toList());
+  }
+
+  @Property
+  public void testOperationsF(
+    final @ForAll List<AreaF> areas,
+    final @ForAll AreaF query,
+    final @ForAll @IntRange(min = 0, max = 10000) int x,
+    final @ForAll @IntRange(min = 0, max = 10000) int y)
+  {
+    final var array = AreaFArray.ofList(areas);
+    final var indices = new int[areas.size()];
+    Assertions.assertEquals(areas, array.toList());
+
+    var count = array.overlaps(query, indices);
+    Assertions.assertArrayEquals(
+      bruteForce(areas, a -> AreasF.overlaps(a, query)),
+      found(indices, count));
+
+    count = array.containsPoint(x, y, indices);
+    Assertions.assertArrayEquals(
+      bruteForce(areas, a -> AreasF.containsPoint(a, x, y)),
+      found(indices, count));
+
+    if (!areas.isEmpty()) {
+      Assertions.assertEquals(
+        areas.stream().reduce(AreasF::containing).orElseThrow(),
+        array.containing());
+    }
+
+    array.moveRelative(x, y);
+    Assertions.assertEquals(
+      areas.stream().map(a -> AreasF.moveRelative(a, x, y)).toList(),
+      array.toList());
+  }
+
+  @Property
+  public void testOperationsD(
+    final @ForAll List<AreaD> areas,
+    final @ForAll AreaD query,
+    final @ForAll @IntRange(min = 0, max = 10000) int x,
+    final @ForAll @IntRange(min = 0, max = 10000) int y)
+  {
+    final var array = AreaDArray.ofList(areas);
+    final var indices = new int[areas.size()];
+    Assertions.assertEquals(areas, array.toList());
+
+    var count = array.overlaps(query, indices);
+    Assertions.assertArrayEquals(
+      bruteForce(areas, a -> AreasD.overlaps(a, query)),
+      found(indices, count));
+
+    count = array.containsPoint(x, y, indices);
+    Assertions.assertArrayEquals(
+      bruteForce(areas, a -> AreasD.containsPoint(a, x, y)),
+      found(indices, count));
+
+    if (!areas.isEmpty()) {
+      Assertions.assertEquals(
+        areas.stream().reduce(AreasD::containing).orElseThrow(),
+        array.containing());
+    }
+
+    array.moveRelative(x, y);
+    Assertions.assertEquals(
+      areas.stream().map(a -> AreasD.moveRelative(a, x, y)).toList(),
+      array.toList());
+  }
+}
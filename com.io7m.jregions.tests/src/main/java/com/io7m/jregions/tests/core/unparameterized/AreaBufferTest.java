@@ -0,0 +1,306 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jregions.tests.core.unparameterized;
+
+import com.io7m.jaffirm.core.PreconditionViolationException;
+import com.io7m.jregions.core.unparameterized.areas.AreaD;
+import com.io7m.jregions.core.unparameterized.areas.AreaDBuffer;
+import com.io7m.jregions.core.unparameterized.areas.AreaF;
+import com.io7m.jregions.core.unparameterized.areas.AreaFBuffer;
+import com.io7m.jregions.core.unparameterized.areas.AreaI;
+import com.io7m.jregions.core.unparameterized.areas.AreaIBuffer;
+import com.io7m.jregions.core.unparameterized.areas.AreaL;
+import com.io7m.jregions.core.unparameterized.areas.AreaLBuffer;
+import com.io7m.jregions.core.unparameterized.areas.AreasD;
+import com.io7m.jregions.core.unparameterized.areas.AreasF;
+import com.io7m.jregions.core.unparameterized.areas.AreasI;
+import com.io7m.jregions.core.unparameterized.areas.AreasL;
+import net.jqwik.api.ForAll;
+import net.jqwik.api.Property;
+import net.jqwik.api.constraints.IntRange;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+
+public final class AreaBufferTest
+{
+  private static <T> int[] bruteForce(
+    final List<T> values,
+    final Predicate<T> predicate)
+  {
+    return IntStream.range(0, values.size())
+      .filter(i -> predicate.test(values.get(i)))
+      .toArray();
+  }
+
+  private static int[] found(
+    final int[] indices,
+    final int count)
+  {
+    return Arrays.copyOf(indices, count);
+  }
+
+  @Test
+  public void testAllocate()
+  {
+    final var buffer = AreaIBuffer.allocate(3);
+    Assertions.assertEquals(3, buffer.size());
+    Assertions.assertTrue(buffer.buffer().isDirect());
+    Assertions.assertEquals(ByteOrder.nativeOrder(), buffer.buffer().order());
+    Assertions.assertEquals(3 * 16, buffer.buffer().capacity());
+    Assertions.assertEquals(
+      List.of(AreaI.of(0, 0, 0, 0), AreaI.of(0, 0, 0, 0), AreaI.of(0, 0, 0, 0)),
+      buffer.toList());
+  }
+
+  @Test
+  public void testAllocateInvalid()
+  {
+    Assertions.assertThrows(
+      PreconditionViolationException.class,
+      () -> AreaIBuffer.allocate(-1));
+  }
+
+  @Test
+  public void testLayout()
+  {
+    final var data =
+      ByteBuffer.allocate(2 * AreaLBuffer.RECORD_SIZE)
+        .order(ByteOrder.BIG_ENDIAN);
+    final var buffer = AreaLBuffer.wrap(data);
+
+    Assertions.assertEquals(32, AreaLBuffer.RECORD_SIZE);
+    Assertions.assertEquals(2, buffer.size());
+
+    buffer.set(1, AreaL.of(1L, 2L, 3L, 4L));
+    Assertions.assertEquals(1L, data.getLong(32));
+    Assertions.assertEquals(2L, data.getLong(40));
+    Assertions.assertEquals(3L, data.getLong(48));
+    Assertions.assertEquals(4L, data.getLong(56));
+    Assertions.assertEquals(0, data.position());
+
+    data.putLong(AreaLBuffer.OFFSET_MAXIMUM_Y, 100L);
+    Assertions.assertEquals(AreaL.of(0L, 0L, 0L, 100L), buffer.get(0));
+    Assertions.assertEquals(100L, buffer.maximumY(0));
+  }
+
+  @Test
+  public void testWrapInvalid()
+  {
+    Assertions.assertThrows(
+      PreconditionViolationException.class,
+      () -> AreaIBuffer.wrap(ByteBuffer.allocate(17)));
+  }
+
+  @Test
+  public void testSetInvalid()
+  {
+    final var buffer = AreaIBuffer.allocate(1);
+    final var ex = Assertions.assertThrows(
+      PreconditionViolationException.class,
+      () -> buffer.set(0, 10, 9, 0, 10));
+    Assertions.assertTrue(ex.getMessage().contains("X"));
+
+    final var ey = Assertions.assertThrows(
+      PreconditionViolationException.class,
+      () -> buffer.set(0, 0, 10, 10, 9));
+    Assertions.assertTrue(ey.getMessage().contains("Y"));
+
+    Assertions.assertThrows(
+      IndexOutOfBoundsException.class,
+      () -> buffer.set(1, 0, 10, 0, 10));
+    Assertions.assertThrows(
+      IndexOutOfBoundsException.class,
+      () -> buffer.get(1));
+  }
+
+  @Test
+  public void testEmpty()
+  {
+    final var buffer = AreaIBuffer.allocate(0);
+    Assertions.assertEquals(0, buffer.containsPoint(0, 0, new int[0]));
+    Assertions.assertEquals(
+      0, buffer.overlaps(AreaI.of(0, 10, 0, 10), new int[0]));
+    Assertions.assertThrows(
+      PreconditionViolationException.class, buffer::containing);
+    buffer.moveRelative(10, 10);
+  }
+
+  @Test
+  public void testMoveRelativeOverflow()
+  {
+    final var buffer = AreaIBuffer.ofList(
+      List.of(
+        AreaI.of(0, 10, 0, 10),
+        AreaI.of(0, Integer.MAX_VALUE - 1, 0, 10)));
+
+    Assertions.assertThrows(
+      ArithmeticException.class,
+      () -> buffer.moveRelative(2, 0));
+    Assertions.assertEquals(AreaI.of(0, 10, 0, 10), buffer.get(0));
+  }
+
+  @Test
+  public void testMoveRelativeSingle()
+  {
+    final var buffer = AreaIBuffer.ofList(
+      List.of(AreaI.of(0, 10, 0, 10), AreaI.of(0, 10, 0, 10)));
+
+    buffer.moveRelative(1, 5, -5);
+    Assertions.assertEquals(
+      List.of(AreaI.of(0, 10, 0, 10), AreaI.of(5, 15, -5, 5)),
+      buffer.toList());
+  }
+
+  @Property
+  public void testOperationsI(
+    final @ForAll List<AreaI> areas,
+    final @ForAll AreaI query,
+    final @ForAll @IntRange(min = 0, max = 10000) int x,
+    final @ForAll @IntRange(min = 0, max = 10000) int y)
+  {
+    final var buffer = AreaIBuffer.ofList(areas);
+    final var indices = new int[areas.size()];
+    Assertions.assertEquals(areas, buffer.toList());
+
+    var count = buffer.overlaps(query, indices);
+    Assertions.assertArrayEquals(
+      bruteForce(areas, a -> AreasI.overlaps(a, query)),
+      found(indices, count));
+
+    count = buffer.containsPoint(x, y, indices);
+    Assertions.assertArrayEquals(
+      bruteForce(areas, a -> AreasI.containsPoint(a, x, y)),
+      found(indices, count));
+
+    if (!areas.isEmpty()) {
+      Assertions.assertEquals(
+        areas.stream().reduce(AreasI::containing).orElseThrow(),
+        buffer.containing());
+    }
+
+    buffer.moveRelative(x, -y);
+    Assertions.assertEquals(
+      areas.stream().map(a -> AreasI.moveRelative(a, x, -y)).toList(),
+      buffer.toList());
+  }
+
+  @Property
+  public void testOperationsL(
+    final @ForAll List<AreaL> areas,
+    final @ForAll AreaL query,
+    final @ForAll @IntRange(min = 0, max = 10000) int x,
+    final @ForAll @IntRange(min = 0, max = 10000) int y)
+  {
+    final var buffer = AreaLBuffer.ofList(areas);
+    final var indices = new int[areas.size()];
+    Assertions.assertEquals(areas, buffer.toList());
+
+    var count = buffer.overlaps(query, indices);
+    Assertions.assertArrayEquals(
+      bruteForce(areas, a -> AreasL.overlaps(a, query)),
+      found(indices, count));
+
+    count = buffer.containsPoint(x, y, indices);
+    Assertions.assertArrayEquals(
+      bruteForce(areas, a -> AreasL.containsPoint(a, x, y)),
+      found(indices, count));
+
+    if (!areas.isEmpty()) {
+      Assertions.assertEquals(
+        areas.stream().reduce(AreasL::containing).orElseThrow(),
+        buffer.containing());
+    }
+
+    buffer.moveRelative(x, -y);
+    Assertions.assertEquals(
+      areas.stream().map(a -> AreasL.moveRelative(a, x, -y)).toList(),
+      buffer.toList());
+  }
+
+  @Property
+  public void testOperationsF(
+    final @ForAll List<AreaF> areas,
+    final @ForAll AreaF query,
+    final @ForAll @IntRange(min = 0, max = 10000) int x,
+    final @ForAll @IntRange(min = 0, max = 10000) int y)
+  {
+    final var buffer = AreaFBuffer.ofList(areas);
+    final var indices = new int[areas.size()];
+    Assertions.assertEquals(areas, buffer.toList());
+
+    var count = buffer.overlaps(query, indices);
+    Assertions.assertArrayEquals(
+      bruteForce(areas, a -> AreasF.overlaps(a, query)),
+      found(indices, count));
+
+    count = buffer.containsPoint(x, y, indices);
+    Assertions.assertArrayEquals(
+      bruteForce(areas, a -> AreasF.containsPoint(a, x, y)),
+      found(indices, count));
+
+    if (!areas.isEmpty()) {
+      Assertions.assertEquals(
+        areas.stream().reduce(AreasF::containing).orElseThrow(),
+        buffer.containing());
+    }
+
+    buffer.moveRelative(x, -y);
+    Assertions.assertEquals(
+      areas.stream().map(a -> AreasF.moveRelative(a, x, -y)).toList(),
+      buffer.toList());
+  }
+
+  @Property
+  public void testOperationsD(
+    final @ForAll List<AreaD> areas,
+    final @ForAll AreaD query,
+    final @ForAll @IntRange(min = 0, max = 10000) int x,
+    final @ForAll @IntRange(min = 0, max = 10000) int y)
+  {
+    final var buffer = AreaDBuffer.ofList(areas);
+    final var indices = new int[areas.size()];
+    Assertions.assertEquals(areas, buffer.toList());
+
+    var count = buffer.overlaps(query, indices);
+    Assertions.assertArrayEquals(
+      bruteForce(areas, a -> AreasD.overlaps(a, query)),
+      found(indices, count));
+
+    count = buffer.containsPoint(x, y, indices);
+    Assertions.assertArrayEquals(
+      bruteForce(areas, a -> AreasD.containsPoint(a, x, y)),
+      found(indices, count));
+
+    if (!areas.isEmpty()) {
+      Assertions.assertEquals(
+        areas.stream().reduce(AreasD::containing).orElseThrow(),
+        buffer.containing());
+    }
+
+    buffer.moveRelative(x, -y);
+    Assertions.assertEquals(
+      areas.stream().map(a -> AreasD.moveRelative(a, x, -y)).toList(),
+      buffer.toList());
+  }
+}
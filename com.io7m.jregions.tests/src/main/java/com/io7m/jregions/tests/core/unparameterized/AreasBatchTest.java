@@ -0,0 +1,395 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jregions.tests.core.unparameterized;
+
+import com.io7m.jaffirm.core.PreconditionViolationException;
+import com.io7m.jregions.core.unparameterized.areas.AreaD;
+import com.io7m.jregions.core.unparameterized.areas.AreaF;
+import com.io7m.jregions.core.unparameterized.areas.AreaI;
+import com.io7m.jregions.core.unparameterized.areas.AreasBatchD;
+import com.io7m.jregions.core.unparameterized.areas.AreasBatchF;
+import com.io7m.jregions.core.unparameterized.areas.AreasBatchI;
+import com.io7m.jregions.core.unparameterized.areas.AreasD;
+import com.io7m.jregions.core.unparameterized.areas.AreasF;
+import com.io7m.jregions.core.unparameterized.areas.AreasI;
+import net.jqwik.api.ForAll;
+import net.jqwik.api.Property;
+import net.jqwik.api.constraints.IntRange;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+
+public final class AreasBatchTest
+{
+  private static <T> int[] bruteForce(
+    final List<T> values,
+    final Predicate<T> predicate)
+  {
+    return IntStream.range(0, values.size())
+      .filter(i -> predicate.test(values.get(i)))
+      .toArray();
+  }
+
+  private static int[] fromMask(
+    final long[] mask,
+    final int count)
+  {
+    return IntStream.range(0, count)
+      .filter(i -> (mask[i / Long.SIZE] & (1L << i)) != 0L)
+      .toArray();
+  }
+
+  private static int[][] edgesI(
+    final List<AreaI> areas)
+  {
+    return new int[][]{
+      areas.stream().mapToInt(AreaI::minimumX).toArray(),
+      areas.stream().mapToInt(AreaI::maximumX).toArray(),
+      areas.stream().mapToInt(AreaI::minimumY).toArray(),
+      areas.stream().mapToInt(AreaI::maximumY).toArray(),
+    };
+  }
+
+  private static double[][] edgesD(
+    final List<AreaD> areas)
+  {
+    return new double[][]{
+      areas.stream().mapToDouble(AreaD::minimumX).toArray(),
+      areas.stream().mapToDouble(AreaD::maximumX).toArray(),
+      areas.stream().mapToDouble(AreaD::minimumY).toArray(),
+      areas.stream().mapToDouble(AreaD::maximumY).toArray(),
+    };
+  }
+
+  private static float[][] edgesF(
+    final List<AreaF> areas)
+  {
+    final var size = areas.size();
+    final var edges = new float[4][size];
+    for (int index = 0; index < size; ++index) {
+      final var area = areas.get(index);
+      edges[0][index] = area.minimumX();
+      edges[1][index] = area.maximumX();
+      edges[2][index] = area.minimumY();
+      edges[3][index] = area.maximumY();
+    }
+    return edges;
+  }
+
+  @Test
+  public void testMaskLength()
+  {
+    Assertions.assertEquals(0, AreasBatchI.maskLength(0));
+    Assertions.assertEquals(1, AreasBatchI.maskLength(1));
+    Assertions.assertEquals(1, AreasBatchI.maskLength(64));
+    Assertions.assertEquals(2, AreasBatchI.maskLength(65));
+    Assertions.assertThrows(
+      PreconditionViolationException.class,
+      () -> AreasBatchI.maskLength(-1));
+  }
+
+  @Test
+  public void testMaskOverwritten()
+  {
+    final var areas =
+      IntStream.range(0, 130)
+        .mapToObj(i -> AreaI.of(i, i + 1, 0, 1))
+        .toList();
+    final var e = edgesI(areas);
+    final var mask = new long[]{-1L, -1L, -1L, -1L};
+
+    final var count =
+      AreasBatchI.containsPointMask(e[0], e[1], e[2], e[3], 130, 64, 0, mask);
+
+    Assertions.assertEquals(1, count);
+    Assertions.assertEquals(0L, mask[0]);
+    Assertions.assertEquals(1L, mask[1]);
+    Assertions.assertEquals(0L, mask[2]);
+    Assertions.assertEquals(-1L, mask[3]);
+  }
+
+  @Test
+  public void testCountPrefix()
+  {
+    final var areas = List.of(
+      AreaI.of(0, 10, 0, 10),
+      AreaI.of(0, 10, 0, 10),
+      AreaI.of(0, 10, 0, 10));
+    final var e = edgesI(areas);
+    final var indices = new int[2];
+
+    Assertions.assertEquals(
+      2,
+      AreasBatchI.overlaps(
+        e[0], e[1], e[2], e[3], 2, AreaI.of(5, 6, 5, 6), indices));
+    Assertions.assertArrayEquals(new int[]{0, 1}, indices);
+  }
+
+  @Test
+  public void testExtremeEdges()
+  {
+    final int max = Integer.MAX_VALUE;
+    final var areas = List.of(
+      AreaI.of(max, max, 0, 1),
+      AreaI.of(max - 1, max, 0, 1),
+      AreaI.of(0, 1, 0, 1));
+    final var query = AreaI.of(max - 1, max, 0, 1);
+    final var e = edgesI(areas);
+    final var indices = new int[3];
+
+    Assertions.assertThrows(
+      ArithmeticException.class,
+      () -> AreasI.overlaps(areas.get(0), query));
+    Assertions.assertEquals(
+      1,
+      AreasBatchI.overlaps(e[0], e[1], e[2], e[3], 3, query, indices));
+    Assertions.assertEquals(1, indices[0]);
+  }
+
+  @Test
+  public void testSignedZeroesF()
+  {
+    final var values = new float[]{-0.0f, 0.0f};
+    final var areas = new ArrayList<AreaF>();
+    for (final var x0 : values) {
+      for (final var x1 : values) {
+        for (final var y0 : values) {
+          areas.add(AreaF.of(x0, x1, y0, 1.0f));
+          areas.add(AreaF.of(-1.0f, x1, x0, y0));
+        }
+      }
+    }
+
+    final var e = edgesF(areas);
+    final var size = areas.size();
+    final var indices = new int[size];
+    final var points = new float[]{-0.0f, 0.0f, Float.NaN};
+    for (final var x : points) {
+      for (final var y : points) {
+        final var expected =
+          bruteForce(areas, a -> AreasF.containsPoint(a, x, y));
+        final var count = AreasBatchF.containsPoint(
+          e[0], e[1], e[2], e[3], size, x, y, indices);
+        Assertions.assertArrayEquals(expected, Arrays.copyOf(indices, count));
+      }
+    }
+
+    for (final var query : areas) {
+      final var expected =
+        bruteForce(areas, a -> AreasF.overlaps(a, query));
+      final var count =
+        AreasBatchF.overlaps(e[0], e[1], e[2], e[3], size, query, indices);
+      Assertions.assertArrayEquals(expected, Arrays.copyOf(indices, count));
+    }
+  }
+
+  @Test
+  public void testSignedZeroesD()
+  {
+    final var values = new double[]{-0.0, 0.0};
+    final var areas = new ArrayList<AreaD>();
+    for (final var x0 : values) {
+      for (final var x1 : values) {
+        for (final var y0 : values) {
+          areas.add(AreaD.of(x0, x1, y0, 1.0));
+          areas.add(AreaD.of(-1.0, x1, x0, y0));
+        }
+      }
+    }
+
+    final var e = edgesD(areas);
+    final var size = areas.size();
+    final var indices = new int[size];
+    final var points = new double[]{-0.0, 0.0, Double.NaN};
+    for (final var x : points) {
+      for (final var y : points) {
+        final var expected =
+          bruteForce(areas, a -> AreasD.containsPoint(a, x, y));
+        final var count = AreasBatchD.containsPoint(
+          e[0], e[1], e[2], e[3], size, x, y, indices);
+        Assertions.assertArrayEquals(expected, Arrays.copyOf(indices, count));
+      }
+    }
+
+    for (final var query : areas) {
+      final var expected =
+        bruteForce(areas, a -> AreasD.overlaps(a, query));
+      final var count =
+        AreasBatchD.overlaps(e[0], e[1], e[2], e[3], size, query, indices);
+      Assertions.assertArrayEquals(expected, Arrays.copyOf(indices, count));
+    }
+  }
+
+  @Test
+  public void testManyWordsI()
+  {
+    final var random = new Random(0x6a72656769L);
+    final var areas = new ArrayList<AreaI>();
+    for (int index = 0; index < 1001; ++index) {
+      final var x = random.nextInt(1000);
+      final var y = random.nextInt(1000);
+      areas.add(AreaI.of(x, x + random.nextInt(100), y, y + random.nextInt(100)));
+    }
+
+    final var e = edgesI(areas);
+    final var size = areas.size();
+    final var indices = new int[size];
+    final var mask = new long[AreasBatchI.maskLength(size)];
+    for (int query = 0; query < 100; ++query) {
+      final var x = random.nextInt(1100);
+      final var y = random.nextInt(1100);
+      final var expectedPoint =
+        bruteForce(areas, a -> AreasI.containsPoint(a, x, y));
+      final var points = AreasBatchI.containsPoint(
+        e[0], e[1], e[2], e[3], size, x, y, indices);
+      Assertions.assertArrayEquals(
+        expectedPoint, Arrays.copyOf(indices, points));
+
+      final var area = areas.get(query);
+      final var expectedArea =
+        bruteForce(areas, a -> AreasI.overlaps(a, area));
+      final var overlaps =
+        AreasBatchI.overlapsMask(e[0], e[1], e[2], e[3], size, area, mask);
+      Assertions.assertEquals(expectedArea.length, overlaps);
+      Assertions.assertArrayEquals(expectedArea, fromMask(mask, size));
+    }
+  }
+
+  @Test
+  public void testInvalidArguments()
+  {
+    final var e = edgesI(List.of(AreaI.of(0, 10, 0, 10)));
+    final var short0 = new int[0];
+
+    Assertions.assertThrows(
+      PreconditionViolationException.class,
+      () -> AreasBatchI.containsPoint(
+        e[0], e[1], e[2], short0, 1, 0, 0, new int[1]));
+    Assertions.assertThrows(
+      PreconditionViolationException.class,
+      () -> AreasBatchI.containsPoint(
+        e[0], e[1], e[2], e[3], 1, 0, 0, new int[0]));
+    Assertions.assertThrows(
+      PreconditionViolationException.class,
+      () -> AreasBatchI.containsPoint(
+        e[0], e[1], e[2], e[3], -1, 0, 0, new int[1]));
+    Assertions.assertThrows(
+      PreconditionViolationException.class,
+      () -> AreasBatchI.overlapsMask(
+        e[0], e[1], e[2], e[3], 1, AreaI.of(0, 1, 0, 1), new long[0]));
+    Assertions.assertThrows(
+      NullPointerException.class,
+      () -> AreasBatchI.overlaps(
+        e[0], e[1], e[2], e[3], 1, null, new int[1]));
+  }
+
+  @Property
+  public void testContainsPointI(
+    final @ForAll List<AreaI> areas,
+    final @ForAll @IntRange(min = 0, max = 10000) int x,
+    final @ForAll @IntRange(min = 0, max = 10000) int y)
+  {
+    final var e = edgesI(areas);
+    final var size = areas.size();
+    final var expected =
+      bruteForce(areas, a -> AreasI.containsPoint(a, x, y));
+
+    final var indices = new int[size];
+    final var count =
+      AreasBatchI.containsPoint(e[0], e[1], e[2], e[3], size, x, y, indices);
+    Assertions.assertArrayEquals(expected, Arrays.copyOf(indices, count));
+
+    final var mask = new long[AreasBatchI.maskLength(size)];
+    Assertions.assertEquals(
+      count,
+      AreasBatchI.containsPointMask(e[0], e[1], e[2], e[3], size, x, y, mask));
+    Assertions.assertArrayEquals(expected, fromMask(mask, size));
+  }
+
+  @Property
+  public void testOverlapsI(
+    final @ForAll List<AreaI> areas,
+    final @ForAll AreaI query)
+  {
+    final var e = edgesI(areas);
+    final var size = areas.size();
+    final var expected =
+      bruteForce(areas, a -> AreasI.overlaps(a, query));
+
+    final var indices = new int[size];
+    final var count =
+      AreasBatchI.overlaps(e[0], e[1], e[2], e[3], size, query, indices);
+    Assertions.assertArrayEquals(expected, Arrays.copyOf(indices, count));
+
+    final var mask = new long[AreasBatchI.maskLength(size)];
+    Assertions.assertEquals(
+      count,
+      AreasBatchI.overlapsMask(e[0], e[1], e[2], e[3], size, query, mask));
+    Assertions.assertArrayEquals(expected, fromMask(mask, size));
+  }
+
+  @Property
+  public void testContainsPointF(
+    final @ForAll List<AreaF> areas,
+    final @ForAll @IntRange(min = 0, max = 10000) int x,
+    final @ForAll @IntRange(min = 0, max = 10000) int y)
+  {
+    final var e = edgesF(areas);
+    final var size = areas.size();
+    final var expected =
+      bruteForce(areas, a -> AreasF.containsPoint(a, x, y));
+
+    final var indices = new int[size];
+    final var count =
+      AreasBatchF.containsPoint(e[0], e[1], e[2], e[3], size, x, y, indices);
+    Assertions.assertArrayEquals(expected, Arrays.copyOf(indices, count));
+
+    final var mask = new long[AreasBatchF.maskLength(size)];
+    Assertions.assertEquals(
+      count,
+      AreasBatchF.containsPointMask(e[0], e[1], e[2], e[3], size, x, y, mask));
+    Assertions.assertArrayEquals(expected, fromMask(mask, size));
+  }
+
+  @Property
+  public void testOverlapsF(
+    final @ForAll List<AreaF> areas,
+    final @ForAll AreaF query)
+  {
+    final var e = edgesF(areas);
+    final var size = areas.size();
+    final var expected =
+      bruteForce(areas, a -> AreasF.overlaps(a, query));
+
+    final var indices = new int[size];
+    final var count =
+      AreasBatchF.overlaps(e[0], e[1], e[2], e[3], size, query, indices);
+    Assertions.assertArrayEquals(expected, Arrays.copyOf(indices, count));
+
+    final var mask = new long[AreasBatchF.maskLength(size)];
+    Assertions.assertEquals(
+      count,
+      AreasBatchF.overlapsMask(e[0], e[1], e[2], e[3], size, query, mask));
+    Assertions.assertArrayEquals(expected, fromMask(mask, size));
+  }
+}
@@ -0,0 +1,240 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jregions.tests.core.unparameterized;
+
+import com.io7m.jregions.core.unparameterized.areas.AreaBD;
+import com.io7m.jregions.core.unparameterized.areas.AreaBI;
+import com.io7m.jregions.core.unparameterized.areas.AreaD;
+import com.io7m.jregions.core.unparameterized.areas.AreaF;
+import com.io7m.jregions.core.unparameterized.areas.AreaI;
+import com.io7m.jregions.core.unparameterized.areas.AreaL;
+import com.io7m.jregions.core.unparameterized.areas.AreasBI;
+import com.io7m.jregions.core.unparameterized.areas.AreasCollectorsBD;
+import com.io7m.jregions.core.unparameterized.areas.AreasCollectorsBI;
+import com.io7m.jregions.core.unparameterized.areas.AreasCollectorsD;
+import com.io7m.jregions.core.unparameterized.areas.AreasCollectorsF;
+import com.io7m.jregions.core.unparameterized.areas.AreasCollectorsI;
+import com.io7m.jregions.core.unparameterized.areas.AreasCollectorsL;
+import com.io7m.jregions.core.unparameterized.areas.AreasD;
+import com.io7m.jregions.core.unparameterized.areas.AreasI;
+import com.io7m.jregions.core.unparameterized.areas.AreasL;
+import net.jqwik.api.ForAll;
+import net.jqwik.api.Property;
+import net.jqwik.api.constraints.IntRange;
+import net.jqwik.api.constraints.Size;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.IntStream;
+
+public final class AreasCollectorsTest
+{
+  private static final int GRID = 24;
+
+  /**
+   * Interpret groups of four small integers as areas on a small grid.
+   */
+
+  private static List<AreaI> smallAreas(
+    final List<Integer> values)
+  {
+    final var areas = new ArrayList<AreaI>();
+    for (int index = 0; index + 3 < values.size(); index += 4) {
+      final int x = values.get(index).intValue();
+      final int y = values.get(index + 1).intValue();
+      final int w = values.get(index + 2).intValue();
+      final int h = values.get(index + 3).intValue();
+      areas.add(AreaI.of(x, x + w, y, y + h));
+    }
+    return areas;
+  }
+
+  private static long bruteForceCoverage(
+    final List<AreaI> areas)
+  {
+    long covered = 0L;
+    for (int y = 0; y < GRID; ++y) {
+      for (int x = 0; x < GRID; ++x) {
+        final int px = x;
+        final int py = y;
+        if (areas.stream().anyMatch(a -> AreasI.containsPoint(a, px, py))) {
+          covered += 1L;
+        }
+      }
+    }
+    return covered;
+  }
+
+  @Property
+  public void testContainingI(
+    @ForAll final List<AreaI> areas)
+  {
+    final Optional<AreaI> expected =
+      areas.stream().reduce(AreasI::containing);
+    Assertions.assertEquals(
+      expected, areas.stream().collect(AreasCollectorsI.containing()));
+    Assertions.assertEquals(
+      expected, areas.parallelStream().collect(AreasCollectorsI.containing()));
+  }
+
+  @Property
+  public void testContainingD(
+    @ForAll final List<AreaD> areas)
+  {
+    Assertions.assertEquals(
+      areas.stream().reduce(AreasD::containing),
+      areas.parallelStream().collect(AreasCollectorsD.containing()));
+  }
+
+  @Property
+  public void testContainingBI(
+    @ForAll final List<AreaBI> areas)
+  {
+    Assertions.assertEquals(
+      areas.stream().reduce(AreasBI::containing),
+      areas.parallelStream().collect(AreasCollectorsBI.containing()));
+  }
+
+  @Property
+  public void testTotalSizeL(
+    @ForAll final List<@IntRange(min = 0, max = 1000) Integer> values)
+  {
+    final var areas =
+      smallAreas(values)
+        .stream()
+        .map(a -> AreaL.of(a.minimumX(), a.maximumX(), a.minimumY(), a.maximumY()))
+        .toList();
+
+    long expected = 0L;
+    for (final var area : areas) {
+      expected += area.sizeX() * area.sizeY();
+    }
+
+    Assertions.assertEquals(
+      Long.valueOf(expected),
+      areas.parallelStream().collect(AreasCollectorsL.totalSize()));
+  }
+
+  @Property
+  public void testCoverageI(
+    @ForAll @Size(max = 64) final List<@IntRange(min = 0, max = 12) Integer> values)
+  {
+    final var areas = smallAreas(values);
+    final long expected = bruteForceCoverage(areas);
+
+    Assertions.assertEquals(
+      Long.valueOf(expected),
+      areas.stream().collect(AreasCollectorsI.coverage()));
+    Assertions.assertEquals(
+      Long.valueOf(expected),
+      areas.parallelStream().collect(AreasCollectorsI.coverage()));
+  }
+
+  @Property
+  public void testCoverageOtherTypes(
+    @ForAll @Size(max = 64) final List<@IntRange(min = 0, max = 12) Integer> values)
+  {
+    final var areas = smallAreas(values);
+    final long expected = bruteForceCoverage(areas);
+
+    Assertions.assertEquals(
+      Double.valueOf(expected),
+      areas.parallelStream()
+        .map(a -> AreaF.of(a.minimumX(), a.maximumX(), a.minimumY(), a.maximumY()))
+        .collect(AreasCollectorsF.coverage()));
+    Assertions.assertEquals(
+      BigInteger.valueOf(expected),
+      areas.parallelStream()
+        .map(a -> AreaBI.of(
+          BigInteger.valueOf(a.minimumX()),
+          BigInteger.valueOf(a.maximumX()),
+          BigInteger.valueOf(a.minimumY()),
+          BigInteger.valueOf(a.maximumY())))
+        .collect(AreasCollectorsBI.coverage()));
+    Assertions.assertEquals(
+      0,
+      BigDecimal.valueOf(expected).compareTo(
+        areas.parallelStream()
+          .map(a -> AreaBD.of(
+            BigDecimal.valueOf(a.minimumX()),
+            BigDecimal.valueOf(a.maximumX()),
+            BigDecimal.valueOf(a.minimumY()),
+            BigDecimal.valueOf(a.maximumY())))
+          .collect(AreasCollectorsBD.coverage())));
+  }
+
+  @Property
+  public void testCountContainingPoint(
+    @ForAll final List<AreaL> areas,
+    @ForAll final long x,
+    @ForAll final long y)
+  {
+    final var expected =
+      areas.stream().filter(a -> AreasL.containsPoint(a, x, y)).count();
+    Assertions.assertEquals(
+      Long.valueOf(expected),
+      areas.parallelStream().collect(AreasCollectorsL.countContainingPoint(x, y)));
+  }
+
+  @Test
+  public void testEmpty()
+  {
+    Assertions.assertEquals(
+      Optional.empty(),
+      List.<AreaI>of().stream().collect(AreasCollectorsI.containing()));
+    Assertions.assertEquals(
+      Long.valueOf(0L),
+      List.<AreaI>of().stream().collect(AreasCollectorsI.totalSize()));
+    Assertions.assertEquals(
+      Long.valueOf(0L),
+      List.<AreaI>of().stream().collect(AreasCollectorsI.coverage()));
+  }
+
+  @Test
+  public void testLargeParallel()
+  {
+    final var areas =
+      IntStream.range(0, 100_000)
+        .mapToObj(i -> AreaD.of(i, i + 2.0, 0.0, 1.0))
+        .toList();
+
+    Assertions.assertEquals(
+      Optional.of(AreaD.of(0.0, 100_001.0, 0.0, 1.0)),
+      areas.parallelStream().collect(AreasCollectorsD.containing()));
+    Assertions.assertEquals(
+      Double.valueOf(200_000.0),
+      areas.parallelStream().collect(AreasCollectorsD.totalSize()));
+    Assertions.assertEquals(
+      Double.valueOf(100_001.0),
+      areas.parallelStream().collect(AreasCollectorsD.coverage()));
+  }
+
+  @Test
+  public void testTotalSizeOverflow()
+  {
+    final var area =
+      AreaI.of(0, Integer.MAX_VALUE, 0, Integer.MAX_VALUE);
+    Assertions.assertThrows(
+      ArithmeticException.class,
+      () -> List.of(area, area, area).stream().collect(AreasCollectorsI.totalSize()));
+  }
+}
@@ -0,0 +1,362 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jregions.tests.core.unparameterized;
+
+import com.io7m.jaffirm.core.PreconditionViolationException;
+import com.io7m.jregions.core.unparameterized.areas.AreaD;
+import com.io7m.jregions.core.unparameterized.areas.AreaF;
+import com.io7m.jregions.core.unparameterized.areas.AreaI;
+import com.io7m.jregions.core.unparameterized.areas.AreaTransformDType;
+import com.io7m.jregions.core.unparameterized.areas.AreaTransformFType;
+import com.io7m.jregions.core.unparameterized.areas.AreaTransformIType;
+import com.io7m.jregions.core.unparameterized.areas.AreasD;
+import com.io7m.jregions.core.unparameterized.areas.AreasF;
+import com.io7m.jregions.core.unparameterized.areas.AreasI;
+import com.io7m.jregions.core.unparameterized.areas.AreasParallelD;
+import com.io7m.jregions.core.unparameterized.areas.AreasParallelF;
+import com.io7m.jregions.core.unparameterized.areas.AreasParallelI;
+import net.jqwik.api.ForAll;
+import net.jqwik.api.Property;
+import net.jqwik.api.constraints.IntRange;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.UnaryOperator;
+
+public final class AreasParallelTest
+{
+  private static int[][] edgesI(
+    final List<AreaI> areas)
+  {
+    final var edges = new int[4][areas.size()];
+    for (int index = 0; index < areas.size(); ++index) {
+      final var area = areas.get(index);
+      edges[0][index] = area.minimumX();
+      edges[1][index] = area.maximumX();
+      edges[2][index] = area.minimumY();
+      edges[3][index] = area.maximumY();
+    }
+    return edges;
+  }
+
+  private static List<AreaI> areasI(
+    final int[][] edges)
+  {
+    final var results = new ArrayList<AreaI>(edges[0].length);
+    for (int index = 0; index < edges[0].length; ++index) {
+      results.add(AreaI.of(
+        edges[0][index],
+        edges[1][index],
+        edges[2][index],
+        edges[3][index]));
+    }
+    return results;
+  }
+
+  private static float[][] edgesF(
+    final List<AreaF> areas)
+  {
+    final var edges = new float[4][areas.size()];
+    for (int index = 0; index < areas.size(); ++index) {
+      final var area = areas.get(index);
+      edges[0][index] = area.minimumX();
+      edges[1][index] = area.maximumX();
+      edges[2][index] = area.minimumY();
+      edges[3][index] = area.maximumY();
+    }
+    return edges;
+  }
+
+  private static List<AreaF> areasF(
+    final float[][] edges)
+  {
+    final var results = new ArrayList<AreaF>(edges[0].length);
+    for (int index = 0; index < edges[0].length; ++index) {
+      results.add(AreaF.of(
+        edges[0][index],
+        edges[1][index],
+        edges[2][index],
+        edges[3][index]));
+    }
+    return results;
+  }
+
+  private static double[][] edgesD(
+    final List<AreaD> areas)
+  {
+    final var edges = new double[4][areas.size()];
+    for (int index = 0; index < areas.size(); ++index) {
+      final var area = areas.get(index);
+      edges[0][index] = area.minimumX();
+      edges[1][index] = area.maximumX();
+      edges[2][index] = area.minimumY();
+      edges[3][index] = area.maximumY();
+    }
+    return edges;
+  }
+
+  private static List<AreaD> areasD(
+    final double[][] edges)
+  {
+    final var results = new ArrayList<AreaD>(edges[0].length);
+    for (int index = 0; index < edges[0].length; ++index) {
+      results.add(AreaD.of(
+        edges[0][index],
+        edges[1][index],
+        edges[2][index],
+        edges[3][index]));
+    }
+    return results;
+  }
+
+  private static void checkI(
+    final List<AreaI> areas,
+    final AreaTransformIType transform,
+    final UnaryOperator<AreaI> expected)
+  {
+    final var edges = edgesI(areas);
+    try (var pool = new ForkJoinPool(4)) {
+      AreasParallelI.transform(
+        pool, 3, transform, edges[0], edges[1], edges[2], edges[3], areas.size());
+    }
+    Assertions.assertEquals(
+      areas.stream().map(expected).toList(),
+      areasI(edges));
+  }
+
+  private static void checkF(
+    final List<AreaF> areas,
+    final AreaTransformFType transform,
+    final UnaryOperator<AreaF> expected)
+  {
+    final var edges = edgesF(areas);
+    try (var pool = new ForkJoinPool(4)) {
+      AreasParallelF.transform(
+        pool, 3, transform, edges[0], edges[1], edges[2], edges[3], areas.size());
+    }
+    Assertions.assertEquals(
+      areas.stream().map(expected).toList(),
+      areasF(edges));
+  }
+
+  private static void checkD(
+    final List<AreaD> areas,
+    final AreaTransformDType transform,
+    final UnaryOperator<AreaD> expected)
+  {
+    final var edges = edgesD(areas);
+    try (var pool = new ForkJoinPool(4)) {
+      AreasParallelD.transform(
+        pool, 3, transform, edges[0], edges[1], edges[2], edges[3], areas.size());
+    }
+    Assertions.assertEquals(
+      areas.stream().map(expected).toList(),
+      areasD(edges));
+  }
+
+  @Property
+  public void testIdenticalI(
+    @ForAll final List<AreaI> areas,
+    @ForAll final AreaI outer,
+    @ForAll @IntRange(min = -1000, max = 1000) final int x,
+    @ForAll @IntRange(min = -1000, max = 1000) final int y,
+    @ForAll @IntRange(min = 0, max = 1000) final int s)
+  {
+    checkI(
+      areas,
+      AreasParallelI.moveRelative(x, y),
+      a -> AreasI.moveRelative(a, x, y));
+    checkI(
+      areas,
+      AreasParallelI.moveAbsolute(x, y),
+      a -> AreasI.moveAbsolute(a, x, y));
+    checkI(
+      areas,
+      AreasParallelI.moveToOrigin(),
+      AreasI::moveToOrigin);
+    checkI(
+      areas,
+      AreasParallelI.alignCenter(outer),
+      a -> AreasI.alignCenter(outer, a));
+    checkI(
+      areas,
+      AreasParallelI.hollowOut(s, s + 1, s + 2, s + 3),
+      a -> AreasI.hollowOut(a, s, s + 1, s + 2, s + 3));
+    checkI(
+      areas,
+      AreasParallelI.setSizeFromCenter(s, s + 1),
+      a -> AreasI.setSizeFromCenter(a, s, s + 1));
+    checkI(
+      areas,
+      AreasParallelI.scaleFromCenter(x, y),
+      a -> AreasI.scaleFromCenter(a, x, y));
+    checkI(
+      areas,
+      AreasParallelI.map(a -> AreasI.alignMaxYMinXOffset(outer, a, x, y)),
+      a -> AreasI.alignMaxYMinXOffset(outer, a, x, y));
+  }
+
+  @Property
+  public void testIdenticalF(
+    @ForAll final List<AreaF> areas,
+    @ForAll final AreaF outer,
+    @ForAll @IntRange(min = -1000, max = 1000) final int x,
+    @ForAll @IntRange(min = -1000, max = 1000) final int y,
+    @ForAll @IntRange(min = 0, max = 1000) final int s)
+  {
+    final float fx = x / 3.0f;
+    final float fy = y / 7.0f;
+    final float fs = s / 3.0f;
+
+    checkF(
+      areas,
+      AreasParallelF.moveAbsolute(fx, fy),
+      a -> AreasF.moveAbsolute(a, fx, fy));
+    checkF(
+      areas,
+      AreasParallelF.alignCenter(outer),
+      a -> AreasF.alignCenter(outer, a));
+    checkF(
+      areas,
+      AreasParallelF.hollowOutEvenly(fs),
+      a -> AreasF.hollowOutEvenly(a, fs));
+    checkF(
+      areas,
+      AreasParallelF.setSizeFromCenter(fs, fs * 2.0f),
+      a -> AreasF.setSizeFromCenter(a, fs, fs * 2.0f));
+    checkF(
+      areas,
+      AreasParallelF.scaleFromCenter(fx, fy),
+      a -> AreasF.scaleFromCenter(a, fx, fy));
+  }
+
+  @Property
+  public void testIdenticalD(
+    @ForAll final List<AreaD> areas,
+    @ForAll @IntRange(min = -1000, max = 1000) final int x,
+    @ForAll @IntRange(min = -1000, max = 1000) final int y)
+  {
+    final double dx = x / 3.0;
+    final double dy = y / 7.0;
+
+    checkD(
+      areas,
+      AreasParallelD.moveRelative(dx, dy),
+      a -> AreasD.moveRelative(a, dx, dy));
+    checkD(
+      areas,
+      AreasParallelD.scaleFromCenter(dx, dy),
+      a -> AreasD.scaleFromCenter(a, dx, dy));
+  }
+
+  @Test
+  public void testLargeDefaultPool()
+  {
+    final int count = 100_000;
+    final var minX = new double[count];
+    final var maxX = new double[count];
+    final var minY = new double[count];
+    final var maxY = new double[count];
+    for (int index = 0; index < count; ++index) {
+      minX[index] = index;
+      maxX[index] = index + 10.0;
+      minY[index] = -index;
+      maxY[index] = -index + 4.0;
+    }
+
+    AreasParallelD.transform(
+      AreasParallelD.scaleFromCenter(2.0, 2.0), minX, maxX, minY, maxY, count);
+
+    for (int index = 0; index < count; ++index) {
+      Assertions.assertEquals(index - 1.0, minX[index]);
+      Assertions.assertEquals(index + 11.0, maxX[index]);
+      Assertions.assertEquals(-index - 1.0, minY[index]);
+      Assertions.assertEquals(-index + 5.0, maxY[index]);
+    }
+  }
+
+  @Test
+  public void testOverflowPropagates()
+  {
+    final var edges = new int[4][100];
+    edges[1][77] = Integer.MAX_VALUE;
+
+    try (var pool = new ForkJoinPool(4)) {
+      Assertions.assertThrows(
+        ArithmeticException.class,
+        () -> AreasParallelI.transform(
+          pool,
+          4,
+          AreasParallelI.moveRelative(1, 0),
+          edges[0],
+          edges[1],
+          edges[2],
+          edges[3],
+          100));
+    }
+  }
+
+  @Test
+  public void testPreconditions()
+  {
+    final var small = new int[4];
+    final var large = new int[8];
+    final var move = AreasParallelI.moveRelative(1, 1);
+
+    try (var pool = new ForkJoinPool(1)) {
+      Assertions.assertThrows(
+        PreconditionViolationException.class,
+        () -> AreasParallelI.transform(
+          pool, 0, move, large, large, large, large, 8));
+      Assertions.assertThrows(
+        PreconditionViolationException.class,
+        () -> AreasParallelI.transform(
+          pool, 1, move, small, large, large, large, 8));
+      Assertions.assertThrows(
+        PreconditionViolationException.class,
+        () -> AreasParallelI.transform(
+          pool, 1, move, large, large, large, small, 8));
+      Assertions.assertThrows(
+        PreconditionViolationException.class,
+        () -> AreasParallelI.transform(
+          pool, 1, move, large, large, large, large, -1));
+    }
+    Assertions.assertThrows(
+      PreconditionViolationException.class,
+      () -> AreasParallelI.setSizeFromCenter(-1, 0));
+  }
+
+  @Test
+  public void testPartialRange()
+  {
+    final var minX = new int[]{0, 1, 2, 3};
+    final var maxX = new int[]{1, 2, 3, 4};
+    final var minY = new int[]{0, 0, 0, 0};
+    final var maxY = new int[]{1, 1, 1, 1};
+
+    try (var pool = new ForkJoinPool(1)) {
+      AreasParallelI.transform(
+        pool, 1, AreasParallelI.moveRelative(10, 0), minX, maxX, minY, maxY, 3);
+    }
+
+    Assertions.assertArrayEquals(new int[]{10, 11, 12, 3}, minX);
+    Assertions.assertArrayEquals(new int[]{11, 12, 13, 4}, maxX);
+  }
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jregions.tests.core.unparameterized;
+
+import com.io7m.jaffirm.core.PreconditionViolationException;
+import com.io7m.jregions.core.unparameterized.areas.AreaI;
+import com.io7m.jregions.core.unparameterized.areas.AreaL;
+import com.io7m.jregions.core.unparameterized.areas.AreasI;
+import com.io7m.jregions.core.unparameterized.areas.AreasRecursiveI;
+import com.io7m.jregions.core.unparameterized.areas.AreasRecursiveL;
+import com.io7m.jregions.core.unparameterized.volumes.VolumeI;
+import com.io7m.jregions.core.unparameterized.volumes.VolumesRecursiveI;
+import net.jqwik.api.ForAll;
+import net.jqwik.api.Property;
+import net.jqwik.api.constraints.IntRange;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+public final class AreasRecursiveTest
+{
+  private static <T> List<T> concatenate(
+    final List<T> x,
+    final List<T> y)
+  {
+    final var result = new ArrayList<T>(x.size() + y.size());
+    result.addAll(x);
+    result.addAll(y);
+    return result;
+  }
+
+  @Property
+  public void testLeavesPartitionArea(
+    @ForAll @IntRange(min = -1000, max = 1000) final int x,
+    @ForAll @IntRange(min = -1000, max = 1000) final int y,
+    @ForAll @IntRange(min = 0, max = 400) final int sizeX,
+    @ForAll @IntRange(min = 0, max = 400) final int sizeY,
+    @ForAll @IntRange(min = 1, max = 500) final int leafCells)
+  {
+    final var area = AreaI.of(x, x + sizeX, y, y + sizeY);
+    final var statistics = AreasRecursiveI.Statistics.create();
+    final List<AreaI> leaves;
+    try (var pool = new ForkJoinPool(4)) {
+      leaves = AreasRecursiveI.decompose(
+        pool, area, leafCells, List::of, AreasRecursiveTest::concatenate, statistics);
+    }
+
+    long cells = 0L;
+    for (final var leaf : leaves) {
+      Assertions.assertTrue(AreasI.contains(area, leaf));
+      final long leafSize = (long) leaf.sizeX() * (long) leaf.sizeY();
+      Assertions.assertTrue(
+        leafSize <= leafCells || (leaf.sizeX() <= 1 && leaf.sizeY() <= 1));
+      cells += leafSize;
+    }
+    Assertions.assertEquals((long) sizeX * (long) sizeY, cells);
+
+    for (int i = 0; i < leaves.size(); ++i) {
+      for (int k = i + 1; k < leaves.size(); ++k) {
+        Assertions.assertFalse(AreasI.overlaps(leaves.get(i), leaves.get(k)));
+      }
+    }
+
+    Assertions.assertEquals(leaves.size(), statistics.leaves());
+    Assertions.assertEquals(
+      statistics.leaves() - 1L, statistics.forks());
+    Assertions.assertTrue(statistics.steals() <= statistics.forks());
+
+    try (var single = new ForkJoinPool(1)) {
+      Assertions.assertEquals(
+        leaves,
+        AreasRecursiveI.decompose(
+          single,
+          area,
+          leafCells,
+          List::of,
+          AreasRecursiveTest::concatenate,
+          AreasRecursiveI.Statistics.create()));
+    }
+  }
+
+  @Test
+  public void testAspectRatio()
+  {
+    final var area = AreaI.of(0, 4000, 0, 10);
+    final List<AreaI> leaves =
+      AreasRecursiveI.decompose(area, 100L, List::of, AreasRecursiveTest::concatenate);
+
+    for (final var leaf : leaves) {
+      final int longest = Math.max(leaf.sizeX(), leaf.sizeY());
+      final int shortest = Math.min(leaf.sizeX(), leaf.sizeY());
+      Assertions.assertTrue(longest <= shortest * 4, leaf::toString);
+    }
+  }
+
+  @Test
+  public void testSumLarge()
+  {
+    final var area = AreaL.of(0L, 1L << 20, 0L, 1L << 20);
+    final var statistics = AreasRecursiveL.Statistics.create();
+    final long cells;
+    try (var pool = new ForkJoinPool(4)) {
+      cells = AreasRecursiveL.decompose(
+        pool,
+        area,
+        1L << 38,
+        a -> Long.valueOf(a.sizeX() * a.sizeY()),
+        Long::sum,
+        statistics).longValue();
+    }
+
+    Assertions.assertEquals(1L << 40, cells);
+    Assertions.assertEquals(4L, statistics.leaves());
+    Assertions.assertEquals(1L, statistics.splits());
+    Assertions.assertEquals(1L, statistics.maximumDepth());
+  }
+
+  @Test
+  public void testVolumes()
+  {
+    final var volume = VolumeI.of(0, 64, 0, 32, 0, 3);
+    final var statistics = VolumesRecursiveI.Statistics.create();
+    final List<VolumeI> leaves;
+    try (var pool = new ForkJoinPool(4)) {
+      leaves = VolumesRecursiveI.decompose(
+        pool, volume, 64L, List::of, AreasRecursiveTest::concatenate, statistics);
+    }
+
+    long cells = 0L;
+    for (final var leaf : leaves) {
+      Assertions.assertTrue(
+        (long) leaf.sizeX() * leaf.sizeY() * leaf.sizeZ() <= 64L);
+      cells += (long) leaf.sizeX() * leaf.sizeY() * leaf.sizeZ();
+    }
+    Assertions.assertEquals(64L * 32L * 3L, cells);
+    Assertions.assertEquals(leaves.size(), statistics.leaves());
+    Assertions.assertTrue(statistics.maximumDepth() > 0L);
+  }
+
+  @Test
+  public void testPreconditions()
+  {
+    Assertions.assertThrows(
+      PreconditionViolationException.class,
+      () -> AreasRecursiveI.decompose(
+        AreaI.of(0, 1, 0, 1), 0L, a -> a, (a, b) -> a));
+  }
+}
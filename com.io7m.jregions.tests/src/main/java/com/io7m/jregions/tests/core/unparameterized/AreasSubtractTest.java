@@ -0,0 +1,270 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jregions.tests.core.unparameterized;
+
+import com.io7m.jregions.core.unparameterized.areas.AreaBI;
+import com.io7m.jregions.core.unparameterized.areas.AreaD;
+import com.io7m.jregions.core.unparameterized.areas.AreaEdgesReceiverIType;
+import com.io7m.jregions.core.unparameterized.areas.AreaI;
+import com.io7m.jregions.core.unparameterized.areas.AreasBI;
+import com.io7m.jregions.core.unparameterized.areas.AreasD;
+import com.io7m.jregions.core.unparameterized.areas.AreasI;
+import com.io7m.jregions.core.unparameterized.volumes.VolumeEdgesReceiverIType;
+import com.io7m.jregions.core.unparameterized.volumes.VolumeI;
+import com.io7m.jregions.core.unparameterized.volumes.VolumesI;
+import com.sun.management.ThreadMXBean;
+import net.jqwik.api.ForAll;
+import net.jqwik.api.Property;
+import net.jqwik.api.constraints.IntRange;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+
+public final class AreasSubtractTest
+{
+  private static AreaI areaI(
+    final int x,
+    final int w,
+    final int y,
+    final int h)
+  {
+    return AreaI.of(x, x + w, y, y + h);
+  }
+
+  private static List<AreaI> subtractI(
+    final AreaI a,
+    final AreaI b)
+  {
+    final var results = new ArrayList<AreaI>();
+    final int count = AreasI.subtract(
+      a, b, (x0, x1, y0, y1) -> results.add(AreaI.of(x0, x1, y0, y1)));
+    Assertions.assertEquals(results.size(), count);
+    return results;
+  }
+
+  private static List<VolumeI> subtractI(
+    final VolumeI a,
+    final VolumeI b)
+  {
+    final var results = new ArrayList<VolumeI>();
+    final int count = VolumesI.subtract(
+      a,
+      b,
+      (x0, x1, y0, y1, z0, z1) -> results.add(VolumeI.of(x0, x1, y0, y1, z0, z1)));
+    Assertions.assertEquals(results.size(), count);
+    return results;
+  }
+
+  private static boolean containsI(
+    final AreaI a,
+    final int x,
+    final int y)
+  {
+    return a.minimumX() <= x && x < a.maximumX()
+      && a.minimumY() <= y && y < a.maximumY();
+  }
+
+  private static boolean containsI(
+    final VolumeI a,
+    final int x,
+    final int y,
+    final int z)
+  {
+    return a.minimumX() <= x && x < a.maximumX()
+      && a.minimumY() <= y && y < a.maximumY()
+      && a.minimumZ() <= z && z < a.maximumZ();
+  }
+
+  @Test
+  public void testExamplesI()
+  {
+    final var a = AreaI.of(0, 10, 0, 10);
+
+    Assertions.assertEquals(
+      List.of(
+        AreaI.of(0, 10, 0, 4),
+        AreaI.of(0, 10, 6, 10),
+        AreaI.of(0, 4, 4, 6),
+        AreaI.of(6, 10, 4, 6)),
+      subtractI(a, AreaI.of(4, 6, 4, 6)));
+
+    Assertions.assertEquals(List.of(), subtractI(a, a));
+    Assertions.assertEquals(
+      List.of(), subtractI(a, AreaI.of(-1, 11, -1, 11)));
+    Assertions.assertEquals(
+      List.of(a), subtractI(a, AreaI.of(10, 20, 0, 10)));
+    Assertions.assertEquals(
+      List.of(a), subtractI(a, AreaI.of(5, 5, 0, 10)));
+    Assertions.assertEquals(
+      List.of(), subtractI(AreaI.of(5, 5, 0, 10), a));
+    Assertions.assertEquals(
+      List.of(AreaI.of(5, 10, 0, 10)),
+      subtractI(a, AreaI.of(-5, 5, -5, 15)));
+  }
+
+  @Test
+  public void testExamplesVolumeI()
+  {
+    final var a = VolumeI.of(0, 10, 0, 10, 0, 10);
+    final var result = subtractI(a, VolumeI.of(4, 6, 4, 6, 4, 6));
+
+    Assertions.assertEquals(
+      List.of(
+        VolumeI.of(0, 10, 0, 10, 0, 4),
+        VolumeI.of(0, 10, 0, 10, 6, 10),
+        VolumeI.of(0, 10, 0, 4, 4, 6),
+        VolumeI.of(0, 10, 6, 10, 4, 6),
+        VolumeI.of(0, 4, 4, 6, 4, 6),
+        VolumeI.of(6, 10, 4, 6, 4, 6)),
+      result);
+
+    Assertions.assertEquals(List.of(), subtractI(a, a));
+    Assertions.assertEquals(
+      List.of(a), subtractI(a, VolumeI.of(0, 10, 0, 10, 10, 20)));
+  }
+
+  @Test
+  public void testExamplesOtherTypes()
+  {
+    final var resultsD = new ArrayList<AreaD>();
+    Assertions.assertEquals(2, AreasD.subtract(
+      AreaD.of(0.0, 1.0, 0.0, 1.0),
+      AreaD.of(0.25, 0.75, -1.0, 2.0),
+      (x0, x1, y0, y1) -> resultsD.add(AreaD.of(x0, x1, y0, y1))));
+    Assertions.assertEquals(
+      List.of(
+        AreaD.of(0.0, 0.25, 0.0, 1.0),
+        AreaD.of(0.75, 1.0, 0.0, 1.0)),
+      resultsD);
+
+    final var resultsBI = new ArrayList<AreaBI>();
+    final var ten = BigInteger.TEN;
+    final var five = BigInteger.valueOf(5L);
+    Assertions.assertEquals(1, AreasBI.subtract(
+      AreaBI.of(BigInteger.ZERO, ten, BigInteger.ZERO, ten),
+      AreaBI.of(BigInteger.ZERO, ten, five, ten),
+      (x0, x1, y0, y1) -> resultsBI.add(AreaBI.of(x0, x1, y0, y1))));
+    Assertions.assertEquals(
+      List.of(AreaBI.of(BigInteger.ZERO, ten, BigInteger.ZERO, five)),
+      resultsBI);
+  }
+
+  @Property
+  public void testDifferenceI(
+    @ForAll @IntRange(min = -8, max = 8) final int ax,
+    @ForAll @IntRange(min = 0, max = 8) final int aw,
+    @ForAll @IntRange(min = -8, max = 8) final int ay,
+    @ForAll @IntRange(min = 0, max = 8) final int ah,
+    @ForAll @IntRange(min = -8, max = 8) final int bx,
+    @ForAll @IntRange(min = 0, max = 8) final int bw,
+    @ForAll @IntRange(min = -8, max = 8) final int by,
+    @ForAll @IntRange(min = 0, max = 8) final int bh)
+  {
+    final var a = areaI(ax, aw, ay, ah);
+    final var b = areaI(bx, bw, by, bh);
+    final var results = subtractI(a, b);
+
+    Assertions.assertTrue(results.size() <= 4);
+    for (final var result : results) {
+      Assertions.assertTrue(result.sizeX() > 0 && result.sizeY() > 0);
+    }
+
+    for (int y = -9; y <= 17; ++y) {
+      for (int x = -9; x <= 17; ++x) {
+        final int px = x;
+        final int py = y;
+        final long hits =
+          results.stream().filter(r -> containsI(r, px, py)).count();
+        final boolean expected = containsI(a, x, y) && !containsI(b, x, y);
+        Assertions.assertEquals(expected ? 1L : 0L, hits);
+      }
+    }
+  }
+
+  @Property
+  public void testDifferenceVolumeI(
+    @ForAll @IntRange(min = -4, max = 4) final int ax,
+    @ForAll @IntRange(min = -4, max = 4) final int ay,
+    @ForAll @IntRange(min = -4, max = 4) final int az,
+    @ForAll @IntRange(min = 0, max = 6) final int as,
+    @ForAll @IntRange(min = -4, max = 4) final int bx,
+    @ForAll @IntRange(min = -4, max = 4) final int by,
+    @ForAll @IntRange(min = -4, max = 4) final int bz,
+    @ForAll @IntRange(min = 0, max = 6) final int bs)
+  {
+    final var a = VolumeI.of(ax, ax + as, ay, ay + as + 1, az, az + as + 2);
+    final var b = VolumeI.of(bx, bx + bs, by, by + bs + 1, bz, bz + bs);
+    final var results = subtractI(a, b);
+
+    Assertions.assertTrue(results.size() <= 6);
+    for (int z = -5; z <= 13; ++z) {
+      for (int y = -5; y <= 13; ++y) {
+        for (int x = -5; x <= 13; ++x) {
+          final int px = x;
+          final int py = y;
+          final int pz = z;
+          final long hits =
+            results.stream().filter(r -> containsI(r, px, py, pz)).count();
+          final boolean expected =
+            containsI(a, x, y, z) && !containsI(b, x, y, z);
+          Assertions.assertEquals(expected ? 1L : 0L, hits);
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testAllocationFree()
+  {
+    final var threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+    Assumptions.assumeTrue(threads.isThreadAllocatedMemorySupported());
+    threads.setThreadAllocatedMemoryEnabled(true);
+
+    final long[] sum = new long[1];
+    final AreaEdgesReceiverIType areas =
+      (x0, x1, y0, y1) -> sum[0] += (long) (x1 - x0) * (y1 - y0);
+    final VolumeEdgesReceiverIType volumes =
+      (x0, x1, y0, y1, z0, z1) -> sum[0] += x1 - x0;
+
+    final var a = AreaI.of(0, 10, 0, 10);
+    final var b = AreaI.of(4, 6, 4, 6);
+    final var va = VolumeI.of(0, 10, 0, 10, 0, 10);
+    final var vb = VolumeI.of(4, 6, 4, 6, 4, 6);
+
+    AreasI.subtract(a, b, areas);
+    VolumesI.subtract(va, vb, volumes);
+
+    final var threadId = Thread.currentThread().threadId();
+    final var before = threads.getThreadAllocatedBytes(threadId);
+    int count = 0;
+    for (int index = 0; index < 100_000; ++index) {
+      count += AreasI.subtract(a, b, areas);
+      count += VolumesI.subtract(va, vb, volumes);
+    }
+    final var after = threads.getThreadAllocatedBytes(threadId);
+
+    Assertions.assertEquals(1_000_000, count);
+    Assertions.assertTrue(
+      after - before < 100_000L,
+      String.format("Allocated %d bytes", after - before));
+  }
+}
@@ -0,0 +1,247 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jregions.tests.core.unparameterized;
+
+import com.io7m.jaffirm.core.PreconditionViolationException;
+import com.io7m.jregions.core.unparameterized.volumes.VolumeD;
+import com.io7m.jregions.core.unparameterized.volumes.VolumeDBuffer;
+import com.io7m.jregions.core.unparameterized.volumes.VolumeF;
+import com.io7m.jregions.core.unparameterized.volumes.VolumeFBuffer;
+import com.io7m.jregions.core.unparameterized.volumes.VolumeI;
+import com.io7m.jregions.core.unparameterized.volumes.VolumeIBuffer;
+import com.io7m.jregions.core.unparameterized.volumes.VolumeL;
+import com.io7m.jregions.core.unparameterized.volumes.VolumeLBuffer;
+import com.io7m.jregions.core.unparameterized.volumes.VolumesD;
+import com.io7m.jregions.core.unparameterized.volumes.VolumesF;
+import com.io7m.jregions.core.unparameterized.volumes.VolumesI;
+import com.io7m.jregions.core.unparameterized.volumes.VolumesL;
+import net.jqwik.api.ForAll;
+import net.jqwik.api.Property;
+import net.jqwik.api.constraints.IntRange;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+
+public final class VolumeBufferTest
+{
+  private static <T> int[] bruteForce(
+    final List<T> values,
+    final Predicate<T> predicate)
+  {
+    return IntStream.range(0, values.size())
+      .filter(i -> predicate.test(values.get(i)))
+      .toArray();
+  }
+
+  private static int[] found(
+    final int[] indices,
+    final int count)
+  {
+    return Arrays.copyOf(indices, count);
+  }
+
+  @Test
+  public void testLayout()
+  {
+    final var data =
+      ByteBuffer.allocate(2 * VolumeIBuffer.RECORD_SIZE)
+        .order(ByteOrder.LITTLE_ENDIAN);
+    final var buffer = VolumeIBuffer.wrap(data);
+
+    Assertions.assertEquals(24, VolumeIBuffer.RECORD_SIZE);
+    Assertions.assertEquals(2, buffer.size());
+
+    buffer.set(1, VolumeI.of(1, 2, 3, 4, 5, 6));
+    Assertions.assertEquals(1, data.getInt(24));
+    Assertions.assertEquals(2, data.getInt(28));
+    Assertions.assertEquals(3, data.getInt(32));
+    Assertions.assertEquals(4, data.getInt(36));
+    Assertions.assertEquals(5, data.getInt(40));
+    Assertions.assertEquals(6, data.getInt(44));
+
+    data.putInt(VolumeIBuffer.OFFSET_MAXIMUM_Z, 100);
+    Assertions.assertEquals(VolumeI.of(0, 0, 0, 0, 0, 100), buffer.get(0));
+    Assertions.assertEquals(100, buffer.maximumZ(0));
+  }
+
+  @Test
+  public void testSetInvalid()
+  {
+    final var buffer = VolumeLBuffer.allocate(1);
+    final var ez = Assertions.assertThrows(
+      PreconditionViolationException.class,
+      () -> buffer.set(0, 0L, 10L, 0L, 10L, 10L, 9L));
+    Assertions.assertTrue(ez.getMessage().contains("Z"));
+  }
+
+  @Test
+  public void testMoveRelativeOverflow()
+  {
+    final var buffer = VolumeLBuffer.ofList(
+      List.of(
+        VolumeL.of(0L, 10L, 0L, 10L, 0L, 10L),
+        VolumeL.of(0L, 10L, 0L, 10L, 0L, Long.MAX_VALUE - 1L)));
+
+    Assertions.assertThrows(
+      ArithmeticException.class,
+      () -> buffer.moveRelative(0L, 0L, 2L));
+    Assertions.assertEquals(
+      VolumeL.of(0L, 10L, 0L, 10L, 0L, 10L), buffer.get(0));
+  }
+
+  @Property
+  public void testOperationsI(
+    final @ForAll List<VolumeI> volumes,
+    final @ForAll VolumeI query,
+    final @ForAll @IntRange(min = 0, max = 10000) int x,
+    final @ForAll @IntRange(min = 0, max = 10000) int y,
+    final @ForAll @IntRange(min = 0, max = 10000) int z)
+  {
+    final var buffer = VolumeIBuffer.ofList(volumes);
+    final var indices = new int[volumes.size()];
+    Assertions.assertEquals(volumes, buffer.toList());
+
+    var count = buffer.overlaps(query, indices);
+    Assertions.assertArrayEquals(
+      bruteForce(volumes, a -> VolumesI.overlaps(a, query)),
+      found(indices, count));
+
+    count = buffer.containsPoint(x, y, z, indices);
+    Assertions.assertArrayEquals(
+      bruteForce(volumes, a -> VolumesI.containsPoint(a, x, y, z)),
+      found(indices, count));
+
+    if (!volumes.isEmpty()) {
+      Assertions.assertEquals(
+        volumes.stream().reduce(VolumesI::containing).orElseThrow(),
+        buffer.containing());
+    }
+
+    buffer.moveRelative(x, -y, z);
+    Assertions.assertEquals(
+      volumes.stream().map(a -> VolumesI.moveRelative(a, x, -y, z)).toList(),
+      buffer.toList());
+  }
+
+  @Property
+  public void testOperationsL(
+    final @ForAll List<VolumeL> volumes,
+    final @ForAll VolumeL query,
+    final @ForAll @IntRange(min = 0, max = 10000) int x,
+    final @ForAll @IntRange(min = 0, max = 10000) int y,
+    final @ForAll @IntRange(min = 0, max = 10000) int z)
+  {
+    final var buffer = VolumeLBuffer.ofList(volumes);
+    final var indices = new int[volumes.size()];
+    Assertions.assertEquals(volumes, buffer.toList());
+
+    var count = buffer.overlaps(query, indices);
+    Assertions.assertArrayEquals(
+      bruteForce(volumes, a -> VolumesL.overlaps(a, query)),
+      found(indices, count));
+
+    count = buffer.containsPoint(x, y, z, indices);
+    Assertions.assertArrayEquals(
+      bruteForce(volumes, a -> VolumesL.containsPoint(a, x, y, z)),
+      found(indices, count));
+
+    if (!volumes.isEmpty()) {
+      Assertions.assertEquals(
+        volumes.stream().reduce(VolumesL::containing).orElseThrow(),
+        buffer.containing());
+    }
+
+    buffer.moveRelative(x, -y, z);
+    Assertions.assertEquals(
+      volumes.stream().map(a -> VolumesL.moveRelative(a, x, -y, z)).toList(),
+      buffer.toList());
+  }
+
+  @Property
+  public void testOperationsF(
+    final @ForAll List<VolumeF> volumes,
+    final @ForAll VolumeF query,
+    final @ForAll @IntRange(min = 0, max = 10000) int x,
+    final @ForAll @IntRange(min = 0, max = 10000) int y,
+    final @ForAll @IntRange(min = 0, max = 10000) int z)
+  {
+    final var buffer = VolumeFBuffer.ofList(volumes);
+    final var indices = new int[volumes.size()];
+    Assertions.assertEquals(volumes, buffer.toList());
+
+    var count = buffer.overlaps(query, indices);
+    Assertions.assertArrayEquals(
+      bruteForce(volumes, a -> VolumesF.overlaps(a, query)),
+      found(indices, count));
+
+    count = buffer.containsPoint(x, y, z, indices);
+    Assertions.assertArrayEquals(
+      bruteForce(volumes, a -> VolumesF.containsPoint(a, x, y, z)),
+      found(indices, count));
+
+    if (!volumes.isEmpty()) {
+      Assertions.assertEquals(
+        volumes.stream().reduce(VolumesF::containing).orElseThrow(),
+        buffer.containing());
+    }
+
+    buffer.moveRelative(x, -y, z);
+    Assertions.assertEquals(
+      volumes.stream().map(a -> VolumesF.moveRelative(a, x, -y, z)).toList(),
+      buffer.toList());
+  }
+
+  @Property
+  public void testOperationsD(
+    final @ForAll List<VolumeD> volumes,
+    final @ForAll VolumeD query,
+    final @ForAll @IntRange(min = 0, max = 10000) int x,
+    final @ForAll @IntRange(min = 0, max = 10000) int y,
+    final @ForAll @IntRange(min = 0, max = 10000) int z)
+  {
+    final var buffer = VolumeDBuffer.ofList(volumes);
+    final var indices = new int[volumes.size()];
+    Assertions.assertEquals(volumes, buffer.toList());
+
+    var count = buffer.overlaps(query, indices);
+    Assertions.assertArrayEquals(
+      bruteForce(volumes, a -> VolumesD.overlaps(a, query)),
+      found(indices, count));
+
+    count = buffer.containsPoint(x, y, z, indices);
+    Assertions.assertArrayEquals(
+      bruteForce(volumes, a -> VolumesD.containsPoint(a, x, y, z)),
+      found(indices, count));
+
+    if (!volumes.isEmpty()) {
+      Assertions.assertEquals(
+        volumes.stream().reduce(VolumesD::containing).orElseThrow(),
+        buffer.containing());
+    }
+
+    buffer.moveRelative(x, -y, z);
+    Assertions.assertEquals(
+      volumes.stream().map(a -> VolumesD.moveRelative(a, x, -y, z)).toList(),
+      buffer.toList());
+  }
+}
@@ -0,0 +1,193 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jregions.tests.core.unparameterized;
+
+import com.io7m.jregions.core.unparameterized.volumes.VolumeF;
+import com.io7m.jregions.core.unparameterized.volumes.VolumeI;
+import com.io7m.jregions.core.unparameterized.volumes.VolumesBatchF;
+import com.io7m.jregions.core.unparameterized.volumes.VolumesBatchI;
+import com.io7m.jregions.core.unparameterized.volumes.VolumesF;
+import com.io7m.jregions.core.unparameterized.volumes.VolumesI;
+import net.jqwik.api.ForAll;
+import net.jqwik.api.Property;
+import net.jqwik.api.constraints.IntRange;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+
+public final class VolumesBatchTest
+{
+  private static <T> int[] bruteForce(
+    final List<T> values,
+    final Predicate<T> predicate)
+  {
+    return IntStream.range(0, values.size())
+      .filter(i -> predicate.test(values.get(i)))
+      .toArray();
+  }
+
+  private static int[] fromMask(
+    final long[] mask,
+    final int count)
+  {
+    return IntStream.range(0, count)
+      .filter(i -> (mask[i / Long.SIZE] & (1L << i)) != 0L)
+      .toArray();
+  }
+
+  private static int[][] edgesI(
+    final List<VolumeI> volumes)
+  {
+    return new int[][]{
+      volumes.stream().mapToInt(VolumeI::minimumX).toArray(),
+      volumes.stream().mapToInt(VolumeI::maximumX).toArray(),
+      volumes.stream().mapToInt(VolumeI::minimumY).toArray(),
+      volumes.stream().mapToInt(VolumeI::maximumY).toArray(),
+      volumes.stream().mapToInt(VolumeI::minimumZ).toArray(),
+      volumes.stream().mapToInt(VolumeI::maximumZ).toArray(),
+    };
+  }
+
+  private static float[][] edgesF(
+    final List<VolumeF> volumes)
+  {
+    final var size = volumes.size();
+    final var edges = new float[6][size];
+    for (int index = 0; index < size; ++index) {
+      final var volume = volumes.get(index);
+      edges[0][index] = volume.minimumX();
+      edges[1][index] = volume.maximumX();
+      edges[2][index] = volume.minimumY();
+      edges[3][index] = volume.maximumY();
+      edges[4][index] = volume.minimumZ();
+      edges[5][index] = volume.maximumZ();
+    }
+    return edges;
+  }
+
+  @Test
+  public void testManyWordsF()
+  {
+    final var random = new Random(0x6a72656769L);
+    final var volumes = new ArrayList<VolumeF>();
+    for (int index = 0; index < 1001; ++index) {
+      final var x = random.nextFloat() * 1000.0f;
+      final var y = random.nextFloat() * 1000.0f;
+      final var z = random.nextFloat() * 1000.0f;
+      volumes.add(VolumeF.of(
+        x, x + random.nextFloat() * 100.0f,
+        y, y + random.nextFloat() * 100.0f,
+        z, z + random.nextFloat() * 100.0f));
+    }
+
+    final var e = edgesF(volumes);
+    final var size = volumes.size();
+    final var indices = new int[size];
+    final var mask = new long[VolumesBatchF.maskLength(size)];
+    for (int query = 0; query < 100; ++query) {
+      final var volume = volumes.get(query);
+      final var expected =
+        bruteForce(volumes, v -> VolumesF.overlaps(v, volume));
+
+      final var count = VolumesBatchF.overlaps(
+        e[0], e[1], e[2], e[3], e[4], e[5], size, volume, indices);
+      Assertions.assertArrayEquals(expected, Arrays.copyOf(indices, count));
+      Assertions.assertEquals(
+        count,
+        VolumesBatchF.overlapsMask(
+          e[0], e[1], e[2], e[3], e[4], e[5], size, volume, mask));
+      Assertions.assertArrayEquals(expected, fromMask(mask, size));
+    }
+  }
+
+  @Property
+  public void testContainsPointI(
+    final @ForAll List<VolumeI> volumes,
+    final @ForAll @IntRange(min = 0, max = 10000) int x,
+    final @ForAll @IntRange(min = 0, max = 10000) int y,
+    final @ForAll @IntRange(min = 0, max = 10000) int z)
+  {
+    final var e = edgesI(volumes);
+    final var size = volumes.size();
+    final var expected =
+      bruteForce(volumes, v -> VolumesI.containsPoint(v, x, y, z));
+
+    final var indices = new int[size];
+    final var count = VolumesBatchI.containsPoint(
+      e[0], e[1], e[2], e[3], e[4], e[5], size, x, y, z, indices);
+    Assertions.assertArrayEquals(expected, Arrays.copyOf(indices, count));
+
+    final var mask = new long[VolumesBatchI.maskLength(size)];
+    Assertions.assertEquals(
+      count,
+      VolumesBatchI.containsPointMask(
+        e[0], e[1], e[2], e[3], e[4], e[5], size, x, y, z, mask));
+    Assertions.assertArrayEquals(expected, fromMask(mask, size));
+  }
+
+  @Property
+  public void testOverlapsI(
+    final @ForAll List<VolumeI> volumes,
+    final @ForAll VolumeI query)
+  {
+    final var e = edgesI(volumes);
+    final var size = volumes.size();
+    final var expected =
+      bruteForce(volumes, v -> VolumesI.overlaps(v, query));
+
+    final var indices = new int[size];
+    final var count = VolumesBatchI.overlaps(
+      e[0], e[1], e[2], e[3], e[4], e[5], size, query, indices);
+    Assertions.assertArrayEquals(expected, Arrays.copyOf(indices, count));
+
+    final var mask = new long[VolumesBatchI.maskLength(size)];
+    Assertions.assertEquals(
+      count,
+      VolumesBatchI.overlapsMask(
+        e[0], e[1], e[2], e[3], e[4], e[5], size, query, mask));
+    Assertions.assertArrayEquals(expected, fromMask(mask, size));
+  }
+
+  @Property
+  public void testOverlapsF(
+    final @ForAll List<VolumeF> volumes,
+    final @ForAll VolumeF query)
+  {
+    final var e = edgesF(volumes);
+    final var size = volumes.size();
+    final var expected =
+      bruteForce(volumes, v -> VolumesF.overlaps(v, query));
+
+    final var indices = new int[size];
+    final var count = VolumesBatchF.overlaps(
+      e[0], e[1], e[2], e[3], e[4], e[5], size, query, indices);
+    Assertions.assertArrayEquals(expected, Arrays.copyOf(indices, count));
+
+    final var mask = new long[VolumesBatchF.maskLength(size)];
+    Assertions.assertEquals(
+      count,
+      VolumesBatchF.overlapsMask(
+        e[0], e[1], e[2], e[3], e[4], e[5], size, query, mask));
+    Assertions.assertArrayEquals(expected, fromMask(mask, size));
+  }
+}
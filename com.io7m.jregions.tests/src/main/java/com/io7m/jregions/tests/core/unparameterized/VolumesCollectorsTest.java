@@ -0,0 +1,140 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jregions.tests.core.unparameterized;
+
+import com.io7m.jregions.core.unparameterized.volumes.VolumeBI;
+import com.io7m.jregions.core.unparameterized.volumes.VolumeF;
+import com.io7m.jregions.core.unparameterized.volumes.VolumeL;
+import com.io7m.jregions.core.unparameterized.volumes.VolumesCollectorsBI;
+import com.io7m.jregions.core.unparameterized.volumes.VolumesCollectorsF;
+import com.io7m.jregions.core.unparameterized.volumes.VolumesCollectorsL;
+import com.io7m.jregions.core.unparameterized.volumes.VolumesL;
+import net.jqwik.api.ForAll;
+import net.jqwik.api.Property;
+import net.jqwik.api.constraints.IntRange;
+import net.jqwik.api.constraints.Size;
+import org.junit.jupiter.api.Assertions;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+
+public final class VolumesCollectorsTest
+{
+  private static final int GRID = 16;
+
+  /**
+   * Interpret groups of six small integers as volumes on a small grid.
+   */
+
+  private static List<VolumeL> smallVolumes(
+    final List<Integer> values)
+  {
+    final var volumes = new ArrayList<VolumeL>();
+    for (int index = 0; index + 5 < values.size(); index += 6) {
+      final long x = values.get(index).longValue();
+      final long y = values.get(index + 1).longValue();
+      final long z = values.get(index + 2).longValue();
+      final long w = values.get(index + 3).longValue();
+      final long h = values.get(index + 4).longValue();
+      final long d = values.get(index + 5).longValue();
+      volumes.add(VolumeL.of(x, x + w, y, y + h, z, z + d));
+    }
+    return volumes;
+  }
+
+  @Property
+  public void testContaining(
+    @ForAll final List<VolumeL> volumes)
+  {
+    Assertions.assertEquals(
+      volumes.stream().reduce(VolumesL::containing),
+      volumes.parallelStream().collect(VolumesCollectorsL.containing()));
+  }
+
+  @Property
+  public void testTotalSize(
+    @ForAll final List<@IntRange(min = 0, max = 1000) Integer> values)
+  {
+    final var volumes = smallVolumes(values);
+
+    long expected = 0L;
+    for (final var volume : volumes) {
+      expected += volume.sizeX() * volume.sizeY() * volume.sizeZ();
+    }
+
+    Assertions.assertEquals(
+      Long.valueOf(expected),
+      volumes.parallelStream().collect(VolumesCollectorsL.totalSize()));
+  }
+
+  @Property
+  public void testCoverage(
+    @ForAll @Size(max = 48) final List<@IntRange(min = 0, max = 8) Integer> values)
+  {
+    final var volumes = smallVolumes(values);
+
+    long expected = 0L;
+    for (int z = 0; z < GRID; ++z) {
+      for (int y = 0; y < GRID; ++y) {
+        for (int x = 0; x < GRID; ++x) {
+          final long px = x;
+          final long py = y;
+          final long pz = z;
+          if (volumes.stream().anyMatch(v -> VolumesL.containsPoint(v, px, py, pz))) {
+            expected += 1L;
+          }
+        }
+      }
+    }
+
+    Assertions.assertEquals(
+      Long.valueOf(expected),
+      volumes.parallelStream().collect(VolumesCollectorsL.coverage()));
+    Assertions.assertEquals(
+      Double.valueOf(expected),
+      volumes.parallelStream()
+        .map(v -> VolumeF.of(
+          v.minimumX(), v.maximumX(),
+          v.minimumY(), v.maximumY(),
+          v.minimumZ(), v.maximumZ()))
+        .collect(VolumesCollectorsF.coverage()));
+    Assertions.assertEquals(
+      BigInteger.valueOf(expected),
+      volumes.parallelStream()
+        .map(v -> VolumeBI.of(
+          BigInteger.valueOf(v.minimumX()), BigInteger.valueOf(v.maximumX()),
+          BigInteger.valueOf(v.minimumY()), BigInteger.valueOf(v.maximumY()),
+          BigInteger.valueOf(v.minimumZ()), BigInteger.valueOf(v.maximumZ())))
+        .collect(VolumesCollectorsBI.coverage()));
+  }
+
+  @Property
+  public void testCountContainingPoint(
+    @ForAll final List<VolumeL> volumes,
+    @ForAll final long x,
+    @ForAll final long y,
+    @ForAll final long z)
+  {
+    final var expected =
+      volumes.stream().filter(v -> VolumesL.containsPoint(v, x, y, z)).count();
+    Assertions.assertEquals(
+      Long.valueOf(expected),
+      volumes.parallelStream()
+        .collect(VolumesCollectorsL.countContainingPoint(x, y, z)));
+  }
+}
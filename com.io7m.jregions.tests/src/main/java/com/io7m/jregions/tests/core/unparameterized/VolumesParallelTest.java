@@ -0,0 +1,103 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jregions.tests.core.unparameterized;
+
+import com.io7m.jregions.core.unparameterized.volumes.VolumeL;
+import com.io7m.jregions.core.unparameterized.volumes.VolumeTransformLType;
+import com.io7m.jregions.core.unparameterized.volumes.VolumesL;
+import com.io7m.jregions.core.unparameterized.volumes.VolumesParallelL;
+import net.jqwik.api.ForAll;
+import net.jqwik.api.Property;
+import net.jqwik.api.constraints.LongRange;
+import org.junit.jupiter.api.Assertions;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.UnaryOperator;
+
+public final class VolumesParallelTest
+{
+  private static void check(
+    final List<VolumeL> volumes,
+    final VolumeTransformLType transform,
+    final UnaryOperator<VolumeL> expected)
+  {
+    final int count = volumes.size();
+    final var edges = new long[6][count];
+    for (int index = 0; index < count; ++index) {
+      final var volume = volumes.get(index);
+      edges[0][index] = volume.minimumX();
+      edges[1][index] = volume.maximumX();
+      edges[2][index] = volume.minimumY();
+      edges[3][index] = volume.maximumY();
+      edges[4][index] = volume.minimumZ();
+      edges[5][index] = volume.maximumZ();
+    }
+
+    try (var pool = new ForkJoinPool(4)) {
+      VolumesParallelL.transform(
+        pool,
+        2,
+        transform,
+        edges[0],
+        edges[1],
+        edges[2],
+        edges[3],
+        edges[4],
+        edges[5],
+        count);
+    }
+
+    final var results = new ArrayList<VolumeL>(count);
+    for (int index = 0; index < count; ++index) {
+      results.add(VolumeL.of(
+        edges[0][index],
+        edges[1][index],
+        edges[2][index],
+        edges[3][index],
+        edges[4][index],
+        edges[5][index]));
+    }
+    Assertions.assertEquals(volumes.stream().map(expected).toList(), results);
+  }
+
+  @Property
+  public void testIdentical(
+    @ForAll final List<VolumeL> volumes,
+    @ForAll @LongRange(min = -1000L, max = 1000L) final long x,
+    @ForAll @LongRange(min = -1000L, max = 1000L) final long y,
+    @ForAll @LongRange(min = -1000L, max = 1000L) final long z)
+  {
+    check(
+      volumes,
+      VolumesParallelL.moveRelative(x, y, z),
+      v -> VolumesL.moveRelative(v, x, y, z));
+    check(
+      volumes,
+      VolumesParallelL.moveAbsolute(x, y, z),
+      v -> VolumesL.moveAbsolute(v, x, y, z));
+    check(
+      volumes,
+      VolumesParallelL.moveToOrigin(),
+      VolumesL::moveToOrigin);
+    check(
+      volumes,
+      VolumesParallelL.map(v -> VolumesL.moveRelative(v, z, y, x)),
+      v -> VolumesL.moveRelative(v, z, y, x));
+  }
+}
@@ -28,6 +28,7 @@ open module com.io7m.jregions.tests
   requires com.io7m.jaffirm.core;
   requires com.io7m.junreachable.core;
   requires com.io7m.percentpass.extension;
+  requires jdk.management;
   requires net.jqwik.api;
   requires nl.jqno.equalsverifier;
 
@@ -40,7 +41,12 @@ open module com.io7m.jregions.tests
   uses ArbitraryProvider;
 
   exports com.io7m.jregions.tests.bugs;
+  exports com.io7m.jregions.tests.core.codecs;
   exports com.io7m.jregions.tests.core.conversions;
+  exports com.io7m.jregions.tests.core.index;
+  exports com.io7m.jregions.tests.core.locks;
+  exports com.io7m.jregions.tests.core.packing;
+  exports com.io7m.jregions.tests.core.regions;
   exports com.io7m.jregions.tests.core.parameterized;
   exports com.io7m.jregions.tests.core.unparameterized;
   exports com.io7m.jregions.tests.core;